@@ -0,0 +1,112 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the results of a benchmark run with those of a baseline run, both in the json format written by JMH, and
+ * prints the benchmarks which became slower by more than a threshold.
+ *
+ * Usage: {@code BenchmarkComparison BASELINE_FILE RESULTS_FILE [THRESHOLD_PERCENT]}
+ *
+ * Exits with status 1 if any benchmark became slower by more than the threshold, so that it can fail a build.
+ */
+public class BenchmarkComparison {
+
+    public static final double DEFAULT_THRESHOLD_PERCENT = 10;
+    public static final String MESSAGE_USAGE = "Usage: BenchmarkComparison BASELINE_FILE RESULTS_FILE "
+            + "[THRESHOLD_PERCENT]";
+
+    private static final String THROUGHPUT_MODE = "thrpt"; // the only mode in which higher scores are better
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.out.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+        double thresholdPercent = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Score> baseline = readScores(Paths.get(args[0]));
+        Map<String, Score> results = readScores(Paths.get(args[1]));
+
+        List<String> regressions = new ArrayList<>();
+        results.forEach((key, result) -> {
+            Score baselineScore = baseline.get(key);
+            if (baselineScore == null) {
+                System.out.println("NEW        " + key + ": " + result);
+                return;
+            }
+            double percentSlower = result.getPercentSlowerThan(baselineScore);
+            String line = String.format("%+6.1f%%    %s: %s -> %s", percentSlower, key, baselineScore, result);
+            System.out.println(line);
+            if (percentSlower > thresholdPercent) {
+                regressions.add(line);
+            }
+        });
+
+        if (!regressions.isEmpty()) {
+            System.out.println(regressions.size() + " benchmarks are more than " + thresholdPercent
+                    + "% slower than the baseline:");
+            regressions.forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the score of every benchmark in the JMH results file at {@code filePath}, keyed by the name of the
+     * benchmark and its parameters.
+     */
+    static Map<String, Score> readScores(Path filePath) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(filePath.toFile())) {
+            Map<String, String> params = new TreeMap<>();
+            JsonNode paramsNode = result.path("params");
+            for (Iterator<Map.Entry<String, JsonNode>> it = paramsNode.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> param = it.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            String key = result.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString());
+            JsonNode metric = result.path("primaryMetric");
+            scores.put(key, new Score(metric.path("score").asDouble(), metric.path("scoreUnit").asText(),
+                    THROUGHPUT_MODE.equals(result.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    /**
+     * The score of a benchmark, in its unit.
+     */
+    static class Score {
+        private final double value;
+        private final String unit;
+        private final boolean isHigherBetter;
+
+        Score(double value, String unit, boolean isHigherBetter) {
+            this.value = value;
+            this.unit = unit;
+            this.isHigherBetter = isHigherBetter;
+        }
+
+        /**
+         * Returns how many percent slower this score is than {@code baseline}, which is negative if it is faster.
+         */
+        double getPercentSlowerThan(Score baseline) {
+            double ratio = isHigherBetter ? baseline.value / value : value / baseline.value;
+            return (ratio - 1) * 100;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f %s", value, unit);
+        }
+    }
+}
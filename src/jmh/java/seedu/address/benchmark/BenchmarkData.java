@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.DateAndTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Builds the contacts and events used by the benchmarks. The same data is built every time, so that results can be
+ * compared between runs.
+ */
+public class BenchmarkData {
+
+    /** The number of contacts in an address book per event in it. */
+    public static final int CONTACTS_PER_EVENT = 10;
+
+    private static final long SEED = 2103;
+    private static final LocalDateTime FIRST_EVENT_START = LocalDateTime.of(2021, 1, 1, 9, 0);
+
+    /**
+     * Returns {@code count} distinct contacts, which are not linked to any events.
+     */
+    public static List<Contact> contacts(int count) {
+        List<Contact> contacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contacts.add(contactBuilder(i).build());
+        }
+        return contacts;
+    }
+
+    /**
+     * Returns {@code count} distinct events, which are not linked to any contacts.
+     */
+    public static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(eventBuilder(i).build());
+        }
+        return events;
+    }
+
+    /**
+     * Returns an address book of {@code contactCount} contacts and one event per {@code CONTACTS_PER_EVENT}
+     * contacts, each linked to {@code CONTACTS_PER_EVENT} contacts on average.
+     */
+    public static AddressBook addressBook(int contactCount) {
+        return new SampleDataGenerator(SEED, contactCount, Math.max(1, contactCount / CONTACTS_PER_EVENT))
+                .withLinksPerEvent(CONTACTS_PER_EVENT).generate();
+    }
+
+    private static ContactBuilder contactBuilder(int i) {
+        return new ContactBuilder().withName("Contact " + i).withPhone(String.valueOf(80000000 + i))
+                .withEmail("contact" + i + "@example.com").withAddress("Blk " + i + " Clementi Ave 2")
+                .withTelegramHandle("contact" + i).withTags(i % 2 == 0 ? "friends" : "colleagues")
+                .withUuid(contactUuid(i)).withMarked(i % 100 == 0);
+    }
+
+    private static EventBuilder eventBuilder(int i) {
+        LocalDateTime start = FIRST_EVENT_START.plusHours(i);
+        return new EventBuilder().withName("Event " + i)
+                .withStartDateAndTime(start.format(DateAndTime.DATE_TIME_FORMATTER))
+                .withEndDateAndTime(start.plusHours(1).format(DateAndTime.DATE_TIME_FORMATTER))
+                .withDescription("Description of event " + i).withAddress("COM" + (i % 3 + 1))
+                .withTags(i % 2 == 0 ? "lecture" : "tutorial").withUuid(eventUuid(i))
+                .withMarked(i % 100 == 0);
+    }
+
+    private static UUID contactUuid(int i) {
+        return new UUID(1, i);
+    }
+
+    private static UUID eventUuid(int i) {
+        return new UUID(2, i);
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import seedu.address.logic.commands.contact.CAddCommand;
+import seedu.address.logic.commands.contact.CDeleteCommand;
+import seedu.address.logic.commands.contact.CEditCommand;
+import seedu.address.logic.commands.contact.CFindCommand;
+import seedu.address.logic.commands.contact.CListCommand;
+import seedu.address.logic.commands.contact.CMarkCommand;
+import seedu.address.logic.commands.event.EAddCommand;
+import seedu.address.logic.commands.event.EDeleteCommand;
+import seedu.address.logic.commands.event.EEditCommand;
+import seedu.address.logic.commands.event.EFindCommand;
+import seedu.address.logic.commands.event.ELinkCommand;
+import seedu.address.logic.commands.event.EListCommand;
+import seedu.address.logic.commands.event.EMarkCommand;
+import seedu.address.logic.commands.general.RedoCommand;
+import seedu.address.logic.commands.general.UndoCommand;
+import seedu.address.model.Model;
+import seedu.address.model.event.DateAndTime;
+
+/**
+ * A weighted mix of commands, from which the load test picks the commands to run at random. Each command picked is
+ * valid for the contacts and events shown when it is picked, though it may still fail, e.g. when there is nothing to
+ * redo.
+ */
+public class CommandMix {
+
+    public static final String DEFAULT_MIX = "cadd=10,eadd=5,cedit=10,eedit=5,cfind=10,efind=10,clist=5,elist=5,"
+            + "elink=10,cmark=5,emark=5,cdelete=5,edelete=3,undo=6,redo=3";
+    public static final String MESSAGE_INVALID_MIX = "The mix should be COMMAND_WORD=WEIGHT,... with positive "
+            + "weights, of the command words: ";
+
+    private static final String[] CONTACT_KEYWORDS = {"alex", "priya", "tan", "lim", "siti", "goh", "load"};
+    private static final String[] EVENT_KEYWORDS = {"lecture", "tutorial", "lunch", "workshop", "load"};
+    private static final LocalDateTime FIRST_EVENT_DAY = LocalDateTime.of(2021, 1, 1, 8, 0);
+    private static final int EVENT_DAYS = 365;
+    private static final int MAX_DELETED = 3;
+
+    /**
+     * Builds a command of one command word.
+     */
+    private interface CommandBuilder {
+        /**
+         * Returns a command for the {@code shownContacts} contacts and {@code shownEvents} events shown, or null if
+         * there are too few of them. {@code serial} is different for every command, to keep names distinct.
+         */
+        String build(Random random, int shownContacts, int shownEvents, int serial);
+    }
+
+    private static final Map<String, CommandBuilder> BUILDERS = new LinkedHashMap<>();
+
+    static {
+        BUILDERS.put(CAddCommand.COMMAND_WORD, (random, contacts, events, serial) -> CAddCommand.COMMAND_WORD + " "
+                + PREFIX_NAME + "Load Contact " + serial + " " + PREFIX_EMAIL + "load" + serial + "@example.com "
+                + PREFIX_PHONE + phone(random) + " " + PREFIX_TAG + "loadtest");
+        BUILDERS.put(EAddCommand.COMMAND_WORD, (random, contacts, events, serial) -> {
+            LocalDateTime start = FIRST_EVENT_DAY.plusDays(random.nextInt(EVENT_DAYS)).plusHours(random.nextInt(12));
+            return EAddCommand.COMMAND_WORD + " " + PREFIX_NAME + "Load Event " + serial + " " + PREFIX_START_TIME
+                    + start.format(DateAndTime.DATE_TIME_FORMATTER) + " " + PREFIX_END_TIME
+                    + start.plusHours(1).format(DateAndTime.DATE_TIME_FORMATTER);
+        });
+        BUILDERS.put(CEditCommand.COMMAND_WORD, (random, contacts, events, serial) -> contacts == 0 ? null
+                : CEditCommand.COMMAND_WORD + " " + index(random, contacts) + " " + PREFIX_PHONE + phone(random));
+        BUILDERS.put(EEditCommand.COMMAND_WORD, (random, contacts, events, serial) -> events == 0 ? null
+                : EEditCommand.COMMAND_WORD + " " + index(random, events) + " " + PREFIX_DESCRIPTION
+                        + "Edited by the load test " + serial);
+        BUILDERS.put(CFindCommand.COMMAND_WORD, (random, contacts, events, serial) ->
+                CFindCommand.COMMAND_WORD + " " + CONTACT_KEYWORDS[random.nextInt(CONTACT_KEYWORDS.length)]);
+        BUILDERS.put(EFindCommand.COMMAND_WORD, (random, contacts, events, serial) ->
+                EFindCommand.COMMAND_WORD + " " + EVENT_KEYWORDS[random.nextInt(EVENT_KEYWORDS.length)]);
+        BUILDERS.put(CListCommand.COMMAND_WORD, (random, contacts, events, serial) -> CListCommand.COMMAND_WORD);
+        BUILDERS.put(EListCommand.COMMAND_WORD, (random, contacts, events, serial) -> EListCommand.COMMAND_WORD);
+        BUILDERS.put(ELinkCommand.COMMAND_WORD, (random, contacts, events, serial) -> {
+            if (contacts == 0 || events == 0) {
+                return null;
+            }
+            int firstContact = index(random, contacts);
+            int secondContact = firstContact % contacts + 1;
+            return ELinkCommand.COMMAND_WORD + " " + index(random, events) + " " + PREFIX_CONTACT + firstContact
+                    + (secondContact == firstContact ? "" : " " + PREFIX_CONTACT + secondContact);
+        });
+        BUILDERS.put(CMarkCommand.COMMAND_WORD, (random, contacts, events, serial) -> contacts == 0 ? null
+                : CMarkCommand.COMMAND_WORD + " " + index(random, contacts));
+        BUILDERS.put(EMarkCommand.COMMAND_WORD, (random, contacts, events, serial) -> events == 0 ? null
+                : EMarkCommand.COMMAND_WORD + " " + index(random, events));
+        BUILDERS.put(CDeleteCommand.COMMAND_WORD, (random, contacts, events, serial) -> contacts == 0 ? null
+                : CDeleteCommand.COMMAND_WORD + " " + range(random, contacts));
+        BUILDERS.put(EDeleteCommand.COMMAND_WORD, (random, contacts, events, serial) -> events == 0 ? null
+                : EDeleteCommand.COMMAND_WORD + " " + range(random, events));
+        BUILDERS.put(UndoCommand.COMMAND_WORD, (random, contacts, events, serial) -> UndoCommand.COMMAND_WORD);
+        BUILDERS.put(RedoCommand.COMMAND_WORD, (random, contacts, events, serial) -> RedoCommand.COMMAND_WORD);
+    }
+
+    private final List<String> commandWords = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private int totalWeight = 0;
+
+    /**
+     * Returns the mix given as {@code COMMAND_WORD=WEIGHT,...}, in which each command word is picked with a chance
+     * proportional to its weight.
+     *
+     * @throws IllegalArgumentException if {@code mix} is not in that format.
+     */
+    public static CommandMix parse(String mix) {
+        CommandMix commandMix = new CommandMix();
+        for (String part : mix.split(",")) {
+            String[] wordAndWeight = part.split("=");
+            String commandWord = wordAndWeight[0].trim();
+            int weight = wordAndWeight.length == 2 && BUILDERS.containsKey(commandWord)
+                    ? parseWeight(wordAndWeight[1].trim())
+                    : 0;
+            if (weight <= 0) {
+                throw new IllegalArgumentException(MESSAGE_INVALID_MIX + String.join(", ", BUILDERS.keySet()));
+            }
+            commandMix.totalWeight += weight;
+            commandMix.commandWords.add(commandWord);
+            commandMix.cumulativeWeights.add(commandMix.totalWeight);
+        }
+        return commandMix;
+    }
+
+    /**
+     * Returns a command picked from the mix at random, which is valid for the contacts and events shown by
+     * {@code model}. If there are too few contacts or events shown for the command picked, all of them are listed
+     * instead.
+     */
+    public String next(Random random, Model model, int serial) {
+        int pick = random.nextInt(totalWeight);
+        int i = 0;
+        while (cumulativeWeights.get(i) <= pick) {
+            i++;
+        }
+        int shownContacts = model.getFilteredContactList().size();
+        int shownEvents = model.getFilteredEventList().size();
+        String command = BUILDERS.get(commandWords.get(i)).build(random, shownContacts, shownEvents, serial);
+        if (command != null) {
+            return command;
+        }
+        return shownContacts == 0 ? CListCommand.COMMAND_WORD : EListCommand.COMMAND_WORD;
+    }
+
+    /**
+     * Returns the weight given as {@code weight}, or 0 if it is not a number.
+     */
+    private static int parseWeight(String weight) {
+        try {
+            return Integer.parseInt(weight);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int index(Random random, int shown) {
+        return random.nextInt(shown) + 1;
+    }
+
+    private static String range(Random random, int shown) {
+        int first = index(random, shown);
+        int last = Math.min(first + random.nextInt(MAX_DELETED), shown);
+        return first == last ? String.valueOf(first) : first + "-" + last;
+    }
+
+    private static String phone(Random random) {
+        return String.valueOf(80000000 + random.nextInt(20000000));
+    }
+}
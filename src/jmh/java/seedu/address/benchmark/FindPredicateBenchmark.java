@@ -0,0 +1,87 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.common.Name;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactContainsKeywordsPredicate;
+import seedu.address.model.contact.UniqueContactList;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.event.UniqueEventList;
+
+/**
+ * Benchmarks finding the contacts or events matching the predicates of {@code cfind} and {@code efind}, both by
+ * testing every contact or event, and through the keyword indexes of the lists.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindPredicateBenchmark {
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private List<Contact> contacts;
+    private List<Event> events;
+    private UniqueContactList contactList;
+    private UniqueEventList eventList;
+    private ContactContainsKeywordsPredicate contactPredicate;
+    private EventContainsKeywordsPredicate eventPredicate;
+
+    /**
+     * Builds {@code size} contacts and events, and predicates which match some of them.
+     */
+    @Setup
+    public void setUp() {
+        contacts = BenchmarkData.contacts(size);
+        events = BenchmarkData.events(size);
+        contactList = new UniqueContactList();
+        contactList.setContacts(contacts);
+        eventList = new UniqueEventList();
+        eventList.setEvents(events);
+
+        contactPredicate = new ContactContainsKeywordsPredicate(List.of("42", "777"));
+        contactPredicate.setEmailKeywords(List.of("contact7@example.com"));
+
+        eventPredicate = new EventContainsKeywordsPredicate(List.of("42", "777"));
+        eventPredicate.setDescriptionKeywords(List.of("7"));
+    }
+
+    @Benchmark
+    public long findContacts() {
+        return contacts.stream().filter(contactPredicate).count();
+    }
+
+    @Benchmark
+    public long findEvents() {
+        return events.stream().filter(eventPredicate).count();
+    }
+
+    @Benchmark
+    public Set<Name> findContactsIndexed() {
+        return contactList.getNamesMatching(contactPredicate);
+    }
+
+    @Benchmark
+    public Set<Name> findEventsIndexed() {
+        return eventList.getNamesMatching(eventPredicate);
+    }
+}
@@ -0,0 +1,313 @@
+package seedu.address.benchmark;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.CommandStats;
+import seedu.address.commons.core.Histogram;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.general.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
+
+/**
+ * Runs a weighted mix of commands through {@code LogicManager} on a generated address book, as a user would enter
+ * them, and reports how long the commands took and how the heap grew.
+ *
+ * Usage: {@code LoadTest [--contacts=N] [--events=N] [--commands=N] [--window=N] [--seed=N]
+ * [--mix=COMMAND_WORD=WEIGHT,...] [--data-file=NAME] [--write-behind=true|false] [--report=FILE]}
+ *
+ * The latency of each command word is reported over the whole run. The latency of the commands, of committing them to
+ * the history and of saving the address book, and the heap used, are also reported per window of commands, to show
+ * how they change as the address book and its history grow.
+ * <p>
+ * The address book is saved to a temporary folder with the storage the app would use for a data file named
+ * {@code NAME}, and by default in the background as the app does. Saving is then timed as the command waits for it,
+ * and each write in the background is timed separately, along with how long it takes at the end of each window to
+ * wait for the writes still pending.
+ */
+public class LoadTest {
+
+    public static final String MESSAGE_USAGE = "Usage: LoadTest [--contacts=N] [--events=N] [--commands=N] "
+            + "[--window=N] [--seed=N] [--mix=COMMAND_WORD=WEIGHT,...] [--data-file=NAME] [--write-behind=true|false] "
+            + "[--report=FILE]";
+
+    private static final Set<String> OPTIONS = Set.of("contacts", "events", "commands", "window", "seed", "mix",
+            "data-file", "write-behind", "report");
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    private final int contactCount;
+    private final int eventCount;
+    private final int commandCount;
+    private final int windowSize;
+    private final long seed;
+    private final CommandMix mix;
+    private final String dataFileName;
+    private final boolean isWriteBehind;
+
+    private final Map<String, Histogram> latenciesOfCommandWords = new TreeMap<>();
+    private final Map<String, Integer> failuresOfCommandWords = new TreeMap<>();
+    private final List<String> windowLines = new ArrayList<>();
+
+    /**
+     * Creates a load test of {@code commandCount} commands picked from {@code mix}, on an address book of
+     * {@code contactCount} contacts and {@code eventCount} events generated with {@code seed}, saved to a data file
+     * named {@code dataFileName}, in the background if {@code isWriteBehind}.
+     */
+    public LoadTest(int contactCount, int eventCount, int commandCount, int windowSize, long seed, CommandMix mix,
+            String dataFileName, boolean isWriteBehind) {
+        checkArgument(commandCount > 0 && windowSize > 0, "The number of commands and the window must be positive");
+        checkArgument(FileUtil.isValidPath(dataFileName), "The data file name must be a valid file name");
+        this.contactCount = contactCount;
+        this.eventCount = eventCount;
+        this.commandCount = commandCount;
+        this.windowSize = windowSize;
+        this.seed = seed;
+        this.mix = mix;
+        this.dataFileName = dataFileName;
+        this.isWriteBehind = isWriteBehind;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new TreeMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0 || !OPTIONS.contains(arg.substring(2, equals))) {
+                System.out.println(MESSAGE_USAGE);
+                System.exit(2);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+
+        LoadTest loadTest;
+        try {
+            loadTest = new LoadTest(Integer.parseInt(options.getOrDefault("contacts", "10000")),
+                    Integer.parseInt(options.getOrDefault("events", "1000")),
+                    Integer.parseInt(options.getOrDefault("commands", "5000")),
+                    Integer.parseInt(options.getOrDefault("window", "500")),
+                    Long.parseLong(options.getOrDefault("seed", "0")),
+                    CommandMix.parse(options.getOrDefault("mix", CommandMix.DEFAULT_MIX)),
+                    options.getOrDefault("data-file", "addressbook.json"),
+                    parseBoolean(options.getOrDefault("write-behind", "true")));
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println(MESSAGE_USAGE);
+            System.exit(2);
+            return;
+        }
+
+        // the loggers of the app take their level from the root logger, and logging every command would be timed
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        String report = loadTest.run();
+        System.out.println(report);
+        if (options.containsKey("report")) {
+            Path reportPath = Paths.get(options.get("report"));
+            if (reportPath.getParent() != null) {
+                Files.createDirectories(reportPath.getParent());
+            }
+            Files.writeString(reportPath, report);
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        checkArgument(value.equals("true") || value.equals("false"), "--write-behind must be true or false");
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Runs the commands, and returns the report of their latency and of the heap used.
+     */
+    public String run() throws IOException {
+        Path folder = Files.createTempDirectory("soconnect-loadtest");
+        try {
+            return run(folder);
+        } finally {
+            try (Stream<Path> paths = Files.walk(folder)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    private String run(Path folder) throws IOException {
+        TimedModel model = new TimedModel(new SampleDataGenerator(seed, contactCount, eventCount).generate());
+        TimedStorage dataStorage = new TimedStorage(folder.resolve(dataFileName), folder.resolve("preferences.json"));
+        TimedWriteBehindStorage writeBehindStorage = isWriteBehind ? new TimedWriteBehindStorage(dataStorage) : null;
+        try {
+            return run(model, dataStorage, writeBehindStorage);
+        } finally {
+            if (writeBehindStorage != null) {
+                writeBehindStorage.close(); // before the folder is deleted
+            }
+        }
+    }
+
+    /**
+     * Runs the commands on {@code model}, saving it to {@code dataStorage} through {@code writeBehindStorage}, or
+     * directly if {@code writeBehindStorage} is null.
+     */
+    private String run(TimedModel model, TimedStorage dataStorage, TimedWriteBehindStorage writeBehindStorage)
+            throws IOException {
+        LogicManager logic = new LogicManager(model, writeBehindStorage == null ? dataStorage : writeBehindStorage);
+        Random random = new Random(seed);
+        long startHeap = getHeapUsedAfterGc();
+
+        Histogram windowLatencies = new Histogram();
+        for (int i = 1; i <= commandCount; i++) {
+            String commandText = mix.next(random, model, i);
+            String commandWord = CommandStats.commandWordOf(commandText);
+            long start = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                failuresOfCommandWords.merge(commandWord, 1, Integer::sum);
+            }
+            long latency = System.nanoTime() - start;
+            latenciesOfCommandWords.computeIfAbsent(commandWord, unused -> new Histogram()).record(latency);
+            windowLatencies.record(latency);
+
+            if (i % windowSize == 0 || i == commandCount) {
+                String storageLatencies;
+                if (writeBehindStorage == null) {
+                    storageLatencies = "save " + format(dataStorage.writeLatencies);
+                } else {
+                    long flushStart = System.nanoTime();
+                    writeBehindStorage.flush();
+                    long flushLatency = System.nanoTime() - flushStart;
+                    storageLatencies = String.format("save %s, write %s, flush %.2f",
+                            format(writeBehindStorage.saveLatencies), format(dataStorage.writeLatencies),
+                            flushLatency / NANOS_PER_MILLI);
+                    writeBehindStorage.saveLatencies = new Histogram();
+                }
+                windowLines.add(String.format("%d-%d: command %s, commit %s, %s, heap %.1f",
+                        i - windowLatencies.getCount() + 1, i, format(windowLatencies), format(model.commitLatencies),
+                        storageLatencies, getHeapUsedAfterGc() / BYTES_PER_MEGABYTE));
+                windowLatencies = new Histogram();
+                model.commitLatencies = new Histogram();
+                dataStorage.writeLatencies = new Histogram();
+            }
+        }
+
+        return report(logic, startHeap, getHeapUsedAfterGc());
+    }
+
+    private String report(LogicManager logic, long startHeap, long endHeap) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Ran %d commands on %d contacts and %d events generated with seed %d, saved to %s%s",
+                commandCount, contactCount, eventCount, seed, dataFileName, isWriteBehind ? " in the background" : ""));
+        lines.add("");
+        lines.add("Latency in ms per command word, as p50 / p95 / p99:");
+        latenciesOfCommandWords.forEach((commandWord, latencies) -> lines.add(String.format("%s (%d, %d failed): %s",
+                commandWord, latencies.getCount(), failuresOfCommandWords.getOrDefault(commandWord, 0),
+                format(latencies))));
+        lines.add("");
+        lines.add("Latency in ms per " + windowSize + " commands, as p50 / p95 / p99, of waiting for the writes still "
+                + "pending at the end of the window in ms, and heap used after GC in MB:");
+        lines.addAll(windowLines);
+        lines.add(String.format("Heap used after GC grew by %.1f MB", (endHeap - startHeap) / BYTES_PER_MEGABYTE));
+        lines.add("");
+        try {
+            lines.add(logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            lines.add("Could not show the stats of each phase: " + e.getMessage());
+        }
+        return String.join(System.lineSeparator(), lines);
+    }
+
+    private static String format(Histogram latencies) {
+        return String.format("%.2f / %.2f / %.2f", latencies.getPercentile(50) / NANOS_PER_MILLI,
+                latencies.getPercentile(95) / NANOS_PER_MILLI, latencies.getPercentile(99) / NANOS_PER_MILLI);
+    }
+
+    private static long getHeapUsedAfterGc() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        memoryBean.gc();
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * A model which times each commit to its history.
+     */
+    private static class TimedModel extends ModelManager {
+        private Histogram commitLatencies = new Histogram();
+
+        TimedModel(ReadOnlyAddressBook addressBook) {
+            super(addressBook, new UserPrefs());
+        }
+
+        @Override
+        public void commitHistory() {
+            long start = System.nanoTime();
+            super.commitHistory();
+            commitLatencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * A storage of the address book at {@code addressBookFilePath}, in the format the app would keep it in, which
+     * times each write of the address book.
+     */
+    private static class TimedStorage extends StorageManager {
+        private volatile Histogram writeLatencies = new Histogram(); // written to by the background writer
+
+        TimedStorage(Path addressBookFilePath, Path userPrefsFilePath) {
+            super(StorageManager.addressBookStorageFor(addressBookFilePath),
+                    new JsonUserPrefsStorage(userPrefsFilePath));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            long start = System.nanoTime();
+            super.saveAddressBook(addressBook);
+            writeLatencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * A storage which saves address books in the background, as the app does, and times how long each command waits
+     * for the address book to be saved.
+     */
+    private static class TimedWriteBehindStorage extends WriteBehindStorage {
+        private Histogram saveLatencies = new Histogram();
+
+        TimedWriteBehindStorage(Storage storage) {
+            super(storage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            long start = System.nanoTime();
+            super.saveAddressBook(addressBook);
+            saveLatencies.record(System.nanoTime() - start);
+        }
+    }
+}
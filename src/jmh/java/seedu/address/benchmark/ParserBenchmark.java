@@ -0,0 +1,98 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ZOOM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing a command of every command word, and tokenizing the arguments of a command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String CONTACT_ARGUMENTS = " n/Alex Yeoh p/87438807 e/alexyeoh@example.com "
+            + "a/Blk 30 Geylang Street 29, #06-40 th/alexyeoh z/https://nus-sg.zoom.us/j/0123456789 "
+            + "t/friends t/colleagues";
+
+    private static final AddressBookParser PARSER = new AddressBookParser();
+
+    /**
+     * A valid command of every command word, in a state of its own so that only {@link #parseCommand(Input)} is run
+     * for each of them.
+     */
+    @State(Scope.Thread)
+    public static class Input {
+        @Param({
+            "cadd" + CONTACT_ARGUMENTS,
+            "cedit 1 p/91234567 e/johndoe@example.com dt/friends t/classmates",
+            "cdelete 2-5",
+            "cclear",
+            "cfind alex bernice p/9123 t/friends",
+            "clist e/ z/",
+            "cview 1",
+            "cmark 1 2 3",
+            "cunmark 1",
+            "eadd n/Summer Party at/12-12-2021 15:12 end/12-12-2021 16:00 d/Food and drinks a/Mall "
+                    + "z/https://nus-sg.zoom.us/j/0123456789 t/fun",
+            "eedit 1 at/13-12-2021 15:00 d/Bring food",
+            "edelete 1-3",
+            "eclear",
+            "efind party d/food",
+            "elist at/ end/",
+            "elink 1 c/1 c/2 c/3",
+            "eunlink 1 c/1",
+            "esort",
+            "eview 1",
+            "emark 1 2",
+            "eunmark 1",
+            "earchive 7",
+            "efindarchive party",
+            "erestore 1",
+            "calendar",
+            "exit",
+            "help",
+            "redo",
+            "undo",
+            "stats"
+        })
+        public String commandText;
+    }
+
+    @Benchmark
+    public Command parseCommand(Input input) throws ParseException {
+        return PARSER.parseCommand(input.commandText);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(CONTACT_ARGUMENTS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_TELEGRAM, PREFIX_ZOOM, PREFIX_TAG);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Benchmarks reading and saving an address book in the json format, and in the binary format for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    /**
+     * Saves an address book of {@code size} contacts in both formats in a temporary directory.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("soconnect-benchmark");
+        addressBook = BenchmarkData.addressBook(size);
+        jsonStorage = new JsonAddressBookStorage(directory.resolve("addressbook.json"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage = new BinaryAddressBookStorage(directory.resolve("addressbook"
+                + BinaryAddressBookStorage.FILE_EXTENSION));
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary directory and the files in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readJson() throws DataConversionException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readBinary() throws DataConversionException {
+        return binaryStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.UniqueContactList;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.UniqueEventList;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Benchmarks adding, finding and replacing a contact or event in lists of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private UniqueContactList contacts;
+    private Contact middleContact;
+    private Contact editedContact;
+    private Contact newContact;
+
+    private UniqueEventList events;
+    private Event middleEvent;
+    private Event editedEvent;
+    private Event newEvent;
+
+    /**
+     * Fills the lists with {@code size} contacts and events.
+     */
+    @Setup
+    public void setUp() {
+        List<Contact> contactList = BenchmarkData.contacts(size + 1);
+        newContact = contactList.remove(size);
+        contacts = new UniqueContactList();
+        contacts.setContacts(contactList);
+        middleContact = contactList.get(size / 2);
+        editedContact = new ContactBuilder(middleContact).withPhone("99999999").build();
+
+        List<Event> eventList = BenchmarkData.events(size + 1);
+        newEvent = eventList.remove(size);
+        events = new UniqueEventList();
+        events.setEvents(eventList);
+        middleEvent = eventList.get(size / 2);
+        editedEvent = new EventBuilder(middleEvent).withDescription("Edited").build();
+    }
+
+    /**
+     * Adds a contact, and removes it so that the list stays at {@code size} contacts.
+     */
+    @Benchmark
+    public void addContact() {
+        contacts.add(newContact);
+        contacts.remove(newContact);
+    }
+
+    @Benchmark
+    public boolean containsContact() {
+        return contacts.contains(middleContact);
+    }
+
+    /**
+     * Replaces a contact, and puts it back so that the next invocation replaces the same contact.
+     */
+    @Benchmark
+    public void setContact() {
+        contacts.setContact(middleContact, editedContact);
+        contacts.setContact(editedContact, middleContact);
+    }
+
+    /**
+     * Adds an event, and removes it so that the list stays at {@code size} events.
+     */
+    @Benchmark
+    public void addEvent() {
+        events.add(newEvent);
+        events.remove(newEvent);
+    }
+
+    @Benchmark
+    public boolean containsEvent() {
+        return events.contains(middleEvent);
+    }
+
+    /**
+     * Replaces an event, and puts it back so that the next invocation replaces the same event.
+     */
+    @Benchmark
+    public void setEvent() {
+        events.setEvent(middleEvent, editedEvent);
+        events.setEvent(editedEvent, middleEvent);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
@@ -9,6 +11,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.util.SampleDataGenerator;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -17,6 +20,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private SampleDataSize sampleDataSize;
+    private long sampleDataSeed;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +31,26 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the number of contacts and events to generate in place of the sample data, or null if the sample data
+     * is used.
+     */
+    public SampleDataSize getSampleDataSize() {
+        return sampleDataSize;
+    }
+
+    public void setSampleDataSize(SampleDataSize sampleDataSize) {
+        this.sampleDataSize = sampleDataSize;
+    }
+
+    public long getSampleDataSeed() {
+        return sampleDataSeed;
+    }
+
+    public void setSampleDataSeed(long sampleDataSeed) {
+        this.sampleDataSeed = sampleDataSeed;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +65,24 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String generateParameter = namedParameters.get("generate");
+        if (generateParameter != null) {
+            appParameters.setSampleDataSize(SampleDataSize.parse(generateParameter));
+            if (appParameters.getSampleDataSize() == null) {
+                logger.warning("Invalid number of contacts and events to generate " + generateParameter
+                        + ". Using the sample data.");
+            }
+        }
+
+        String seedParameter = namedParameters.get("seed");
+        if (seedParameter != null) {
+            try {
+                appParameters.setSampleDataSeed(Long.parseLong(seedParameter));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid seed " + seedParameter + ". Using seed 0.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -54,11 +97,67 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getSampleDataSize(), otherAppParameters.getSampleDataSize())
+                && getSampleDataSeed() == otherAppParameters.getSampleDataSeed();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, sampleDataSize, sampleDataSeed);
+    }
+
+    /**
+     * The number of contacts and events to generate, given as {@code --generate=CONTACTS,EVENTS}.
+     */
+    public static class SampleDataSize {
+        private final int contactCount;
+        private final int eventCount;
+
+        /**
+         * Creates a size of {@code contactCount} contacts and {@code eventCount} events, which cannot be negative.
+         */
+        public SampleDataSize(int contactCount, int eventCount) {
+            checkArgument(contactCount >= 0 && eventCount >= 0, SampleDataGenerator.MESSAGE_NEGATIVE_COUNT);
+            this.contactCount = contactCount;
+            this.eventCount = eventCount;
+        }
+
+        /**
+         * Returns the size given as {@code CONTACTS,EVENTS}, or null if {@code size} is not in that format.
+         */
+        static SampleDataSize parse(String size) {
+            String[] counts = size.split(",", -1);
+            if (counts.length != 2) {
+                return null;
+            }
+            try {
+                int contactCount = Integer.parseInt(counts[0].trim());
+                int eventCount = Integer.parseInt(counts[1].trim());
+                return contactCount >= 0 && eventCount >= 0 ? new SampleDataSize(contactCount, eventCount) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        public int getContactCount() {
+            return contactCount;
+        }
+
+        public int getEventCount() {
+            return eventCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof SampleDataSize
+                    && contactCount == ((SampleDataSize) other).contactCount
+                    && eventCount == ((SampleDataSize) other).eventCount);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contactCount, eventCount);
+        }
     }
 }
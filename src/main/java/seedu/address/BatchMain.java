@@ -0,0 +1,143 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.EventArchive;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The entry point to run a script of commands on the address book without showing the UI, e.g. to load many contacts
+ * and events at once.
+ *
+ * Usage: {@code java -cp soconnect.jar seedu.address.BatchMain [--config=CONFIG_FILE] [--keep-going] SCRIPT_FILE}
+ *
+ * The script has one command per line, as it would be entered in the app. The commands are run as one change to the
+ * address book, which is saved once they have all been run. If any command fails, none of the changes are saved,
+ * unless {@code --keep-going} is given, in which case the changes of the commands which succeeded are saved. The
+ * commands which failed and the number of commands run per second are printed once the script is done.
+ */
+public class BatchMain {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMANDS_FAILED = 1;
+    public static final int EXIT_NOT_RUN = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: java -cp soconnect.jar seedu.address.BatchMain "
+            + "[--config=CONFIG_FILE] [--keep-going] SCRIPT_FILE";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands (%2$d failed) in %3$d ms: %4$.1f commands/s";
+    public static final String MESSAGE_DISCARDED = "No changes were saved, as some commands failed. "
+            + "Run with --keep-going to save the changes of the commands which succeeded.";
+
+    private static final String CONFIG_PARAMETER = "--config=";
+    private static final String KEEP_GOING_FLAG = "--keep-going";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out));
+    }
+
+    /**
+     * Runs the script named in {@code args}, printing its errors and throughput to {@code out}, and returns the exit
+     * status of the run.
+     */
+    static int run(String[] args, PrintStream out) {
+        Path configPath = Config.DEFAULT_CONFIG_FILE;
+        Path scriptPath = null;
+        boolean isKeepingGoing = false;
+        for (String arg : args) {
+            if (arg.equals(KEEP_GOING_FLAG)) {
+                isKeepingGoing = true;
+                continue;
+            }
+            boolean isConfig = arg.startsWith(CONFIG_PARAMETER);
+            String path = isConfig ? arg.substring(CONFIG_PARAMETER.length()) : arg;
+            if (!FileUtil.isValidPath(path) || (!isConfig && scriptPath != null)) {
+                out.println(MESSAGE_USAGE);
+                return EXIT_NOT_RUN;
+            }
+            if (isConfig) {
+                configPath = Paths.get(path);
+            } else {
+                scriptPath = Paths.get(path);
+            }
+        }
+        if (scriptPath == null) {
+            out.println(MESSAGE_USAGE);
+            return EXIT_NOT_RUN;
+        }
+
+        try {
+            List<String> commandLines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+            return runScript(initConfig(configPath), commandLines, isKeepingGoing, out);
+        } catch (IOException | DataConversionException | CommandException e) {
+            out.println("Could not run " + scriptPath + ": " + e.getMessage());
+            logger.warning("Could not run " + scriptPath + ": " + StringUtil.getDetails(e));
+            return EXIT_NOT_RUN;
+        }
+    }
+
+    /**
+     * Returns the {@code Config} in the file at {@code configPath}, or the default config if there is no such file.
+     */
+    private static Config initConfig(Path configPath) throws DataConversionException {
+        Config config = ConfigUtil.readConfig(configPath).orElseGet(Config::new);
+        LogsCenter.init(config);
+        return config;
+    }
+
+    private static int runScript(Config config, List<String> commandLines, boolean isKeepingGoing, PrintStream out)
+            throws IOException, DataConversionException, CommandException {
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+        StorageManager storage = new StorageManager(
+                StorageManager.addressBookStorageFor(userPrefs.getAddressBookFilePath()), userPrefsStorage);
+
+        // unlike the app, a data file which cannot be read is not replaced, as the script would then overwrite it
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+        if (!addressBook.isPresent()) {
+            logger.info("Data file not found. Will be starting with an empty AddressBook");
+        }
+        ModelManager model = new ModelManager(addressBook.orElseGet(AddressBook::new), userPrefs);
+        model.setEventArchive(new EventArchive(storage::readEventArchive));
+
+        long startTime = System.nanoTime();
+        ScriptResult result = new LogicManager(model, storage).executeScript(commandLines, isKeepingGoing);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        for (ScriptResult.LineError error : result.getErrors()) {
+            out.println(error);
+        }
+        int commandCount = result.getExecutedCount() + result.getErrors().size();
+        double commandsPerSecond = commandCount * 1000.0 / Math.max(elapsedMillis, 1);
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, result.getErrors().size(), elapsedMillis,
+                commandsPerSecond));
+        if (result.isDiscarded()) {
+            out.println(MESSAGE_DISCARDED);
+        }
+        return result.getErrors().isEmpty() ? EXIT_SUCCESS : EXIT_COMMANDS_FAILED;
+    }
+}
@@ -3,31 +3,39 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.TraceRecorder;
+import seedu.address.logic.commands.event.EArchiveCommand;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.EventArchive;
+import seedu.address.model.util.SampleDataGenerator;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.CommandTraceStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -42,9 +50,12 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
-    protected Storage storage;
+    protected CommandQueue commandQueue;
+    protected WriteBehindStorage storage;
     protected Model model;
+    protected AddressBookLoader loader;
     protected Config config;
+    protected TraceRecorder traceRecorder; // null if commands are not traced
 
     @Override
     public void init() throws Exception {
@@ -56,41 +67,78 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage =
+                StorageManager.addressBookStorageFor(userPrefs.getAddressBookFilePath());
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+        // tells the user as soon as the data file cannot be written, rather than when the next command is saved
+        storage.setFailureHandler(failure -> Platform.runLater(() ->
+                ui.showNotice(String.format(Messages.MESSAGE_SAVE_FAILED, failure.getMessage()))));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // the address book is loaded after the UI is shown, so the window does not wait for the whole file
+        ModelManager modelManager = new ModelManager(new AddressBook(), userPrefs);
+        modelManager.setEventArchive(new EventArchive(storage::readEventArchive));
+        model = modelManager;
+        // the model is only changed on the command thread, which passes the changes to the UI in batches
+        loader = new AddressBookLoader(modelManager, storage, task -> commandQueue.runOnCommandThread(task),
+                initSampleData(appParameters));
+        LogicManager logicManager = new LogicManager(model, storage, loader);
+        traceRecorder = initTraceRecorder(config, userPrefs);
+        if (traceRecorder != null) {
+            logicManager.setTraceRecorder(traceRecorder);
+        }
+        commandQueue = new CommandQueue(logicManager, Platform::runLater);
 
-        logic = new LogicManager(model, storage);
+        logic = commandQueue;
+        logic.addLoadedListener(() -> loader.getLoadProblem().ifPresent(ui::showNotice));
+        if (userPrefs.isAutoArchiveEnabled()) {
+            logic.addLoadedListener(this::archiveConcludedEvents);
+        }
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Moves the events which concluded more than the number of days set in the user prefs ago to the archive, and
+     * tells the user about the events archived, which can be brought back with an undo.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
+    private void archiveConcludedEvents() {
+        logic.submit(EArchiveCommand.COMMAND_WORD).whenComplete((commandResult, failure) -> {
+            if (failure != null) {
+                logger.warning("Failed to archive concluded events: " + StringUtil.getDetails(failure));
+            } else if (!commandResult.getEventChangerList().isEmpty()) {
+                Platform.runLater(() -> ui.showNotice(String.format(Messages.MESSAGE_EVENTS_ARCHIVED_ON_START,
+                        commandResult.getFeedbackToUser())));
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+        });
+    }
+
+    /**
+     * Returns the recorder of the commands executed to the trace file set in {@code config}, or null if none is set.
+     */
+    private TraceRecorder initTraceRecorder(Config config, UserPrefs userPrefs) {
+        if (config.getTraceFilePath() == null) {
+            return null;
         }
+        logger.info("Will trace the commands executed to " + config.getTraceFilePath());
+        return new TraceRecorder(new CommandTraceStorage(config.getTraceFilePath()),
+                userPrefs.getAddressBookFilePath().getFileName().toString());
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Returns the supplier of the address book to start with if there is no data file, which generates as many
+     * contacts and events as given in {@code appParameters}, or returns the usual sample data if none are given.
+     */
+    private Supplier<ReadOnlyAddressBook> initSampleData(AppParameters appParameters) {
+        AppParameters.SampleDataSize size = appParameters.getSampleDataSize();
+        if (size == null) {
+            return SampleDataUtil::getSampleAddressBook;
+        }
+        logger.info("Will generate " + size.getContactCount() + " contacts and " + size.getEventCount()
+                + " events with seed " + appParameters.getSampleDataSeed() + " if the data file is not found");
+        return new SampleDataGenerator(appParameters.getSampleDataSeed(), size.getContactCount(),
+                size.getEventCount())::generate;
     }
 
     private void initLogging(Config config) {
@@ -169,14 +217,24 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        loader.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SoConnect ] =============================");
+        commandQueue.shutdown(); // the model is not changed once the queued commands have been executed
+        if (traceRecorder != null) {
+            traceRecorder.close();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
-            storage.saveAddressBook(model.getAddressBook());
+            // otherwise only the part loaded so far, or an address book started in place of one which was not read,
+            // would be saved
+            if (loader.isLoaded() && !loader.isReadOnly()) {
+                storage.saveAddressBookAndEventArchive(model.getAddressBook(), model.getEventArchive());
+            }
+            storage.close(); // waits for the address book to be written
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
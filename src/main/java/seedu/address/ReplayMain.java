@@ -0,0 +1,222 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.commons.core.CommandTrace;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.TraceRecorder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.EventArchive;
+import seedu.address.storage.CommandTraceStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
+
+/**
+ * The entry point to replay a trace of the commands executed in a session, recorded when {@code traceFilePath} is set
+ * in the config, to find the commands which have become slower.
+ *
+ * Usage: {@code java -cp soconnect.jar seedu.address.ReplayMain [--threshold=PERCENT] [--runs=N] TRACE_FILE}
+ *
+ * The commands are executed on the address book the session started with, as they were in the app, once to warm up
+ * and then {@code N} more times, in a temporary folder. A command is slower if the fastest of its runs took more than
+ * {@code PERCENT} percent longer than it did when recorded, and at least a millisecond longer. A command diverged if
+ * it succeeded or failed when it did not before, or left the address book different from when it was recorded.
+ */
+public class ReplayMain {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_REGRESSED = 1;
+    public static final int EXIT_NOT_RUN = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: java -cp soconnect.jar seedu.address.ReplayMain "
+            + "[--threshold=PERCENT] [--runs=N] TRACE_FILE";
+    public static final String MESSAGE_SLOWER = "Slower: #%1$d %2$s: recorded %3$.2f ms, replayed %4$.2f ms (%5$s)";
+    public static final String MESSAGE_DIVERGED = "Diverged: #%1$d %2$s";
+    public static final String MESSAGE_NOT_REPLAYED = "Diverged: only %1$d of the %2$d commands were replayed";
+    public static final String MESSAGE_SUMMARY = "Replayed %1$d commands %2$d times: %3$d slower by more than "
+            + "%4$d%%, %5$d diverged";
+
+    static final int DEFAULT_THRESHOLD_PERCENT = 10;
+    static final int DEFAULT_RUNS = 3;
+    static final long MIN_SLOWDOWN_NANOS = 1_000_000;
+
+    private static final String THRESHOLD_PARAMETER = "--threshold=";
+    private static final String RUNS_PARAMETER = "--runs=";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Logger logger = LogsCenter.getLogger(ReplayMain.class);
+
+    public static void main(String[] args) {
+        // the loggers of the app take their level from the root logger, and logging every command would be timed
+        Logger.getLogger("").setLevel(Level.WARNING);
+        System.exit(run(args, System.out));
+    }
+
+    /**
+     * Replays the trace named in {@code args}, printing the commands which became slower or diverged to {@code out},
+     * and returns the exit status of the replay.
+     */
+    static int run(String[] args, PrintStream out) {
+        int thresholdPercent = DEFAULT_THRESHOLD_PERCENT;
+        int runs = DEFAULT_RUNS;
+        Path tracePath = null;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith(THRESHOLD_PARAMETER)) {
+                    thresholdPercent = Integer.parseInt(arg.substring(THRESHOLD_PARAMETER.length()));
+                } else if (arg.startsWith(RUNS_PARAMETER)) {
+                    runs = Integer.parseInt(arg.substring(RUNS_PARAMETER.length()));
+                } else if (tracePath == null && FileUtil.isValidPath(arg)) {
+                    tracePath = Paths.get(arg);
+                } else {
+                    tracePath = null;
+                    break;
+                }
+            }
+        } catch (NumberFormatException e) {
+            tracePath = null;
+        }
+        if (tracePath == null || thresholdPercent < 0 || runs < 1) {
+            out.println(MESSAGE_USAGE);
+            return EXIT_NOT_RUN;
+        }
+
+        try {
+            CommandTraceStorage.Trace trace = CommandTraceStorage.read(tracePath);
+            List<List<CommandTrace>> replays = replay(trace, runs);
+            return compare(trace.getCommands(), replays, thresholdPercent, out);
+        } catch (IOException | DataConversionException e) {
+            out.println("Could not replay " + tracePath + ": " + e.getMessage());
+            logger.warning("Could not replay " + tracePath + ": " + StringUtil.getDetails(e));
+            return EXIT_NOT_RUN;
+        }
+    }
+
+    /**
+     * Returns the traces of {@code runs} replays of {@code trace}, after a replay to warm up.
+     */
+    private static List<List<CommandTrace>> replay(CommandTraceStorage.Trace trace, int runs)
+            throws IOException, DataConversionException {
+        Path folder = Files.createTempDirectory("soconnect-replay");
+        try {
+            replay(trace, folder.resolve("warmup"));
+            List<List<CommandTrace>> replays = new ArrayList<>();
+            for (int i = 1; i <= runs; i++) {
+                replays.add(replay(trace, folder.resolve("run" + i)));
+            }
+            return replays;
+        } finally {
+            try (Stream<Path> paths = Files.walk(folder)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the commands in {@code trace} on its snapshot, saving to {@code folder} as the app would, and returns
+     * the trace of the replay.
+     */
+    private static List<CommandTrace> replay(CommandTraceStorage.Trace trace, Path folder)
+            throws IOException, DataConversionException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve(trace.getDataFileName()));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                StorageManager.addressBookStorageFor(userPrefs.getAddressBookFilePath()),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json"))));
+        ModelManager model = new ModelManager(trace.getSnapshot(), userPrefs);
+        model.setEventArchive(new EventArchive(storage::readEventArchive));
+
+        Path replayTracePath = folder.resolve("replay.trace");
+        TraceRecorder recorder = new TraceRecorder(new CommandTraceStorage(replayTracePath), trace.getDataFileName());
+        LogicManager logic = new LogicManager(model, storage);
+        logic.setTraceRecorder(recorder);
+        for (CommandTrace command : trace.getCommands()) {
+            try {
+                logic.execute(command.getCommandText());
+            } catch (CommandException | ParseException e) {
+                // whether it failed is in the trace of the replay
+            }
+        }
+        recorder.close();
+        storage.close();
+        return CommandTraceStorage.read(replayTracePath).getCommands();
+    }
+
+    /**
+     * Prints the commands in {@code replays} which are slower than or diverged from those {@code recorded}, and
+     * returns the exit status of the replay.
+     */
+    private static int compare(List<CommandTrace> recorded, List<List<CommandTrace>> replays, int thresholdPercent,
+            PrintStream out) {
+        int replayedCount = replays.stream().mapToInt(List::size).min().orElse(0);
+        int slowerCount = 0;
+        int divergedCount = 0;
+        for (int i = 0; i < replayedCount; i++) {
+            CommandTrace expected = recorded.get(i);
+            CommandTrace fastest = null;
+            boolean isDiverged = false;
+            for (List<CommandTrace> replay : replays) {
+                CommandTrace actual = replay.get(i);
+                isDiverged |= actual.isSuccessful() != expected.isSuccessful()
+                        || actual.getFingerprint() != expected.getFingerprint();
+                if (fastest == null || actual.getTotalNanos() < fastest.getTotalNanos()) {
+                    fastest = actual;
+                }
+            }
+
+            if (isDiverged) {
+                divergedCount++;
+                out.println(String.format(MESSAGE_DIVERGED, i + 1, expected.getCommandText()));
+            }
+            long slowdown = fastest.getTotalNanos() - expected.getTotalNanos();
+            if (slowdown >= MIN_SLOWDOWN_NANOS && slowdown * 100 > expected.getTotalNanos() * thresholdPercent) {
+                slowerCount++;
+                out.println(String.format(MESSAGE_SLOWER, i + 1, expected.getCommandText(),
+                        expected.getTotalNanos() / NANOS_PER_MILLI, fastest.getTotalNanos() / NANOS_PER_MILLI,
+                        formatPhases(expected, fastest)));
+            }
+        }
+        if (replayedCount < recorded.size()) {
+            divergedCount++;
+            out.println(String.format(MESSAGE_NOT_REPLAYED, replayedCount, recorded.size()));
+        }
+
+        out.println(String.format(MESSAGE_SUMMARY, recorded.size(), replays.size(), slowerCount, thresholdPercent,
+                divergedCount));
+        return slowerCount == 0 && divergedCount == 0 ? EXIT_SUCCESS : EXIT_REGRESSED;
+    }
+
+    /**
+     * Returns how long each phase took when recorded and when replayed, in ms.
+     */
+    private static String formatPhases(CommandTrace recorded, CommandTrace replayed) {
+        List<String> phases = new ArrayList<>();
+        for (Phase phase : Phase.values()) {
+            phases.add(String.format("%s %.2f -> %.2f", phase, recorded.getNanos(phase) / NANOS_PER_MILLI,
+                    replayed.getNanos(phase) / NANOS_PER_MILLI));
+        }
+        return String.join(", ", phases);
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The latency of each phase of the commands with a command word, and the memory allocated by them, since the app
+ * started. The stats of every command word are kept here, so that they can be recorded from any thread.
+ */
+public class CommandStats {
+
+    /**
+     * A phase of the handling of a command, from parsing it to showing its result.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, COMMIT, SAVE, DISPLAY;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final Map<String, CommandStats> statsOfCommandWords = new ConcurrentHashMap<>();
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final Map<Phase, Histogram> latencies = new EnumMap<>(Phase.class); // in nanoseconds
+    private final Histogram allocations = new Histogram(); // in bytes
+
+    private CommandStats() {
+        for (Phase phase : Phase.values()) {
+            latencies.put(phase, new Histogram());
+        }
+    }
+
+    /**
+     * Returns the stats of the commands with {@code commandWord}.
+     */
+    public static CommandStats of(String commandWord) {
+        requireNonNull(commandWord);
+        return statsOfCommandWords.computeIfAbsent(commandWord, unused -> new CommandStats());
+    }
+
+    /**
+     * Returns the stats of every command word a command has been recorded for, ordered by command word.
+     */
+    public static Map<String, CommandStats> getAll() {
+        return Collections.unmodifiableMap(new TreeMap<>(statsOfCommandWords));
+    }
+
+    /**
+     * Returns the command word of {@code commandText}, which is the first word entered.
+     */
+    public static String commandWordOf(String commandText) {
+        String trimmedText = commandText.trim();
+        int end = 0;
+        while (end < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(end))) {
+            end++;
+        }
+        return trimmedText.substring(0, end);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread since it started, or -1 if the JVM does not
+     * measure the memory allocated by threads.
+     */
+    public static long getAllocatedBytesOfCurrentThread() {
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Records that {@code phase} of a command took {@code nanos} nanoseconds.
+     */
+    public void recordLatency(Phase phase, long nanos) {
+        latencies.get(phase).record(nanos);
+    }
+
+    /**
+     * Records that a command allocated {@code bytes} bytes.
+     */
+    public void recordAllocation(long bytes) {
+        allocations.record(bytes);
+    }
+
+    /**
+     * Returns the latencies of {@code phase} of the commands, in nanoseconds.
+     */
+    public Histogram getLatencies(Phase phase) {
+        return latencies.get(phase);
+    }
+
+    /**
+     * Returns the memory allocated by the commands on the thread which executed them, in bytes.
+     */
+    public Histogram getAllocations() {
+        return allocations;
+    }
+
+    /**
+     * Times the phases of a single command, on the thread which executes it.
+     */
+    public static class Timer {
+
+        private final long startAllocatedBytes = getAllocatedBytesOfCurrentThread();
+        private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+        private final long startNanos = System.nanoTime();
+        private long phaseStart = startNanos;
+
+        /**
+         * Records that {@code phase} ended now, and started when the previous phase ended, or when this timer was
+         * created.
+         */
+        public void endPhase(Phase phase) {
+            long now = System.nanoTime();
+            phaseNanos.merge(phase, now - phaseStart, Long::sum);
+            phaseStart = now;
+        }
+
+        /**
+         * Returns the value of {@link System#nanoTime()} when this timer was created.
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * Returns the nanoseconds {@code phase} took, or 0 if it has not ended.
+         */
+        public long getNanos(Phase phase) {
+            return phaseNanos.getOrDefault(phase, 0L);
+        }
+
+        /**
+         * Records the phases which ended, and the memory allocated since this timer was created, in the stats of
+         * {@code commandWord}.
+         */
+        public void record(String commandWord) {
+            CommandStats stats = CommandStats.of(commandWord);
+            phaseNanos.forEach(stats::recordLatency);
+            long endAllocatedBytes = getAllocatedBytesOfCurrentThread();
+            if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+                stats.recordAllocation(endAllocatedBytes - startAllocatedBytes);
+            }
+        }
+    }
+}
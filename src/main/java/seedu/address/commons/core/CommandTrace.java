@@ -0,0 +1,94 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.core.CommandStats.Phase;
+
+/**
+ * A command executed in a session, as recorded in a trace of the session: when it started, how long each phase of it
+ * took, whether it succeeded, and a fingerprint of the model after it.
+ * Guarantees: immutable.
+ */
+public class CommandTrace {
+
+    private final String commandText;
+    private final long startNanos; // since the trace started
+    private final Map<Phase, Long> phaseNanos;
+    private final boolean isSuccessful;
+    private final long fingerprint;
+
+    /**
+     * Creates a trace of {@code commandText}, which started {@code startNanos} nanoseconds after the trace started and
+     * whose phases took {@code phaseNanos} nanoseconds. Phases missing from {@code phaseNanos} took no time.
+     */
+    public CommandTrace(String commandText, long startNanos, Map<Phase, Long> phaseNanos, boolean isSuccessful,
+            long fingerprint) {
+        requireNonNull(commandText);
+        requireNonNull(phaseNanos);
+        this.commandText = commandText;
+        this.startNanos = startNanos;
+        this.phaseNanos = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            this.phaseNanos.put(phase, phaseNanos.getOrDefault(phase, 0L));
+        }
+        this.isSuccessful = isSuccessful;
+        this.fingerprint = fingerprint;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getNanos(Phase phase) {
+        return phaseNanos.get(phase);
+    }
+
+    /**
+     * Returns the nanoseconds all the phases of the command took together.
+     */
+    public long getTotalNanos() {
+        return phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public boolean isSuccessful() {
+        return isSuccessful;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof CommandTrace)) {
+            return false;
+        }
+        CommandTrace otherTrace = (CommandTrace) other;
+        return commandText.equals(otherTrace.commandText)
+                && startNanos == otherTrace.startNanos
+                && phaseNanos.equals(otherTrace.phaseNanos)
+                && isSuccessful == otherTrace.isSuccessful
+                && fingerprint == otherTrace.fingerprint;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commandText, startNanos, phaseNanos, isSuccessful, fingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return commandText + " at " + startNanos + "ns: " + phaseNanos + (isSuccessful ? "" : ", failed");
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts non-negative values, such as durations in nanoseconds, in buckets so that their percentiles can be estimated.
+ * <p>
+ * Values below {@code SUB_BUCKETS} have a bucket each. Every larger power of two is split into {@code SUB_BUCKETS}
+ * buckets of equal width, so the estimated percentiles are within 1 / {@code SUB_BUCKETS} of the values recorded.
+ * Recording a value only increments its bucket, so values can be recorded from any thread without locking.
+ */
+public class Histogram {
+
+    public static final String MESSAGE_INVALID_PERCENTILE = "Percentile should be between 0 and 100";
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Records {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        counts.incrementAndGet(bucketOf(Math.max(value, 0)));
+    }
+
+    /**
+     * Returns the number of values recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the value below which {@code percentile} percent of the values recorded fall, or 0 if
+     * no values have been recorded.
+     * The estimate is the largest value in the bucket of that value, so it is never below the actual value.
+     */
+    public long getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, MESSAGE_INVALID_PERCENTILE);
+        long[] snapshot = new long[BUCKET_COUNT]; // values recorded while this runs are counted at most once
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return largestValueOf(i);
+            }
+        }
+        return largestValueOf(BUCKET_COUNT - 1);
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value); // from SUB_BUCKET_BITS to Long.SIZE - 2
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long largestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long smallestValue = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return smallestValue + (1L << shift) - 1;
+    }
+}
@@ -9,6 +9,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX = "The contact index provided is invalid";
     public static final String MESSAGE_INVALID_EVENT_DISPLAYED_INDEX = "The event index provided is invalid";
+    public static final String MESSAGE_INVALID_ARCHIVED_EVENT_DISPLAYED_INDEX =
+            "The archived event index provided is invalid";
     public static final String MESSAGE_START_MORE_THAN_END_INDEX = "The start index should not be more than end index";
     public static final String MESSAGE_CONTACTS_LISTED_OVERVIEW = "%1$d contacts listed!";
     public static final String MESSAGE_EVENTS_LISTED_OVERVIEW = "%1$d events listed!";
@@ -21,4 +23,14 @@ public class Messages {
     public static final String MESSAGE_INVALID_RANGE = "Range given is invalid";
     public static final String MESSAGE_CONTACT_FIELD_COPIED = "Contact %1$s copied to clipboard!";
     public static final String MESSAGE_EVENT_FIELD_COPIED = "Event %1$s copied to clipboard!";
+    public static final String MESSAGE_LOADING = "Loading contacts and events...";
+    public static final String MESSAGE_LOADED = "Loaded %1$d contacts and %2$d events.";
+    public static final String MESSAGE_DATA_FILE_BACKED_UP = "The data file could not be read, so it was moved to %1$s "
+            + "and SoConnect started with an empty address book.";
+    public static final String MESSAGE_DATA_FILE_NOT_SAVED = "The data file %1$s could not be read nor moved aside, so "
+            + "SoConnect started with an empty address book, and no changes will be saved until it is restarted.";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save the data file: %1$s\n"
+            + "It will be saved again after the next command.";
+    public static final String MESSAGE_EVENTS_ARCHIVED_ON_START = "%1$s Concluded events are archived every time "
+            + "SoConnect starts, as set in the preferences file. Type undo to bring them back.";
 }
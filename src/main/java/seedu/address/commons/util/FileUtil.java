@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Writes and reads files
@@ -12,6 +20,9 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final LongAdder bytesWritten = new LongAdder(); // by the methods below, since the app started
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +88,81 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        bytesWritten.add(bytes.length);
+    }
+
+    /**
+     * Opens a file for writing, replacing its contents.
+     * Will create the file if it does not exist yet.
+     */
+    public static OutputStream newOutputStream(Path file) throws IOException {
+        return new CountingOutputStream(Files.newOutputStream(file));
+    }
+
+    /**
+     * Writes the remaining bytes of {@code buffer} to {@code channel} at its current position.
+     */
+    public static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            bytesWritten.add(channel.write(buffer));
+        }
+    }
+
+    /**
+     * Writes a file with {@code writer}, through a temporary file which is forced to the disk and then renamed to
+     * {@code file}. A crash thus leaves either the old file or the completely written new file in place.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileOutputStream outputStream = new FileOutputStream(tempFile.toFile())) {
+            writer.write(new CountingOutputStream(outputStream));
+            outputStream.getFD().sync();
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the number of bytes written to files through this class since the app started.
+     */
+    public static long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Writes the contents of a file to its output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
     }
 
+    /**
+     * An output stream which adds the bytes written through it to {@code bytesWritten}.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        CountingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytesWritten.increment();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytesWritten.add(len);
+        }
+    }
 }
@@ -6,12 +6,15 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, and a full word match is not required.
@@ -30,7 +33,7 @@ public class StringUtil {
 
         String preppedWord = word.trim().toLowerCase(Locale.ROOT);
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(!WHITESPACE.matcher(preppedWord).find(), "Word parameter should be a single word");
 
         String preppedSentence = sentence.toLowerCase(Locale.ROOT);
 
@@ -0,0 +1,225 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the address book from storage into a model in the background, so that the UI can be shown before the whole
+ * address book has been read.
+ * <p>
+ * The address book is read on a background thread. Its contacts and events are then added to the model in batches of
+ * {@code BATCH_SIZE}, one batch per task passed to the model executor, so that commands queued on the same thread
+ * are not held up for long. Apart from {@link #start()} and {@link #isLoaded()}, the methods of the loader must be
+ * called on the thread which runs the tasks of the model executor, which is the only thread that changes the model.
+ */
+public class AddressBookLoader {
+
+    public static final int BATCH_SIZE = 500;
+    static final String BACKUP_INFIX = "-unreadable-";
+
+    private static final DateTimeFormatter BACKUP_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final ModelManager model;
+    private final Storage storage;
+    private final Executor modelExecutor;
+    private final Supplier<ReadOnlyAddressBook> sampleData;
+    // dropped once loaded, as the address book read keeps every change made to the model after it from being freed
+    private CompletableFuture<ReadOnlyAddressBook> initialData = new CompletableFuture<>();
+    private final List<Runnable> loadedListeners = new ArrayList<>();
+
+    private int loadedContacts;
+    private int loadedEvents;
+    private volatile boolean isLoaded;
+    private volatile boolean isReadOnly;
+    private volatile String loadProblem; // null if the data file was read, or there was none
+
+    /**
+     * Creates a loader of the address book in {@code storage} into {@code model}, whose contacts and events are added
+     * to the model by tasks passed to {@code modelExecutor}.
+     */
+    public AddressBookLoader(ModelManager model, Storage storage, Executor modelExecutor) {
+        this(model, storage, modelExecutor, SampleDataUtil::getSampleAddressBook);
+    }
+
+    /**
+     * Creates a loader as above, which loads the address book returned by {@code sampleData} if there is no address
+     * book in {@code storage}.
+     */
+    public AddressBookLoader(ModelManager model, Storage storage, Executor modelExecutor,
+            Supplier<ReadOnlyAddressBook> sampleData) {
+        requireAllNonNull(model, storage, modelExecutor, sampleData);
+        this.model = model;
+        this.storage = storage;
+        this.modelExecutor = modelExecutor;
+        this.sampleData = sampleData;
+    }
+
+    /**
+     * Starts reading the address book on a background thread.
+     */
+    public void start() {
+        Thread reader = new Thread(this::read, "address-book-loader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Reads the address book from storage. The data from the sample address book will be used instead if the address
+     * book is not found, or an empty address book will be used instead if errors occur when reading it.
+     */
+    private void read() {
+        ReadOnlyAddressBook data = new AddressBook();
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+            }
+            data = addressBookOptional.orElseGet(sampleData);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            backUpDataFile();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            backUpDataFile();
+        } finally {
+            initialData.complete(data);
+            modelExecutor.execute(this::loadNextBatch);
+        }
+    }
+
+    /**
+     * Moves the data file which could not be read aside, along with the files kept with it such as its journal, so
+     * that the empty address book started with is not saved over it. If it cannot be moved, the address book is not
+     * saved at all.
+     */
+    private void backUpDataFile() {
+        Path filePath = storage.getAddressBookFilePath();
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.') > 0 ? fileName.lastIndexOf('.') : fileName.length();
+        String backupName = fileName.substring(0, extensionStart) + BACKUP_INFIX
+                + BACKUP_TIME_FORMAT.format(LocalDateTime.now()) + fileName.substring(extensionStart);
+        Path backupPath = filePath.resolveSibling(backupName);
+        try (Stream<Path> siblings = Files.list(filePath.toAbsolutePath().getParent())) {
+            // the archived events can still be read, so they are kept
+            Path archivePath = storage.getEventArchiveFilePath().toAbsolutePath();
+            List<Path> files = siblings.filter(path -> path.getFileName().toString().startsWith(fileName)
+                    && !path.equals(archivePath)).collect(Collectors.toList());
+            for (Path file : files) {
+                Files.move(file, file.resolveSibling(backupName
+                        + file.getFileName().toString().substring(fileName.length())));
+            }
+            logger.warning("Moved the data file which could not be read to " + backupPath);
+            loadProblem = String.format(Messages.MESSAGE_DATA_FILE_BACKED_UP, backupPath);
+        } catch (IOException e) {
+            logger.warning("Failed to move the data file which could not be read aside, so the address book will not "
+                    + "be saved: " + StringUtil.getDetails(e));
+            loadProblem = String.format(Messages.MESSAGE_DATA_FILE_NOT_SAVED, filePath);
+            isReadOnly = true;
+        }
+    }
+
+    /**
+     * Adds the next batch of contacts and events to the model, and passes a task to add the batch after it to the
+     * model executor.
+     */
+    private void loadNextBatch() {
+        if (isLoaded) {
+            return; // the remaining batches were added by awaitLoaded()
+        }
+        addBatch(initialData.join());
+        if (!isLoaded) {
+            modelExecutor.execute(this::loadNextBatch);
+        }
+    }
+
+    private void addBatch(ReadOnlyAddressBook data) {
+        List<Contact> contacts = data.getContactList();
+        List<Event> events = data.getEventList();
+        int contactsEnd = Math.min(loadedContacts + BATCH_SIZE, contacts.size());
+        int eventsEnd = Math.min(loadedEvents + BATCH_SIZE - (contactsEnd - loadedContacts), events.size());
+        model.appendLoadedData(contacts.subList(loadedContacts, contactsEnd), events.subList(loadedEvents, eventsEnd),
+                data);
+        loadedContacts = contactsEnd;
+        loadedEvents = eventsEnd;
+
+        if (loadedContacts == contacts.size() && loadedEvents == events.size()) {
+            initialData = null;
+            isLoaded = true;
+            logger.info("Loaded " + loadedContacts + " contacts and " + loadedEvents + " events");
+            loadedListeners.forEach(Runnable::run);
+            loadedListeners.clear();
+        }
+    }
+
+    /**
+     * Returns true if the data file could not be read nor moved aside, so that the address book must not be saved
+     * over it.
+     */
+    public boolean isReadOnly() {
+        return isReadOnly;
+    }
+
+    /**
+     * Returns the message telling the user why the address book was not loaded from the data file, if it could not be
+     * read.
+     */
+    public Optional<String> getLoadProblem() {
+        return Optional.ofNullable(loadProblem);
+    }
+
+    /**
+     * Returns true once all the contacts and events have been added to the model.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Waits until the address book has been read, and adds all the contacts and events not yet added to the model.
+     */
+    public void awaitLoaded() {
+        while (!isLoaded) {
+            addBatch(initialData.join());
+        }
+    }
+
+    /**
+     * Runs {@code listener} once all the contacts and events have been added to the model, or right away if they
+     * have been added already.
+     */
+    public void addLoadedListener(Runnable listener) {
+        if (isLoaded) {
+            listener.run();
+        } else {
+            loadedListeners.add(listener);
+        }
+    }
+}
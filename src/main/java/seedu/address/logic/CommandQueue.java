@@ -0,0 +1,359 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactDisplaySetting;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDisplaySetting;
+
+/**
+ * A {@code Logic} which executes commands one after another on a background thread, the command thread, so that the
+ * UI stays responsive while a command is parsed, executed and saved.
+ * <p>
+ * Commands are queued in the order they are submitted, and the model is only changed on the command thread. The lists
+ * of contacts and events returned are copies of the lists in the model, which are brought up to date by a single task
+ * passed to the UI executor after each command, before the result of the command is returned. The same task publishes
+ * a snapshot of the links, the display settings and the GUI settings, so the UI thread reads them as they were after
+ * the same command as the lists, without waiting for the command being executed. The methods which read the model
+ * thus must only be called on the UI thread, and the methods which change it queue the change on the command thread.
+ */
+public class CommandQueue implements Logic {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final ExecutorService commandExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "command-executor");
+                thread.setDaemon(true); // the queued commands are finished by shutdown() when the application stops
+                return thread;
+            });
+
+    private final PublishedList<Contact> filteredContacts;
+    private final PublishedList<Event> filteredEvents;
+    private final PublishedList<Contact> contacts;
+    private final PublishedList<Event> events;
+    private final ReadOnlyAddressBook publishedAddressBook;
+
+    // the state of the model last published, which is only used on the command thread
+    private PublishedState lastPublished;
+    // the state of the model as of the lists shown, which is only used on the UI thread
+    private PublishedState shown;
+
+    /**
+     * Creates a {@code CommandQueue} which executes commands with {@code logic} on the command thread, and passes the
+     * changes to the lists of contacts and events to {@code uiExecutor}. The model of {@code logic} must not be
+     * changed until this has been created.
+     */
+    public CommandQueue(Logic logic, Executor uiExecutor) {
+        requireAllNonNull(logic, uiExecutor);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        filteredContacts = new PublishedList<>(logic.getFilteredContactList());
+        filteredEvents = new PublishedList<>(logic.getFilteredEventList());
+        contacts = new PublishedList<>(logic.getAddressBook().getContactList());
+        events = new PublishedList<>(logic.getAddressBook().getEventList());
+        lastPublished = new PublishedState(logic);
+        shown = lastPublished;
+        publishedAddressBook = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Contact> getContactList() {
+                return contacts.getPublishedList();
+            }
+
+            @Override
+            public ObservableList<Event> getEventList() {
+                return events.getPublishedList();
+            }
+
+            @Override
+            public Set<UUID> getLinkedContactUuids(Event event) {
+                return shown.links.getLinkedContactUuids(event);
+            }
+
+            @Override
+            public Set<UUID> getLinkedEventUuids(Contact contact) {
+                return shown.links.getLinkedEventUuids(contact);
+            }
+
+            @Override
+            public List<Contact> getLinkedContacts(Event event) {
+                return shown.links.getLinkedContacts(event);
+            }
+
+            @Override
+            public List<Event> getLinkedEvents(Contact contact) {
+                return shown.links.getLinkedEvents(contact);
+            }
+        };
+    }
+
+    /**
+     * Runs {@code task} on the command thread after the commands and tasks queued before it, and then passes the
+     * changes it made to the lists of contacts and events to the UI executor.
+     */
+    public void runOnCommandThread(Runnable task) {
+        supplyOnCommandThread(() -> {
+            task.run();
+            return null;
+        }).whenComplete((unused, failure) -> {
+            if (failure != null) {
+                logger.warning("Task failed on the command thread: " + StringUtil.getDetails(failure));
+            }
+        });
+    }
+
+    private <T> CompletableFuture<T> supplyOnCommandThread(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            commandExecutor.execute(() -> {
+                T value = null;
+                Exception failure = null;
+                try {
+                    value = task.call();
+                } catch (Exception e) {
+                    failure = e;
+                }
+                // before the future is completed, so that the changes are shown before the result
+                publishChanges();
+                if (failure == null) {
+                    future.complete(value);
+                } else {
+                    future.completeExceptionally(failure);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e); // the queue has been shut down
+        }
+        return future;
+    }
+
+    /**
+     * Passes the changes made to the lists and the state of the model since they were last published to the UI
+     * executor, in a single task. Must be called on the command thread.
+     */
+    private void publishChanges() {
+        List<Runnable> changes = new ArrayList<>();
+        filteredContacts.publish(changes::add);
+        filteredEvents.publish(changes::add);
+        contacts.publish(changes::add);
+        events.publish(changes::add);
+        PublishedState state = new PublishedState(logic);
+        if (changes.isEmpty() && state.isSameAs(lastPublished)) {
+            return;
+        }
+        lastPublished = state;
+        uiExecutor.execute(() -> {
+            changes.forEach(Runnable::run);
+            shown = state;
+        });
+    }
+
+    /**
+     * Waits for the queued commands and tasks to finish, and stops the command thread. The commands and tasks queued
+     * afterwards are rejected, completing their futures with a {@code RejectedExecutionException}.
+     */
+    public void shutdown() {
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Queued commands did not finish in " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the value of {@code future} once it is completed, or throws the exception it was completed with.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws CommandException, ParseException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the command after the queued commands, and waits for it to be executed.
+     * Must not be called on the command thread.
+     */
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return await(submit(commandText));
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        return supplyOnCommandThread(() -> logic.execute(commandText));
+    }
+
+    /**
+     * Executes the script after the queued commands, and waits for it to be executed.
+     * Must not be called on the command thread.
+     */
+    @Override
+    public ScriptResult executeScript(List<String> commandLines, boolean isKeepingGoing) throws CommandException {
+        try {
+            return await(supplyOnCommandThread(() -> logic.executeScript(commandLines, isKeepingGoing)));
+        } catch (ParseException e) {
+            throw new AssertionError("Scripts record the commands which cannot be parsed", e);
+        }
+    }
+
+    @Override
+    public boolean isLoading() {
+        return logic.isLoading();
+    }
+
+    /**
+     * Runs {@code listener} on the UI thread once all the contacts and events have been loaded from storage and shown.
+     */
+    @Override
+    public void addLoadedListener(Runnable listener) {
+        runOnCommandThread(() -> logic.addLoadedListener(() -> {
+            publishChanges();
+            uiExecutor.execute(listener);
+        }));
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return publishedAddressBook;
+    }
+
+    @Override
+    public ObservableList<Contact> getFilteredContactList() {
+        return filteredContacts.getPublishedList();
+    }
+
+    @Override
+    public ObservableList<Event> getFilteredEventList() {
+        return filteredEvents.getPublishedList();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return shown.addressBookFilePath;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return shown.guiSettings;
+    }
+
+    /**
+     * Changes the GUI settings after the queued commands. The GUI settings returned are changed once the change has
+     * been published.
+     */
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        runOnCommandThread(() -> logic.setGuiSettings(guiSettings));
+    }
+
+    @Override
+    public EventDisplaySetting getEventDisplaySetting() {
+        return shown.eventDisplaySetting;
+    }
+
+    @Override
+    public ContactDisplaySetting getContactDisplaySetting() {
+        return shown.contactDisplaySetting;
+    }
+
+    @Override
+    public List<Contact> getLinkedContacts(Event event) {
+        return shown.links.getLinkedContacts(event);
+    }
+
+    @Override
+    public List<Event> getLinkedEvents(Contact contact) {
+        return shown.links.getLinkedEvents(contact);
+    }
+
+    @Override
+    public void filterContactsWithLinksToEvent(Event event) {
+        runOnCommandThread(() -> logic.filterContactsWithLinksToEvent(event));
+    }
+
+    @Override
+    public void filterEventsWithLinkToContact(Contact contact) {
+        runOnCommandThread(() -> logic.filterEventsWithLinkToContact(contact));
+    }
+
+    @Override
+    public void resetFilterOfContacts() {
+        runOnCommandThread(logic::resetFilterOfContacts);
+    }
+
+    @Override
+    public void resetFilterOfEvents() {
+        runOnCommandThread(logic::resetFilterOfEvents);
+    }
+
+    /**
+     * The parts of the model shown besides the lists of contacts and events, as they were after a command. The links
+     * are kept as a snapshot of the address book, which is taken in O(1) time.
+     */
+    private static class PublishedState {
+        private final ReadOnlyAddressBook links;
+        private final EventDisplaySetting eventDisplaySetting;
+        private final ContactDisplaySetting contactDisplaySetting;
+        private final GuiSettings guiSettings;
+        private final Path addressBookFilePath;
+
+        PublishedState(Logic logic) {
+            links = AddressBook.snapshotOf(logic.getAddressBook());
+            eventDisplaySetting = logic.getEventDisplaySetting();
+            contactDisplaySetting = logic.getContactDisplaySetting();
+            guiSettings = logic.getGuiSettings();
+            addressBookFilePath = logic.getAddressBookFilePath();
+        }
+
+        boolean isSameAs(PublishedState other) {
+            return AddressBook.isSameSnapshot(links, other.links)
+                && Objects.equals(eventDisplaySetting, other.eventDisplaySetting)
+                && Objects.equals(contactDisplaySetting, other.contactDisplaySetting)
+                && Objects.equals(guiSettings, other.guiSettings)
+                && Objects.equals(addressBookFilePath, other.addressBookFilePath);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,6 +28,37 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in {@code commandLines} one after another, and saves the changes they made once they have
+     * all been executed, as a single change in the history. Blank lines and lines starting with {@code #} are skipped.
+     * A command which fails is recorded in the result, and the commands after it are still executed. If any command
+     * fails, the changes made by the whole script are discarded and nothing is saved, unless {@code isKeepingGoing}.
+     * @param commandLines The lines of the script, one command per line.
+     * @param isKeepingGoing Whether the changes made by the commands which succeeded are kept when others fail.
+     * @return the number of commands executed and the errors of those which failed.
+     * @throws CommandException If an error occurs when saving the changes.
+     */
+    ScriptResult executeScript(List<String> commandLines, boolean isKeepingGoing) throws CommandException;
+
+    /**
+     * Executes the command after the commands submitted before it, and returns the result once it has been executed.
+     * The returned future is completed exceptionally with a {@code CommandException} or {@code ParseException} if the
+     * command fails.
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
+    /**
+     * Returns true if the contacts and events are still being loaded from storage.
+     */
+    boolean isLoading();
+
+    /**
+     * Runs {@code listener} once all the contacts and events have been loaded from storage, or right away if they
+     * have been loaded already.
+     */
+    void addLoadedListener(Runnable listener);
+
     /**
      * Returns the AddressBook.
      *
@@ -64,6 +97,12 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /** Returns the contacts linked to {@code event}. */
+    List<Contact> getLinkedContacts(Event event);
+
+    /** Returns the events linked to {@code contact}. */
+    List<Event> getLinkedEvents(Contact contact);
+
     /** Changes the filter to the model so that only contacts linked to {@code event} will be shown. */
     void filterContactsWithLinksToEvent(Event event);
 
@@ -2,15 +2,26 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CommandStats;
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.commons.core.CommandTrace;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DataIndependent;
 import seedu.address.logic.commands.Undoable;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.general.RedoCommand;
+import seedu.address.logic.commands.general.UndoCommand;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -26,39 +37,186 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_HISTORY_IN_SCRIPT = "Undo and redo cannot be used in a script";
+    public static final String SCRIPT_COMMENT_START = "#";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // null if the address book was loaded into the model before this was created
+    private final AddressBookLoader loader;
+    private TraceRecorder traceRecorder; // null if commands are not traced
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose address book is
+     * being loaded into the model by {@code loader}.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader loader) {
         this.model = model;
         this.storage = storage;
+        this.loader = loader;
         addressBookParser = new AddressBookParser();
     }
 
+    /**
+     * Records every command executed from now on, after the address book is loaded, with {@code traceRecorder}.
+     * The trace is started with a snapshot of the address book as soon as it is loaded, so that writing the snapshot
+     * is not timed as part of the first command recorded.
+     */
+    public void setTraceRecorder(TraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+        addLoadedListener(() -> traceRecorder.start(model.getAddressBook()));
+    }
+
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        CommandStats.Timer timer = new CommandStats.Timer();
         Command command = addressBookParser.parseCommand(commandText);
+        timer.endPhase(Phase.PARSE);
+        boolean isSuccessful = false;
+        try {
+            CommandResult commandResult = execute(command, timer);
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            // only commands which were parsed are recorded, so every command word recorded is a valid one
+            timer.record(CommandStats.commandWordOf(commandText));
+            if (traceRecorder != null) {
+                traceRecorder.record(commandText, timer, isSuccessful, model);
+            }
+        }
+    }
+
+    /**
+     * Executes the command right away, as commands are executed on the thread they are submitted from.
+     */
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        try {
+            return CompletableFuture.completedFuture(execute(commandText));
+        } catch (CommandException | ParseException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Executes {@code command} on the model and saves the changes it made, timing each phase with {@code timer}.
+     */
+    private CommandResult execute(Command command, CommandStats.Timer timer) throws CommandException {
+        CommandResult commandResult;
+        if (isLoading() && !(command instanceof DataIndependent)) {
+            logger.info("Waiting for the address book to be loaded");
+            loader.awaitLoaded();
+        }
         commandResult = command.execute(model);
+        timer.endPhase(Phase.EXECUTE);
         if (command instanceof Undoable) {
             model.commitHistory();
+            timer.endPhase(Phase.COMMIT);
         }
 
+        if (isLoading()) {
+            return commandResult; // saving now would overwrite the data file with the part loaded so far
+        }
+        save();
+        timer.endPhase(Phase.SAVE);
+        return commandResult;
+    }
+
+    @Override
+    public ScriptResult executeScript(List<String> commandLines, boolean isKeepingGoing) throws CommandException {
+        logger.info("----------------[SCRIPT][" + commandLines.size() + " lines]");
+        if (isLoading()) {
+            loader.awaitLoaded();
+        }
+
+        ScriptResult scriptResult = new ScriptResult();
+        // the lines are only traced once their changes are kept, as replaying a trace makes the changes of every line
+        List<CommandTrace> traces = new ArrayList<>();
+        for (int i = 0; i < commandLines.size(); i++) {
+            String commandText = commandLines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(SCRIPT_COMMENT_START)) {
+                continue;
+            }
+            CommandStats.Timer timer = new CommandStats.Timer();
+            Command command;
+            try {
+                command = addressBookParser.parseCommand(commandText);
+            } catch (ParseException e) {
+                scriptResult.addError(i + 1, commandText, e.getMessage());
+                continue;
+            }
+            timer.endPhase(Phase.PARSE);
+            boolean isSuccessful = false;
+            try {
+                if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                    // undoing would go back past the commands run so far, as they are committed together
+                    throw new CommandException(MESSAGE_HISTORY_IN_SCRIPT);
+                }
+                command.execute(model);
+                isSuccessful = true;
+                scriptResult.addExecuted();
+            } catch (CommandException e) {
+                scriptResult.addError(i + 1, commandText, e.getMessage());
+            }
+            timer.endPhase(Phase.EXECUTE);
+            timer.record(CommandStats.commandWordOf(commandText));
+            if (traceRecorder != null) {
+                traces.add(traceRecorder.traceOf(commandText, timer, isSuccessful, model));
+            }
+        }
+
+        if (!isKeepingGoing && !scriptResult.getErrors().isEmpty()) {
+            logger.info("Discarding the changes of the script, as " + scriptResult.getErrors().size()
+                    + " lines failed");
+            model.discardUncommittedChanges();
+            scriptResult.setDiscarded();
+            return scriptResult;
+        }
+        model.commitHistory();
+        save();
+        for (CommandTrace trace : traces) {
+            traceRecorder.append(trace);
+        }
+        return scriptResult;
+    }
+
+    /**
+     * Saves the address book and its archived events to storage.
+     */
+    private void save() throws CommandException {
+        if (loader != null && loader.isReadOnly()) {
+            return; // the data file which could not be read would be overwritten
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBookAndEventArchive(model.getAddressBook(), model.getEventArchive());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public boolean isLoading() {
+        return loader != null && !loader.isLoaded();
+    }
+
+    @Override
+    public void addLoadedListener(Runnable listener) {
+        if (loader == null) {
+            listener.run();
+        } else {
+            loader.addLoadedListener(listener);
+        }
     }
 
     @Override
@@ -101,14 +259,26 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public List<Contact> getLinkedContacts(Event event) {
+        return model.getLinkedContacts(event);
+    }
+
+    @Override
+    public List<Event> getLinkedEvents(Contact contact) {
+        return model.getLinkedEvents(contact);
+    }
+
     @Override
     public void filterContactsWithLinksToEvent(Event event) {
-        model.updateFilteredContactList(contact -> contact.getLinkedEvents().contains(event.getUuid()));
+        Set<UUID> linkedContacts = model.getAddressBook().getLinkedContactUuids(event);
+        model.updateFilteredContactList(contact -> linkedContacts.contains(contact.getUuid()));
     }
 
     @Override
     public void filterEventsWithLinkToContact(Contact contact) {
-        model.updateFilteredEventList(event -> event.getLinkedContacts().contains(contact.getUuid()));
+        Set<UUID> linkedEvents = model.getAddressBook().getLinkedEventUuids(contact);
+        model.updateFilteredEventList(event -> linkedEvents.contains(event.getUuid()));
     }
 
     @Override
@@ -0,0 +1,83 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an observable list, which is changed on another thread than the source list.
+ * <p>
+ * The changes to the source list are recorded as they are made, on the thread which changes the source list. They are
+ * made to the copy by {@link #publish(Executor)}, all at once in a single task, so that the thread which shows the copy
+ * only handles one task however many changes have been made.
+ */
+class PublishedList<T> {
+
+    private final ObservableList<T> published;
+    private final ObservableList<T> unmodifiablePublished;
+    private List<Consumer<List<T>>> unpublishedChanges = new ArrayList<>(); // in the order they were made
+
+    /**
+     * Creates a copy of {@code source}, which must not be changed until this has been created.
+     */
+    PublishedList(ObservableList<T> source) {
+        requireNonNull(source);
+        published = FXCollections.observableArrayList(source);
+        unmodifiablePublished = FXCollections.unmodifiableObservableList(published);
+        source.addListener(this::recordChange);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy, which must only be used on the thread the copy is changed on.
+     */
+    ObservableList<T> getPublishedList() {
+        return unmodifiablePublished;
+    }
+
+    /**
+     * Records {@code change} to be made to the copy in the same way as {@code Bindings#bindContent} would make it,
+     * replacing the range of each permutation, and removing then adding the elements of each other change.
+     */
+    private void recordChange(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<T> permuted = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                unpublishedChanges.add(list -> replace(list, from, permuted.size(), permuted));
+            } else if (change.wasRemoved() || change.wasAdded()) {
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                unpublishedChanges.add(list -> replace(list, from, removedSize, added));
+            }
+        }
+    }
+
+    private static <T> void replace(List<T> list, int from, int removedSize, List<T> added) {
+        if (removedSize > 0) {
+            list.subList(from, from + removedSize).clear();
+        }
+        if (!added.isEmpty()) {
+            list.addAll(from, added);
+        }
+    }
+
+    /**
+     * Makes the changes to the source list since it was last published to the copy, in a task passed to
+     * {@code executor}. Must be called on the thread which changes the source list.
+     */
+    void publish(Executor executor) {
+        if (unpublishedChanges.isEmpty()) {
+            return;
+        }
+        List<Consumer<List<T>>> changes = unpublishedChanges;
+        unpublishedChanges = new ArrayList<>();
+        executor.execute(() -> changes.forEach(change -> change.accept(published)));
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the result of running a script of commands.
+ */
+public class ScriptResult {
+
+    private int executedCount;
+    private final List<LineError> errors = new ArrayList<>();
+    private boolean isDiscarded = false;
+
+    /**
+     * Records that a command in the script was executed.
+     */
+    void addExecuted() {
+        executedCount++;
+    }
+
+    /**
+     * Records that the command on line {@code lineNumber} of the script failed with {@code message}.
+     */
+    void addError(int lineNumber, String commandText, String message) {
+        errors.add(new LineError(lineNumber, commandText, message));
+    }
+
+    /**
+     * Records that the changes made by the script were discarded, as some of its commands failed.
+     */
+    void setDiscarded() {
+        isDiscarded = true;
+    }
+
+    /**
+     * Returns true if the changes made by the script were discarded rather than saved.
+     */
+    public boolean isDiscarded() {
+        return isDiscarded;
+    }
+
+    /**
+     * Returns the number of commands which were executed.
+     */
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
+    /**
+     * Returns the errors of the commands which failed, in the order of their lines.
+     */
+    public List<LineError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Represents a command in a script which failed.
+     */
+    public static class LineError {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        /**
+         * Creates the error of the command {@code commandText} on line {@code lineNumber}.
+         */
+        public LineError(int lineNumber, String commandText, String message) {
+            requireNonNull(commandText);
+            requireNonNull(message);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof LineError)) {
+                return false;
+            }
+            LineError otherError = (LineError) other;
+            return lineNumber == otherError.lineNumber
+                    && commandText.equals(otherError.commandText)
+                    && message.equals(otherError.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, commandText, message);
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + " [" + commandText + "]: " + message;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.CommandStats;
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.commons.core.CommandTrace;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+import seedu.address.storage.CommandTraceStorage;
+
+/**
+ * Records the commands executed in a session, how long each phase of them took and a fingerprint of the model after
+ * them, to a trace which can be replayed on the address book the session started with.
+ * <p>
+ * Tracing never makes a command fail: if the trace cannot be written, a warning is logged and no more commands are
+ * recorded.
+ */
+public class TraceRecorder {
+    private static final Logger logger = LogsCenter.getLogger(TraceRecorder.class);
+
+    private final CommandTraceStorage traceStorage;
+    private final String dataFileName;
+    private final long startNanos = System.nanoTime();
+    private final long startEpochMilli = System.currentTimeMillis();
+    private boolean isStarted = false;
+    private boolean isFailed = false;
+
+    /**
+     * Creates a recorder which writes the trace of a session whose data file is named {@code dataFileName} to
+     * {@code traceStorage}.
+     */
+    public TraceRecorder(CommandTraceStorage traceStorage, String dataFileName) {
+        requireNonNull(traceStorage);
+        requireNonNull(dataFileName);
+        this.traceStorage = traceStorage;
+        this.dataFileName = dataFileName;
+    }
+
+    /**
+     * Starts the trace with a snapshot of {@code addressBook}, unless it has been started already.
+     */
+    public void start(ReadOnlyAddressBook addressBook) {
+        if (isStarted || isFailed) {
+            return;
+        }
+        try {
+            traceStorage.start(addressBook, dataFileName, startEpochMilli);
+            isStarted = true;
+            logger.info("Tracing commands to " + traceStorage.getTraceFilePath());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records that {@code commandText}, whose phases were timed with {@code timer}, was executed on {@code model},
+     * if the trace has been started.
+     */
+    public void record(String commandText, CommandStats.Timer timer, boolean isSuccessful, Model model) {
+        append(traceOf(commandText, timer, isSuccessful, model));
+    }
+
+    /**
+     * Returns the trace of {@code commandText}, whose phases were timed with {@code timer}, as executed on
+     * {@code model} just now, or null if the trace has not been started. The trace is only recorded once it is passed
+     * to {@link #append(CommandTrace)}.
+     */
+    public CommandTrace traceOf(String commandText, CommandStats.Timer timer, boolean isSuccessful, Model model) {
+        if (!isStarted || isFailed) {
+            return null;
+        }
+        Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseNanos.put(phase, timer.getNanos(phase));
+        }
+        return new CommandTrace(commandText, timer.getStartNanos() - startNanos, phaseNanos, isSuccessful,
+                fingerprintOf(model));
+    }
+
+    /**
+     * Records {@code trace}, made by {@link #traceOf}, unless it is null or no more commands are recorded.
+     */
+    public void append(CommandTrace trace) {
+        if (trace == null || isFailed) {
+            return;
+        }
+        try {
+            traceStorage.append(trace);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Closes the trace, so that no more commands are recorded.
+     */
+    public void close() {
+        isFailed = true;
+        try {
+            traceStorage.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close the trace of commands: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a fingerprint of the contacts and events in {@code model}, in order, with their links and marks, and of
+     * how many of them are shown. Models which differ in any of these almost surely have different fingerprints.
+     * <p>
+     * Links are fingerprinted by the positions of the contacts and events linked rather than by their UUIDs, as
+     * contacts and events added are given random UUIDs, which differ each time a trace is replayed.
+     */
+    public static long fingerprintOf(Model model) {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        List<Contact> contacts = addressBook.getContactList();
+        List<Event> events = addressBook.getEventList();
+        Map<UUID, Integer> contactPositions = positionsOf(contacts, Contact::getUuid);
+        Map<UUID, Integer> eventPositions = positionsOf(events, Event::getUuid);
+
+        long fingerprint = 1;
+        for (Contact contact : contacts) {
+            fingerprint = 31 * fingerprint + contact.hashCode();
+            fingerprint = 31 * fingerprint + fingerprintOf(addressBook.getLinkedEventUuids(contact), eventPositions);
+            fingerprint = 31 * fingerprint + Boolean.hashCode(contact.getIsMarked());
+        }
+        for (Event event : events) {
+            fingerprint = 31 * fingerprint + event.hashCode();
+            fingerprint = 31 * fingerprint + fingerprintOf(addressBook.getLinkedContactUuids(event), contactPositions);
+            fingerprint = 31 * fingerprint + Boolean.hashCode(event.getIsMarked());
+        }
+        fingerprint = 31 * fingerprint + model.getFilteredContactList().size();
+        return 31 * fingerprint + model.getFilteredEventList().size();
+    }
+
+    private static <T> Map<UUID, Integer> positionsOf(List<T> items, Function<T, UUID> uuidOf) {
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            positions.put(uuidOf.apply(items.get(i)), i);
+        }
+        return positions;
+    }
+
+    /**
+     * Returns a fingerprint of the positions of {@code linked}, which does not depend on the order of the set.
+     */
+    private static long fingerprintOf(Set<UUID> linked, Map<UUID, Integer> positions) {
+        long fingerprint = linked.size();
+        for (UUID uuid : linked) {
+            fingerprint += (positions.getOrDefault(uuid, -1) + 1) * 0x9E3779B97F4A7C15L;
+        }
+        return fingerprint;
+    }
+
+    private void fail(IOException e) {
+        logger.warning("Failed to write the trace of commands, so no more will be recorded: "
+                + StringUtil.getDetails(e));
+        isFailed = true;
+    }
+}
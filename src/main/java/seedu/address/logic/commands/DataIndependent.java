@@ -0,0 +1,5 @@
+package seedu.address.logic.commands;
+
+/** Represents a command that does not use the contacts or events, so it can run before they have been loaded. */
+public interface DataIndependent {
+}
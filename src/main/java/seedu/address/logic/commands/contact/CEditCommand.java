@@ -102,12 +102,9 @@ public class CEditCommand extends Command implements Undoable {
         Set<Tag> updatedDeletedTags = editContactDescriptor.getTagsToDelete().orElse(new HashSet<>());
         Set<Tag> updatedTags = editContactDescriptor.isShouldDeleteAllTags()
             ? updatedNewTags : addAndRemoveTags(updatedNewTags, updatedDeletedTags, contactToEdit.getTags());
-        Contact updatedContact = new Contact(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedZoomLink,
-            updatedTelegram, updatedTags, contactToEdit.getUuid(), contactToEdit.getLinkedEvents(),
+        return new Contact(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedZoomLink,
+            updatedTelegram, updatedTags, contactToEdit.getUuid(),
                 contactToEdit.getIsMarked());
-        // update the edited contact to the hashmap that stores references to all contacts
-        Contact.addToMap(updatedContact);
-        return updatedContact;
     }
 
     /**
@@ -8,11 +8,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ZOOM;
 
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.Undoable;
 import seedu.address.model.Model;
+import seedu.address.model.common.Name;
 import seedu.address.model.contact.ContactContainsKeywordsPredicate;
 import seedu.address.model.contact.ContactDisplaySetting;
 
@@ -52,7 +55,9 @@ public class CFindCommand extends Command implements Undoable {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.setContactDisplaySetting(ContactDisplaySetting.DEFAULT_SETTING);
-        model.updateFilteredContactList(predicate);
+        // the matching contacts are looked up in the model instead of testing every contact against the predicate
+        Set<Name> matchingNames = model.getContactNamesMatching(predicate);
+        model.updateFilteredContactList(contact -> matchingNames.contains(contact.getName()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW, model.getFilteredContactList().size()));
     }
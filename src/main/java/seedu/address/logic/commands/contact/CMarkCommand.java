@@ -67,7 +67,7 @@ public class CMarkCommand extends Command implements Undoable {
     private static Contact createMarkedContact(Contact contactToMark) {
         return new Contact(contactToMark.getName(), contactToMark.getPhone(), contactToMark.getEmail(),
                 contactToMark.getAddress(), contactToMark.getZoomLink(), contactToMark.getTelegramHandle(),
-                contactToMark.getTags(), contactToMark.getUuid(), contactToMark.getLinkedEvents(), true);
+                contactToMark.getTags(), contactToMark.getUuid(), true);
     }
 
     private String generateCommandResultMessage(Contact contact,
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.Undoable;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventChanger;
+
+/**
+ * Moves the events in SoConnect which concluded more than a number of days ago to the archive.
+ */
+public class EArchiveCommand extends Command implements Undoable {
+
+    public static final String COMMAND_WORD = "earchive";
+    public static final String PARAMETERS = "[DAYS]";
+    public static final String SYNTAX = COMMAND_WORD + " " + PARAMETERS;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Moves the events which concluded more than the given number of days ago to the archive.\n"
+            + "If the number of days is not given, the number of days set in the preferences is used.\n"
+            + "Archived events can be found with " + EFindArchiveCommand.COMMAND_WORD
+            + " and restored with " + ERestoreCommand.COMMAND_WORD + ".\n"
+            + "Parameters: " + PARAMETERS + " (must be a non-negative integer)\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    public static final String MESSAGE_SUCCESS = "%1$d events archived.";
+
+    private final Integer days; // null if the number of days in the user prefs is to be used
+
+    /**
+     * Creates an EArchiveCommand to archive the events which concluded more than the number of days set in the user
+     * prefs ago.
+     */
+    public EArchiveCommand() {
+        this(null);
+    }
+
+    /**
+     * Creates an EArchiveCommand to archive the events which concluded more than {@code days} days ago.
+     */
+    public EArchiveCommand(Integer days) {
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        int retentionDays = days != null ? days : model.getUserPrefs().getEventRetentionDays();
+        List<Event> archived = model.archiveEventsEndedBefore(LocalDateTime.now().minusDays(retentionDays));
+        List<EventChanger> eventChangerList = archived.stream()
+                .map(EventChanger::deleteEventChanger)
+                .collect(Collectors.toList());
+        // rerender UI to update the links for contacts with links to archived events
+        model.rerenderContactCards(true);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, archived.size()), eventChangerList);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EArchiveCommand // instanceof handles nulls
+                && Objects.equals(days, ((EArchiveCommand) other).days)); // state check
+    }
+}
@@ -105,12 +105,9 @@ public class EEditCommand extends Command implements Undoable {
         Set<Tag> updatedDeletedTags = editEventDescriptor.getTagsToDelete().orElse(new HashSet<>());
         Set<Tag> updatedTags = editEventDescriptor.getShouldDeleteAllTags()
                 ? updatedNewTags : addAndRemoveTags(updatedNewTags, updatedDeletedTags, eventToEdit.getTags());
-        Event updatedEvent = new Event(updatedName, updatedStartDateTime, updatedEndDateTime, updatedDescription,
-            updatedAddress, updatedZoomLink, updatedTags, eventToEdit.getUuid(), eventToEdit.getLinkedContacts(),
+        return new Event(updatedName, updatedStartDateTime, updatedEndDateTime, updatedDescription,
+            updatedAddress, updatedZoomLink, updatedTags, eventToEdit.getUuid(),
                 eventToEdit.getIsMarked());
-        // update the edited event to the hashmap that stores references to all events
-        Event.addToMap(updatedEvent);
-        return updatedEvent;
     }
 
     /**
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+
+/**
+ * Finds and lists all archived events which have names containing any of the argument keywords, or all archived
+ * events if there are no keywords. Keyword matching is case insensitive.
+ */
+public class EFindArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "efindarchive";
+    public static final String PARAMETERS = "[KEYWORD]…";
+    public static final String SYNTAX = COMMAND_WORD + " " + PARAMETERS;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all archived events whose names contain any "
+            + "of the given keywords, or lists all archived events if no keyword is given.\n"
+            + "The archived events found can be restored with " + ERestoreCommand.COMMAND_WORD + ".\n"
+            + "Parameters: " + PARAMETERS + "\n"
+            + "Example: " + COMMAND_WORD + " cs 2103t";
+
+    public static final String MESSAGE_ARCHIVED_EVENTS_LISTED_OVERVIEW = "%1$d archived events listed!";
+    public static final String MESSAGE_ARCHIVE_NOT_READ = "Could not read the archived events: %1$s";
+
+    private final EventContainsKeywordsPredicate predicate;
+
+    public EFindArchiveCommand(EventContainsKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Event> archived;
+        try {
+            archived = model.getEventArchive().getEvents();
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_NOT_READ, e.getMessage()), e);
+        }
+
+        List<Event> found = predicate.hasKeywords()
+                ? archived.stream().filter(predicate).collect(Collectors.toList())
+                : archived;
+        model.setFoundArchivedEvents(found);
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_ARCHIVED_EVENTS_LISTED_OVERVIEW, found.size()));
+        for (int i = 0; i < found.size(); i++) {
+            Event event = found.get(i);
+            result.append("\n").append(i + 1).append(". ").append(event.getName())
+                    .append("; Start: ").append(event.getStartDateAndTime());
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EFindArchiveCommand // instanceof handles nulls
+                && predicate.equals(((EFindArchiveCommand) other).predicate)); // state check
+    }
+}
@@ -5,21 +5,34 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ZOOM;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.Undoable;
 import seedu.address.model.Model;
+import seedu.address.model.common.Name;
+import seedu.address.model.event.EndDateTime;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.EventContainsKeywordsPredicate;
 import seedu.address.model.event.EventDisplaySetting;
+import seedu.address.model.event.StartDateTime;
 
 /**
  * Finds and lists all events in SoConnect which have names containing any of the argument keywords.
  * Keyword matching is case insensitive.
+ * If a date range is given, only the events taking place within the date range are listed.
  */
 public class EFindCommand extends Command implements Undoable {
 
@@ -30,12 +43,14 @@ public class EFindCommand extends Command implements Undoable {
             + "[" + PREFIX_ADDRESS + "KEYWORD…] "
             + "[" + PREFIX_DESCRIPTION + "KEYWORD…] "
             + "[" + PREFIX_ZOOM + "KEYWORD…] "
-            + "[" + PREFIX_TAG + "KEYWORD…]\n";
+            + "[" + PREFIX_TAG + "KEYWORD…] "
+            + "[" + PREFIX_FROM + "START_DATE_TIME] "
+            + "[" + PREFIX_TO + "END_DATE_TIME]\n";
     public static final String SYNTAX = COMMAND_WORD + " " + PARAMETERS;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all events whose fields contains any of the "
             + "given keywords.\n"
-            + "At least one keyword must be present. "
+            + "At least one keyword or one end of a date range must be present. "
             + "For name search, keywords must follow directly after the command word\n"
             + "Parameters: " + PARAMETERS
             + "Example: " + COMMAND_WORD + " cs 2103t "
@@ -43,24 +58,59 @@ public class EFindCommand extends Command implements Undoable {
             + PREFIX_EMAIL + "johndoe@example.com";
 
     private final EventContainsKeywordsPredicate predicate;
+    private final StartDateTime rangeStart; // null if the date range has no start
+    private final EndDateTime rangeEnd; // null if the date range has no end
 
     public EFindCommand(EventContainsKeywordsPredicate predicate) {
+        this(predicate, null, null);
+    }
+
+    /**
+     * Creates an EFindCommand to find the events matching {@code predicate} within the date range from
+     * {@code rangeStart} to {@code rangeEnd}. A null {@code rangeStart} or {@code rangeEnd} leaves that end of the
+     * date range open. If {@code predicate} has no keywords, all events within the date range are found.
+     */
+    public EFindCommand(EventContainsKeywordsPredicate predicate, StartDateTime rangeStart, EndDateTime rangeEnd) {
         this.predicate = predicate;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.setEventDisplaySetting(EventDisplaySetting.DEFAULT_SETTING);
-        model.updateFilteredEventList(predicate);
+        Set<Name> matchingNames = getMatchingNames(model);
+        model.updateFilteredEventList(event -> matchingNames.contains(event.getName()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
     }
 
+    /**
+     * Returns the names of the events within the date range, if any, which also match the keywords, if any.
+     * The matching events are looked up in the model instead of testing every event.
+     */
+    private Set<Name> getMatchingNames(Model model) {
+        if (rangeStart == null && rangeEnd == null) {
+            return model.getEventNamesMatching(predicate);
+        }
+        LocalDateTime from = rangeStart == null ? LocalDateTime.MIN : rangeStart.getDateTime();
+        LocalDateTime to = rangeEnd == null ? LocalDateTime.MAX : rangeEnd.getDateTime();
+        Set<Name> namesWithinDateRange = model.getEventsBetween(from, to).stream()
+                .map(Event::getName)
+                .collect(Collectors.toCollection(HashSet::new));
+        if (predicate.hasKeywords()) {
+            namesWithinDateRange.retainAll(model.getEventNamesMatching(predicate));
+        }
+        return namesWithinDateRange;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EFindCommand // instanceof handles nulls
-                && predicate.equals(((EFindCommand) other).predicate)); // state check
+                && predicate.equals(((EFindCommand) other).predicate)
+                && Objects.equals(rangeStart, ((EFindCommand) other).rangeStart)
+                && Objects.equals(rangeEnd, ((EFindCommand) other).rangeEnd)); // state check
     }
 }
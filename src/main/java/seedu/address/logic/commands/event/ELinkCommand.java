@@ -77,12 +77,9 @@ public class ELinkCommand extends Command implements Undoable {
             List<Contact> lastShownContactList) {
         String commandResult = "";
         for (Index contactIndex : contactIndexes) {
-            // have to get the event from the list again because a new event replaces the index whenever
-            // a link occurs, hence cannot use the old reference of event.
             Event eventToLink = lastShownEventList.get(eventIndex.getZeroBased());
             Contact contactToLink = lastShownContactList.get(contactIndex.getZeroBased());
-            if (contactToLink.hasLinkTo(eventToLink)) {
-                assert eventToLink.hasLinkTo(contactToLink) : "Both should have links to each other";
+            if (model.isLinked(eventToLink, contactToLink)) {
                 commandResult += String.format(MESSAGE_ALREADY_LINKED, eventToLink.getName(), contactToLink.getName());
                 continue;
             }
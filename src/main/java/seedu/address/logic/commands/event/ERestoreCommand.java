@@ -0,0 +1,68 @@
+package seedu.address.logic.commands.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.Undoable;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventChanger;
+
+/**
+ * Moves an archived event, identified using its index in the archived events last found, back to SoConnect.
+ */
+public class ERestoreCommand extends Command implements Undoable {
+
+    public static final String COMMAND_WORD = "erestore";
+    public static final String PARAMETERS = "INDEX";
+    public static final String SYNTAX = COMMAND_WORD + " " + PARAMETERS;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Moves the archived event identified by the index "
+            + "number used in the archived events listed by " + EFindArchiveCommand.COMMAND_WORD
+            + " back to the event list.\n"
+            + "Parameters: " + PARAMETERS + " (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Restored Event: %1$s";
+    public static final String MESSAGE_DUPLICATE_EVENT = "An event with the same name already exists in the address "
+            + "book";
+
+    private final Index targetIndex;
+
+    public ERestoreCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Event> lastFoundList = model.getFoundArchivedEvents();
+
+        if (targetIndex.getZeroBased() >= lastFoundList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ARCHIVED_EVENT_DISPLAYED_INDEX);
+        }
+
+        Event eventToRestore = lastFoundList.get(targetIndex.getZeroBased());
+        if (model.hasEvent(eventToRestore)) {
+            throw new CommandException(MESSAGE_DUPLICATE_EVENT);
+        }
+        Event restoredEvent = model.restoreArchivedEvent(eventToRestore);
+        // rerender UI to update the links for contacts with links to the restored event
+        model.rerenderContactCards(true);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, restoredEvent),
+                List.of(EventChanger.addEventChanger(restoredEvent)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ERestoreCommand // instanceof handles nulls
+                && targetIndex.equals(((ERestoreCommand) other).targetIndex)); // state check
+    }
+}
@@ -93,12 +93,9 @@ public class EUnlinkCommand extends Command implements Undoable {
             List<Contact> lastShownContactList) {
         String commandResult = "";
         for (Index contactIndex : contactIndexes) {
-            // have to get the event from the list again because a new event replaces the index whenever
-            // an unlink occurs, hence cannot use the old reference of event.
             Event eventToUnlink = lastShownEventList.get(eventIndex.getZeroBased());
             Contact contactToUnlink = lastShownContactList.get(contactIndex.getZeroBased());
-            if (!contactToUnlink.hasLinkTo(eventToUnlink)) {
-                assert !eventToUnlink.hasLinkTo(contactToUnlink) : "Both should not have links to each other";
+            if (!model.isLinked(eventToUnlink, contactToUnlink)) {
                 commandResult += String.format(MESSAGE_NOT_LINKED, eventToUnlink.getName(), contactToUnlink.getName());
                 continue;
             }
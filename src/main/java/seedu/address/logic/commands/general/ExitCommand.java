@@ -2,12 +2,13 @@ package seedu.address.logic.commands.general;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DataIndependent;
 import seedu.address.model.Model;
 
 /**
  * Terminates the program.
  */
-public class ExitCommand extends Command {
+public class ExitCommand extends Command implements DataIndependent {
 
     public static final String COMMAND_WORD = "exit";
 
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.CommandStats;
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.commons.core.Histogram;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DataIndependent;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of the commands entered took, how much memory they allocated and how much was written to
+ * storage, since the app started.
+ */
+public class StatsCommand extends Command implements DataIndependent {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String SYNTAX = COMMAND_WORD;
+
+    public static final String MESSAGE_HEADER = "Latency in ms and allocation in KB per command since startup, "
+            + "as p50 / p95 / p99:";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been executed yet.";
+    public static final String MESSAGE_BYTES_WRITTEN = "Written to storage since startup: %1$.1f KB";
+
+    private static final double[] PERCENTILES = {50, 95, 99};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KILOBYTE = 1024.0;
+
+    @Override
+    public CommandResult execute(Model model) {
+        StringBuilder message = new StringBuilder(MESSAGE_HEADER);
+        Map<String, CommandStats> statsOfCommandWords = CommandStats.getAll();
+        if (statsOfCommandWords.isEmpty()) {
+            message.append('\n').append(MESSAGE_NO_COMMANDS);
+        }
+        statsOfCommandWords.forEach((commandWord, stats) -> message.append('\n').append(format(commandWord, stats)));
+        message.append('\n').append(String.format(MESSAGE_BYTES_WRITTEN,
+                FileUtil.getBytesWritten() / BYTES_PER_KILOBYTE));
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Returns the percentiles of every phase which the commands with {@code commandWord} went through, and of the
+     * memory they allocated, on one line.
+     */
+    private static String format(String commandWord, CommandStats stats) {
+        List<String> parts = new ArrayList<>();
+        for (Phase phase : Phase.values()) {
+            Histogram latencies = stats.getLatencies(phase);
+            if (latencies.getCount() > 0) {
+                parts.add(phase + " " + formatPercentiles(latencies, NANOS_PER_MILLI));
+            }
+        }
+        if (stats.getAllocations().getCount() > 0) {
+            parts.add("allocated " + formatPercentiles(stats.getAllocations(), BYTES_PER_KILOBYTE));
+        }
+        return commandWord + " (" + stats.getLatencies(Phase.PARSE).getCount() + "): " + String.join(", ", parts);
+    }
+
+    private static String formatPercentiles(Histogram histogram, double unit) {
+        StringBuilder percentiles = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            if (percentiles.length() > 0) {
+                percentiles.append(" / ");
+            }
+            percentiles.append(String.format("%.2f", histogram.getPercentile(percentile) / unit));
+        }
+        return percentiles.toString();
+    }
+}
@@ -17,13 +17,16 @@ import seedu.address.logic.commands.contact.CMarkCommand;
 import seedu.address.logic.commands.contact.CUnmarkCommand;
 import seedu.address.logic.commands.contact.CViewCommand;
 import seedu.address.logic.commands.event.EAddCommand;
+import seedu.address.logic.commands.event.EArchiveCommand;
 import seedu.address.logic.commands.event.EClearCommand;
 import seedu.address.logic.commands.event.EDeleteCommand;
 import seedu.address.logic.commands.event.EEditCommand;
+import seedu.address.logic.commands.event.EFindArchiveCommand;
 import seedu.address.logic.commands.event.EFindCommand;
 import seedu.address.logic.commands.event.ELinkCommand;
 import seedu.address.logic.commands.event.EListCommand;
 import seedu.address.logic.commands.event.EMarkCommand;
+import seedu.address.logic.commands.event.ERestoreCommand;
 import seedu.address.logic.commands.event.ESortCommand;
 import seedu.address.logic.commands.event.EUnlinkCommand;
 import seedu.address.logic.commands.event.EUnmarkCommand;
@@ -32,6 +35,7 @@ import seedu.address.logic.commands.general.CalendarCommand;
 import seedu.address.logic.commands.general.ExitCommand;
 import seedu.address.logic.commands.general.HelpCommand;
 import seedu.address.logic.commands.general.RedoCommand;
+import seedu.address.logic.commands.general.StatsCommand;
 import seedu.address.logic.commands.general.UndoCommand;
 import seedu.address.logic.parser.contact.CAddCommandParser;
 import seedu.address.logic.parser.contact.CDeleteCommandParser;
@@ -42,12 +46,15 @@ import seedu.address.logic.parser.contact.CMarkCommandParser;
 import seedu.address.logic.parser.contact.CUnmarkCommandParser;
 import seedu.address.logic.parser.contact.CViewCommandParser;
 import seedu.address.logic.parser.event.EAddCommandParser;
+import seedu.address.logic.parser.event.EArchiveCommandParser;
 import seedu.address.logic.parser.event.EDeleteCommandParser;
 import seedu.address.logic.parser.event.EEditCommandParser;
+import seedu.address.logic.parser.event.EFindArchiveCommandParser;
 import seedu.address.logic.parser.event.EFindCommandParser;
 import seedu.address.logic.parser.event.ELinkCommandParser;
 import seedu.address.logic.parser.event.EListCommandParser;
 import seedu.address.logic.parser.event.EMarkCommandParser;
+import seedu.address.logic.parser.event.ERestoreCommandParser;
 import seedu.address.logic.parser.event.EUnlinkCommandParser;
 import seedu.address.logic.parser.event.EUnmarkCommandParser;
 import seedu.address.logic.parser.event.EViewCommandParser;
@@ -143,6 +150,15 @@ public class AddressBookParser {
         case EUnmarkCommand.COMMAND_WORD:
             return new EUnmarkCommandParser().parse(arguments);
 
+        case EArchiveCommand.COMMAND_WORD:
+            return new EArchiveCommandParser().parse(arguments);
+
+        case EFindArchiveCommand.COMMAND_WORD:
+            return new EFindArchiveCommandParser().parse(arguments);
+
+        case ERestoreCommand.COMMAND_WORD:
+            return new ERestoreCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -158,6 +174,9 @@ public class AddressBookParser {
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -18,4 +18,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_END_TIME = new Prefix("end/");
     public static final Prefix PREFIX_DESCRIPTION = new Prefix("d/");
     public static final Prefix PREFIX_CONTACT = new Prefix("c/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
 }
@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+
+/**
+ * A trie of prefixes, which finds the prefix an arguments string has at a given position by reading each character of
+ * the string at most once.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a trie of {@code prefixes}. Empty prefixes are left out, as they would be found everywhere.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            add(prefix);
+        }
+    }
+
+    private void add(Prefix prefix) {
+        String prefixString = prefix.getPrefix();
+        if (prefixString.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < prefixString.length(); i++) {
+            node = node.getOrAddChild(prefixString.charAt(i));
+        }
+        node.prefix = prefix;
+    }
+
+    /**
+     * Returns the longest prefix in the trie which {@code argsString} has at {@code position}, or null if there is
+     * none.
+     */
+    Prefix match(String argsString, int position) {
+        Prefix longestMatch = null;
+        Node node = root;
+        for (int i = position; i < argsString.length(); i++) {
+            node = node.getChild(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longestMatch = node.prefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    /**
+     * A node of the trie, reached by the characters of the prefix which ends at it, if any. A node has few children,
+     * so they are kept in arrays and looked up in turn.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser.event;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.event.EArchiveCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new EArchiveCommand object
+ */
+public class EArchiveCommandParser implements Parser<EArchiveCommand> {
+
+    // a non-negative integer small enough to be subtracted from the current date
+    private static final String DAYS_VALIDATION_REGEX = "\\d{1,9}";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EArchiveCommand
+     * and returns an EArchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public EArchiveCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new EArchiveCommand();
+        }
+        if (!trimmedArgs.matches(DAYS_VALIDATION_REGEX)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EArchiveCommand.MESSAGE_USAGE));
+        }
+        return new EArchiveCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser.event;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.event.EFindArchiveCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new EFindArchiveCommand object
+ */
+public class EFindArchiveCommandParser implements Parser<EFindArchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EFindArchiveCommand
+     * and returns an EFindArchiveCommand object for execution.
+     */
+    @Override
+    public EFindArchiveCommand parse(String args) {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new EFindArchiveCommand(new EventContainsKeywordsPredicate());
+        }
+        return new EFindArchiveCommand(new EventContainsKeywordsPredicate(Arrays.asList(trimmedArgs.split("\\s+"))));
+    }
+}
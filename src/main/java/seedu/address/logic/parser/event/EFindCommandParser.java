@@ -5,8 +5,10 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ZOOM;
 
 import java.util.Arrays;
@@ -18,9 +20,12 @@ import seedu.address.logic.commands.event.EFindCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.EndDateTime;
 import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.event.StartDateTime;
 
 /**
  * Parses input arguments and creates a new EFindCommand object
@@ -28,6 +33,7 @@ import seedu.address.model.event.EventContainsKeywordsPredicate;
 public class EFindCommandParser implements Parser<EFindCommand> {
 
     public static final String MESSAGE_MISSING_KEYWORD = "There must be at least one keyword present for prefix '%s'.";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The date range should not end before it starts.";
     private EventContainsKeywordsPredicate predicate;
 
     /**
@@ -38,7 +44,7 @@ public class EFindCommandParser implements Parser<EFindCommand> {
     public EFindCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_START_TIME, PREFIX_END_TIME,
-                        PREFIX_DESCRIPTION, PREFIX_ADDRESS, PREFIX_ZOOM, PREFIX_TAG);
+                        PREFIX_DESCRIPTION, PREFIX_ADDRESS, PREFIX_ZOOM, PREFIX_TAG, PREFIX_FROM, PREFIX_TO);
 
         if (noPrefixesPresent(argMultimap)
                 && argMultimap.getPreamble().isEmpty()) {
@@ -68,7 +74,20 @@ public class EFindCommandParser implements Parser<EFindCommand> {
         if (isPrefixValuePresent(argMultimap, PREFIX_TAG)) {
             predicate.setTagKeywords(getPrefixValueAndSplit(argMultimap, PREFIX_TAG));
         }
-        return new EFindCommand(predicate);
+        if (!isPrefixValuePresent(argMultimap, PREFIX_FROM) && !isPrefixValuePresent(argMultimap, PREFIX_TO)) {
+            return new EFindCommand(predicate);
+        }
+
+        StartDateTime rangeStart = isPrefixValuePresent(argMultimap, PREFIX_FROM)
+                ? ParserUtil.parseStartDateTime(argMultimap.getValue(PREFIX_FROM).get())
+                : null;
+        EndDateTime rangeEnd = isPrefixValuePresent(argMultimap, PREFIX_TO)
+                ? ParserUtil.parseEndDateTime(argMultimap.getValue(PREFIX_TO).get())
+                : null;
+        if (rangeStart != null && rangeEnd != null && rangeEnd.isBefore(rangeStart)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new EFindCommand(predicate, rangeStart, rangeEnd);
     }
     /**
      * Returns true if none of the prefixes contains present {@code Optional} values in the given
@@ -76,7 +95,7 @@ public class EFindCommandParser implements Parser<EFindCommand> {
      */
     private static boolean noPrefixesPresent(ArgumentMultimap argumentMultimap) {
         return Stream.of(PREFIX_START_TIME, PREFIX_END_TIME,
-                PREFIX_ADDRESS, PREFIX_DESCRIPTION, PREFIX_ZOOM, PREFIX_TAG)
+                PREFIX_ADDRESS, PREFIX_DESCRIPTION, PREFIX_ZOOM, PREFIX_TAG, PREFIX_FROM, PREFIX_TO)
                 .allMatch(prefix -> argumentMultimap.getValue(prefix).isEmpty());
     }
     /**
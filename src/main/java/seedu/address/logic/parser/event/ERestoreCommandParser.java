@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.event;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.event.ERestoreCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ERestoreCommand object
+ */
+public class ERestoreCommandParser implements Parser<ERestoreCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ERestoreCommand
+     * and returns an ERestoreCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ERestoreCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new ERestoreCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ERestoreCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
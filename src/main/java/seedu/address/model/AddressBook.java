@@ -1,16 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.common.ListEdit;
+import seedu.address.model.common.Name;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactContainsKeywordsPredicate;
 import seedu.address.model.contact.UniqueContactList;
+import seedu.address.model.event.ArchivedEvent;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
 import seedu.address.model.event.UniqueEventList;
 
 /**
@@ -21,6 +34,11 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueContactList contacts;
     private final UniqueEventList events;
+    private LinkGraph links = LinkGraph.EMPTY;
+    // the changes made since the last delta was taken, in the order they were made
+    private List<AddressBookDelta.Edit> uncommittedEdits;
+    // the current version of the contents, which snapshots share so that the changes between them can be found
+    private AddressBookVersion version = new AddressBookVersion();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -32,6 +50,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         contacts = new UniqueContactList();
         events = new UniqueEventList();
+        uncommittedEdits = new ArrayList<>();
+        contacts.setEditRecorder(edit -> record(AddressBookDelta.Edit.ofContacts(edit)));
+        events.setEditRecorder(edit -> record(AddressBookDelta.Edit.ofEvents(edit)));
     }
 
     public AddressBook() {
@@ -52,34 +73,224 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public AddressBook copy() {
         AddressBook toCopy = new AddressBook();
-        toCopy.setContacts(contacts.copy());
-        toCopy.setEvents(events.copy());
+        toCopy.resetData(snapshot());
         return toCopy;
     }
 
+    /**
+     * Returns a read-only snapshot of the current addressBook, which is not affected by later changes to it.
+     * Takes O(1) time, as the snapshot shares the contact and event lists and the links of the addressBook as they are.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(contacts.snapshot(), events.snapshot(), links, version);
+    }
+
+    /**
+     * Returns a read-only snapshot of {@code addressBook}, which is not affected by later changes to it.
+     * Takes O(1) time if {@code addressBook} is an {@code AddressBook} or a snapshot of one.
+     */
+    public static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return addressBook;
+        }
+        return addressBook instanceof AddressBook
+            ? ((AddressBook) addressBook).snapshot()
+            : new AddressBook(addressBook).snapshot();
+    }
+
+    /**
+     * Returns true if {@code snapshot} and {@code other}, both returned by {@link #snapshotOf(ReadOnlyAddressBook)},
+     * share the same lists, which they do if the address book has not changed between them. Unlike {@code equals},
+     * this takes O(1) time, but snapshots of address books which were changed back to the same contents are not the
+     * same.
+     */
+    public static boolean isSameSnapshot(ReadOnlyAddressBook snapshot, ReadOnlyAddressBook other) {
+        requireAllNonNull(snapshot, other);
+        return snapshot instanceof AddressBookSnapshot && other instanceof AddressBookSnapshot
+            && ((AddressBookSnapshot) snapshot).isSameAs((AddressBookSnapshot) other);
+    }
+
+    /**
+     * Returns the changes made to the contacts, events and links of an address book from {@code earlier} to
+     * {@code later}, both returned by {@link #snapshotOf(ReadOnlyAddressBook)}, in the order they were made. Takes time
+     * proportional to the number of changes made, rather than to the size of the address book.
+     * Returns an empty {@code Optional} if {@code later} was not reached from {@code earlier} by changes made to the
+     * same address book, such as when its contents were replaced in between.
+     */
+    public static Optional<AddressBookDelta> deltaBetween(ReadOnlyAddressBook earlier, ReadOnlyAddressBook later) {
+        requireAllNonNull(earlier, later);
+        if (!(earlier instanceof AddressBookSnapshot) || !(later instanceof AddressBookSnapshot)) {
+            return Optional.empty();
+        }
+        List<AddressBookDelta.Edit> edits = AddressBookVersion.editsBetween(
+                ((AddressBookSnapshot) earlier).getVersion(), ((AddressBookSnapshot) later).getVersion());
+        return Optional.ofNullable(edits).map(AddressBookDelta::new);
+    }
+
+    //// history operations
+
+    /**
+     * Returns the changes made to this {@code AddressBook} since the last time this method was called, and starts
+     * recording the changes made afresh.
+     */
+    public AddressBookDelta takeDelta() {
+        if (uncommittedEdits.isEmpty()) {
+            return AddressBookDelta.EMPTY; // nothing to hand over, so the current list can be kept
+        }
+        AddressBookDelta delta = new AddressBookDelta(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
+        return delta;
+    }
+
+    /**
+     * Reverses the changes in {@code delta}, which must be the last changes made to this {@code AddressBook}.
+     * Reversing the changes is not itself recorded as a change.
+     */
+    public void undo(AddressBookDelta delta) {
+        requireNonNull(delta);
+        delta.undo(this);
+    }
+
+    /**
+     * Makes the changes in {@code delta} again, after they have been reversed with {@link #undo(AddressBookDelta)}.
+     * Making the changes again is not itself recorded as a change.
+     */
+    public void redo(AddressBookDelta delta) {
+        requireNonNull(delta);
+        delta.redo(this);
+    }
+
+    /**
+     * Adds {@code contacts} and {@code events} of {@code loaded} after the existing ones, such as when they are loaded
+     * from storage after this {@code AddressBook} has been created. They must not already exist in the address book.
+     * They are linked to the contacts and events they are linked to in {@code loaded} that have been added, so the
+     * links between contacts and events added in different calls are made once both have been added.
+     * Adding them is not recorded as a change, so they are not part of the next delta taken. Once all of
+     * {@code loaded} has been added to an address book which started empty, the changes made afterwards are taken to
+     * follow {@code loaded}, so that a storage which read {@code loaded} only needs to save those changes.
+     */
+    public void appendUnrecorded(List<Contact> contacts, List<Event> events, ReadOnlyAddressBook loaded) {
+        requireAllNonNull(contacts, events, loaded);
+        applyContactEdit(new ListEdit<>(getContactList().size(), List.of(), List.copyOf(contacts)));
+        applyEventEdit(new ListEdit<>(getEventList().size(), List.of(), List.copyOf(events)));
+        for (Contact contact : contacts) {
+            for (UUID eventUuid : loaded.getLinkedEventUuids(contact)) {
+                if (links.canLink(contact.getUuid(), eventUuid)) {
+                    applyLinkEdit(contact.getUuid(), eventUuid, true);
+                }
+            }
+        }
+        for (Event event : events) {
+            for (UUID contactUuid : loaded.getLinkedContactUuids(event)) {
+                if (links.canLink(contactUuid, event.getUuid())) {
+                    applyLinkEdit(contactUuid, event.getUuid(), true);
+                }
+            }
+        }
+        if (hasSameListsAs(loaded)) {
+            ReadOnlyAddressBook loadedSnapshot = snapshotOf(loaded);
+            version = ((AddressBookSnapshot) loadedSnapshot).getVersion();
+        }
+    }
+
+    private boolean hasSameListsAs(ReadOnlyAddressBook other) {
+        return isSameList(getContactList(), other.getContactList()) && isSameList(getEventList(), other.getEventList());
+    }
+
+    private static <E> boolean isSameList(List<E> list, List<E> other) {
+        if (list.size() != other.size()) {
+            return false;
+        }
+        Iterator<E> otherIterator = other.iterator();
+        for (E element : list) {
+            if (element != otherIterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void applyContactEdit(ListEdit<Contact> edit) {
+        contacts.apply(edit);
+        links = links.withContactEdit(edit);
+        version = version.next(AddressBookDelta.Edit.ofContacts(edit));
+    }
+
+    void applyEventEdit(ListEdit<Event> edit) {
+        events.apply(edit);
+        links = links.withEventEdit(edit);
+        version = version.next(AddressBookDelta.Edit.ofEvents(edit));
+    }
+
+    void applyLinkEdit(UUID contactUuid, UUID eventUuid, boolean isLinked) {
+        links = links.withLink(contactUuid, eventUuid, isLinked);
+        version = version.next(AddressBookDelta.Edit.ofLink(contactUuid, eventUuid, isLinked));
+    }
+
+    /**
+     * Records {@code edit}, which has been made to the contacts, events or links, as a change.
+     */
+    private void record(AddressBookDelta.Edit edit) {
+        uncommittedEdits.add(edit);
+        version = version.next(edit);
+    }
+
+    /**
+     * Starts a version of the contents which does not follow the current one, after the links were changed along
+     * with the contents being replaced, without the changes to them being recorded.
+     */
+    private void startUnrelatedVersion() {
+        version = new AddressBookVersion();
+    }
+
     //// list overwrite operations
 
     /**
      * Replaces the contents of the contact list with {@code contacts}.
      * {@code contacts} must not contain duplicate contacts.
+     * The contacts with the same UUIDs as contacts in the list before keep their links, and the links of the other
+     * contacts in the list before are dropped.
      */
     public void setContacts(List<Contact> contacts) {
         this.contacts.setContacts(contacts);
+        links = links.withOnly(getContactList(), getEventList());
+        startUnrelatedVersion();
     }
 
     /**
      * Replaces the contents of the event list with {@code events}.
      * {@code events} must not contain duplicate events.
+     * The events with the same UUIDs as events in the list before keep their links, and the links of the other
+     * events in the list before are dropped.
      */
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        links = links.withOnly(getContactList(), getEventList());
+        startUnrelatedVersion();
+    }
+
+    /**
+     * Replaces the contents of this {@code AddressBook} with {@code contacts} and {@code events}, with each contact
+     * linked to the events whose UUIDs {@code linkedEvents} maps the UUID of the contact to. Links to contacts or
+     * events which are not in the lists are dropped. The links are all made at once.
+     */
+    public void setData(List<Contact> contacts, List<Event> events,
+            Map<UUID, ? extends Collection<UUID>> linkedEvents) {
+        requireAllNonNull(contacts, events, linkedEvents);
+        this.contacts.setContacts(contacts);
+        this.events.setEvents(events);
+        links = LinkGraph.of(getContactList(), getEventList(), linkedEvents);
+        startUnrelatedVersion();
     }
 
     /**
      * Resets the existing data of contacts of this {@code AddressBook}.
+     * The contacts must not be linked to any event.
      */
     public void resetContacts() {
-        this.contacts.resetContacts();
+        contacts.resetContacts();
+        links = links.withOnly(getContactList(), getEventList());
     }
 
     /**
@@ -88,8 +299,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setContacts(newData.getContactList());
-        setEvents(newData.getEventList());
+        if (newData instanceof AddressBook) {
+            newData = ((AddressBook) newData).snapshot();
+        }
+        if (newData instanceof AddressBookSnapshot) {
+            // the lists and links of a snapshot are immutable, so they are shared instead of copied
+            AddressBookSnapshot snapshot = (AddressBookSnapshot) newData;
+            contacts.setContacts(snapshot.getContacts());
+            events.setEvents(snapshot.getEvents());
+            links = snapshot.getLinks();
+            version = snapshot.getVersion(); // the contents are those of the snapshot, so later changes follow it
+            return;
+        }
+        Map<UUID, Set<UUID>> linkedEvents = new HashMap<>();
+        for (Contact contact : newData.getContactList()) {
+            linkedEvents.put(contact.getUuid(), newData.getLinkedEventUuids(contact));
+        }
+        setData(newData.getContactList(), newData.getEventList(), linkedEvents);
     }
 
     /**
@@ -101,6 +327,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         contacts.rearrangeContactsInOrder(contactsToRearrange, isMarked);
     }
 
+    /**
+     * Returns the names of the contacts in the address book which {@code predicate} matches.
+     */
+    public Set<Name> getContactNamesMatching(ContactContainsKeywordsPredicate predicate) {
+        return contacts.getNamesMatching(predicate);
+    }
+
     //// event-level operations
 
     /**
@@ -117,7 +350,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEvent(Event e) {
         events.add(e);
-        Event.addToMap(e);
+        links = links.withEvent(e);
     }
 
     /**
@@ -129,6 +362,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedEvent);
 
         events.setEvent(target, editedEvent);
+        links = links.withEventReplaced(target, editedEvent);
     }
 
     /**
@@ -139,56 +373,126 @@ public class AddressBook implements ReadOnlyAddressBook {
         events.sortEvents();
     }
 
+    /**
+     * Returns the events that take place at any point from {@code from} to {@code to} (both inclusive),
+     * in order of their start date and time.
+     */
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        return events.getEventsBetween(from, to);
+    }
+
+    /**
+     * Returns the upcoming and ongoing events at {@code time}, in order of their start date and time.
+     */
+    public List<Event> getEventsNotEndedBy(LocalDateTime time) {
+        return events.getEventsNotEndedBy(time);
+    }
+
+    /**
+     * Returns the events which have concluded before {@code time}, in order of their start date and time.
+     */
+    public List<Event> getEventsEndedBefore(LocalDateTime time) {
+        return events.getEventsEndedBefore(time);
+    }
+
+    /**
+     * Returns the names of the events in the address book which {@code predicate} matches.
+     */
+    public Set<Name> getEventNamesMatching(EventContainsKeywordsPredicate predicate) {
+        return events.getNamesMatching(predicate);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
     public void removeEvent(Event key) {
-        // unlink all the contacts linked to event before removing event
-        Event updatedEvent = unlinkContactsFromEvent(key);
-        events.remove(updatedEvent);
+        // unlink all the contacts linked to event before removing event, so that undoing the removal links them again
+        unlinkContactsFromEvent(key);
+        events.remove(key);
+        links = links.withoutEvent(key);
+    }
+
+    /**
+     * Removes {@code key}, which is being archived, from this {@code AddressBook}, and returns it along with the UUIDs
+     * of the contacts linked to it, so that the links can be made again if the event is restored.
+     * {@code key} must exist in the address book. Archiving the event is recorded as a change, so that it can be
+     * moved back out of the archive when the change is undone.
+     */
+    public ArchivedEvent removeArchivedEvent(Event key) {
+        ArchivedEvent archived = new ArchivedEvent(key, links.getLinkedContactUuids(key));
+        removeEvent(key);
+        uncommittedEdits.add(AddressBookDelta.Edit.ofArchived(archived));
+        return archived;
     }
 
     /**
-     * Creates a link between the event and contact.
+     * Adds the event of {@code archived}, which is being restored from the archive, to the address book and returns
+     * it. The event is linked to the contacts it was linked to when it was archived which are still in the address
+     * book. The event must not already exist in the address book. Restoring the event is recorded as a change, so
+     * that {@code archived} can be moved back into the archive when the change is undone.
+     */
+    public Event addRestoredEvent(ArchivedEvent archived) {
+        Event restored = archived.getEvent();
+        addEvent(restored);
+        for (UUID contactUuid : archived.getLinkedContacts()) {
+            if (links.canLink(contactUuid, restored.getUuid())) {
+                changeLink(contactUuid, restored.getUuid(), true);
+            }
+        }
+        uncommittedEdits.add(AddressBookDelta.Edit.ofRestored(archived));
+        return restored;
+    }
+
+    /**
+     * Creates a link between the event and contact, which must both exist in the address book.
      */
     public void linkEventAndContact(Event event, Contact contact) {
-        Event updatedEvent = event.linkTo(contact);
-        Contact updatedContact = contact.linkTo(event);
-        setEvent(event, updatedEvent);
-        setContact(contact, updatedContact);
+        requireAllNonNull(event, contact);
+        changeLink(contact.getUuid(), event.getUuid(), true);
     }
 
     /**
-     * Removes the link between the event and contact.
+     * Removes the link between the event and contact, which must both exist in the address book.
      */
     public void unlinkEventAndContact(Event event, Contact contact) {
-        Event updatedEvent = event.unlink(contact);
-        Contact updatedContact = contact.unlink(event);
-        setEvent(event, updatedEvent);
-        setContact(contact, updatedContact);
+        requireAllNonNull(event, contact);
+        changeLink(contact.getUuid(), event.getUuid(), false);
+    }
+
+    /**
+     * Returns true if the event and contact are linked.
+     */
+    public boolean isLinked(Event event, Contact contact) {
+        requireAllNonNull(event, contact);
+        return links.isLinked(event, contact);
+    }
+
+    /**
+     * Unlinks all the contacts linked to the given event {@code e}.
+     */
+    public void unlinkContactsFromEvent(Event e) {
+        for (UUID contactUuid : links.getLinkedContactUuids(e)) {
+            changeLink(contactUuid, e.getUuid(), false);
+        }
     }
 
     /**
-     * Unlink all the contacts linked to the given event {@code e}, but does not remove the stored links in the event.
+     * Removes all the links between contacts and events.
      */
-    public Event unlinkContactsFromEvent(Event e) {
-        Set<UUID> contactsUuid = e.getLinkedContacts();
-        contactsUuid.iterator()
-            .forEachRemaining(contactUuid -> {
-                Contact linkedContact = Contact.findByUuid(contactUuid);
-                setContact(linkedContact, linkedContact.unlink(e));
-            });
-        Event updatedEvent = e.clearAllLinks();
-        setEvent(e, updatedEvent);
-        return updatedEvent;
+    public void unlinkAll() {
+        for (Event event : events) {
+            unlinkContactsFromEvent(event);
+        }
     }
 
     /**
      * Resets the existing data of events of this {@code AddressBook}.
+     * The events must not be linked to any contact.
      */
     public void resetEvents() {
-        this.events.resetEvents();
+        events.resetEvents();
+        links = links.withOnly(getContactList(), getEventList());
     }
 
     /**
@@ -216,7 +520,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addContact(Contact c) {
         contacts.add(c);
-        Contact.addToMap(c);
+        links = links.withContact(c);
     }
 
     /**
@@ -228,6 +532,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedContact);
 
         contacts.setContact(target, editedContact);
+        links = links.withContactReplaced(target, editedContact);
     }
 
     /**
@@ -235,32 +540,51 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeContact(Contact key) {
-        // unlink all the events linked to contact before removing contact
-        Contact updatedContact = unlinkEventsFromContact(key);
-        contacts.remove(updatedContact);
+        // unlink all the events linked to contact before removing contact, so that undoing the removal links them again
+        unlinkEventsFromContact(key);
+        contacts.remove(key);
+        links = links.withoutContact(key);
     }
 
     /**
-     * Unlink all the events linked to the given contact {@code c}, but does not remove the stored links in the contact.
+     * Unlinks all the events linked to the given contact {@code c}.
      */
-    public Contact unlinkEventsFromContact(Contact c) {
-        Set<UUID> eventsUuid = c.getLinkedEvents();
-        eventsUuid.iterator()
-            .forEachRemaining(eventUuid -> {
-                Event linkedEvent = Event.findByUuid(eventUuid);
-                setEvent(linkedEvent, linkedEvent.unlink(c));
-            });
-        Contact updatedContact = c.clearAllLinks();
-        setContact(c, updatedContact);
-        return updatedContact;
+    public void unlinkEventsFromContact(Contact c) {
+        for (UUID eventUuid : links.getLinkedEventUuids(c)) {
+            changeLink(c.getUuid(), eventUuid, false);
+        }
+    }
+
+    @Override
+    public List<Contact> getLinkedContacts(Event event) {
+        return links.getLinkedContacts(event);
+    }
+
+    @Override
+    public List<Event> getLinkedEvents(Contact contact) {
+        return links.getLinkedEvents(contact);
+    }
+
+    @Override
+    public Set<UUID> getLinkedContactUuids(Event event) {
+        return links.getLinkedContactUuids(event);
+    }
+
+    @Override
+    public Set<UUID> getLinkedEventUuids(Contact contact) {
+        return links.getLinkedEventUuids(contact);
     }
 
     /**
-     * Update the list of contacts and list of events in their respective UUID map.
+     * Links or unlinks the contact and event with the given UUIDs, recording the change if they were not already
+     * linked or unlinked.
      */
-    public void updateDataMaps() {
-        contacts.updateContactMap();
-        events.updateEventMap();
+    private void changeLink(UUID contactUuid, UUID eventUuid, boolean isLinked) {
+        LinkGraph changed = links.withLink(contactUuid, eventUuid, isLinked);
+        if (changed != links) {
+            links = changed;
+            record(AddressBookDelta.Edit.ofLink(contactUuid, eventUuid, isLinked));
+        }
     }
 
     //// util methods
@@ -286,7 +610,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         return other == this // short circuit if same object
             || (other instanceof AddressBook // instanceof handles nulls
                 && contacts.equals(((AddressBook) other).contacts)
-                && events.equals(((AddressBook) other).events));
+                && events.equals(((AddressBook) other).events)
+                && links.hasSameLinksAs(((AddressBook) other).links));
     }
 
     @Override
@@ -0,0 +1,473 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import seedu.address.model.common.ListEdit;
+import seedu.address.model.common.ListPermutation;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventArchive;
+
+/**
+ * The changes made to the contacts, events and links of an {@code AddressBook} between two points, in the order they
+ * were made. The changes can be undone and redone on the address book without replacing all its contacts and events.
+ * <p>
+ * The events moved to or from the archive are recorded along with the changes to the event list, so that the
+ * {@code EventArchive} can be changed back with the address book. Reordering the contacts or events, such as by
+ * sorting them, is recorded as a {@code ListPermutation}, which keeps the positions the elements are moved from
+ * rather than the elements.
+ */
+public class AddressBookDelta {
+
+    /**
+     * The number of positions kept by a reordering which are counted as one element, as they take up about as much
+     * memory as a contact or event.
+     */
+    static final int POSITIONS_PER_ELEMENT = 64;
+
+    public static final AddressBookDelta EMPTY = new AddressBookDelta(List.of());
+
+    private final List<Edit> edits;
+    private final int size;
+
+    /**
+     * Creates a delta with {@code edits}, which must not be changed afterwards.
+     */
+    AddressBookDelta(List<Edit> edits) {
+        requireNonNull(edits);
+        this.edits = edits;
+        this.size = edits.stream().mapToInt(Edit::size).sum();
+    }
+
+    /**
+     * Returns true if no changes were made to the address book.
+     */
+    public boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    /**
+     * Returns true if the contacts of the address book were changed.
+     */
+    public boolean hasContactEdits() {
+        return edits.stream().anyMatch(edit -> edit instanceof ContactsEdit || edit instanceof ContactsReorder);
+    }
+
+    /**
+     * Returns true if the events of the address book were changed.
+     */
+    public boolean hasEventEdits() {
+        return edits.stream().anyMatch(edit -> edit instanceof EventsEdit || edit instanceof EventsReorder);
+    }
+
+    /**
+     * Returns true if contacts and events were linked or unlinked.
+     */
+    public boolean hasLinkEdits() {
+        return edits.stream().anyMatch(edit -> edit instanceof LinkEdit);
+    }
+
+    /**
+     * Returns true if events were moved to or from the archive.
+     */
+    public boolean hasArchiveEdits() {
+        return edits.stream().anyMatch(edit -> edit instanceof ArchiveEdit);
+    }
+
+    /**
+     * Returns the number of elements kept only by the delta, which is a rough measure of the memory it takes up.
+     * These are the contacts and events removed by the changes, as those added are still held by the address book
+     * or kept by the later change which removes them, along with the positions kept by each reordering, counted as
+     * one contact or event for every {@code POSITIONS_PER_ELEMENT} positions.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Passes the changes made to the contacts, events and links to {@code visitor}, in the order they were made.
+     * Moving events to or from the archive is left out, as the events are removed from or added to the event list by
+     * changes of their own.
+     */
+    public void forEachChange(ChangeVisitor visitor) {
+        requireNonNull(visitor);
+        for (Edit edit : edits) {
+            edit.accept(visitor);
+        }
+    }
+
+    /**
+     * Reverses the changes on {@code addressBook}, which must be in the state right after the changes were made.
+     */
+    void undo(AddressBook addressBook) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).inverse().applyTo(addressBook);
+        }
+    }
+
+    /**
+     * Makes the changes again on {@code addressBook}, which must be in the state right before the changes were made.
+     */
+    void redo(AddressBook addressBook) {
+        for (Edit edit : edits) {
+            edit.applyTo(addressBook);
+        }
+    }
+
+    /**
+     * Moves the events archived by the changes out of {@code archive}, and the events restored by the changes back
+     * into it, along with {@link #undo(AddressBook)}.
+     */
+    void undoArchiving(EventArchive archive) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).inverse().applyTo(archive);
+        }
+    }
+
+    /**
+     * Moves the events archived by the changes into {@code archive} again, and the events restored by the changes
+     * out of it again, along with {@link #redo(AddressBook)}.
+     */
+    void redoArchiving(EventArchive archive) {
+        for (Edit edit : edits) {
+            edit.applyTo(archive);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof AddressBookDelta // instanceof handles nulls
+                && edits.equals(((AddressBookDelta) other).edits));
+    }
+
+    @Override
+    public int hashCode() {
+        return edits.hashCode();
+    }
+
+    /**
+     * Receives the changes made to the contacts, events and links of an address book, such as to save only the
+     * contacts and events changed.
+     */
+    public interface ChangeVisitor {
+        void visitContactEdit(ListEdit<Contact> contactEdit);
+
+        void visitEventEdit(ListEdit<Event> eventEdit);
+
+        void visitContactReorder(ListPermutation contactReorder);
+
+        void visitEventReorder(ListPermutation eventReorder);
+
+        void visitLinkEdit(UUID contactUuid, UUID eventUuid, boolean isLinked);
+    }
+
+    /**
+     * An edit to either the contact list or the event list of an address book, a link made or removed between a
+     * contact and an event, or an event moved to or from the archive. Moving an event to or from the archive does not
+     * change the event list by itself, as the event is also removed from or added to the list by an edit of its own.
+     */
+    abstract static class Edit {
+
+        /**
+         * Returns the edit of the contact list made by {@code contactEdit}, which is kept as a reordering if
+         * {@code contactEdit} only moves contacts.
+         */
+        static Edit ofContacts(ListEdit<Contact> contactEdit) {
+            Optional<ListPermutation> reorder = ListPermutation.of(contactEdit);
+            return reorder.isPresent() ? new ContactsReorder(reorder.get()) : new ContactsEdit(contactEdit);
+        }
+
+        /**
+         * Returns the edit of the event list made by {@code eventEdit}, which is kept as a reordering if
+         * {@code eventEdit} only moves events.
+         */
+        static Edit ofEvents(ListEdit<Event> eventEdit) {
+            Optional<ListPermutation> reorder = ListPermutation.of(eventEdit);
+            return reorder.isPresent() ? new EventsReorder(reorder.get()) : new EventsEdit(eventEdit);
+        }
+
+        static Edit ofLink(UUID contactUuid, UUID eventUuid, boolean isLinked) {
+            return new LinkEdit(requireNonNull(contactUuid), requireNonNull(eventUuid), isLinked);
+        }
+
+        static Edit ofArchived(ArchivedEvent archivedEvent) {
+            return new ArchiveEdit(requireNonNull(archivedEvent), true);
+        }
+
+        static Edit ofRestored(ArchivedEvent restoredEvent) {
+            return new ArchiveEdit(requireNonNull(restoredEvent), false);
+        }
+
+        abstract Edit inverse();
+
+        abstract void applyTo(AddressBook addressBook);
+
+        abstract void accept(ChangeVisitor visitor);
+
+        void applyTo(EventArchive archive) {
+            // only the edits which move events to or from the archive change it
+        }
+
+        /**
+         * Returns the number of contacts and events kept only by the edit.
+         */
+        int size() {
+            return 0;
+        }
+    }
+
+    private static class ContactsEdit extends Edit {
+        private final ListEdit<Contact> contactEdit;
+
+        ContactsEdit(ListEdit<Contact> contactEdit) {
+            this.contactEdit = contactEdit;
+        }
+
+        @Override
+        Edit inverse() {
+            return new ContactsEdit(contactEdit.inverse());
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.applyContactEdit(contactEdit);
+        }
+
+        @Override
+        void accept(ChangeVisitor visitor) {
+            visitor.visitContactEdit(contactEdit);
+        }
+
+        @Override
+        int size() {
+            return contactEdit.getRemoved().size();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof ContactsEdit // instanceof handles nulls
+                    && contactEdit.equals(((ContactsEdit) other).contactEdit));
+        }
+
+        @Override
+        public int hashCode() {
+            return contactEdit.hashCode();
+        }
+    }
+
+    private static class EventsEdit extends Edit {
+        private final ListEdit<Event> eventEdit;
+
+        EventsEdit(ListEdit<Event> eventEdit) {
+            this.eventEdit = eventEdit;
+        }
+
+        @Override
+        Edit inverse() {
+            return new EventsEdit(eventEdit.inverse());
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.applyEventEdit(eventEdit);
+        }
+
+        @Override
+        void accept(ChangeVisitor visitor) {
+            visitor.visitEventEdit(eventEdit);
+        }
+
+        @Override
+        int size() {
+            return eventEdit.getRemoved().size();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof EventsEdit // instanceof handles nulls
+                    && eventEdit.equals(((EventsEdit) other).eventEdit));
+        }
+
+        @Override
+        public int hashCode() {
+            return eventEdit.hashCode();
+        }
+    }
+
+    private static class ContactsReorder extends Edit {
+        private final ListPermutation contactReorder;
+
+        ContactsReorder(ListPermutation contactReorder) {
+            this.contactReorder = contactReorder;
+        }
+
+        @Override
+        Edit inverse() {
+            return new ContactsReorder(contactReorder.inverse());
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.applyContactEdit(contactReorder.toEdit(addressBook.getContactList()));
+        }
+
+        @Override
+        void accept(ChangeVisitor visitor) {
+            visitor.visitContactReorder(contactReorder);
+        }
+
+        @Override
+        int size() {
+            return (contactReorder.size() + POSITIONS_PER_ELEMENT - 1) / POSITIONS_PER_ELEMENT;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof ContactsReorder // instanceof handles nulls
+                    && contactReorder.equals(((ContactsReorder) other).contactReorder));
+        }
+
+        @Override
+        public int hashCode() {
+            return contactReorder.hashCode();
+        }
+    }
+
+    private static class EventsReorder extends Edit {
+        private final ListPermutation eventReorder;
+
+        EventsReorder(ListPermutation eventReorder) {
+            this.eventReorder = eventReorder;
+        }
+
+        @Override
+        Edit inverse() {
+            return new EventsReorder(eventReorder.inverse());
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.applyEventEdit(eventReorder.toEdit(addressBook.getEventList()));
+        }
+
+        @Override
+        void accept(ChangeVisitor visitor) {
+            visitor.visitEventReorder(eventReorder);
+        }
+
+        @Override
+        int size() {
+            return (eventReorder.size() + POSITIONS_PER_ELEMENT - 1) / POSITIONS_PER_ELEMENT;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof EventsReorder // instanceof handles nulls
+                    && eventReorder.equals(((EventsReorder) other).eventReorder));
+        }
+
+        @Override
+        public int hashCode() {
+            return eventReorder.hashCode();
+        }
+    }
+
+    private static class LinkEdit extends Edit {
+        private final UUID contactUuid;
+        private final UUID eventUuid;
+        private final boolean isLinked;
+
+        LinkEdit(UUID contactUuid, UUID eventUuid, boolean isLinked) {
+            this.contactUuid = contactUuid;
+            this.eventUuid = eventUuid;
+            this.isLinked = isLinked;
+        }
+
+        @Override
+        Edit inverse() {
+            return new LinkEdit(contactUuid, eventUuid, !isLinked);
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            addressBook.applyLinkEdit(contactUuid, eventUuid, isLinked);
+        }
+
+        @Override
+        void accept(ChangeVisitor visitor) {
+            visitor.visitLinkEdit(contactUuid, eventUuid, isLinked);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof LinkEdit // instanceof handles nulls
+                    && contactUuid.equals(((LinkEdit) other).contactUuid)
+                    && eventUuid.equals(((LinkEdit) other).eventUuid)
+                    && isLinked == ((LinkEdit) other).isLinked);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contactUuid, eventUuid, isLinked);
+        }
+    }
+
+    private static class ArchiveEdit extends Edit {
+        private final ArchivedEvent event;
+        private final boolean isArchived;
+
+        ArchiveEdit(ArchivedEvent event, boolean isArchived) {
+            this.event = event;
+            this.isArchived = isArchived;
+        }
+
+        @Override
+        Edit inverse() {
+            return new ArchiveEdit(event, !isArchived);
+        }
+
+        @Override
+        void applyTo(AddressBook addressBook) {
+            // the event is removed from or added to the event list by an edit of its own
+        }
+
+        @Override
+        void accept(ChangeVisitor visitor) {
+            // the event is removed from or added to the event list by an edit of its own
+        }
+
+        @Override
+        void applyTo(EventArchive archive) {
+            if (isArchived) {
+                archive.add(List.of(event));
+            } else {
+                archive.remove(event);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof ArchiveEdit // instanceof handles nulls
+                    && event.equals(((ArchiveEdit) other).event)
+                    && isArchived == ((ArchiveEdit) other).isArchived);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(event, isArchived);
+        }
+    }
+}
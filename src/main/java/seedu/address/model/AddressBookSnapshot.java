@@ -0,0 +1,117 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.common.ObservablePersistentList;
+import seedu.address.model.common.PersistentVector;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+
+/**
+ * An unmodifiable snapshot of the contacts, events and links of an {@code AddressBook} at some point.
+ * The snapshot shares the persistent lists and link graph of the address book as they were, so it takes O(1) time to
+ * create, and only the parts of them changed afterwards take up more memory.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentVector<Contact> contacts;
+    private final PersistentVector<Event> events;
+    private final LinkGraph links;
+    private final AddressBookVersion version;
+
+    /**
+     * Creates a snapshot with {@code contacts} and {@code events}, linked as in {@code links}, which are the contents
+     * of an address book at {@code version}.
+     */
+    AddressBookSnapshot(PersistentVector<Contact> contacts, PersistentVector<Event> events, LinkGraph links,
+            AddressBookVersion version) {
+        requireAllNonNull(contacts, events, links, version);
+        this.contacts = contacts;
+        this.events = events;
+        this.links = links;
+        this.version = version;
+    }
+
+    PersistentVector<Contact> getContacts() {
+        return contacts;
+    }
+
+    PersistentVector<Event> getEvents() {
+        return events;
+    }
+
+    LinkGraph getLinks() {
+        return links;
+    }
+
+    AddressBookVersion getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this snapshot shares the same lists and links as {@code other}, so that they are surely equal.
+     */
+    boolean isSameAs(AddressBookSnapshot other) {
+        return contacts == other.contacts && events == other.events && links == other.links;
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        ObservablePersistentList<Contact> contactList = new ObservablePersistentList<>();
+        contactList.setAll(contacts);
+        return FXCollections.unmodifiableObservableList(contactList);
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        ObservablePersistentList<Event> eventList = new ObservablePersistentList<>();
+        eventList.setAll(events);
+        return FXCollections.unmodifiableObservableList(eventList);
+    }
+
+    @Override
+    public Set<UUID> getLinkedContactUuids(Event event) {
+        return links.getLinkedContactUuids(event);
+    }
+
+    @Override
+    public Set<UUID> getLinkedEventUuids(Contact contact) {
+        return links.getLinkedEventUuids(contact);
+    }
+
+    @Override
+    public List<Contact> getLinkedContacts(Event event) {
+        return links.getLinkedContacts(event);
+    }
+
+    @Override
+    public List<Event> getLinkedEvents(Contact contact) {
+        return links.getLinkedEvents(contact);
+    }
+
+    @Override
+    public String toString() {
+        return contacts.size() + " contacts\n" + events.size() + " events";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && contacts.equals(((AddressBookSnapshot) other).contacts)
+                && events.equals(((AddressBookSnapshot) other).events)
+                && links.hasSameLinksAs(((AddressBookSnapshot) other).links));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contacts, events);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A version of the contents of an {@code AddressBook}, which is followed by the next version once the address book is
+ * changed, along with the edit that changed it. The edits made between two versions can thus be found by following
+ * the versions from the earlier one, without comparing the contents of the address book.
+ * <p>
+ * Each version only refers to the versions after it, so the versions before the earliest one still referred to, such
+ * as by a snapshot kept by a storage until its next save, are garbage collected.
+ */
+final class AddressBookVersion {
+
+    // the edit which changed this version into the next one, and the next version, both null until it is changed
+    private AddressBookDelta.Edit edit;
+    private AddressBookVersion next;
+
+    /**
+     * Returns the version which follows this one after {@code edit}. If this version has been followed by another
+     * already, such as when two address books were reset to the same snapshot and both changed afterwards, the
+     * version returned does not follow any other version.
+     */
+    synchronized AddressBookVersion next(AddressBookDelta.Edit edit) {
+        requireNonNull(edit);
+        if (next != null) {
+            return new AddressBookVersion();
+        }
+        this.edit = edit;
+        next = new AddressBookVersion();
+        return next;
+    }
+
+    /**
+     * Returns the edits which change {@code earlier} into {@code later}, in the order they were made, or null if
+     * {@code later} does not follow {@code earlier}.
+     */
+    static List<AddressBookDelta.Edit> editsBetween(AddressBookVersion earlier, AddressBookVersion later) {
+        requireNonNull(later);
+        List<AddressBookDelta.Edit> edits = new ArrayList<>();
+        AddressBookVersion version = earlier;
+        while (version != later) {
+            AddressBookVersion next = version.getNext();
+            if (next == null) {
+                return null;
+            }
+            edits.add(version.getEdit());
+            version = next;
+        }
+        return edits;
+    }
+
+    private synchronized AddressBookVersion getNext() {
+        return next;
+    }
+
+    private synchronized AddressBookDelta.Edit getEdit() {
+        return edit;
+    }
+}
@@ -0,0 +1,421 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import seedu.address.model.common.ListEdit;
+import seedu.address.model.common.PersistentHashMap;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+
+/**
+ * The links between the contacts and events of an {@code AddressBook}. The links are only kept here, and not in the
+ * contacts and events themselves, so linking or unlinking a contact and an event does not replace either of them.
+ * <p>
+ * The graph is immutable, and is changed by creating a new version of it which shares all but O(log n) of its
+ * structure with the old version, so that a snapshot of an address book keeps its links in O(1) time. Every contact
+ * and event in the graph is kept by its UUID, along with the UUIDs of the events or contacts it is linked to.
+ * Linking, unlinking and finding the contacts or events linked to a contact or event thus take time proportional to
+ * the number of links of the contact or event, along with O(log n) time to find it.
+ * <p>
+ * Contacts and events are not given integer handles, as they were when the graph was mutable and kept its vertices
+ * in arrays. Handles into a persistent structure would still need a map from UUIDs to handles, as contacts, events
+ * and saved links are identified by UUID, and the only persistent list, {@code PersistentVector}, takes O(log n)
+ * steps of a binary tree to reach an element, against the few steps of the 32-way trie of {@code PersistentHashMap}.
+ * Keying the vertices by UUID thus needs one map rather than a map and a list, and no reuse of freed handles, at the
+ * cost of a reference to a UUID rather than an {@code int} for each link, and of comparing UUIDs rather than integers
+ * when scanning the links of a vertex. The scan is linear, which adds nothing to the cost of linking or unlinking, as
+ * the array of links is copied then anyway.
+ */
+final class LinkGraph {
+
+    static final LinkGraph EMPTY = new LinkGraph(PersistentHashMap.empty(), PersistentHashMap.empty());
+
+    private final PersistentHashMap<UUID, Vertex<Contact>> contacts;
+    private final PersistentHashMap<UUID, Vertex<Event>> events;
+
+    private LinkGraph(PersistentHashMap<UUID, Vertex<Contact>> contacts,
+            PersistentHashMap<UUID, Vertex<Event>> events) {
+        this.contacts = contacts;
+        this.events = events;
+    }
+
+    /**
+     * Returns a graph of {@code contacts} and {@code events}, with each contact linked to the events whose UUIDs
+     * {@code linkedEvents} maps the UUID of the contact to. Links to events which are not in {@code events} are
+     * dropped. The links are gathered before the graph is built, so that each contact and event is only put in it
+     * once.
+     */
+    static LinkGraph of(List<Contact> contacts, List<Event> events,
+            Map<UUID, ? extends Collection<UUID>> linkedEvents) {
+        requireNonNull(linkedEvents);
+        Map<UUID, Set<UUID>> contactLinks = new HashMap<>();
+        Map<UUID, Set<UUID>> eventLinks = new HashMap<>();
+        Set<UUID> contactUuids = new HashSet<>();
+        contacts.forEach(contact -> contactUuids.add(contact.getUuid()));
+        Set<UUID> eventUuids = new HashSet<>();
+        events.forEach(event -> eventUuids.add(event.getUuid()));
+        linkedEvents.forEach((contactUuid, eventUuidsOfContact) -> {
+            if (!contactUuids.contains(contactUuid)) {
+                return;
+            }
+            for (UUID eventUuid : eventUuidsOfContact) {
+                if (eventUuids.contains(eventUuid)) {
+                    contactLinks.computeIfAbsent(contactUuid, uuid -> new LinkedHashSet<>()).add(eventUuid);
+                    eventLinks.computeIfAbsent(eventUuid, uuid -> new LinkedHashSet<>()).add(contactUuid);
+                }
+            }
+        });
+        return new LinkGraph(verticesOf(contacts, Contact::getUuid, contactLinks),
+                verticesOf(events, Event::getUuid, eventLinks));
+    }
+
+    private static <T> PersistentHashMap<UUID, Vertex<T>> verticesOf(List<T> entities, Function<T, UUID> uuidOf,
+            Map<UUID, Set<UUID>> links) {
+        PersistentHashMap<UUID, Vertex<T>> vertices = PersistentHashMap.empty();
+        for (T entity : entities) {
+            UUID uuid = uuidOf.apply(entity);
+            Set<UUID> linked = links.getOrDefault(uuid, Set.of());
+            vertices = vertices.plus(uuid, new Vertex<>(entity, linked.toArray(new UUID[0])));
+        }
+        return vertices;
+    }
+
+    /**
+     * Returns a version of this graph with {@code contact} in it. If a contact with the same UUID is in the graph,
+     * {@code contact} takes its place and keeps its links. Otherwise, {@code contact} is not linked to any event.
+     */
+    LinkGraph withContact(Contact contact) {
+        requireNonNull(contact);
+        return new LinkGraph(withEntity(contacts, contact.getUuid(), contact), events);
+    }
+
+    /**
+     * Returns a version of this graph with {@code event} in it. If an event with the same UUID is in the graph,
+     * {@code event} takes its place and keeps its links. Otherwise, {@code event} is not linked to any contact.
+     */
+    LinkGraph withEvent(Event event) {
+        requireNonNull(event);
+        return new LinkGraph(contacts, withEntity(events, event.getUuid(), event));
+    }
+
+    /**
+     * Returns a version of this graph without {@code contact} and its links.
+     */
+    LinkGraph withoutContact(Contact contact) {
+        requireNonNull(contact);
+        Vertex<Contact> vertex = contacts.get(contact.getUuid());
+        if (vertex == null) {
+            return this;
+        }
+        return new LinkGraph(contacts.minus(contact.getUuid()),
+                withoutLinksTo(events, vertex.links, contact.getUuid()));
+    }
+
+    /**
+     * Returns a version of this graph without {@code event} and its links.
+     */
+    LinkGraph withoutEvent(Event event) {
+        requireNonNull(event);
+        Vertex<Event> vertex = events.get(event.getUuid());
+        if (vertex == null) {
+            return this;
+        }
+        return new LinkGraph(withoutLinksTo(contacts, vertex.links, event.getUuid()),
+                events.minus(event.getUuid()));
+    }
+
+    /**
+     * Returns a version of this graph with {@code editedContact} in place of {@code target}, linked to the events
+     * {@code target} was linked to.
+     */
+    LinkGraph withContactReplaced(Contact target, Contact editedContact) {
+        requireNonNull(editedContact);
+        if (target.getUuid().equals(editedContact.getUuid())) {
+            return withContact(editedContact);
+        }
+        LinkGraph replaced = withoutContact(target).withContact(editedContact);
+        for (UUID eventUuid : getLinkedEventUuids(target)) {
+            replaced = replaced.withLink(editedContact.getUuid(), eventUuid, true);
+        }
+        return replaced;
+    }
+
+    /**
+     * Returns a version of this graph with {@code editedEvent} in place of {@code target}, linked to the contacts
+     * {@code target} was linked to.
+     */
+    LinkGraph withEventReplaced(Event target, Event editedEvent) {
+        requireNonNull(editedEvent);
+        if (target.getUuid().equals(editedEvent.getUuid())) {
+            return withEvent(editedEvent);
+        }
+        LinkGraph replaced = withoutEvent(target).withEvent(editedEvent);
+        for (UUID contactUuid : getLinkedContactUuids(target)) {
+            replaced = replaced.withLink(contactUuid, editedEvent.getUuid(), true);
+        }
+        return replaced;
+    }
+
+    /**
+     * Returns a version of this graph with {@code edit} made to its contacts. The contacts removed by the edit are
+     * removed from the graph along with their links, unless a contact with the same UUID is added back by the edit,
+     * which then takes over the links. A contact replaced by a single other contact also hands over its links.
+     */
+    LinkGraph withContactEdit(ListEdit<Contact> edit) {
+        requireNonNull(edit);
+        if (edit.getRemoved().size() == 1 && edit.getAdded().size() == 1) {
+            return withContactReplaced(edit.getRemoved().get(0), edit.getAdded().get(0));
+        }
+        Set<UUID> addedUuids = new HashSet<>();
+        edit.getAdded().forEach(contact -> addedUuids.add(contact.getUuid()));
+        LinkGraph edited = this;
+        for (Contact removed : edit.getRemoved()) {
+            if (!addedUuids.contains(removed.getUuid())) {
+                edited = edited.withoutContact(removed);
+            }
+        }
+        for (Contact added : edit.getAdded()) {
+            edited = edited.withContact(added);
+        }
+        return edited;
+    }
+
+    /**
+     * Returns a version of this graph with {@code edit} made to its events, in the same way as
+     * {@link #withContactEdit(ListEdit)}.
+     */
+    LinkGraph withEventEdit(ListEdit<Event> edit) {
+        requireNonNull(edit);
+        if (edit.getRemoved().size() == 1 && edit.getAdded().size() == 1) {
+            return withEventReplaced(edit.getRemoved().get(0), edit.getAdded().get(0));
+        }
+        Set<UUID> addedUuids = new HashSet<>();
+        edit.getAdded().forEach(event -> addedUuids.add(event.getUuid()));
+        LinkGraph edited = this;
+        for (Event removed : edit.getRemoved()) {
+            if (!addedUuids.contains(removed.getUuid())) {
+                edited = edited.withoutEvent(removed);
+            }
+        }
+        for (Event added : edit.getAdded()) {
+            edited = edited.withEvent(added);
+        }
+        return edited;
+    }
+
+    /**
+     * Returns a graph of {@code contacts} and {@code events}, in which the contacts and events that are also in this
+     * graph keep the links between them.
+     */
+    LinkGraph withOnly(List<Contact> contacts, List<Event> events) {
+        Map<UUID, List<UUID>> linkedEvents = new HashMap<>();
+        this.contacts.forEach((uuid, vertex) -> {
+            if (vertex.links.length > 0) {
+                linkedEvents.put(uuid, Arrays.asList(vertex.links));
+            }
+        });
+        return of(contacts, events, linkedEvents);
+    }
+
+    /**
+     * Returns true if the contact and event with the given UUIDs are both in the graph, so that they can be linked.
+     */
+    boolean canLink(UUID contactUuid, UUID eventUuid) {
+        return contacts.containsKey(contactUuid) && events.containsKey(eventUuid);
+    }
+
+    /**
+     * Returns a version of this graph with the contact and event with the given UUIDs linked if {@code isLinked} is
+     * true, or unlinked otherwise. Both must be in the graph.
+     */
+    LinkGraph withLink(UUID contactUuid, UUID eventUuid, boolean isLinked) {
+        requireNonNull(contactUuid);
+        requireNonNull(eventUuid);
+        Vertex<Contact> contact = contacts.get(contactUuid);
+        Vertex<Event> event = events.get(eventUuid);
+        if (contact == null || event == null) {
+            throw new IllegalArgumentException("The contact and event to link must both be in the graph");
+        }
+        if (contact.isLinkedTo(eventUuid) == isLinked) {
+            return this;
+        }
+        return isLinked
+            ? new LinkGraph(contacts.plus(contactUuid, contact.withLink(eventUuid)),
+                events.plus(eventUuid, event.withLink(contactUuid)))
+            : new LinkGraph(contacts.plus(contactUuid, contact.withoutLink(eventUuid)),
+                events.plus(eventUuid, event.withoutLink(contactUuid)));
+    }
+
+    /**
+     * Returns true if {@code event} and {@code contact} are linked.
+     */
+    boolean isLinked(Event event, Contact contact) {
+        requireNonNull(event);
+        Vertex<Contact> vertex = contacts.get(contact.getUuid());
+        return vertex != null && vertex.isLinkedTo(event.getUuid());
+    }
+
+    /**
+     * Returns the contacts linked to {@code event}, or an empty list if {@code event} is not in the graph.
+     */
+    List<Contact> getLinkedContacts(Event event) {
+        requireNonNull(event);
+        return getLinked(events.get(event.getUuid()), contacts);
+    }
+
+    /**
+     * Returns the events linked to {@code contact}, or an empty list if {@code contact} is not in the graph.
+     */
+    List<Event> getLinkedEvents(Contact contact) {
+        requireNonNull(contact);
+        return getLinked(contacts.get(contact.getUuid()), events);
+    }
+
+    /**
+     * Returns the UUIDs of the contacts linked to {@code event}, or an empty set if {@code event} is not in the graph.
+     */
+    Set<UUID> getLinkedContactUuids(Event event) {
+        requireNonNull(event);
+        return getLinkedUuids(events.get(event.getUuid()));
+    }
+
+    /**
+     * Returns the UUIDs of the events linked to {@code contact}, or an empty set if {@code contact} is not in the
+     * graph.
+     */
+    Set<UUID> getLinkedEventUuids(Contact contact) {
+        requireNonNull(contact);
+        return getLinkedUuids(contacts.get(contact.getUuid()));
+    }
+
+    /**
+     * Returns the contact in the graph with the given {@code uuid}, or null if there is none.
+     */
+    Contact getContact(UUID uuid) {
+        requireNonNull(uuid);
+        Vertex<Contact> vertex = contacts.get(uuid);
+        return vertex == null ? null : vertex.entity;
+    }
+
+    /**
+     * Returns true if every contact and event linked in this graph is linked to the same events or contacts in
+     * {@code other}, and the other way round. Contacts and events without links are not compared.
+     */
+    boolean hasSameLinksAs(LinkGraph other) {
+        if (other == this) {
+            return true;
+        }
+        return isSubgraphOf(contacts, other.contacts) && isSubgraphOf(other.contacts, contacts);
+    }
+
+    private static <T> boolean isSubgraphOf(PersistentHashMap<UUID, Vertex<T>> vertices,
+            PersistentHashMap<UUID, Vertex<T>> otherVertices) {
+        boolean[] isSubgraph = {true};
+        vertices.forEach((uuid, vertex) -> {
+            if (isSubgraph[0] && vertex.links.length > 0) {
+                Vertex<T> otherVertex = otherVertices.get(uuid);
+                isSubgraph[0] = otherVertex != null && getLinkedUuids(vertex).equals(getLinkedUuids(otherVertex));
+            }
+        });
+        return isSubgraph[0];
+    }
+
+    private static <T> PersistentHashMap<UUID, Vertex<T>> withEntity(PersistentHashMap<UUID, Vertex<T>> vertices,
+            UUID uuid, T entity) {
+        Vertex<T> vertex = vertices.get(uuid);
+        if (vertex == null) {
+            return vertices.plus(uuid, new Vertex<>(entity, Vertex.NO_LINKS));
+        }
+        // reordering a list puts the same contacts or events back, which leaves the graph as it is
+        return vertex.entity == entity ? vertices : vertices.plus(uuid, vertex.withEntity(entity));
+    }
+
+    private static <T> PersistentHashMap<UUID, Vertex<T>> withoutLinksTo(PersistentHashMap<UUID, Vertex<T>> vertices,
+            UUID[] linked, UUID uuid) {
+        for (UUID linkedUuid : linked) {
+            vertices = vertices.plus(linkedUuid, vertices.get(linkedUuid).withoutLink(uuid));
+        }
+        return vertices;
+    }
+
+    private static <U> List<U> getLinked(Vertex<?> vertex, PersistentHashMap<UUID, Vertex<U>> otherVertices) {
+        if (vertex == null) {
+            return List.of();
+        }
+        List<U> linked = new ArrayList<>(vertex.links.length);
+        for (UUID linkedUuid : vertex.links) {
+            linked.add(otherVertices.get(linkedUuid).entity);
+        }
+        return linked;
+    }
+
+    private static Set<UUID> getLinkedUuids(Vertex<?> vertex) {
+        if (vertex == null || vertex.links.length == 0) {
+            return Set.of();
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(vertex.links)));
+    }
+
+    /**
+     * A contact or event in the graph, with the UUIDs of the events or contacts linked to it in the order they were
+     * linked. The array of links is never changed once the vertex is created.
+     */
+    private static class Vertex<T> {
+        private static final UUID[] NO_LINKS = new UUID[0];
+
+        private final T entity;
+        private final UUID[] links;
+
+        Vertex(T entity, UUID[] links) {
+            this.entity = entity;
+            this.links = links;
+        }
+
+        boolean isLinkedTo(UUID uuid) {
+            return indexOf(uuid) >= 0;
+        }
+
+        Vertex<T> withEntity(T newEntity) {
+            return new Vertex<>(newEntity, links);
+        }
+
+        Vertex<T> withLink(UUID uuid) {
+            UUID[] newLinks = Arrays.copyOf(links, links.length + 1);
+            newLinks[links.length] = uuid;
+            return new Vertex<>(entity, newLinks);
+        }
+
+        Vertex<T> withoutLink(UUID uuid) {
+            int index = indexOf(uuid);
+            if (index < 0) {
+                return this;
+            }
+            UUID[] newLinks = new UUID[links.length - 1];
+            System.arraycopy(links, 0, newLinks, 0, index);
+            System.arraycopy(links, index + 1, newLinks, index, links.length - index - 1);
+            return new Vertex<>(entity, newLinks);
+        }
+
+        private int indexOf(UUID uuid) {
+            for (int i = 0; i < links.length; i++) {
+                if (links[i].equals(uuid)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
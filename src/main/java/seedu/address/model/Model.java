@@ -1,15 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.common.Name;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactContainsKeywordsPredicate;
 import seedu.address.model.contact.ContactDisplaySetting;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventArchive;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
 import seedu.address.model.event.EventDisplaySetting;
 
 /**
@@ -83,6 +89,9 @@ public interface Model {
     /** Adds new state of AddressBook to its history list */
     void commitHistory();
 
+    /** Reverses the changes made to the addressBook since it was last committed to its history */
+    void discardUncommittedChanges();
+
     /** Restores the previous addressBook state from its history */
     void undoHistory();
 
@@ -135,6 +144,12 @@ public interface Model {
      */
     void updateFilteredContactList(Predicate<? super Contact> predicate);
 
+    /**
+     * Returns the names of the contacts which {@code predicate} matches, looked up in an index of the contacts
+     * instead of testing every contact against {@code predicate}.
+     */
+    Set<Name> getContactNamesMatching(ContactContainsKeywordsPredicate predicate);
+
     /**
      * This will change the order of the filtered list, marked contacts will be placed at the top of the list.
      * Places the newly marked contacts or replaces unmarked contacts
@@ -207,12 +222,39 @@ public interface Model {
      */
     void unlinkAllContactsFromEvent(Event event);
 
+    /**
+     * Returns true if {@code event} and {@code contact} are linked.
+     */
+    boolean isLinked(Event event, Contact contact);
+
+    /**
+     * Returns the contacts linked to {@code event}.
+     */
+    List<Contact> getLinkedContacts(Event event);
+
+    /**
+     * Returns the events linked to {@code contact}.
+     */
+    List<Event> getLinkedEvents(Contact contact);
+
     /**
      * Sorts the filtered event list to show all upcoming events. This will change the order of the filtered list
      * and remove any events which have concluded.
      */
     void sortUpcomingFilteredEventList();
 
+    /**
+     * Returns the events that take place at any point from {@code from} to {@code to} (both inclusive),
+     * in order of their start date and time.
+     */
+    List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the names of the events which {@code predicate} matches, looked up in an index of the events
+     * instead of testing every event against {@code predicate}.
+     */
+    Set<Name> getEventNamesMatching(EventContainsKeywordsPredicate predicate);
+
     /**
      * Updates the filter of the filtered event list to show the event at {@code index}.
      * @throws NullPointerException if {@code index} is null.
@@ -249,4 +291,34 @@ public interface Model {
      * Removes all links between contacts and events.
      */
     void removeAllLinks();
+
+    /**
+     * Returns the archive of the events moved out of the address book after they concluded.
+     */
+    EventArchive getEventArchive();
+
+    /**
+     * Moves the events which concluded before {@code time} from the address book to the archive, and returns them.
+     * The contacts linked to the archived events keep their links to them. Undoing the change moves the events back
+     * out of the archive.
+     */
+    List<Event> archiveEventsEndedBefore(LocalDateTime time);
+
+    /**
+     * Moves {@code archived} from the archive back to the address book, and returns the event restored, which is
+     * linked to the contacts still linked to it. Undoing the change moves {@code archived} back into the archive.
+     * The archive must have been read, and an event with the same name as {@code archived} must not exist in the
+     * address book.
+     */
+    Event restoreArchivedEvent(Event archived);
+
+    /**
+     * Returns the archived events found by the last search of the archive, in the order they were shown.
+     */
+    List<Event> getFoundArchivedEvents();
+
+    /**
+     * Replaces the archived events found by the last search of the archive with {@code foundArchivedEvents}.
+     */
+    void setFoundArchivedEvents(List<Event> foundArchivedEvents);
 }
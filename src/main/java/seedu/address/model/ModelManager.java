@@ -4,19 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.common.Name;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactContainsKeywordsPredicate;
 import seedu.address.model.contact.ContactDisplaySetting;
+import seedu.address.model.event.ArchivedEvent;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventArchive;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
 import seedu.address.model.event.EventDisplaySetting;
+import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.history.ModelHistory;
 
 /**
@@ -25,16 +37,19 @@ import seedu.address.model.history.ModelHistory;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final ModelHistory modelHistory = new ModelHistory();
+    private final ModelHistory modelHistory;
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Contact> filteredContacts;
     private final FilteredList<Event> filteredEvents;
 
     private ModelDisplaySetting modelDisplaySetting = new ModelDisplaySetting();
+    private EventArchive eventArchive = new EventArchive();
+    private List<Event> foundArchivedEvents = List.of();
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs. The commands which can be undone are
+     * limited by the history budgets in userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         super();
@@ -44,9 +59,10 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        modelHistory = new ModelHistory(userPrefs.getMaxUndoableCommits(), userPrefs.getMaxHistoryElements());
         filteredContacts = new FilteredList<>(this.addressBook.getContactList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
-        modelHistory.commit(addressBook, modelDisplaySetting);
+        modelHistory.commit(this.addressBook.takeDelta(), modelDisplaySetting);
     }
 
     /**
@@ -54,7 +70,7 @@ public class ModelManager implements Model {
      */
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
-        modelHistory.commit(addressBook, modelDisplaySetting);
+        modelHistory.commit(addressBook.takeDelta(), modelDisplaySetting);
     }
 
     //=========== UserPrefs ==================================================================================
@@ -135,33 +151,112 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    /**
+     * Adds {@code contacts} and {@code events} of {@code loaded}, loaded from storage after this model was created,
+     * after the existing ones, linked as they are in {@code loaded}. They are not part of the history, so adding them
+     * cannot be undone.
+     */
+    public void appendLoadedData(List<Contact> contacts, List<Event> events, ReadOnlyAddressBook loaded) {
+        addressBook.appendUnrecorded(contacts, events, loaded);
+    }
+
     //=========== Versioned AddressBook ================================================================================
 
     @Override
     public void commitHistory() {
-        modelHistory.commit(addressBook.copy(), modelDisplaySetting);
+        AddressBookDelta delta = addressBook.takeDelta();
+        if (delta.isEmpty()) {
+            // commands which only find, list or view contacts and events do not change the address book
+            modelHistory.commitDisplaySetting(modelDisplaySetting);
+        } else {
+            modelHistory.commit(delta, modelDisplaySetting);
+        }
+    }
+
+    @Override
+    public void discardUncommittedChanges() {
+        AddressBookDelta uncommitted = addressBook.takeDelta();
+        addressBook.undo(uncommitted);
+        undoArchiving(uncommitted);
+        showHistoryInstance(modelHistory.getCurrentHistoryInstance(), uncommitted);
     }
 
     @Override
     public void undoHistory() {
-        ModelHistory.HistoryInstance instance = modelHistory.undo();
-        addressBook.resetData(instance.getAddressBook());
-        addressBook.updateDataMaps();
-        modelDisplaySetting = instance.getDisplaySetting();
-        filteredContacts.setPredicate(modelDisplaySetting.getContactDisplayPredicate());
-        filteredEvents.setPredicate(modelDisplaySetting.getEventDisplayPredicate());
-        rerenderAllCards();
+        ModelHistory.HistoryInstance undone = modelHistory.undo();
+        AddressBookDelta uncommitted = addressBook.takeDelta();
+        addressBook.undo(uncommitted);
+        addressBook.undo(undone.getDelta());
+        undoArchiving(uncommitted);
+        undoArchiving(undone.getDelta());
+        showHistoryInstance(modelHistory.getCurrentHistoryInstance(), uncommitted, undone.getDelta());
     }
 
     @Override
     public void redoHistory() {
-        ModelHistory.HistoryInstance instance = modelHistory.redo();
-        addressBook.resetData(instance.getAddressBook());
-        addressBook.updateDataMaps();
+        ModelHistory.HistoryInstance redone = modelHistory.redo();
+        AddressBookDelta uncommitted = addressBook.takeDelta();
+        addressBook.undo(uncommitted);
+        addressBook.redo(redone.getDelta());
+        undoArchiving(uncommitted);
+        redoArchiving(redone.getDelta());
+        showHistoryInstance(redone, uncommitted, redone.getDelta());
+    }
+
+    /**
+     * Moves the events archived by {@code delta} back out of the archive, and the events it restored back into it.
+     */
+    private void undoArchiving(AddressBookDelta delta) {
+        if (delta.hasArchiveEdits()) {
+            delta.undoArchiving(eventArchive);
+            dropUnarchivedFoundEvents();
+        }
+    }
+
+    /**
+     * Moves the events archived by {@code delta} into the archive again, and the events it restored out of it again.
+     */
+    private void redoArchiving(AddressBookDelta delta) {
+        if (delta.hasArchiveEdits()) {
+            delta.redoArchiving(eventArchive);
+            dropUnarchivedFoundEvents();
+        }
+    }
+
+    /**
+     * Drops the events which are no longer archived from the archived events last found.
+     */
+    private void dropUnarchivedFoundEvents() {
+        foundArchivedEvents = foundArchivedEvents.stream().filter(eventArchive::contains)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Shows the address book after it has been returned to {@code instance} by reversing or making again the changes
+     * in {@code deltas}. The changed contacts and events are updated in the filtered lists as they are changed, so only
+     * the cards which show the changed contacts and events of other cards, or whose display setting has changed, are
+     * rendered again.
+     */
+    private void showHistoryInstance(ModelHistory.HistoryInstance instance, AddressBookDelta... deltas) {
+        ModelDisplaySetting previousSetting = modelDisplaySetting;
         modelDisplaySetting = instance.getDisplaySetting();
-        filteredContacts.setPredicate(modelDisplaySetting.getContactDisplayPredicate());
-        filteredEvents.setPredicate(modelDisplaySetting.getEventDisplayPredicate());
-        rerenderAllCards();
+        boolean areContactsEdited = Arrays.stream(deltas).anyMatch(AddressBookDelta::hasContactEdits);
+        boolean areEventsEdited = Arrays.stream(deltas).anyMatch(AddressBookDelta::hasEventEdits);
+        boolean areLinksEdited = Arrays.stream(deltas).anyMatch(AddressBookDelta::hasLinkEdits);
+
+        // contact cards show the events linked to them, and event cards show the contacts linked to them
+        if (areEventsEdited || areLinksEdited
+            || !previousSetting.getContactDisplaySetting().equals(modelDisplaySetting.getContactDisplaySetting())) {
+            rerenderContactCards(true);
+        } else if (filteredContacts.getPredicate() != modelDisplaySetting.getContactDisplayPredicate()) {
+            filteredContacts.setPredicate(modelDisplaySetting.getContactDisplayPredicate());
+        }
+        if (areContactsEdited || areLinksEdited
+            || !previousSetting.getEventDisplaySetting().equals(modelDisplaySetting.getEventDisplaySetting())) {
+            rerenderEventCards(true);
+        } else if (filteredEvents.getPredicate() != modelDisplaySetting.getEventDisplayPredicate()) {
+            filteredEvents.setPredicate(modelDisplaySetting.getEventDisplayPredicate());
+        }
     }
 
     @Override
@@ -242,6 +337,65 @@ public class ModelManager implements Model {
         this.addressBook.resetEvents();
     }
 
+    //=========== Event Archive ======================
+
+    /**
+     * Replaces the archive of the events moved out of the address book with {@code eventArchive}.
+     */
+    public void setEventArchive(EventArchive eventArchive) {
+        requireNonNull(eventArchive);
+        this.eventArchive = eventArchive;
+        foundArchivedEvents = List.of();
+    }
+
+    @Override
+    public EventArchive getEventArchive() {
+        return eventArchive;
+    }
+
+    @Override
+    public List<Event> archiveEventsEndedBefore(LocalDateTime time) {
+        requireNonNull(time);
+        List<Event> concluded = addressBook.getEventsEndedBefore(time);
+        if (concluded.isEmpty()) {
+            return concluded;
+        }
+        List<ArchivedEvent> archived = concluded.stream().map(addressBook::removeArchivedEvent)
+            .collect(Collectors.toList());
+        eventArchive.add(archived);
+        return concluded;
+    }
+
+    @Override
+    public Event restoreArchivedEvent(Event archived) {
+        requireNonNull(archived);
+        if (addressBook.hasEvent(archived)) {
+            throw new DuplicateEventException();
+        }
+        ArchivedEvent toRestore = eventArchive.find(archived);
+        if (toRestore == null) {
+            throw new EventNotFoundException();
+        }
+        eventArchive.remove(toRestore);
+        Event restored = addressBook.addRestoredEvent(toRestore);
+        List<Event> stillArchived = new ArrayList<>(foundArchivedEvents);
+        stillArchived.remove(archived);
+        foundArchivedEvents = List.copyOf(stillArchived);
+        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        return restored;
+    }
+
+    @Override
+    public List<Event> getFoundArchivedEvents() {
+        return foundArchivedEvents;
+    }
+
+    @Override
+    public void setFoundArchivedEvents(List<Event> foundArchivedEvents) {
+        requireNonNull(foundArchivedEvents);
+        this.foundArchivedEvents = List.copyOf(foundArchivedEvents);
+    }
+
     //=========== Filtered Contact List Accessors =====================
 
     /**
@@ -268,6 +422,12 @@ public class ModelManager implements Model {
         modelDisplaySetting = modelDisplaySetting.differentContactDisplayPredicate(predicate);
         filteredContacts.setPredicate(predicate);
     }
+    @Override
+    public Set<Name> getContactNamesMatching(ContactContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getContactNamesMatching(predicate);
+    }
+
     @Override
     public void rearrangeContactsInOrder(List<Contact> contacts, boolean isMarked) {
         addressBook.rearrangeContactsInOrder(contacts, isMarked);
@@ -295,16 +455,31 @@ public class ModelManager implements Model {
         Predicate<? super Event> currentPredicate = filteredEvents.getPredicate();
         // Remove events that have passed
         addressBook.sortEvents();
-        updateFilteredEventList(getNewPredicate(currentPredicate));
+        List<Event> upcomingEvents = addressBook.getEventsNotEndedBy(LocalDateTime.now());
+        updateFilteredEventList(getNewPredicate(currentPredicate, upcomingEvents));
     }
 
     /**
-     * Returns the new predicate for displaying only upcoming and ongoing events
+     * Returns the new predicate for displaying only the {@code upcomingEvents}, which are the upcoming and ongoing
+     * events found through the index of events by time.
      */
-    private static Predicate<? super Event> getNewPredicate(Predicate<? super Event> originalPredicate) {
+    private static Predicate<? super Event> getNewPredicate(Predicate<? super Event> originalPredicate,
+                                                            List<Event> upcomingEvents) {
+        Set<Name> upcomingEventNames = upcomingEvents.stream().map(Event::getName).collect(Collectors.toSet());
         return event -> (originalPredicate == null || originalPredicate.test(event))
-            && ((event.getEndDateAndTime() == null && event.getStartDateAndTime().isNotBeforeNow())
-            || (event.getEndDateAndTime() != null && event.getEndDateAndTime().isNotBeforeNow()));
+            && upcomingEventNames.contains(event.getName());
+    }
+
+    @Override
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getEventsBetween(from, to);
+    }
+
+    @Override
+    public Set<Name> getEventNamesMatching(EventContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.getEventNamesMatching(predicate);
     }
 
     @Override
@@ -361,6 +536,24 @@ public class ModelManager implements Model {
         addressBook.unlinkContactsFromEvent(event);
     }
 
+    @Override
+    public boolean isLinked(Event event, Contact contact) {
+        requireAllNonNull(event, contact);
+        return addressBook.isLinked(event, contact);
+    }
+
+    @Override
+    public List<Contact> getLinkedContacts(Event event) {
+        requireNonNull(event);
+        return addressBook.getLinkedContacts(event);
+    }
+
+    @Override
+    public List<Event> getLinkedEvents(Contact contact) {
+        requireNonNull(contact);
+        return addressBook.getLinkedEvents(contact);
+    }
+
     @Override
     public void rerenderContactCards(boolean useBackSamePredicate) {
         ModelHistory.HistoryInstance historyInstance = modelHistory.getCurrentHistoryInstance();
@@ -385,7 +578,6 @@ public class ModelManager implements Model {
 
     @Override
     public void removeAllLinks() {
-        filteredEvents.forEach(event -> setEvent(event, event.clearAllLinks()));
-        filteredContacts.forEach(contact -> setContact(contact, contact.clearAllLinks()));
+        addressBook.unlinkAll();
     }
 }
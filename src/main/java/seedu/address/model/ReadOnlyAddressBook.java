@@ -1,5 +1,9 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.event.Event;
@@ -20,4 +24,24 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns the UUIDs of the contacts linked to {@code event}, which is in the events list.
+     */
+    Set<UUID> getLinkedContactUuids(Event event);
+
+    /**
+     * Returns the UUIDs of the events linked to {@code contact}, which is in the contacts list.
+     */
+    Set<UUID> getLinkedEventUuids(Contact contact);
+
+    /**
+     * Returns the contacts linked to {@code event}, which is in the events list.
+     */
+    List<Contact> getLinkedContacts(Event event);
+
+    /**
+     * Returns the events linked to {@code contact}, which is in the contacts list.
+     */
+    List<Event> getLinkedEvents(Contact contact);
+
 }
@@ -13,4 +13,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    int getEventRetentionDays();
+
+    boolean isAutoArchiveEnabled();
+
+    int getMaxUndoableCommits();
+
+    long getMaxHistoryElements();
+
 }
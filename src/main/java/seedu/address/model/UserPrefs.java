@@ -1,20 +1,28 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.history.ModelHistory;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_EVENT_RETENTION_DAYS = 30;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "soconnect.json");
+    private int eventRetentionDays = DEFAULT_EVENT_RETENTION_DAYS;
+    private boolean isAutoArchiveEnabled = false;
+    private int maxUndoableCommits = ModelHistory.DEFAULT_MAX_UNDOABLE_COMMITS;
+    private long maxHistoryElements = ModelHistory.DEFAULT_MAX_KEPT_ELEMENTS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setEventRetentionDays(newUserPrefs.getEventRetentionDays());
+        setAutoArchiveEnabled(newUserPrefs.isAutoArchiveEnabled());
+        setMaxUndoableCommits(newUserPrefs.getMaxUndoableCommits());
+        setMaxHistoryElements(newUserPrefs.getMaxHistoryElements());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +68,54 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getEventRetentionDays() {
+        return eventRetentionDays;
+    }
+
+    /**
+     * Sets the number of days after which concluded events are moved to the archive.
+     */
+    public void setEventRetentionDays(int eventRetentionDays) {
+        checkArgument(eventRetentionDays >= 0, "The number of days to keep concluded events cannot be negative");
+        this.eventRetentionDays = eventRetentionDays;
+    }
+
+    public boolean isAutoArchiveEnabled() {
+        return isAutoArchiveEnabled;
+    }
+
+    /**
+     * Sets whether concluded events are moved to the archive every time the app starts.
+     */
+    public void setAutoArchiveEnabled(boolean isAutoArchiveEnabled) {
+        this.isAutoArchiveEnabled = isAutoArchiveEnabled;
+    }
+
+    public int getMaxUndoableCommits() {
+        return maxUndoableCommits;
+    }
+
+    /**
+     * Sets the number of commands which can be undone.
+     */
+    public void setMaxUndoableCommits(int maxUndoableCommits) {
+        checkArgument(maxUndoableCommits > 0, "At least one command must be able to be undone");
+        this.maxUndoableCommits = maxUndoableCommits;
+    }
+
+    public long getMaxHistoryElements() {
+        return maxHistoryElements;
+    }
+
+    /**
+     * Sets the number of contacts and events which the commands that can be undone may keep in the history, on top of
+     * those in the address book. See {@link ModelHistory} for how they are counted.
+     */
+    public void setMaxHistoryElements(long maxHistoryElements) {
+        checkArgument(maxHistoryElements >= 0, "The number of contacts and events kept cannot be negative");
+        this.maxHistoryElements = maxHistoryElements;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +128,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && eventRetentionDays == o.eventRetentionDays
+                && isAutoArchiveEnabled == o.isAutoArchiveEnabled
+                && maxUndoableCommits == o.maxUndoableCommits
+                && maxHistoryElements == o.maxHistoryElements;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, eventRetentionDays, isAutoArchiveEnabled,
+                maxUndoableCommits, maxHistoryElements);
     }
 
     @Override
@@ -81,6 +146,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nDays to keep concluded events : " + eventRetentionDays);
+        sb.append("\nArchive concluded events on start : " + isAutoArchiveEnabled);
+        sb.append("\nCommands that can be undone : " + maxUndoableCommits);
+        sb.append("\nContacts and events kept for undo : " + maxHistoryElements);
         return sb.toString();
     }
 
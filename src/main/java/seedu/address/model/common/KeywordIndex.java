@@ -0,0 +1,138 @@
+package seedu.address.model.common;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * An inverted index from the words in the fields of entities to the names of those entities, which finds the
+ * entities with a field containing any of some keywords without testing every entity.
+ * <p>
+ * Keywords are matched the same way as {@code StringUtil#containsWordIgnoreCase(String, String)} matches them.
+ * As a keyword is a single word, a field contains it exactly when one of the words of the field contains it,
+ * ignoring case. The distinct words of every field are further indexed by their trigrams, so finding the entities
+ * for a keyword of at least three characters only goes through the words sharing the rarest trigram of the keyword.
+ * Shorter keywords go through the distinct words of the field, of which there are usually far fewer than there are
+ * entities.
+ *
+ * @param <F> the type of the fields that are indexed
+ */
+public class KeywordIndex<F extends Enum<F>> {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // for every field, the lowercase words of the field mapped to the names of the entities containing them
+    private final Map<F, Map<String, Set<Name>>> namesByWordByField;
+    // for every field, the words of the field indexed by their trigrams
+    private final Map<F, TrigramIndex> trigramIndexByField;
+
+    /**
+     * Creates an empty {@code KeywordIndex} for the fields in {@code fieldType}.
+     */
+    public KeywordIndex(Class<F> fieldType) {
+        requireNonNull(fieldType);
+        namesByWordByField = new EnumMap<>(fieldType);
+        trigramIndexByField = new EnumMap<>(fieldType);
+        for (F field : fieldType.getEnumConstants()) {
+            namesByWordByField.put(field, new HashMap<>());
+            trigramIndexByField.put(field, new TrigramIndex());
+        }
+    }
+
+    /**
+     * Indexes {@code value} as a value of {@code field} of the entity named {@code name}.
+     * Does nothing if {@code value} is null, as optional fields are null when absent.
+     */
+    public void add(Name name, F field, String value) {
+        requireNonNull(name);
+        requireNonNull(field);
+        if (value == null) {
+            return;
+        }
+        Map<String, Set<Name>> namesByWord = namesByWordByField.get(field);
+        for (String word : toWords(value)) {
+            Set<Name> names = namesByWord.get(word);
+            if (names == null) {
+                names = new HashSet<>();
+                namesByWord.put(word, names);
+                trigramIndexByField.get(field).add(word);
+            }
+            names.add(name);
+        }
+    }
+
+    /**
+     * Removes {@code value} of {@code field} of the entity named {@code name} from the index.
+     * All values of an entity must be removed together, as values of the same field may share words.
+     */
+    public void remove(Name name, F field, String value) {
+        requireNonNull(name);
+        requireNonNull(field);
+        if (value == null) {
+            return;
+        }
+        Map<String, Set<Name>> namesByWord = namesByWordByField.get(field);
+        for (String word : toWords(value)) {
+            Set<Name> names = namesByWord.get(word);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                namesByWord.remove(word);
+                trigramIndexByField.get(field).remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes all entities from the index.
+     */
+    public void clear() {
+        namesByWordByField.values().forEach(Map::clear);
+        trigramIndexByField.values().forEach(TrigramIndex::clear);
+    }
+
+    /**
+     * Returns the names of the entities with {@code field} containing any of {@code keywords}, ignoring case.
+     *
+     * @param keywords cannot contain empty keywords or keywords with more than one word
+     */
+    public Set<Name> getNamesContaining(F field, List<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        Map<String, Set<Name>> namesByWord = namesByWordByField.get(field);
+        Set<Name> names = new HashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = prepKeyword(keyword);
+            if (preppedKeyword.length() >= TrigramIndex.TRIGRAM_LENGTH) {
+                for (String word : trigramIndexByField.get(field).getWordsContaining(preppedKeyword)) {
+                    names.addAll(namesByWord.get(word));
+                }
+            } else {
+                namesByWord.forEach((word, namesWithWord) -> {
+                    if (word.contains(preppedKeyword)) {
+                        names.addAll(namesWithWord);
+                    }
+                });
+            }
+        }
+        return names;
+    }
+
+    private static String prepKeyword(String keyword) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword cannot be empty");
+        checkArgument(!WHITESPACE.matcher(preppedKeyword).find(), "Keyword should be a single word");
+        return preppedKeyword;
+    }
+
+    private static String[] toWords(String value) {
+        return WHITESPACE.split(value.toLowerCase(Locale.ROOT).trim());
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.model.common;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/**
+ * An edit to a list, in which the elements {@code removed} starting at position {@code index} of the list were
+ * replaced by the elements {@code added}. Every change to a list can be described as such an edit, and the edit
+ * that reverses it is an edit of the same kind.
+ *
+ * @param <E> the type of the elements in the list
+ */
+public class ListEdit<E> {
+
+    private final int index;
+    private final List<E> removed;
+    private final List<E> added;
+
+    /**
+     * Creates an edit replacing {@code removed} at {@code index} with {@code added}.
+     * The lists must not be changed afterwards.
+     */
+    public ListEdit(int index, List<E> removed, List<E> added) {
+        requireAllNonNull(removed, added);
+        checkArgument(index >= 0, "Index of an edit cannot be negative");
+        this.index = index;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the edit which changes {@code before} into {@code after}, replacing only the elements between the
+     * longest common prefix and the longest common suffix of the lists. Elements are compared by identity, as the
+     * elements left unchanged between two versions of a list are the same objects.
+     */
+    public static <E> ListEdit<E> between(List<E> before, List<E> after) {
+        requireAllNonNull(before, after);
+        int prefix = 0;
+        Iterator<E> beforeIterator = before.iterator();
+        Iterator<E> afterIterator = after.iterator();
+        while (beforeIterator.hasNext() && afterIterator.hasNext() && beforeIterator.next() == afterIterator.next()) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        int maxSuffix = Math.min(before.size(), after.size()) - prefix;
+        ListIterator<E> beforeReverseIterator = before.listIterator(before.size());
+        ListIterator<E> afterReverseIterator = after.listIterator(after.size());
+        while (suffix < maxSuffix && beforeReverseIterator.previous() == afterReverseIterator.previous()) {
+            suffix++;
+        }
+
+        return new ListEdit<>(prefix, List.copyOf(before.subList(prefix, before.size() - suffix)),
+            List.copyOf(after.subList(prefix, after.size() - suffix)));
+    }
+
+    /**
+     * Returns an edit with the same effect as this edit, without the elements at its start and end which it removes
+     * and adds back as they are, such as when the list is reordered. Takes time proportional to the size of this edit.
+     */
+    public ListEdit<E> trimmed() {
+        ListEdit<E> trimmed = between(removed, added);
+        return trimmed.size() == size() ? this : new ListEdit<>(index + trimmed.index, trimmed.removed, trimmed.added);
+    }
+
+    /**
+     * Returns the version of {@code elements} with this edit applied.
+     * The elements removed by this edit must be at its index in {@code elements}.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentVector<E> applyTo(PersistentVector<E> elements) {
+        if (index == 0 && removed.size() == elements.size()) {
+            return added instanceof PersistentVector
+                ? (PersistentVector<E>) added // immutable, so it can be shared as it is
+                : PersistentVector.of(added);
+        }
+        PersistentVector<E> result = elements;
+        for (int i = 0; i < removed.size(); i++) {
+            result = result.minus(index);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            result = result.plus(index + i, added.get(i));
+        }
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<E> getRemoved() {
+        return removed;
+    }
+
+    public List<E> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the edit which reverses this edit.
+     */
+    public ListEdit<E> inverse() {
+        return new ListEdit<>(index, added, removed);
+    }
+
+    /**
+     * Returns the number of elements removed and added by this edit.
+     */
+    public int size() {
+        return removed.size() + added.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+        ListEdit<?> otherEdit = (ListEdit<?>) other;
+        return index == otherEdit.index
+            && removed.equals(otherEdit.removed)
+            && added.equals(otherEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "ListEdit{index=" + index + ", removed=" + removed + ", added=" + added + '}';
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.common;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A reordering of a run of consecutive elements of a list, starting at position {@code index}. Only the positions the
+ * elements are moved from are kept, rather than the elements, so it takes up much less memory than a {@code ListEdit}
+ * removing the elements and adding them back in the new order.
+ */
+public class ListPermutation {
+
+    private final int index;
+    // the position in the run before the reordering of the element at each position in the run after it
+    private final int[] sources;
+
+    /**
+     * Creates a reordering which moves the element at position {@code index + sources[i]} to {@code index + i}.
+     * {@code sources} must hold each position in the run once, and must not be changed afterwards.
+     */
+    public ListPermutation(int index, int[] sources) {
+        requireNonNull(sources);
+        checkArgument(index >= 0, "Index of a reordering cannot be negative");
+        this.index = index;
+        this.sources = sources;
+    }
+
+    /**
+     * Returns the reordering with the same effect as {@code edit}, if {@code edit} only adds back the elements it
+     * removes in another order. Elements are compared by identity, and the elements of the list must be distinct.
+     */
+    public static <E> Optional<ListPermutation> of(ListEdit<E> edit) {
+        requireNonNull(edit);
+        if (edit.getRemoved().size() != edit.getAdded().size() || edit.getRemoved().size() < 2) {
+            return Optional.empty();
+        }
+        ListEdit<E> trimmed = edit.trimmed();
+        Map<E, Integer> positions = new IdentityHashMap<>();
+        for (E element : trimmed.getRemoved()) {
+            positions.put(element, positions.size());
+        }
+        int[] sources = new int[trimmed.getAdded().size()];
+        for (int i = 0; i < sources.length; i++) {
+            Integer source = positions.remove(trimmed.getAdded().get(i));
+            if (source == null) {
+                return Optional.empty();
+            }
+            sources[i] = source;
+        }
+        return Optional.of(new ListPermutation(trimmed.getIndex(), sources));
+    }
+
+    /**
+     * Returns the edit which makes this reordering on {@code elements}, the list before the reordering.
+     * Takes time proportional to the number of elements reordered.
+     */
+    public <E> ListEdit<E> toEdit(List<E> elements) {
+        List<E> removed = List.copyOf(elements.subList(index, index + sources.length));
+        List<E> added = new ArrayList<>(sources.length);
+        for (int source : sources) {
+            added.add(removed.get(source));
+        }
+        return new ListEdit<>(index, removed, added);
+    }
+
+    /**
+     * Returns the reordering which reverses this reordering.
+     */
+    public ListPermutation inverse() {
+        int[] inverseSources = new int[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            inverseSources[sources[i]] = i;
+        }
+        return new ListPermutation(index, inverseSources);
+    }
+
+    /**
+     * Returns the position the element at position {@code i} of the run after the reordering is moved from.
+     */
+    public int getSource(int i) {
+        return sources[i];
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the number of elements in the run reordered.
+     */
+    public int size() {
+        return sources.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ListPermutation // instanceof handles nulls
+                && index == ((ListPermutation) other).index
+                && Arrays.equals(sources, ((ListPermutation) other).sources));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * index + Arrays.hashCode(sources);
+    }
+
+    @Override
+    public String toString() {
+        return "ListPermutation{index=" + index + ", sources=" + Arrays.toString(sources) + '}';
+    }
+}
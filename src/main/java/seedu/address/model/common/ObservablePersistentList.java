@@ -0,0 +1,127 @@
+package seedu.address.model.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by a {@code PersistentVector}, whose contents at any point can be kept as a
+ * snapshot in O(1) time.
+ * <p>
+ * Replacing the contents of the list with a {@code PersistentVector}, such as an earlier snapshot of the list, shares
+ * the vector instead of copying its elements.
+ * <p>
+ * Every change made to the list can be passed as a {@code ListEdit} to an edit recorder, so that the change can later
+ * be undone or redone with {@link #apply(ListEdit)}.
+ *
+ * @param <E> the type of the elements in the list
+ */
+public class ObservablePersistentList<E> extends ModifiableObservableListBase<E> {
+
+    private PersistentVector<E> elements = PersistentVector.empty();
+    private Consumer<? super ListEdit<E>> editRecorder = edit -> {};
+
+    /**
+     * Passes every later change made to the list, other than the edits applied with {@link #apply(ListEdit)},
+     * to {@code editRecorder}.
+     */
+    public void setEditRecorder(Consumer<? super ListEdit<E>> editRecorder) {
+        requireNonNull(editRecorder);
+        this.editRecorder = editRecorder;
+    }
+
+    /**
+     * Applies {@code edit} to the list, without passing it to the edit recorder.
+     * The elements removed by {@code edit} must be at its index in the list.
+     */
+    public void apply(ListEdit<E> edit) {
+        requireNonNull(edit);
+        int index = edit.getIndex();
+        List<E> removed = edit.getRemoved();
+        List<E> added = edit.getAdded();
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+
+        elements = edit.applyTo(elements);
+        beginChange();
+        nextReplace(index, index + added.size(), removed);
+        endChange();
+    }
+
+    /**
+     * Returns the current contents of the list, which are not affected by later changes to the list.
+     */
+    public PersistentVector<E> snapshot() {
+        return elements;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        requireNonNull(col);
+        PersistentVector<E> replacement = toVector(col);
+        PersistentVector<E> replaced = elements;
+        if (replaced.isEmpty() && replacement.isEmpty()) {
+            return false;
+        }
+        elements = replacement;
+        beginChange();
+        nextReplace(0, replacement.size(), replaced);
+        endChange();
+        editRecorder.accept(new ListEdit<>(0, replaced, replacement));
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(PersistentVector.empty());
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return elements.indexOf(o);
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements = elements.plus(index, element);
+        editRecorder.accept(new ListEdit<>(index, List.of(), List.of(element)));
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E replaced = elements.get(index);
+        elements = elements.with(index, element);
+        editRecorder.accept(new ListEdit<>(index, List.of(replaced), List.of(element)));
+        return replaced;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E removed = elements.get(index);
+        elements = elements.minus(index);
+        editRecorder.accept(new ListEdit<>(index, List.of(removed), List.of()));
+        return removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> PersistentVector<E> toVector(Collection<? extends E> col) {
+        return col instanceof PersistentVector
+            ? (PersistentVector<E>) col // immutable, so it can be shared as it is
+            : PersistentVector.of(col);
+    }
+}
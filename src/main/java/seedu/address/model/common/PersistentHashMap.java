@@ -0,0 +1,249 @@
+package seedu.address.model.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map which is changed by creating a new version of it, with the new version sharing all but
+ * O(log n) of its structure with the old version. Keeping an old version of the map thus takes O(1) time, and only
+ * takes up memory for the parts of the map that have changed since.
+ * <p>
+ * The entries are kept in a hash array mapped trie: each node of the trie takes five more bits of the hash of a key
+ * to pick one of up to 32 children, and only holds the children that are present, in an array as long as the number
+ * of them. Getting, putting and removing an entry thus takes O(log n) time, with the logarithm to the base 32.
+ * Keys whose hashes are the same are kept together in a node below the last level.
+ *
+ * @param <K> the type of the keys in the map, which must not be null
+ * @param <V> the type of the values in the map, which must not be null
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int COLLISION_SHIFT = 35; // below the level that takes the last bits of the hash
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty {@code PersistentHashMap}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map has no entry for it.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        requireNonNull(key);
+        int hash = hashOf(key);
+        Node node = root;
+        for (int shift = 0; node != null; shift += BITS_PER_LEVEL) {
+            if (shift >= COLLISION_SHIFT) {
+                int index = node.indexOfKey(key);
+                return index < 0 ? null : (V) ((Entry) node.slots[index]).value;
+            }
+            int bit = bitOf(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = node.slots[node.indexOf(bit)];
+            if (slot instanceof Entry) {
+                Entry entry = (Entry) slot;
+                return entry.key.equals(key) ? (V) entry.value : null;
+            }
+            node = (Node) slot;
+        }
+        return null;
+    }
+
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a version of this map with {@code key} mapped to {@code value}.
+     */
+    public PersistentHashMap<K, V> plus(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        boolean isNewKey = !containsKey(key);
+        Node newRoot = put(root, 0, new Entry(key, value, hashOf(key)));
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, isNewKey ? size + 1 : size);
+    }
+
+    /**
+     * Returns a version of this map without an entry for {@code key}.
+     */
+    public PersistentHashMap<K, V> minus(Object key) {
+        requireNonNull(key);
+        if (!containsKey(key)) {
+            return this;
+        }
+        return size == 1 ? empty() : new PersistentHashMap<>(remove(root, 0, hashOf(key), key), size - 1);
+    }
+
+    /**
+     * Performs {@code action} on every entry of the map, in no particular order.
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+        forEach(root, action);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forEach(Node node, BiConsumer<? super K, ? super V> action) {
+        if (node == null) {
+            return;
+        }
+        for (Object slot : node.slots) {
+            if (slot instanceof Entry) {
+                action.accept((K) ((Entry) slot).key, (V) ((Entry) slot).value);
+            } else {
+                forEach((Node) slot, action);
+            }
+        }
+    }
+
+    private static int hashOf(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bitOf(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    private static Node put(Node node, int shift, Entry entry) {
+        if (node == null) {
+            node = Node.EMPTY;
+        }
+        if (shift >= COLLISION_SHIFT) {
+            int index = node.indexOfKey(entry.key);
+            return index < 0 ? node.withSlotInserted(0, node.slots.length, entry) : node.withSlot(index, entry);
+        }
+
+        int bit = bitOf(entry.hash, shift);
+        int index = node.indexOf(bit);
+        if ((node.bitmap & bit) == 0) {
+            return node.withSlotInserted(bit, index, entry);
+        }
+        Object slot = node.slots[index];
+        if (slot instanceof Node) {
+            Node child = put((Node) slot, shift + BITS_PER_LEVEL, entry);
+            return child == slot ? node : node.withSlot(index, child);
+        }
+        Entry existing = (Entry) slot;
+        if (existing.key.equals(entry.key)) {
+            return existing.value == entry.value ? node : node.withSlot(index, entry);
+        }
+        // the two keys share the bits of their hashes so far, so they are told apart further down
+        Node child = put(put(null, shift + BITS_PER_LEVEL, existing), shift + BITS_PER_LEVEL, entry);
+        return node.withSlot(index, child);
+    }
+
+    /**
+     * Returns {@code node} without the entry for {@code key}, which must be in it, or null if no entries are left.
+     */
+    private static Node remove(Node node, int shift, int hash, Object key) {
+        if (shift >= COLLISION_SHIFT) {
+            return node.slots.length == 1 ? null : node.withSlotRemoved(0, node.indexOfKey(key));
+        }
+
+        int bit = bitOf(hash, shift);
+        int index = node.indexOf(bit);
+        Object slot = node.slots[index];
+        if (slot instanceof Entry) {
+            return node.slots.length == 1 ? null : node.withSlotRemoved(bit, index);
+        }
+        Node child = remove((Node) slot, shift + BITS_PER_LEVEL, hash, key);
+        if (child == null) {
+            return node.slots.length == 1 ? null : node.withSlotRemoved(bit, index);
+        }
+        if (child.slots.length == 1 && child.slots[0] instanceof Entry) {
+            return node.withSlot(index, child.slots[0]); // a lone entry moves up in place of its node
+        }
+        return node.withSlot(index, child);
+    }
+
+    private static class Entry {
+        private final Object key;
+        private final Object value;
+        private final int hash;
+
+        Entry(Object key, Object value, int hash) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * A node of the trie, whose slots hold entries or child nodes. Below the last level, the slots of a node hold the
+     * entries whose keys have the same hash, and its bitmap is unused.
+     */
+    private static class Node {
+        private static final Node EMPTY = new Node(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        Node(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        int indexOfKey(Object key) {
+            for (int i = 0; i < slots.length; i++) {
+                if (((Entry) slots[i]).key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Node withSlot(int index, Object slot) {
+            Object[] newSlots = slots.clone();
+            newSlots[index] = slot;
+            return new Node(bitmap, newSlots);
+        }
+
+        Node withSlotInserted(int bit, int index, Object slot) {
+            Object[] newSlots = new Object[slots.length + 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            newSlots[index] = slot;
+            System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+            return new Node(bitmap | bit, newSlots);
+        }
+
+        Node withSlotRemoved(int bit, int index) {
+            Object[] newSlots = Arrays.copyOf(slots, slots.length - 1);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new Node(bitmap & ~bit, newSlots);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.address.model.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list which is changed by creating a new version of it, with the new version sharing all but
+ * O(log n) of its structure with the old version. Keeping an old version of the list thus takes O(1) time, and only
+ * takes up memory for the parts of the list that have changed since.
+ * <p>
+ * The elements are kept in an AVL tree ordered by position, with every node recording the size of its subtree.
+ * Getting, replacing, inserting and removing an element at a position takes O(log n) time.
+ * The methods of {@code List} which modify the list are not supported.
+ *
+ * @param <E> the type of the elements in the list
+ */
+public final class PersistentVector<E> extends AbstractList<E> {
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node<E> root;
+
+    private PersistentVector(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty {@code PersistentVector}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentVector} with the elements of {@code elements}, in the order of its iterator.
+     * Takes O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> of(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentVector<>(build((E[]) array, 0, array.length));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a version of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentVector<E> with(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} added to the end.
+     */
+    public PersistentVector<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a version of this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentVector<E> plus(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentVector<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with the element at {@code index} removed.
+     */
+    public PersistentVector<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(delete(root, index));
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (E element : this) {
+            if (Objects.equals(o, element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof PersistentVector) {
+            PersistentVector<?> other = (PersistentVector<?>) o;
+            if (root == other.root) {
+                return true; // versions sharing their whole structure
+            }
+            if (size() != other.size()) {
+                return false;
+            }
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            // the nodes whose element and right subtree are still to be visited, with the next node on top
+            private final Deque<Node<E>> path = pushLeftSpine(new ArrayDeque<>(), root);
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftSpine(path, node.right);
+                return node.element;
+            }
+        };
+    }
+
+    private static <E> Deque<Node<E>> pushLeftSpine(Deque<Node<E>> path, Node<E> node) {
+        for (; node != null; node = node.left) {
+            path.push(node);
+        }
+        return path;
+    }
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements[mid], build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.element, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.element, node.left, replace(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.element, insert(node.left, index, element), node.right);
+        } else {
+            return balance(node.element, node.left, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> delete(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.element, delete(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.element, node.left, delete(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // the next element takes the place of the removed element
+            Node<E> next = node.right;
+            while (next.left != null) {
+                next = next.left;
+            }
+            return balance(next.element, node.left, delete(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node with {@code element} between {@code left} and {@code right}, rotated if needed so that the
+     * heights of its subtrees differ by at most one. The heights of {@code left} and {@code right} must differ by
+     * at most two.
+     */
+    private static <E> Node<E> balance(E element, Node<E> left, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+            }
+            Node<E> middle = left.right;
+            return new Node<>(middle.element, new Node<>(left.element, left.left, middle.left),
+                new Node<>(element, middle.right, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+            }
+            Node<E> middle = right.left;
+            return new Node<>(middle.element, new Node<>(element, left, middle.left),
+                new Node<>(right.element, middle.right, right.right));
+        }
+        return new Node<>(element, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node<E> {
+        private final E element;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
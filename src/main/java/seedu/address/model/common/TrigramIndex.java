@@ -0,0 +1,94 @@
+package seedu.address.model.common;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of words by the trigrams (substrings of three characters) in them, which finds the words containing
+ * a keyword without going through every word.
+ * <p>
+ * A word containing a keyword contains every trigram of the keyword, so only the words with the rarest trigram of
+ * the keyword are candidates. The candidates are then checked for the keyword itself, so the words found are exactly
+ * the words containing the keyword.
+ */
+class TrigramIndex {
+
+    static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code word} to the index.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        for (String trigram : trigramsOf(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        for (String trigram : trigramsOf(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes all words from the index.
+     */
+    void clear() {
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the words in the index which contain {@code keyword}.
+     *
+     * @param keyword must be at least {@code TRIGRAM_LENGTH} characters long
+     */
+    List<String> getWordsContaining(String keyword) {
+        requireNonNull(keyword);
+        checkArgument(keyword.length() >= TRIGRAM_LENGTH, "Keyword is shorter than a trigram");
+
+        Set<String> candidates = null;
+        for (String trigram : trigramsOf(keyword)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            if (words == null) {
+                return Collections.emptyList(); // no word contains this trigram of the keyword
+            }
+            if (candidates == null || words.size() < candidates.size()) {
+                candidates = words;
+            }
+        }
+
+        List<String> wordsContainingKeyword = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (candidate.contains(keyword)) {
+                wordsContainingKeyword.add(candidate);
+            }
+        }
+        return wordsContainingKeyword;
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= word.length(); i++) {
+            trigrams.add(word.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.util.StringUtil;
 
@@ -16,6 +17,7 @@ public class ZoomLink {
     public static final String MESSAGE_CONSTRAINTS = "Zoom link can take in any value and it should not be blank.";
 
     public static final String VALIDATION_REGEX = "^(?!\\s*$).+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String link;
 
@@ -34,7 +36,7 @@ public class ZoomLink {
      * Returns true if a given string is a valid zoom link.
      */
     public static boolean isValidZoomLink(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -49,6 +51,11 @@ public class ZoomLink {
                 && link.equals(((ZoomLink) other).link)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return link.hashCode();
+    }
+
     /**
      * Checks if this {@code link} contains any keywords in {@code strings}
      */
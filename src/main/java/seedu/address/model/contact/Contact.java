@@ -3,7 +3,6 @@ package seedu.address.model.contact;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -13,7 +12,6 @@ import java.util.UUID;
 import seedu.address.model.common.Address;
 import seedu.address.model.common.Name;
 import seedu.address.model.common.ZoomLink;
-import seedu.address.model.event.Event;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -21,9 +19,6 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Contact {
-    // stores references to all contacts, accessible by their unique UUIDs
-    private static HashMap<UUID, Contact> map = new HashMap<>();
-
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -35,7 +30,6 @@ public class Contact {
     private final Address address;
     private final ZoomLink zoomLink;
     private final Set<Tag> tags = new HashSet<>();
-    private final Set<UUID> linkedEvents = new HashSet<>();
     private final boolean isMarked;
 
     /**
@@ -58,14 +52,14 @@ public class Contact {
 
     /**
      * This constructor is for creating contact stored in storage. The contact stored in storage contains information
-     * of uuid and events linked to it, in addition to information about other fields.
+     * of uuid, in addition to information about other fields.
      * This constructor ensures that everytime the application loads the data from storage, the uuid of the contact
-     * stays the same and contains uuid of events that are linked.
+     * stays the same, so that the events linked to it in storage stay linked.
      */
     public Contact(
         Name name, Phone phone, Email email, Address address, ZoomLink zoomLink,
-        TelegramHandle telegramHandle, Set<Tag> tags, UUID uuid, Set<UUID> linkedEvents, boolean isMarked) {
-        requireAllNonNull(name, email, tags, uuid, linkedEvents);
+        TelegramHandle telegramHandle, Set<Tag> tags, UUID uuid, boolean isMarked) {
+        requireAllNonNull(name, email, tags, uuid);
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -74,32 +68,9 @@ public class Contact {
         this.telegramHandle = telegramHandle;
         this.zoomLink = zoomLink;
         this.uuid = uuid;
-        this.linkedEvents.addAll(linkedEvents);
         this.isMarked = isMarked;
     }
 
-    /**
-     * Adds the contact to the hashmap that stores references to all contacts.
-     * If the hashmap already contains the UUID of the contact as key, the value associated to the
-     * key will be replaced to the contact passed as parameter to this method.
-     *
-     * @param contact The contact to be added.
-     */
-    public static void addToMap(Contact contact) {
-        map.put(contact.getUuid(), contact);
-    }
-
-    /**
-     * Returns a contact with the unique UUID that is passed in to the method.
-     * The UUID passed as parameter MUST be a valid UUID that is stored in the hashmap as a key.
-     *
-     * @param uuid The unique identifier for a contact in the hashmap.
-     */
-    public static Contact findByUuid(UUID uuid) {
-        assert map.containsKey(uuid) : "The uuid must be valid and already in the hashmap as a key.";
-        return map.get(uuid);
-    }
-
     public Name getName() {
         return name;
     }
@@ -136,14 +107,6 @@ public class Contact {
         return Collections.unmodifiableSet(tags);
     }
 
-    /**
-     * Returns a unmodifiable set of UUIDs, each uniquely represents an event, that are linked to the contact object
-     * that calls this method.
-     */
-    public Set<UUID> getLinkedEvents() {
-        return Collections.unmodifiableSet(linkedEvents);
-    }
-
     public boolean getIsMarked() {
         return isMarked;
     }
@@ -210,56 +173,6 @@ public class Contact {
             && otherContact.getName().equals(getName());
     }
 
-    /**
-     * Checks if the contact is linked to a particular event.
-     */
-    public boolean hasLinkTo(Event event) {
-        UUID eventUuid = event.getUuid();
-        return linkedEvents.contains(eventUuid);
-    }
-
-    /**
-     * Links the event to the contact object that calls this method.
-     *
-     * @param event The event to be linked with.
-     * @return The contact that has link to the event passed in as parameter.
-     */
-    public Contact linkTo(Event event) {
-        Set<UUID> updatedLinkedEvents = new HashSet<>(linkedEvents);
-        updatedLinkedEvents.add(event.getUuid());
-        Contact updatedContact = new Contact(name, phone, email, address, zoomLink, telegramHandle, tags,
-            uuid, updatedLinkedEvents, isMarked);
-        addToMap(updatedContact); // must update the map to represent the latest changes
-        return updatedContact;
-    }
-
-    /**
-     * Removes the link between the event and the contact object that calls this method.
-     *
-     * @param event The event to be unlinked.
-     * @return The contact that has no link to the event passed in as parameter.
-     */
-    public Contact unlink(Event event) {
-        Set<UUID> updatedLinkedEvents = new HashSet<>(linkedEvents);
-        updatedLinkedEvents.remove(event.getUuid());
-        Contact updatedContact = new Contact(name, phone, email, address, zoomLink, telegramHandle, tags,
-            uuid, updatedLinkedEvents, isMarked);
-        addToMap(updatedContact);
-        return updatedContact;
-    }
-
-    /**
-     * Removes all links to the contact object that calls this method.
-     *
-     * @return The contact that has no link to any contacts.
-     */
-    public Contact clearAllLinks() {
-        Contact updatedContact = new Contact(name, phone, email, address, zoomLink, telegramHandle, tags,
-            uuid, new HashSet<>(), isMarked);
-        addToMap(updatedContact);
-        return updatedContact;
-    }
-
     /**
      * Marks contact object that calls this method.
      *
@@ -267,8 +180,7 @@ public class Contact {
      */
     public Contact markContact() {
         Contact updatedContact =
-            new Contact(name, phone, email, address, zoomLink, telegramHandle, tags, uuid, linkedEvents, true);
-        addToMap(updatedContact);
+            new Contact(name, phone, email, address, zoomLink, telegramHandle, tags, uuid, true);
         return updatedContact;
     }
 
@@ -279,8 +191,7 @@ public class Contact {
      */
     public Contact unmarkContact() {
         Contact updatedContact =
-            new Contact(name, phone, email, address, zoomLink, telegramHandle, tags, uuid, linkedEvents, false);
-        addToMap(updatedContact);
+            new Contact(name, phone, email, address, zoomLink, telegramHandle, tags, uuid, false);
         return updatedContact;
     }
 
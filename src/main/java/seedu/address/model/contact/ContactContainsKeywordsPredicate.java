@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.model.common.Name;
+import seedu.address.model.contact.ContactKeywordIndex.Field;
+
 /**
  * Tests that a {@code Contact} contains any of the keywords given.
  */
@@ -63,6 +67,21 @@ public class ContactContainsKeywordsPredicate implements Predicate<Contact> {
         this.tagKeywords = tagKeywords;
     }
 
+    /**
+     * Returns the names of the contacts in {@code index} which this predicate matches.
+     */
+    Set<Name> getMatchingNames(ContactKeywordIndex index) {
+        requireNonNull(index);
+        Set<Name> names = index.getNamesContaining(Field.NAME, nameKeywords);
+        names.addAll(index.getNamesContaining(Field.PHONE, phoneKeywords));
+        names.addAll(index.getNamesContaining(Field.EMAIL, emailKeywords));
+        names.addAll(index.getNamesContaining(Field.ADDRESS, addressKeywords));
+        names.addAll(index.getNamesContaining(Field.ZOOM_LINK, zoomLinkKeywords));
+        names.addAll(index.getNamesContaining(Field.TELEGRAM_HANDLE, telegramHandleKeywords));
+        names.addAll(index.getNamesContaining(Field.TAG, tagKeywords));
+        return names;
+    }
+
     @Override
     public boolean test(Contact contact) { // applied Law of Demeter, don't access contact fields' strings
         requireNonNull(contact);
@@ -0,0 +1,76 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import seedu.address.model.common.KeywordIndex;
+import seedu.address.model.common.Name;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the contacts in a {@code UniqueContactList} by the words in the fields that {@code cfind} searches.
+ *
+ * @see ContactContainsKeywordsPredicate
+ */
+class ContactKeywordIndex {
+
+    /**
+     * The fields of a contact that can be searched by keywords.
+     */
+    enum Field { NAME, PHONE, EMAIL, ADDRESS, TELEGRAM_HANDLE, ZOOM_LINK, TAG }
+
+    private final KeywordIndex<Field> index = new KeywordIndex<>(Field.class);
+
+    /**
+     * Adds {@code contact} to the index.
+     */
+    void add(Contact contact) {
+        requireNonNull(contact);
+        forEachValue(contact, (field, value) -> index.add(contact.getName(), field, value));
+    }
+
+    /**
+     * Removes {@code contact} from the index.
+     */
+    void remove(Contact contact) {
+        requireNonNull(contact);
+        forEachValue(contact, (field, value) -> index.remove(contact.getName(), field, value));
+    }
+
+    /**
+     * Removes all contacts from the index.
+     */
+    void clear() {
+        index.clear();
+    }
+
+    /**
+     * Returns the names of the contacts with {@code field} containing any of {@code keywords}, ignoring case.
+     */
+    Set<Name> getNamesContaining(Field field, List<String> keywords) {
+        return index.getNamesContaining(field, keywords);
+    }
+
+    private static void forEachValue(Contact contact, BiConsumer<Field, String> action) {
+        action.accept(Field.NAME, contact.getName().fullName);
+        action.accept(Field.EMAIL, contact.getEmail().value);
+        if (contact.getPhone() != null) {
+            action.accept(Field.PHONE, contact.getPhone().value);
+        }
+        if (contact.getAddress() != null) {
+            action.accept(Field.ADDRESS, contact.getAddress().value);
+        }
+        if (contact.getTelegramHandle() != null) {
+            action.accept(Field.TELEGRAM_HANDLE, contact.getTelegramHandle().handle);
+        }
+        if (contact.getZoomLink() != null) {
+            action.accept(Field.ZOOM_LINK, contact.getZoomLink().link);
+        }
+        for (Tag tag : contact.getTags()) {
+            action.accept(Field.TAG, tag.tagName);
+        }
+    }
+}
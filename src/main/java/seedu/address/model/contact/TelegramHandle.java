@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.util.StringUtil;
 
@@ -16,6 +17,7 @@ public class TelegramHandle {
      * At least 5 characters of a-z or A-Z or 0-9 or _.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}_]{5,}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * The telegram username of a contact.
@@ -43,7 +45,7 @@ public class TelegramHandle {
      * Returns true if a given string is a valid Telegram handle.
      */
     public static boolean isValidHandle(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -4,12 +4,19 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.common.ListEdit;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.ObservablePersistentList;
+import seedu.address.model.common.PersistentVector;
 import seedu.address.model.contact.exceptions.ContactNotFoundException;
 import seedu.address.model.contact.exceptions.DuplicateContactException;
 
@@ -20,22 +27,32 @@ import seedu.address.model.contact.exceptions.DuplicateContactException;
  * or updated is unique in terms of identity in the UniqueContactList. However, the removal of a contact uses
  * Contact#equals(Object) so as to ensure that the contact with exactly the same fields will be removed.
  * <p>
+ * Since the identity of a contact is its name, the list keeps an index of its contacts by {@code Name} alongside
+ * the backing list, so that identity checks do not need to scan the whole list. The contacts are also indexed by the
+ * words in their fields, so that the contacts matching some keywords can be found without scanning the whole list.
+ * <p>
+ * The backing list is a persistent list, so a snapshot of the contacts can be kept for undoing and redoing commands
+ * without copying the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Contact#isSameContact(Contact)
  */
 public class UniqueContactList implements Iterable<Contact> {
 
-    private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
+    private final ObservablePersistentList<Contact> internalList = new ObservablePersistentList<>();
     private final ObservableList<Contact> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    // contacts in internalList, keyed by the name that identifies them
+    private final Map<Name, Contact> nameIndex = new HashMap<>();
+    private final ContactKeywordIndex keywordIndex = new ContactKeywordIndex();
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -48,6 +65,8 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
         internalList.add(toAdd);
+        nameIndex.put(toAdd.getName(), toAdd);
+        keywordIndex.add(toAdd);
     }
 
     /**
@@ -58,8 +77,7 @@ public class UniqueContactList implements Iterable<Contact> {
     public void setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!isInList(target)) {
             throw new ContactNotFoundException();
         }
 
@@ -67,7 +85,11 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
-        internalList.set(index, editedContact);
+        internalList.set(internalList.indexOf(target), editedContact);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedContact.getName(), editedContact);
+        keywordIndex.remove(target);
+        keywordIndex.add(editedContact);
     }
 
     /**
@@ -76,14 +98,20 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void remove(Contact toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!isInList(toRemove)) {
             throw new ContactNotFoundException();
         }
+        internalList.remove(toRemove);
+        nameIndex.remove(toRemove.getName());
+        keywordIndex.remove(toRemove);
     }
 
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        rebuildKeywordIndex();
     }
 
     /**
@@ -92,11 +120,15 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void setContacts(List<Contact> contacts) {
         requireAllNonNull(contacts);
-        if (!contactsAreUnique(contacts)) {
+        Map<Name, Contact> replacementIndex = indexByName(contacts);
+        if (replacementIndex == null) {
             throw new DuplicateContactException();
         }
 
         internalList.setAll(contacts);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        rebuildKeywordIndex();
     }
 
     /**
@@ -104,6 +136,41 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public void resetContacts() {
         internalList.clear();
+        nameIndex.clear();
+        keywordIndex.clear();
+    }
+
+    /**
+     * Passes every later change made to the list as a {@code ListEdit} to {@code editRecorder}, other than the edits
+     * applied with {@link #apply(ListEdit)}.
+     */
+    public void setEditRecorder(Consumer<? super ListEdit<Contact>> editRecorder) {
+        internalList.setEditRecorder(editRecorder);
+    }
+
+    /**
+     * Applies {@code edit}, recorded from an earlier change to the list or reversing one, to the list.
+     * The contacts removed by {@code edit} must be at its index in the list.
+     */
+    public void apply(ListEdit<Contact> edit) {
+        requireNonNull(edit);
+        for (Contact removed : edit.getRemoved()) {
+            nameIndex.remove(removed.getName());
+            keywordIndex.remove(removed);
+        }
+        internalList.apply(edit);
+        for (Contact added : edit.getAdded()) {
+            nameIndex.put(added.getName(), added);
+            keywordIndex.add(added);
+        }
+    }
+
+    /**
+     * Returns the names of the contacts in the list which {@code predicate} matches.
+     */
+    public Set<Name> getNamesMatching(ContactContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.getMatchingNames(keywordIndex);
     }
 
     /**
@@ -122,27 +189,14 @@ public class UniqueContactList implements Iterable<Contact> {
             tempList.addAll(internalList.filtered(Contact::getIsMarked));
             tempList.addAll(internalList.filtered(c -> !c.getIsMarked()));
         }
-        internalList.clear();
-        internalList.addAll(tempList);
-    }
-
-    /**
-     * Update the UUID map in contacts.
-     */
-    public void updateContactMap() {
-        for (Contact contact : internalList) {
-            Contact.addToMap(contact);
-        }
+        internalList.setAll(tempList);
     }
 
     /**
-     * Get a copy of uniqueContactList
-     *
-     * @return a copy of a UniqueContactList
+     * Returns the contents of the list, which are not affected by later changes to the list, in O(1) time.
      */
-    public ObservableList<Contact> copy() {
-        List<Contact> contactList = new ArrayList<>(internalList);
-        return FXCollections.observableArrayList(contactList);
+    public PersistentVector<Contact> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -154,7 +208,7 @@ public class UniqueContactList implements Iterable<Contact> {
 
     @Override
     public Iterator<Contact> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator(); // removal through the iterator would bypass the name index
     }
 
     @Override
@@ -170,16 +224,28 @@ public class UniqueContactList implements Iterable<Contact> {
     }
 
     /**
-     * Returns true if {@code contacts} contains only unique contacts.
+     * Returns true if a contact equal to {@code contact} is in the list.
+     * As names are unique in the list, the only candidate is the contact indexed under the same name.
+     */
+    private boolean isInList(Contact contact) {
+        return contact.equals(nameIndex.get(contact.getName()));
+    }
+
+    private void rebuildKeywordIndex() {
+        keywordIndex.clear();
+        internalList.forEach(keywordIndex::add);
+    }
+
+    /**
+     * Returns {@code contacts} indexed by their names, or null if {@code contacts} contains duplicate contacts.
      */
-    private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Contact> indexByName(List<Contact> contacts) {
+        Map<Name, Contact> index = new HashMap<>();
+        for (Contact contact : contacts) {
+            if (index.put(contact.getName(), contact) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,56 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * An event in the {@code EventArchive}, along with the UUIDs of the contacts it was linked to when it was archived,
+ * so that it can be linked to them again when it is restored.
+ * Guarantees: immutable.
+ */
+public class ArchivedEvent {
+
+    private final Event event;
+    private final Set<UUID> linkedContacts;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ArchivedEvent(Event event, Set<UUID> linkedContacts) {
+        requireAllNonNull(event, linkedContacts);
+        this.event = event;
+        this.linkedContacts = Set.copyOf(linkedContacts);
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Returns an immutable set of the UUIDs of the contacts linked to the event when it was archived.
+     */
+    public Set<UUID> getLinkedContacts() {
+        return linkedContacts;
+    }
+
+    @Override
+    public String toString() {
+        return event.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ArchivedEvent // instanceof handles nulls
+                && event.equals(((ArchivedEvent) other).event)
+                && linkedContacts.equals(((ArchivedEvent) other).linkedContacts));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(event, linkedContacts);
+    }
+}
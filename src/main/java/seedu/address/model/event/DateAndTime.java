@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -31,7 +32,15 @@ public class DateAndTime implements Comparable<DateAndTime> {
 
     public static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm").withResolverStyle(ResolverStyle.STRICT);
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final long MIN_EPOCH_MINUTE =
+            LocalDateTime.of(0, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    private static final long MAX_EPOCH_MINUTE =
+            LocalDateTime.of(9999, 12, 31, 23, 59).toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+
     public final LocalDateTime time;
+    private String formattedTime; // formatted lazily, as most date and times are never displayed or searched
 
     /**
      * Constructs an {@code DateAndTime}
@@ -44,6 +53,16 @@ public class DateAndTime implements Comparable<DateAndTime> {
         this.time = LocalDateTime.parse(time, DATE_TIME_FORMATTER);
     }
 
+    /**
+     * Constructs a {@code DateAndTime} at the given minute since the epoch, 01-01-1970 00:00, without parsing it.
+     *
+     * @param epochMinute A minute whose year has at most 4 digits.
+     */
+    public DateAndTime(long epochMinute) {
+        checkArgument(epochMinute >= MIN_EPOCH_MINUTE && epochMinute <= MAX_EPOCH_MINUTE, MESSAGE_CONSTRAINTS);
+        this.time = LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
     /**
      * Returns true if a given string is a valid DateAndTime.
      */
@@ -56,6 +75,13 @@ public class DateAndTime implements Comparable<DateAndTime> {
         }
     }
 
+    /**
+     * Returns the minute since the epoch, 01-01-1970 00:00, of this DateAndTime.
+     */
+    public long getEpochMinute() {
+        return time.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+    }
+
     /**
      * Return LocalDateTime of a DateAndTime object
      */
@@ -78,13 +104,21 @@ public class DateAndTime implements Comparable<DateAndTime> {
                 && time.equals(((DateAndTime) other).time)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return time.hashCode();
+    }
+
     /**
      * Returns a string representing a DateAndTime object.
      * @return A string representation of a DateAndTime object.
      */
     @Override
     public String toString() {
-        return this.time.format(DATE_TIME_FORMATTER);
+        if (formattedTime == null) {
+            formattedTime = this.time.format(DATE_TIME_FORMATTER);
+        }
+        return formattedTime;
     }
 
     @Override
@@ -15,4 +15,13 @@ public class EndDateTime extends DateAndTime {
     public EndDateTime(String time) {
         super(time);
     }
+
+    /**
+     * Constructs an {@code EndDateTime} at the given minute since the epoch.
+     *
+     * @param epochMinute A valid minute since the epoch
+     */
+    public EndDateTime(long epochMinute) {
+        super(epochMinute);
+    }
 }
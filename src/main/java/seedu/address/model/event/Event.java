@@ -3,7 +3,6 @@ package seedu.address.model.event;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -13,7 +12,6 @@ import java.util.UUID;
 import seedu.address.model.common.Address;
 import seedu.address.model.common.Name;
 import seedu.address.model.common.ZoomLink;
-import seedu.address.model.contact.Contact;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -21,9 +19,6 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Event {
-    // stores references to all events, accessible by their unique UUIDs
-    private static final HashMap<UUID, Event> map = new HashMap<>();
-
     // Identity fields
     private final Name name;
     private final StartDateTime startDateAndTime;
@@ -36,7 +31,6 @@ public class Event {
     private final UUID uuid;
 
     private final Set<Tag> tags = new HashSet<>();
-    private final Set<UUID> linkedContacts = new HashSet<>();
     private final boolean isMarked;
 
     /**
@@ -59,15 +53,14 @@ public class Event {
 
     /**
      * This constructor is for creating event stored in storage. The event stored in storage contains information
-     * of uuid and contacts linked to it, in addition to information about other fields.
+     * of uuid, in addition to information about other fields.
      * This constructor ensures that everytime the application loads the data from storage, the uuid of the event
-     * stays the same and contains uuid of contacts that are linked to it.
+     * stays the same, so that the contacts linked to it in storage stay linked.
      */
     public Event(
             Name name, StartDateTime startDateAndTime, EndDateTime endDateAndTime, Description description,
-            Address address, ZoomLink zoomLink, Set<Tag> tags, UUID uuid, Set<UUID> linkedContacts,
-            boolean isMarked) {
-        requireAllNonNull(name, startDateAndTime, tags, uuid, linkedContacts);
+            Address address, ZoomLink zoomLink, Set<Tag> tags, UUID uuid, boolean isMarked) {
+        requireAllNonNull(name, startDateAndTime, tags, uuid);
         this.name = name;
         this.startDateAndTime = startDateAndTime;
         this.endDateAndTime = endDateAndTime;
@@ -76,7 +69,6 @@ public class Event {
         this.zoomLink = zoomLink;
         this.tags.addAll(tags);
         this.uuid = uuid;
-        this.linkedContacts.addAll(linkedContacts);
         this.isMarked = isMarked;
     }
 
@@ -116,14 +108,6 @@ public class Event {
         return Collections.unmodifiableSet(tags);
     }
 
-    /**
-     * Returns a unmodifiable set of UUIDs, each uniquely represents an contact, that are linked to the event object
-     * that calls this method.
-     */
-    public Set<UUID> getLinkedContacts() {
-        return Collections.unmodifiableSet(linkedContacts);
-    }
-
     public boolean getIsMarked() {
         return isMarked;
     }
@@ -189,81 +173,13 @@ public class Event {
                 && otherEvent.getName().equals(getName());
     }
 
-    /**
-     * Checks if the event is linked to a particular contact.
-     */
-    public boolean hasLinkTo(Contact contact) {
-        UUID contactUuid = contact.getUuid();
-        return linkedContacts.contains(contactUuid);
-    }
-
-    /**
-     * Links the contact to the event object that calls this method.
-     * @param contact The contact to be linked with.
-     * @return The event that has link to the contact passed in as parameter.
-     */
-    public Event linkTo(Contact contact) {
-        Set<UUID> updatedLinkedContacts = new HashSet<>(linkedContacts);
-        updatedLinkedContacts.add(contact.getUuid());
-        Event updatedEvent = new Event(name, startDateAndTime, endDateAndTime, description, address, zoomLink, tags,
-            uuid, updatedLinkedContacts, isMarked);
-        addToMap(updatedEvent); // must update the map to represent the latest changes
-        return updatedEvent;
-    }
-
-    /**
-     * Adds the event to the hashmap that stores references to all events.
-     * If the hashmap already contains the UUID of the event as key, the value associated to the
-     * key will be replaced to the event passed as parameter to this method.
-     * @param event The event to be added.
-     */
-    public static void addToMap(Event event) {
-        map.put(event.getUuid(), event);
-    }
-
-    /**
-     * Returns an event with the unique UUID that is passed in to the method.
-     * The UUID passed as parameter MUST be a valid UUID that is stored in the hashmap as a key.
-     * @param uuid The unique identifier for an event in the hashmap.
-     */
-    public static Event findByUuid(UUID uuid) {
-        assert map.containsKey(uuid) : "The uuid must be valid and already in the hashmap as a key.";
-        return map.get(uuid);
-    }
-
-    /**
-     * Removes the link between the contact and the event object that calls this method.
-     * @param contact The contact to be unlinked.
-     * @return The event that has link to the contact passed in as parameter.
-     */
-    public Event unlink(Contact contact) {
-        Set<UUID> updatedLinkedContacts = new HashSet<>(linkedContacts);
-        updatedLinkedContacts.remove(contact.getUuid());
-        Event updatedEvent = new Event(name, startDateAndTime, endDateAndTime, description, address, zoomLink, tags,
-            uuid, updatedLinkedContacts, isMarked);
-        addToMap(updatedEvent);
-        return updatedEvent;
-    }
-
-    /**
-     * Removes all links to the event object that calls this method.
-     * @return The event that has no link to any contacts.
-     */
-    public Event clearAllLinks() {
-        Event updatedEvent = new Event(name, startDateAndTime, endDateAndTime, description, address, zoomLink, tags,
-            uuid, new HashSet<>(), isMarked);
-        addToMap(updatedEvent);
-        return updatedEvent;
-    }
-
     /**
      * Marks an event object that calls this method as true.
      * @return The marked event.
      */
     public Event markEvent() {
         Event updatedEvent = new Event(name, startDateAndTime, endDateAndTime, description, address, zoomLink, tags,
-            uuid, linkedContacts, true);
-        addToMap(updatedEvent);
+            uuid, true);
         return updatedEvent;
     }
 
@@ -273,8 +189,7 @@ public class Event {
      */
     public Event unmarkEvent() {
         Event updatedEvent = new Event(name, startDateAndTime, endDateAndTime, description, address, zoomLink, tags,
-            uuid, linkedContacts, false);
-        addToMap(updatedEvent);
+            uuid, false);
         return updatedEvent;
     }
 
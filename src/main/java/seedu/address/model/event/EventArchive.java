@@ -0,0 +1,169 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+
+/**
+ * The events which have been moved out of the address book after they concluded, so that listing, sorting and
+ * finding events and building the calendar do not go through them.
+ * <p>
+ * Each archived event is kept along with the UUIDs of the contacts it was linked to, so that the links can be made
+ * again when it is restored. The archived events are kept in a store of their own, which is only read when the
+ * archived events are first needed. Events archived before then are kept aside until they are saved, so archiving
+ * events does not read the store, and events moved back out of the archive before then are only dropped from the
+ * store when it is read. Unlike the events in an address book, archived events may share a name, as an event may be
+ * archived after another event with the same name was archived.
+ */
+public class EventArchive {
+
+    private final Reader reader;
+    private final List<ArchivedEvent> unsavedEvents = new ArrayList<>(); // archived since the archive was last saved
+    private final List<ArchivedEvent> removedEvents = new ArrayList<>(); // in the store, removed before it was read
+    private List<ArchivedEvent> events; // null until the archive has been read
+    private boolean isRewriteNeeded; // true if events have been removed since the archive was last saved
+
+    /**
+     * Creates an empty archive, which is not kept in any store.
+     */
+    public EventArchive() {
+        this(List::of);
+    }
+
+    /**
+     * Creates an archive of the events in the store read by {@code reader}.
+     */
+    public EventArchive(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns true if the archived events have been read from the store.
+     */
+    public boolean isRead() {
+        return events != null;
+    }
+
+    /**
+     * Returns an unmodifiable list of the archived events, in the order they were archived. The events are read from
+     * the store the first time this is called.
+     *
+     * @throws DataConversionException if the store is not in the correct format.
+     * @throws IOException if the store could not be read.
+     */
+    public List<Event> getEvents() throws DataConversionException, IOException {
+        return getArchivedEvents().stream().map(ArchivedEvent::getEvent).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns an unmodifiable view of the archived events along with their links, in the order they were archived.
+     * The events are read from the store the first time this is called.
+     *
+     * @throws DataConversionException if the store is not in the correct format.
+     * @throws IOException if the store could not be read.
+     */
+    public List<ArchivedEvent> getArchivedEvents() throws DataConversionException, IOException {
+        if (events == null) {
+            List<ArchivedEvent> readEvents = new ArrayList<>(reader.read());
+            removedEvents.forEach(readEvents::remove);
+            readEvents.addAll(unsavedEvents);
+            events = readEvents;
+            removedEvents.clear();
+        }
+        return Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Adds {@code toArchive} to the archive.
+     */
+    public void add(List<ArchivedEvent> toArchive) {
+        requireNonNull(toArchive);
+        if (events != null) {
+            events.addAll(toArchive);
+        }
+        if (events == null || !isRewriteNeeded) {
+            unsavedEvents.addAll(toArchive); // kept aside until the archive is read if it has not been
+        }
+    }
+
+    /**
+     * Returns true if the archived events have been read and include {@code event}.
+     */
+    public boolean contains(Event event) {
+        requireNonNull(event);
+        return events != null && events.stream().anyMatch(archived -> archived.getEvent().equals(event));
+    }
+
+    /**
+     * Returns the archived event of {@code event} out of the archived events read, or out of those archived since the
+     * archive was last saved if it has not been read, or null if there is none.
+     */
+    public ArchivedEvent find(Event event) {
+        requireNonNull(event);
+        return (events != null ? events : unsavedEvents).stream()
+                .filter(archived -> archived.getEvent().equals(event))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Removes {@code toRestore} from the archive, which must contain it.
+     * If the archive has not been read, {@code toRestore} is only dropped from the store when it is read.
+     */
+    public void remove(ArchivedEvent toRestore) {
+        requireNonNull(toRestore);
+        if (events == null) {
+            if (!unsavedEvents.remove(toRestore)) {
+                removedEvents.add(toRestore);
+                isRewriteNeeded = true;
+            }
+            return;
+        }
+        if (!events.remove(toRestore)) {
+            throw new EventNotFoundException();
+        }
+        isRewriteNeeded = true;
+        unsavedEvents.clear(); // saved along with the rest of the archive
+    }
+
+    /**
+     * Returns the events archived since the archive was last saved, if they can be saved by adding them to the
+     * store. Otherwise, {@link #isRewriteNeeded()} is true.
+     */
+    public List<ArchivedEvent> getUnsavedEvents() {
+        return Collections.unmodifiableList(unsavedEvents);
+    }
+
+    /**
+     * Returns true if the store has to be written afresh with all the archived events, as events have been removed
+     * since the archive was last saved. The store is read first if it has not been.
+     */
+    public boolean isRewriteNeeded() {
+        return isRewriteNeeded;
+    }
+
+    /**
+     * Records that every change to the archive has been saved to the store.
+     */
+    public void markSaved() {
+        unsavedEvents.clear();
+        removedEvents.clear();
+        isRewriteNeeded = false;
+    }
+
+    /**
+     * Reads the archived events from a store.
+     */
+    @FunctionalInterface
+    public interface Reader {
+        List<ArchivedEvent> read() throws DataConversionException, IOException;
+    }
+}
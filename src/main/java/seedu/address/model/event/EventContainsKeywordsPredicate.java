@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.model.common.Name;
+import seedu.address.model.event.EventKeywordIndex.Field;
+
 /**
  * Tests that a {@code Event}'s {@code Name} matches any of the keywords given.
  */
@@ -58,6 +62,30 @@ public class EventContainsKeywordsPredicate implements Predicate<Event> {
         this.tagKeywords = tagKeywords;
     }
 
+    /**
+     * Returns true if there is at least one keyword to match events against.
+     */
+    public boolean hasKeywords() {
+        return !nameKeywords.isEmpty() || !startDateTimeKeywords.isEmpty() || !endDateTimeKeywords.isEmpty()
+                || !addressKeywords.isEmpty() || !descriptionKeywords.isEmpty() || !zoomLinkKeywords.isEmpty()
+                || !tagKeywords.isEmpty();
+    }
+
+    /**
+     * Returns the names of the events in {@code index} which this predicate matches.
+     */
+    Set<Name> getMatchingNames(EventKeywordIndex index) {
+        requireNonNull(index);
+        Set<Name> names = index.getNamesContaining(Field.NAME, nameKeywords);
+        names.addAll(index.getNamesContaining(Field.START_DATE_TIME, startDateTimeKeywords));
+        names.addAll(index.getNamesContaining(Field.END_DATE_TIME, endDateTimeKeywords));
+        names.addAll(index.getNamesContaining(Field.ADDRESS, addressKeywords));
+        names.addAll(index.getNamesContaining(Field.DESCRIPTION, descriptionKeywords));
+        names.addAll(index.getNamesContaining(Field.ZOOM_LINK, zoomLinkKeywords));
+        names.addAll(index.getNamesContaining(Field.TAG, tagKeywords));
+        return names;
+    }
+
     @Override
     public boolean test(Event event) {
         requireNonNull(event);
@@ -0,0 +1,76 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import seedu.address.model.common.KeywordIndex;
+import seedu.address.model.common.Name;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the events in a {@code UniqueEventList} by the words in the fields that {@code efind} searches.
+ *
+ * @see EventContainsKeywordsPredicate
+ */
+class EventKeywordIndex {
+
+    /**
+     * The fields of an event that can be searched by keywords.
+     */
+    enum Field { NAME, START_DATE_TIME, END_DATE_TIME, DESCRIPTION, ADDRESS, ZOOM_LINK, TAG }
+
+    private final KeywordIndex<Field> index = new KeywordIndex<>(Field.class);
+
+    /**
+     * Adds {@code event} to the index.
+     */
+    void add(Event event) {
+        requireNonNull(event);
+        forEachValue(event, (field, value) -> index.add(event.getName(), field, value));
+    }
+
+    /**
+     * Removes {@code event} from the index.
+     */
+    void remove(Event event) {
+        requireNonNull(event);
+        forEachValue(event, (field, value) -> index.remove(event.getName(), field, value));
+    }
+
+    /**
+     * Removes all events from the index.
+     */
+    void clear() {
+        index.clear();
+    }
+
+    /**
+     * Returns the names of the events with {@code field} containing any of {@code keywords}, ignoring case.
+     */
+    Set<Name> getNamesContaining(Field field, List<String> keywords) {
+        return index.getNamesContaining(field, keywords);
+    }
+
+    private static void forEachValue(Event event, BiConsumer<Field, String> action) {
+        action.accept(Field.NAME, event.getName().fullName);
+        action.accept(Field.START_DATE_TIME, event.getStartDateAndTime().toString());
+        if (event.getEndDateAndTime() != null) {
+            action.accept(Field.END_DATE_TIME, event.getEndDateAndTime().toString());
+        }
+        if (event.getDescription() != null) {
+            action.accept(Field.DESCRIPTION, event.getDescription().value);
+        }
+        if (event.getAddress() != null) {
+            action.accept(Field.ADDRESS, event.getAddress().value);
+        }
+        if (event.getZoomLink() != null) {
+            action.accept(Field.ZOOM_LINK, event.getZoomLink().link);
+        }
+        for (Tag tag : event.getTags()) {
+            action.accept(Field.TAG, tag.tagName);
+        }
+    }
+}
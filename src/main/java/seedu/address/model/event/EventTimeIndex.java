@@ -0,0 +1,213 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * An index of events by the period of time that they take up, which finds the events taking place within a given
+ * period without going through every event.
+ * <p>
+ * Events are kept in a treap ordered by their start date and time, with ties broken by event name, which is unique
+ * among the events of a {@code UniqueEventList}. Every node also records the latest end date and time in its subtree,
+ * so that subtrees which end before the period being searched for can be skipped. An event without an end date and
+ * time is taken to end when it starts.
+ * <p>
+ * Adding and removing an event takes O(log n) expected time, and finding the k events within a period takes
+ * O(log n + k) expected time for the periods that the application searches for.
+ */
+class EventTimeIndex {
+
+    private final Random random = new Random();
+    private Node root;
+
+    /**
+     * Adds {@code event} to the index.
+     * The index must not already contain an event with the same name and start date and time.
+     */
+    void add(Event event) {
+        requireNonNull(event);
+        root = insert(root, new Node(event, random.nextInt()));
+    }
+
+    /**
+     * Removes the event with the same name and start date and time as {@code event} from the index, if any.
+     */
+    void remove(Event event) {
+        requireNonNull(event);
+        root = delete(root, event);
+    }
+
+    /**
+     * Removes all events from the index.
+     */
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the events that take place at any point from {@code from} to {@code to} (both inclusive),
+     * in order of their start date and time.
+     */
+    List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Event> events = new ArrayList<>();
+        collect(root, from, to, events);
+        return events;
+    }
+
+    /**
+     * Returns the events which have not concluded by {@code time}, in order of their start date and time.
+     */
+    List<Event> getEventsNotEndedBy(LocalDateTime time) {
+        return getEventsBetween(time, LocalDateTime.MAX);
+    }
+
+    /**
+     * Returns the events which have concluded before {@code time}, in order of their start date and time.
+     */
+    List<Event> getEventsEndedBefore(LocalDateTime time) {
+        requireNonNull(time);
+        List<Event> events = new ArrayList<>();
+        collectEndedBefore(root, time, events);
+        return events;
+    }
+
+    private static void collect(Node node, LocalDateTime from, LocalDateTime to, List<Event> events) {
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return; // every event in this subtree has ended before the period
+        }
+        collect(node.left, from, to, events);
+        if (node.start.isAfter(to)) {
+            return; // this event and every event in the right subtree start after the period
+        }
+        if (!node.end.isBefore(from)) {
+            events.add(node.event);
+        }
+        collect(node.right, from, to, events);
+    }
+
+    private static void collectEndedBefore(Node node, LocalDateTime time, List<Event> events) {
+        if (node == null) {
+            return;
+        }
+        collectEndedBefore(node.left, time, events);
+        if (!node.start.isBefore(time)) {
+            return; // this event and every event in the right subtree have not started before the time
+        }
+        if (node.end.isBefore(time)) {
+            events.add(node.event);
+        }
+        collectEndedBefore(node.right, time, events);
+    }
+
+    private static Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (compare(toInsert.event, node.event) < 0) {
+            node.left = insert(node.left, toInsert);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, toInsert);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node delete(Node node, Event event) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(event, node.event);
+        if (comparison < 0) {
+            node.left = delete(node.left, event);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, event);
+        } else {
+            node = merge(node.left, node.right);
+        }
+        if (node != null) {
+            node.update();
+        }
+        return node;
+    }
+
+    /**
+     * Merges two treaps where every event in {@code left} comes before every event in {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        return newRoot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        return newRoot;
+    }
+
+    private static int compare(Event first, Event second) {
+        int comparison = first.getStartDateAndTime().compareTo(second.getStartDateAndTime());
+        return comparison != 0 ? comparison : first.getName().fullName.compareTo(second.getName().fullName);
+    }
+
+    private static class Node {
+        private final Event event;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final int priority;
+        private LocalDateTime maxEnd; // latest end date and time of the events in the subtree rooted at this node
+        private Node left;
+        private Node right;
+
+        Node(Event event, int priority) {
+            this.event = event;
+            this.start = event.getStartDateAndTime().getDateTime();
+            this.end = event.getEndDateAndTime() != null ? event.getEndDateAndTime().getDateTime() : start;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -14,4 +14,13 @@ public class StartDateTime extends DateAndTime {
     public StartDateTime(String time) {
         super(time);
     }
+
+    /**
+     * Constructs an {@code StartDateTime} at the given minute since the epoch.
+     *
+     * @param epochMinute A valid minute since the epoch
+     */
+    public StartDateTime(long epochMinute) {
+        super(epochMinute);
+    }
 }
@@ -3,13 +3,23 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.common.ListEdit;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.ObservablePersistentList;
+import seedu.address.model.common.PersistentVector;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.event.exceptions.InvalidDateTimeRangeException;
@@ -21,22 +31,34 @@ import seedu.address.model.event.exceptions.InvalidDateTimeRangeException;
  * unique in terms of event name in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  * <p>
+ * The list keeps the position of each of its events in an index keyed by event name, so that identity checks and
+ * locating an event to be replaced or removed do not need to scan the whole list. The events are also indexed by
+ * the period of time they take up and by the words in their fields, so that the events within a period or the events
+ * matching some keywords can be found without scanning the whole list.
+ * <p>
+ * The backing list is a persistent list, so a snapshot of the events can be kept for undoing and redoing commands
+ * without copying the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final ObservablePersistentList<Event> internalList = new ObservablePersistentList<>();
     private final ObservableList<Event> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    // position in internalList of each event, keyed by the name that identifies the event
+    private final Map<Name, Integer> positionIndex = new HashMap<>();
+    private final EventTimeIndex timeIndex = new EventTimeIndex();
+    private final EventKeywordIndex keywordIndex = new EventKeywordIndex();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return positionIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -51,7 +73,10 @@ public class UniqueEventList implements Iterable<Event> {
         if (toAdd.getEndDateAndTime() != null && toAdd.getEndDateAndTime().isBefore(toAdd.getStartDateAndTime())) {
             throw new InvalidDateTimeRangeException();
         }
+        positionIndex.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
+        timeIndex.add(toAdd);
+        keywordIndex.add(toAdd);
     }
 
     /**
@@ -62,7 +87,7 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -76,6 +101,12 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.set(index, editedEvent);
+        positionIndex.remove(target.getName());
+        positionIndex.put(editedEvent.getName(), index);
+        timeIndex.remove(target);
+        timeIndex.add(editedEvent);
+        keywordIndex.remove(target);
+        keywordIndex.add(editedEvent);
     }
 
     /**
@@ -84,14 +115,23 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        internalList.remove(index);
+        positionIndex.remove(toRemove.getName());
+        reindexFrom(index);
+        timeIndex.remove(toRemove);
+        keywordIndex.remove(toRemove);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
+        rebuildSearchIndexes();
     }
 
     /**
@@ -104,18 +144,92 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.setAll(events);
+        positionIndex.clear();
+        reindexFrom(0);
+        rebuildSearchIndexes();
     }
 
     /**
      * Sorts the events based on whether they are {@code isMarked} and {@code startDateTime}
      */
     public void sortEvents() {
-        internalList.sort(Comparator.comparing(Event::getStartDateAndTime));
-        internalList.sort(Comparator.comparing(Event::getIsMarked, Comparator.reverseOrder()));
+        List<Event> sortedEvents = new ArrayList<>(internalList);
+        sortedEvents.sort(Comparator.comparing(Event::getIsMarked, Comparator.reverseOrder())
+            .thenComparing(Event::getStartDateAndTime));
+        internalList.setAll(sortedEvents);
+        reindexFrom(0);
     }
 
     public void resetEvents() {
         internalList.clear();
+        positionIndex.clear();
+        timeIndex.clear();
+        keywordIndex.clear();
+    }
+
+    /**
+     * Returns the events that take place at any point from {@code from} to {@code to} (both inclusive),
+     * in order of their start date and time. An event without an end date and time is taken to end when it starts.
+     */
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return timeIndex.getEventsBetween(from, to);
+    }
+
+    /**
+     * Returns the upcoming and ongoing events at {@code time}, in order of their start date and time.
+     */
+    public List<Event> getEventsNotEndedBy(LocalDateTime time) {
+        requireNonNull(time);
+        return timeIndex.getEventsNotEndedBy(time);
+    }
+
+    /**
+     * Returns the events which have concluded before {@code time}, in order of their start date and time.
+     */
+    public List<Event> getEventsEndedBefore(LocalDateTime time) {
+        requireNonNull(time);
+        return timeIndex.getEventsEndedBefore(time);
+    }
+
+    /**
+     * Passes every later change made to the list as a {@code ListEdit} to {@code editRecorder}, other than the edits
+     * applied with {@link #apply(ListEdit)}.
+     */
+    public void setEditRecorder(Consumer<? super ListEdit<Event>> editRecorder) {
+        internalList.setEditRecorder(editRecorder);
+    }
+
+    /**
+     * Applies {@code edit}, recorded from an earlier change to the list or reversing one, to the list.
+     * The events removed by {@code edit} must be at its index in the list.
+     */
+    public void apply(ListEdit<Event> edit) {
+        requireNonNull(edit);
+        for (Event removed : edit.getRemoved()) {
+            positionIndex.remove(removed.getName());
+            timeIndex.remove(removed);
+            keywordIndex.remove(removed);
+        }
+        internalList.apply(edit);
+        if (edit.getRemoved().size() == edit.getAdded().size()) {
+            // no other event has moved
+            reindex(edit.getIndex(), edit.getIndex() + edit.getAdded().size());
+        } else {
+            reindexFrom(edit.getIndex());
+        }
+        for (Event added : edit.getAdded()) {
+            timeIndex.add(added);
+            keywordIndex.add(added);
+        }
+    }
+
+    /**
+     * Returns the names of the events in the list which {@code predicate} matches.
+     */
+    public Set<Name> getNamesMatching(EventContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.getMatchingNames(keywordIndex);
     }
 
     /**
@@ -134,27 +248,15 @@ public class UniqueEventList implements Iterable<Event> {
             tempList.addAll(internalList.filtered(Event::getIsMarked));
             tempList.addAll(internalList.filtered(e -> !e.getIsMarked()));
         }
-        internalList.clear();
-        internalList.addAll(tempList);
-    }
-
-    /**
-     * Update the UUID map in events.
-     */
-    public void updateEventMap() {
-        for (Event event : internalList) {
-            Event.addToMap(event);
-        }
+        internalList.setAll(tempList);
+        reindexFrom(0);
     }
 
     /**
-     * Create a copy of a uniqueEventList
-     *
-     * @return a copy of a uniqueEventList
+     * Returns the contents of the list, which are not affected by later changes to the list, in O(1) time.
      */
-    public ObservableList<Event> copy() {
-        List<Event> eventList = new ArrayList<>(internalList);
-        return FXCollections.observableArrayList(eventList);
+    public PersistentVector<Event> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -166,7 +268,7 @@ public class UniqueEventList implements Iterable<Event> {
 
     @Override
     public Iterator<Event> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator(); // removal through the iterator would bypass the position index
     }
 
     @Override
@@ -185,13 +287,47 @@ public class UniqueEventList implements Iterable<Event> {
      * Returns true if {@code events} contains only unique events.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Event event : events) {
+            if (!names.add(event.getName())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of the event equal to {@code event} in the list, or -1 if there is no such event.
+     * As names are unique in the list, the only candidate is the event at the position indexed under the same name.
+     */
+    private int positionOf(Event event) {
+        Integer position = positionIndex.get(event.getName());
+        return position != null && internalList.get(position).equals(event) ? position : -1;
+    }
+
+    private void rebuildSearchIndexes() {
+        timeIndex.clear();
+        keywordIndex.clear();
+        for (Event event : internalList) {
+            timeIndex.add(event);
+            keywordIndex.add(event);
+        }
+    }
+
+    /**
+     * Updates the indexed positions of the events from position {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        reindex(start, internalList.size());
+    }
+
+    /**
+     * Updates the indexed positions of the events from position {@code start} up to but excluding position
+     * {@code end}.
+     */
+    private void reindex(int start, int end) {
+        for (int i = start; i < end; i++) {
+            positionIndex.put(internalList.get(i).getName(), i);
+        }
+    }
 }
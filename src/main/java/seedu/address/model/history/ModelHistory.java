@@ -1,50 +1,108 @@
 package seedu.address.model.history;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ModelDisplaySetting;
-import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Stores the past history of the model manager. Meant for the undo and redo commands.
+ * <p>
+ * Each commit keeps only the changes made to the address book since the previous commit, along with the display
+ * setting at the commit. The oldest commits are forgotten once there are more undoable commits than the count budget,
+ * or once the undoable commits keep more elements than the element budget. The element budget is a count rather than
+ * a number of bytes: each contact or event kept only by the history, and not held by the address book, counts as one
+ * element, and each reordering counts as one element for every {@code AddressBookDelta.POSITIONS_PER_ELEMENT}
+ * positions it keeps (see {@link AddressBookDelta#getSize()}). The latest commit is always kept, so that it can be
+ * undone however much it keeps. Both budgets are set in the {@code UserPrefs}.
  */
 public class ModelHistory {
 
+    /** Default maximum number of commits that can be undone. */
+    public static final int DEFAULT_MAX_UNDOABLE_COMMITS = 100;
+    /** Default maximum number of elements kept by the commits that can be undone. */
+    public static final long DEFAULT_MAX_KEPT_ELEMENTS = 100_000;
+
+    // The first commit is the earliest point that can be returned to, so its changes are never undone.
     private final List<HistoryInstance> allHistory = new ArrayList<>();
+    private final int maxUndoableCommits;
+    private final long maxKeptElements;
     private int currentSize = 0; // Size of the history/Number of undo commands allowed
-    private int maxSize = 0; // The last point of redo
-    // maxSize - currentSize = Number of redo commands allowed.
+    private long keptElements = 0; // Number of elements kept by the commits after the first
 
-    public ModelHistory() {}
+    /**
+     * Creates an empty history with the default count and element budgets.
+     */
+    public ModelHistory() {
+        this(DEFAULT_MAX_UNDOABLE_COMMITS, DEFAULT_MAX_KEPT_ELEMENTS);
+    }
+
+    /**
+     * Creates an empty history in which at most {@code maxUndoableCommits} commits, keeping at most
+     * {@code maxKeptElements} elements altogether, can be undone.
+     */
+    public ModelHistory(int maxUndoableCommits, long maxKeptElements) {
+        checkArgument(maxUndoableCommits > 0, "The history must allow at least one commit to be undone");
+        checkArgument(maxKeptElements >= 0, "The number of contacts and events kept cannot be negative");
+        this.maxUndoableCommits = maxUndoableCommits;
+        this.maxKeptElements = maxKeptElements;
+    }
 
     /** Resets the history. */
     public void clearHistory() {
+        allHistory.clear();
         currentSize = 0;
-        maxSize = 0;
+        keptElements = 0;
     }
 
-    /** Adds a commit to the history, with the given {@code AddressBook} and {@code ModelDisplaySetting}. */
-    public void commit(ReadOnlyAddressBook addressBook, ModelDisplaySetting displaySetting) {
-        allHistory.add(currentSize, new HistoryInstance(addressBook, displaySetting));
+    /**
+     * Adds a commit to the history, with the given {@code AddressBookDelta} since the previous commit and the given
+     * {@code ModelDisplaySetting}. The commits which could have been redone are discarded.
+     */
+    public void commit(AddressBookDelta delta, ModelDisplaySetting displaySetting) {
+        while (allHistory.size() > currentSize) {
+            removeCommit(allHistory.size() - 1);
+        }
+        allHistory.add(new HistoryInstance(currentSize == 0 ? AddressBookDelta.EMPTY : delta, displaySetting));
+        keptElements += allHistory.get(currentSize).getDelta().getSize();
         currentSize++;
-        maxSize = currentSize;
+
+        while (currentSize - 1 > maxUndoableCommits || (currentSize > 2 && keptElements > maxKeptElements)) {
+            forgetEarliestCommit();
+        }
+    }
+
+    /**
+     * Adds a view-only commit to the history, at which only the display setting has changed to the given
+     * {@code ModelDisplaySetting}. The commit shares the address book of the previous commit, so it keeps no contacts
+     * or events. The commits which could have been redone are discarded.
+     */
+    public void commitDisplaySetting(ModelDisplaySetting displaySetting) {
+        commit(AddressBookDelta.EMPTY, displaySetting);
     }
 
-    /** Performs an undo operation to move the current pointer back one position. */
+    /**
+     * Performs an undo operation to move the current pointer back one position.
+     * Returns the commit that is undone, whose changes are to be reversed.
+     */
     public HistoryInstance undo() {
         if (!isUndoable()) {
             throw new ModelHistoryException("Trying to undo even though there is no history.");
         }
         // Moves pointer from the latest commit to the previous commit of the new state.
         currentSize--;
-        return getCurrentHistoryInstance();
+        return allHistory.get(currentSize);
     }
 
-    /** Performs a redo operation to move the current pointer forward by one position. */
+    /**
+     * Performs a redo operation to move the current pointer forward by one position.
+     * Returns the commit that is redone, whose changes are to be made again.
+     */
     public HistoryInstance redo() {
         if (!isRedoable()) {
             throw new ModelHistoryException("Trying to redo even though it is impossible.");
@@ -60,31 +118,52 @@ public class ModelHistory {
 
     /** Returns true if it is possible to perform a redo operation here. */
     public boolean isRedoable() {
-        return maxSize > currentSize;
+        return allHistory.size() > currentSize;
     }
 
     public HistoryInstance getCurrentHistoryInstance() {
         return allHistory.get(currentSize - 1);
     }
 
-    /** Encapsulates a point in history, with the address book and model display setting. */
+    private void removeCommit(int index) {
+        keptElements -= allHistory.remove(index).getDelta().getSize();
+    }
+
+    /**
+     * Forgets the earliest commit, so that the commit after it becomes the earliest point that can be returned to.
+     */
+    private void forgetEarliestCommit() {
+        removeCommit(0);
+        HistoryInstance earliest = allHistory.get(0);
+        keptElements -= earliest.getDelta().getSize();
+        allHistory.set(0, new HistoryInstance(AddressBookDelta.EMPTY, earliest.getDisplaySetting()));
+        currentSize--;
+    }
+
+    /** Encapsulates a point in history, with the changes to the address book and the model display setting. */
     public static class HistoryInstance {
         private final ModelDisplaySetting displaySetting;
-        private final ReadOnlyAddressBook addressBook;
+        private final AddressBookDelta delta;
 
         /** Creates a new instance of history. */
-        public HistoryInstance(ReadOnlyAddressBook addressBook, ModelDisplaySetting displaySetting) {
-            requireAllNonNull(displaySetting, addressBook);
+        public HistoryInstance(AddressBookDelta delta, ModelDisplaySetting displaySetting) {
+            requireAllNonNull(displaySetting, delta);
             this.displaySetting = displaySetting;
-            this.addressBook = addressBook;
+            this.delta = delta;
         }
 
         public ModelDisplaySetting getDisplaySetting() {
             return displaySetting;
         }
 
-        public ReadOnlyAddressBook getAddressBook() {
-            return addressBook;
+        /** Returns the changes made to the address book since the previous point in history. */
+        public AddressBookDelta getDelta() {
+            return delta;
+        }
+
+        /** Returns true if only the display setting has changed since the previous point in history. */
+        public boolean isViewOnly() {
+            return delta.isEmpty();
         }
 
         @Override
@@ -96,13 +175,12 @@ public class ModelHistory {
                 return false;
             }
             HistoryInstance that = (HistoryInstance) o;
-            return getDisplaySetting().equals(that.getDisplaySetting()) && getAddressBook().equals(
-                that.getAddressBook());
+            return getDisplaySetting().equals(that.getDisplaySetting()) && getDelta().equals(that.getDelta());
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(getDisplaySetting(), getAddressBook());
+            return Objects.hash(getDisplaySetting(), getDelta());
         }
     }
 
@@ -116,6 +194,6 @@ public class ModelHistory {
     }
 
     int getMaxSize() {
-        return maxSize;
+        return allHistory.size();
     }
 }
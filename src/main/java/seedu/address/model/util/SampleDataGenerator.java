@@ -0,0 +1,243 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.common.Address;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.ZoomLink;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.contact.TelegramHandle;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.EndDateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.StartDateTime;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of any number of contacts and events, e.g. to try out the app with as much data as its
+ * heaviest users have.
+ * <p>
+ * The same address book is generated every time for the same seed and settings, so that a problem found with a
+ * generated address book can be reproduced by generating it again. The contacts do not depend on the number of
+ * events generated, and the contacts and events do not depend on how they are linked.
+ */
+public class SampleDataGenerator {
+
+    public static final int DEFAULT_TAG_COUNT = 30;
+    public static final int DEFAULT_LINKS_PER_EVENT = 5;
+    public static final LocalDateTime DEFAULT_FIRST_DAY = LocalDateTime.of(2021, 1, 1, 0, 0);
+    public static final int DEFAULT_DAYS = 365;
+
+    public static final String MESSAGE_NEGATIVE_COUNT = "The number of contacts and events cannot be negative";
+    public static final String MESSAGE_INVALID_TAG_COUNT = "There must be at least one tag";
+    public static final String MESSAGE_NEGATIVE_LINKS = "The number of contacts linked to an event cannot be negative";
+    public static final String MESSAGE_INVALID_DAYS = "Events must be spread over at least one day";
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Aisha", "Marcus", "Priya", "Jun Jie", "Siti", "Ethan", "Hui Min", "Ravi", "Sarah"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Kumar", "Wong", "Rahman", "Goh", "Chua", "Nair", "Teo"};
+    private static final String[] EVENT_KINDS = {"Project meeting", "Lecture", "Tutorial", "Training", "Interview",
+        "Lunch", "Workshop", "Consultation"};
+    private static final String[] TAG_WORDS = {"friends", "colleagues", "family", "TA", "professor", "classmates",
+        "CCA", "Recurring", "Internship", "CS2103T"};
+    private static final String[] STREETS = {"Geylang Street 29", "Lorong 3 Serangoon Gardens", "Tampines Street 20",
+        "Clementi Ave 2", "Ang Mo Kio Ave 3", "Jurong West Street 41"};
+    private static final String[] VENUES = {"COM1-B1-0931", "NUS Sport Centre", "NUS UTown", "LT19", "Central Library"};
+
+    private static final double PHONE_CHANCE = 0.7;
+    private static final double ADDRESS_CHANCE = 0.6;
+    private static final double ZOOM_LINK_CHANCE = 0.3;
+    private static final double TELEGRAM_HANDLE_CHANCE = 0.5;
+    private static final double DESCRIPTION_CHANCE = 0.5;
+    private static final double MARKED_CHANCE = 0.05;
+    private static final int MAX_TAGS_OF_CONTACT = 3;
+    private static final int MAX_TAGS_OF_EVENT = 2;
+    private static final int FIRST_START_HOUR = 8;
+    private static final int HALF_HOURS_OF_STARTS = 28; // from 08:00 to 21:30
+    private static final int MAX_HALF_HOURS_OF_EVENT = 6;
+    private static final int MINUTES_PER_HALF_HOUR = 30;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private final long seed;
+    private final int contactCount;
+    private final int eventCount;
+    private int tagCount = DEFAULT_TAG_COUNT;
+    private int linksPerEvent = DEFAULT_LINKS_PER_EVENT;
+    private LocalDateTime firstDay = DEFAULT_FIRST_DAY;
+    private int days = DEFAULT_DAYS;
+
+    /**
+     * Creates a generator of address books of {@code contactCount} contacts and {@code eventCount} events, which
+     * generates the same address book for the same {@code seed}.
+     */
+    public SampleDataGenerator(long seed, int contactCount, int eventCount) {
+        checkArgument(contactCount >= 0 && eventCount >= 0, MESSAGE_NEGATIVE_COUNT);
+        this.seed = seed;
+        this.contactCount = contactCount;
+        this.eventCount = eventCount;
+    }
+
+    /**
+     * Tags the contacts and events with {@code tagCount} different tags. Some tags are used much more often than
+     * others, as in a real address book.
+     */
+    public SampleDataGenerator withTagCount(int tagCount) {
+        checkArgument(tagCount > 0, MESSAGE_INVALID_TAG_COUNT);
+        this.tagCount = tagCount;
+        return this;
+    }
+
+    /**
+     * Links each event to {@code linksPerEvent} contacts on average, from none to twice as many.
+     */
+    public SampleDataGenerator withLinksPerEvent(int linksPerEvent) {
+        checkArgument(linksPerEvent >= 0, MESSAGE_NEGATIVE_LINKS);
+        this.linksPerEvent = linksPerEvent;
+        return this;
+    }
+
+    /**
+     * Spreads the events evenly over the {@code days} days from {@code firstDay}. The events start at the hour or
+     * half hour, from 08:00 to 21:30, and last from half an hour to three hours.
+     */
+    public SampleDataGenerator withDates(LocalDateTime firstDay, int days) {
+        checkArgument(days > 0, MESSAGE_INVALID_DAYS);
+        this.firstDay = firstDay.toLocalDate().atStartOfDay();
+        this.days = days;
+        return this;
+    }
+
+    /**
+     * Returns a new address book with the contacts and events generated.
+     */
+    public AddressBook generate() {
+        List<Contact> contacts = generateContacts(new Random(seed));
+        List<Event> events = generateEvents(new Random(seed + 1));
+        List<Set<Integer>> linkedContactsOfEvents = generateLinks(new Random(seed + 2));
+
+        Map<UUID, Set<UUID>> linkedEventsOfContacts = new HashMap<>();
+        for (int i = 0; i < eventCount; i++) {
+            for (int contactIndex : linkedContactsOfEvents.get(i)) {
+                linkedEventsOfContacts.computeIfAbsent(contacts.get(contactIndex).getUuid(), unused -> new HashSet<>())
+                        .add(events.get(i).getUuid());
+            }
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setData(contacts, events, linkedEventsOfContacts);
+        return addressBook;
+    }
+
+    /**
+     * Returns the contacts, which are not linked to any events yet. The number after the name of each contact keeps
+     * the names distinct.
+     */
+    private List<Contact> generateContacts(Random random) {
+        List<Contact> contacts = new ArrayList<>(contactCount);
+        for (int i = 0; i < contactCount; i++) {
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            String handle = (firstName + "_" + lastName).replace(' ', '_').toLowerCase() + i;
+            Phone phone = random.nextDouble() < PHONE_CHANCE
+                    ? new Phone(String.valueOf(80000000 + random.nextInt(20000000)))
+                    : null;
+            Address address = random.nextDouble() < ADDRESS_CHANCE
+                    ? new Address("Blk " + (random.nextInt(999) + 1) + " " + pick(random, STREETS))
+                    : null;
+            ZoomLink zoomLink = random.nextDouble() < ZOOM_LINK_CHANCE ? generateZoomLink(random) : null;
+            TelegramHandle telegramHandle = random.nextDouble() < TELEGRAM_HANDLE_CHANCE
+                    ? new TelegramHandle(handle)
+                    : null;
+            contacts.add(new Contact(new Name(firstName + " " + lastName + " " + i), phone,
+                    new Email(handle.replace('_', '.') + "@example.com"), address, zoomLink, telegramHandle,
+                    generateTags(random, MAX_TAGS_OF_CONTACT), generateUuid(random),
+                    random.nextDouble() < MARKED_CHANCE));
+        }
+        return contacts;
+    }
+
+    /**
+     * Returns the events, which are not linked to any contacts yet. The number after the name of each event keeps the
+     * names distinct.
+     */
+    private List<Event> generateEvents(Random random) {
+        long firstEpochMinute = firstDay.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE;
+        List<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            long startEpochMinute = firstEpochMinute + (long) random.nextInt(days) * MINUTES_PER_DAY
+                    + FIRST_START_HOUR * 60 + random.nextInt(HALF_HOURS_OF_STARTS) * MINUTES_PER_HALF_HOUR;
+            long endEpochMinute = startEpochMinute
+                    + (random.nextInt(MAX_HALF_HOURS_OF_EVENT) + 1) * MINUTES_PER_HALF_HOUR;
+            String kind = pick(random, EVENT_KINDS);
+            Description description = random.nextDouble() < DESCRIPTION_CHANCE
+                    ? new Description(kind + " number " + i + " of the semester.")
+                    : null;
+            boolean isOnline = random.nextBoolean();
+            events.add(new Event(new Name(kind + " " + i), new StartDateTime(startEpochMinute),
+                    new EndDateTime(endEpochMinute), description, isOnline ? null : new Address(pick(random, VENUES)),
+                    isOnline ? generateZoomLink(random) : null, generateTags(random, MAX_TAGS_OF_EVENT),
+                    generateUuid(random), random.nextDouble() < MARKED_CHANCE));
+        }
+        return events;
+    }
+
+    /**
+     * Returns the indexes of the contacts linked to each event, in the order the events are generated.
+     */
+    private List<Set<Integer>> generateLinks(Random random) {
+        List<Set<Integer>> linkedContactsOfEvents = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            int linkCount = Math.min(random.nextInt(2 * linksPerEvent + 1), contactCount);
+            Set<Integer> linkedContacts = new LinkedHashSet<>();
+            while (linkedContacts.size() < linkCount) {
+                linkedContacts.add(random.nextInt(contactCount));
+            }
+            linkedContactsOfEvents.add(linkedContacts);
+        }
+        return linkedContactsOfEvents;
+    }
+
+    /**
+     * Returns up to {@code maxTags} tags. The tags are picked with a skew towards the first tags, so the first tags
+     * are much more common than the last.
+     */
+    private Set<Tag> generateTags(Random random, int maxTags) {
+        int tagsToPick = random.nextInt(maxTags + 1);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagsToPick; i++) {
+            double skewed = random.nextDouble() * random.nextDouble();
+            int tagIndex = (int) (skewed * tagCount);
+            int round = tagIndex / TAG_WORDS.length;
+            tags.add(new Tag(TAG_WORDS[tagIndex % TAG_WORDS.length] + (round == 0 ? "" : String.valueOf(round))));
+        }
+        return tags;
+    }
+
+    private static ZoomLink generateZoomLink(Random random) {
+        return new ZoomLink("nus-sg.zoom.us/j/" + (10_000_000_000L + (random.nextLong() >>> 1) % 90_000_000_000L));
+    }
+
+    private static UUID generateUuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private static String pick(Random random, String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
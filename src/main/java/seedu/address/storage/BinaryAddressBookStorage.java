@@ -0,0 +1,397 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.common.Address;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.ZoomLink;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.contact.TelegramHandle;
+import seedu.address.model.event.DateAndTime;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.EndDateTime;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.StartDateTime;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk, which loads faster than the
+ * json file as no text has to be parsed apart from the strings themselves.
+ * <p>
+ * The file starts with a magic number and the version of its format, followed by the contacts and then the events,
+ * each list prefixed by its size, and ends with the CRC32 checksum of all that comes before it. Strings are written
+ * as their length in bytes followed by their UTF-8 bytes, with a length of -1 for an absent optional field. UUIDs are
+ * written as two longs, and dates and times as the minute since the epoch.
+ * <p>
+ * Files are written atomically, and can be converted to and from json files with {@link #convertFromJson(Path, Path)}
+ * and {@link #convertToJson(Path, Path)}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** File extension of the data files which are stored in the binary format. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final int MAGIC = 0x534F4342; // "SOCB"
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Not a binary address book file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book file is corrupted";
+    static final String MESSAGE_MISSING_FIELD = "Binary address book file is missing a compulsory field";
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int ABSENT = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} is the path of a data file stored in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link AddressBookStorage#saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, outputStream -> write(addressBook, outputStream));
+    }
+
+    /**
+     * Converts the address book in the json file at {@code jsonFilePath}, along with its journal, into a binary file
+     * at {@code filePath}.
+     *
+     * @throws DataConversionException if the json file is not in the correct format.
+     * @throws IOException if the json file is not found, or the binary file cannot be written.
+     */
+    public static void convertFromJson(Path jsonFilePath, Path filePath) throws DataConversionException, IOException {
+        ReadOnlyAddressBook addressBook = new JournaledAddressBookStorage(jsonFilePath).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(jsonFilePath.toString()));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the address book in the binary file at {@code filePath} into a json file at {@code jsonFilePath}.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format.
+     * @throws IOException if the binary file is not found, or the json file cannot be written.
+     */
+    public static void convertToJson(Path filePath, Path jsonFilePath) throws DataConversionException, IOException {
+        ReadOnlyAddressBook addressBook = new BinaryAddressBookStorage(filePath).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(filePath.toString()));
+        new JournaledAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+    }
+
+    //// reading
+
+    /**
+     * Reads the address book in {@code filePath}, which is read into memory with a single bulk read.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + CHECKSUM_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // reads until the whole file is in the buffer
+            }
+            buffer.flip();
+        }
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(buffer.limit() - CHECKSUM_SIZE));
+        if ((int) checksum.getValue() != buffer.getInt(buffer.limit() - CHECKSUM_SIZE)) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        buffer.limit(buffer.limit() - CHECKSUM_SIZE);
+
+        try {
+            return new Reader(buffer).readAddressBook();
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage() != null ? e.getMessage() : MESSAGE_CHECKSUM_MISMATCH, e);
+        }
+    }
+
+    /**
+     * Reads the fields of an address book from a buffer, one after another.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private final Map<UUID, Set<UUID>> contactLinks = new HashMap<>();
+        private final Map<UUID, Set<UUID>> eventLinks = new HashMap<>();
+        private byte[] bytes = new byte[64]; // reused for every string, and grown for longer strings
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        AddressBook readAddressBook() throws IllegalValueException {
+            List<Contact> contacts = new ArrayList<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                contacts.add(readContact());
+            }
+            List<Event> events = new ArrayList<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                events.add(readEvent());
+            }
+            return JsonAddressBookCodec.toAddressBook(contacts, events, contactLinks, eventLinks);
+        }
+
+        Contact readContact() throws IllegalValueException {
+            Name name = new Name(readString());
+            Phone phone = readOptional(Phone::new);
+            Email email = new Email(readString());
+            Address address = readOptional(Address::new);
+            TelegramHandle telegramHandle = readOptional(TelegramHandle::new);
+            ZoomLink zoomLink = readOptional(ZoomLink::new);
+            Set<Tag> tags = readTags();
+            UUID uuid = readUuid();
+            readLinks(uuid, contactLinks);
+            boolean isMarked = buffer.get() != 0;
+            return new Contact(name, phone, email, address, zoomLink, telegramHandle, tags, uuid, isMarked);
+        }
+
+        Event readEvent() throws IllegalValueException {
+            Name name = new Name(readString());
+            StartDateTime start = new StartDateTime(buffer.getLong());
+            EndDateTime end = buffer.get() != 0 ? new EndDateTime(buffer.getLong()) : null;
+            Description description = readOptional(Description::new);
+            Address address = readOptional(Address::new);
+            ZoomLink zoomLink = readOptional(ZoomLink::new);
+            Set<Tag> tags = readTags();
+            UUID uuid = readUuid();
+            readLinks(uuid, eventLinks);
+            boolean isMarked = buffer.get() != 0;
+            return new Event(name, start, end, description, address, zoomLink, tags, uuid, isMarked);
+        }
+
+        private String readString() throws IllegalValueException {
+            String string = readOptional(Function.identity());
+            if (string == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_FIELD);
+            }
+            return string;
+        }
+
+        private <T> T readOptional(Function<String, T> constructor) {
+            int length = buffer.getInt();
+            if (length == ABSENT) {
+                return null;
+            }
+            if (length < 0 || length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, 2 * bytes.length)];
+            }
+            buffer.get(bytes, 0, length);
+            return constructor.apply(new String(bytes, 0, length, UTF_8));
+        }
+
+        private Set<Tag> readTags() throws IllegalValueException {
+            Set<Tag> tags = new HashSet<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                tags.add(new Tag(readString()));
+            }
+            return tags;
+        }
+
+        private UUID readUuid() {
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+
+        /**
+         * Reads the UUIDs linked to the contact or event with {@code uuid} into {@code links}.
+         */
+        private void readLinks(UUID uuid, Map<UUID, Set<UUID>> links) {
+            Set<UUID> uuids = new HashSet<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                uuids.add(readUuid());
+            }
+            if (!uuids.isEmpty()) {
+                links.put(uuid, uuids);
+            }
+        }
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code addressBook} to {@code outputStream}, which is flushed but not closed.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream outputStream) throws IOException {
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(
+                new BufferedOutputStream(new CheckedOutputStream(outputStream, checksum)));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(addressBook.getContactList().size());
+        for (Contact contact : addressBook.getContactList()) {
+            writeContact(data, contact, addressBook.getLinkedEventUuids(contact));
+        }
+        data.writeInt(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            writeEvent(data, event, addressBook.getLinkedContactUuids(event));
+        }
+        data.flush();
+
+        DataOutputStream trailer = new DataOutputStream(outputStream);
+        trailer.writeInt((int) checksum.getValue());
+        trailer.flush();
+    }
+
+    private static void writeContact(DataOutputStream data, Contact contact, Set<UUID> linkedEvents)
+            throws IOException {
+        writeString(data, contact.getName().fullName);
+        writeString(data, contact.getPhone() != null ? contact.getPhone().value : null);
+        writeString(data, contact.getEmail().value);
+        writeString(data, contact.getAddress() != null ? contact.getAddress().value : null);
+        writeString(data, contact.getTelegramHandle() != null ? contact.getTelegramHandle().handle : null);
+        writeString(data, contact.getZoomLink() != null ? contact.getZoomLink().link : null);
+        writeTags(data, contact.getTags());
+        writeUuid(data, contact.getUuid());
+        writeUuids(data, linkedEvents);
+        data.writeBoolean(contact.getIsMarked());
+    }
+
+    private static void writeEvent(DataOutputStream data, Event event, Set<UUID> linkedContacts) throws IOException {
+        writeString(data, event.getName().fullName);
+        data.writeLong(event.getStartDateAndTime().getEpochMinute());
+        DateAndTime end = event.getEndDateAndTime();
+        data.writeBoolean(end != null);
+        if (end != null) {
+            data.writeLong(end.getEpochMinute());
+        }
+        writeString(data, event.getDescription() != null ? event.getDescription().value : null);
+        writeString(data, event.getAddress() != null ? event.getAddress().value : null);
+        writeString(data, event.getZoomLink() != null ? event.getZoomLink().link : null);
+        writeTags(data, event.getTags());
+        writeUuid(data, event.getUuid());
+        writeUuids(data, linkedContacts);
+        data.writeBoolean(event.getIsMarked());
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        if (string == null) {
+            data.writeInt(ABSENT);
+            return;
+        }
+        byte[] bytes = string.getBytes(UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static void writeTags(DataOutputStream data, Set<Tag> tags) throws IOException {
+        data.writeInt(tags.size());
+        for (Tag tag : tags) {
+            writeString(data, tag.tagName);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream data, UUID uuid) throws IOException {
+        data.writeLong(uuid.getMostSignificantBits());
+        data.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static void writeUuids(DataOutputStream data, Set<UUID> uuids) throws IOException {
+        data.writeInt(uuids.size());
+        for (UUID uuid : uuids) {
+            writeUuid(data, uuid);
+        }
+    }
+}
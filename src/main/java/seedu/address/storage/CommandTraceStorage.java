@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.commons.core.CommandTrace;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to write and read a trace of the commands executed in a session, stored as a compact binary file on the
+ * hard disk along with a snapshot of the address book the session started with.
+ * <p>
+ * The trace file starts with a magic number, the version of its format, the time the trace started and the name of
+ * the data file of the session, followed by one record per command. Each record has the nanoseconds from the start of
+ * the trace to the start of the command, the command text as its length in bytes followed by its UTF-8 bytes, whether
+ * the command succeeded, the nanoseconds each phase of it took in the order of {@link Phase}, and the fingerprint of
+ * the model after it. Records are flushed as soon as they are appended, so a crash loses at most the record being
+ * written, and a partly written last record is ignored when the trace is read.
+ * <p>
+ * The snapshot is written in the format of {@link BinaryAddressBookStorage}, next to the trace file.
+ */
+public class CommandTraceStorage implements Closeable {
+
+    static final String SNAPSHOT_FILE_SUFFIX = ".snapshot.bin";
+    static final int MAGIC = 0x534F4354; // "SOCT"
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_TRACE = "Not a command trace file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported command trace version: %d";
+    static final String MESSAGE_MISSING_SNAPSHOT = "The snapshot of the address book the trace started with is missing";
+
+    private static final int MAX_COMMAND_BYTES = 1 << 20;
+
+    private final Path filePath;
+    private DataOutputStream output; // null until the trace is started
+
+    public CommandTraceStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getTraceFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the snapshot of the address book which the trace at {@code traceFilePath} started with.
+     */
+    public static Path getSnapshotFilePath(Path traceFilePath) {
+        return traceFilePath.resolveSibling(traceFilePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    /**
+     * Starts a new trace, replacing any trace in the file, which starts with {@code snapshot} at
+     * {@code startEpochMilli} in a session whose data file is named {@code dataFileName}.
+     */
+    public void start(ReadOnlyAddressBook snapshot, String dataFileName, long startEpochMilli) throws IOException {
+        requireNonNull(snapshot);
+        requireNonNull(dataFileName);
+        close();
+        new BinaryAddressBookStorage(getSnapshotFilePath(filePath)).saveAddressBook(snapshot);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        output = new DataOutputStream(new BufferedOutputStream(FileUtil.newOutputStream(filePath)));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(startEpochMilli);
+        writeString(output, dataFileName);
+        output.flush();
+    }
+
+    /**
+     * Returns true if the trace has been started and not yet closed.
+     */
+    public boolean isStarted() {
+        return output != null;
+    }
+
+    /**
+     * Appends {@code trace} to the trace started, and flushes it to the file.
+     */
+    public void append(CommandTrace trace) throws IOException {
+        requireNonNull(trace);
+        if (output == null) {
+            throw new IllegalStateException("The trace has not been started");
+        }
+        output.writeLong(trace.getStartNanos());
+        writeString(output, trace.getCommandText());
+        output.writeBoolean(trace.isSuccessful());
+        for (Phase phase : Phase.values()) {
+            output.writeLong(trace.getNanos(phase));
+        }
+        output.writeLong(trace.getFingerprint());
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (output != null) {
+            DataOutputStream closed = output;
+            output = null;
+            closed.close();
+        }
+    }
+
+    /**
+     * Returns the trace in the file at {@code filePath}, along with the snapshot it started with.
+     *
+     * @throws DataConversionException if either file is missing or is not in the correct format.
+     * @throws IOException if either file cannot be read.
+     */
+    public static Trace read(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> snapshot =
+                new BinaryAddressBookStorage(getSnapshotFilePath(filePath)).readAddressBook();
+        if (!snapshot.isPresent()) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_MISSING_SNAPSHOT));
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            long startEpochMilli;
+            String dataFileName;
+            try {
+                if (input.readInt() != MAGIC) {
+                    throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_TRACE));
+                }
+                int version = input.readInt();
+                if (version != VERSION) {
+                    throw new DataConversionException(new IllegalValueException(
+                            String.format(MESSAGE_UNSUPPORTED_VERSION, version)));
+                }
+                startEpochMilli = input.readLong();
+                dataFileName = readString(input);
+            } catch (EOFException e) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_TRACE));
+            }
+
+            List<CommandTrace> commands = new ArrayList<>();
+            try {
+                while (true) {
+                    commands.add(readCommand(input));
+                }
+            } catch (EOFException e) {
+                // the end of the trace, or of a record partly written by a crash
+            }
+            return new Trace(snapshot.get(), dataFileName, startEpochMilli, commands);
+        }
+    }
+
+    private static CommandTrace readCommand(DataInputStream input) throws IOException, DataConversionException {
+        long startNanos = input.readLong();
+        String commandText = readString(input);
+        boolean isSuccessful = input.readBoolean();
+        Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseNanos.put(phase, input.readLong());
+        }
+        long fingerprint = input.readLong();
+        return new CommandTrace(commandText, startNanos, phaseNanos, isSuccessful, fingerprint);
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException, DataConversionException {
+        int length = data.readInt();
+        if (length < 0 || length > MAX_COMMAND_BYTES) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_NOT_TRACE));
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * A trace read from a file, with the snapshot of the address book it started with.
+     */
+    public static class Trace {
+        private final ReadOnlyAddressBook snapshot;
+        private final String dataFileName;
+        private final long startEpochMilli;
+        private final List<CommandTrace> commands;
+
+        Trace(ReadOnlyAddressBook snapshot, String dataFileName, long startEpochMilli, List<CommandTrace> commands) {
+            this.snapshot = snapshot;
+            this.dataFileName = dataFileName;
+            this.startEpochMilli = startEpochMilli;
+            this.commands = Collections.unmodifiableList(commands);
+        }
+
+        public ReadOnlyAddressBook getSnapshot() {
+            return snapshot;
+        }
+
+        public String getDataFileName() {
+            return dataFileName;
+        }
+
+        public long getStartEpochMilli() {
+            return startEpochMilli;
+        }
+
+        /**
+         * Returns the commands in the trace, in the order they were executed.
+         */
+        public List<CommandTrace> getCommands() {
+            return commands;
+        }
+    }
+}
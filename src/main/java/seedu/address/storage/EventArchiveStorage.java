@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.EventArchive;
+
+/**
+ * Represents a storage for {@link EventArchive}.
+ */
+public interface EventArchiveStorage {
+
+    /**
+     * Returns the file path of the archive file.
+     */
+    Path getEventArchiveFilePath();
+
+    /**
+     * Returns the archived events, in the order they were archived.
+     *   Returns an empty list if the archive file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<ArchivedEvent> readEventArchive() throws DataConversionException, IOException;
+
+    /**
+     * Saves the changes made to the given {@link EventArchive} since it was last saved, and marks it as saved.
+     * @param eventArchive cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveEventArchive(EventArchive eventArchive) throws IOException;
+
+}
@@ -0,0 +1,246 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.common.PersistentVector;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json checkpoint file, along with a journal of the
+ * changes saved since the checkpoint.
+ * <p>
+ * Saving an address book to the data file appends the changes made since the last save to the journal as a single
+ * line, which is forced to the disk. The changes are those recorded by the address book as they were made, including
+ * the links made or removed, so they are found without comparing the address book with the one last saved. An address
+ * book whose contents were replaced since the last save, or which was not the one last saved, is written as a new
+ * checkpoint. Once the journal has {@code maxJournalEntries} entries, or the changes are as
+ * large as the address book, a new checkpoint is written instead and the journal is started afresh. Checkpoints and
+ * new journals are written to a temporary file which is forced to the disk and then renamed over the old file, so a
+ * crash leaves either the old or the new file in place and never a partly written one.
+ * <p>
+ * Reading the data file makes the changes in the journal on top of the checkpoint. The journal starts with the
+ * checksum of the checkpoint it follows, so that a journal left behind by a crash right after a new checkpoint is
+ * ignored. A partly appended last entry, left behind by a crash during a save, is ignored too.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 100;
+
+    static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int maxJournalEntries;
+
+    // The address book last read from or saved to filePath, or null if the files at filePath are not known to hold it
+    private ReadOnlyAddressBook lastSaved;
+    private int journalEntries;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_JOURNAL_ENTRIES);
+    }
+
+    /**
+     * Creates a storage whose journal has at most {@code maxJournalEntries} entries before a new checkpoint is written.
+     */
+    public JournaledAddressBookStorage(Path filePath, int maxJournalEntries) {
+        requireNonNull(filePath);
+        checkArgument(maxJournalEntries >= 0, "The number of journal entries cannot be negative");
+        this.filePath = filePath;
+        this.maxJournalEntries = maxJournalEntries;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            AddressBook checkpoint = JsonAddressBookCodec.read(filePath);
+            Path journalPath = journalPathOf(filePath);
+            List<String> journal = Files.exists(journalPath) ? Files.readAllLines(journalPath, UTF_8) : List.of();
+            if (!journal.isEmpty() && !journal.get(0).equals(Long.toString(checksumOf(filePath)))) {
+                logger.info("Ignoring journal " + journalPath + " of an earlier checkpoint");
+                journal = List.of();
+            }
+
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+            boolean hasPartialEntry = false;
+            for (int i = 1; i < journal.size(); i++) {
+                try {
+                    entries.add(JsonUtil.fromJsonString(journal.get(i), JsonAdaptedJournalEntry.class));
+                } catch (IOException e) {
+                    if (i < journal.size() - 1) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring partly written last entry of journal " + journalPath);
+                    hasPartialEntry = true;
+                }
+            }
+
+            AddressBook addressBook = entries.isEmpty() ? checkpoint : replay(checkpoint, entries);
+            if (filePath.equals(this.filePath)) {
+                lastSaved = addressBook.snapshot();
+                // a new journal is started at the next save, rather than appending after the partly written entry
+                journalEntries = hasPartialEntry ? maxJournalEntries : entries.size();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link AddressBookStorage#saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage has a journal, so the address book is saved to any other file as a new
+     * checkpoint.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = AddressBook.snapshotOf(addressBook);
+        if (!filePath.equals(this.filePath)) {
+            writeCheckpoint(snapshot, filePath);
+            Files.deleteIfExists(journalPathOf(filePath));
+            return;
+        }
+
+        ReadOnlyAddressBook previous = lastSaved;
+        lastSaved = null; // unknown until the save succeeds
+        Optional<AddressBookDelta> delta = previous == null ? Optional.empty()
+            : AddressBook.deltaBetween(previous, snapshot);
+        if (delta.isPresent() && journalEntries < maxJournalEntries) {
+            JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(delta.get(), snapshot);
+            if (entry.getAddedSize() < snapshot.getContactList().size() + snapshot.getEventList().size()) {
+                if (!entry.isEmpty()) {
+                    appendToJournal(entry);
+                    journalEntries++;
+                }
+                lastSaved = snapshot;
+                return;
+            }
+        }
+
+        long checksum = writeCheckpoint(snapshot, filePath);
+        byte[] journalHeader = (checksum + "\n").getBytes(UTF_8);
+        FileUtil.writeAtomically(journalPathOf(filePath), outputStream -> outputStream.write(journalHeader));
+        journalEntries = 0;
+        lastSaved = snapshot;
+    }
+
+    private void appendToJournal(JsonAdaptedJournalEntry entry) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap((JsonUtil.toJsonLine(entry) + "\n").getBytes(UTF_8));
+        try (FileChannel journal = FileChannel.open(journalPathOf(filePath), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            FileUtil.writeFully(journal, line);
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} as a checkpoint, and returns the checksum of the file written.
+     */
+    private static long writeCheckpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomically(filePath, outputStream ->
+            JsonAddressBookCodec.write(addressBook, new CheckedOutputStream(outputStream, checksum)));
+        return checksum.getValue();
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            for (int read = inputStream.read(buffer); read != -1; read = inputStream.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns the address book with the changes in {@code entries} made on top of {@code checkpoint}, including the
+     * links made or removed.
+     */
+    private static AddressBook replay(ReadOnlyAddressBook checkpoint, List<JsonAdaptedJournalEntry> entries)
+            throws IllegalValueException {
+        PersistentVector<Contact> contacts = PersistentVector.of(checkpoint.getContactList());
+        PersistentVector<Event> events = PersistentVector.of(checkpoint.getEventList());
+        Map<UUID, Set<UUID>> linkedEvents = new HashMap<>();
+        for (Contact contact : checkpoint.getContactList()) {
+            linkedEvents.put(contact.getUuid(), new HashSet<>(checkpoint.getLinkedEventUuids(contact)));
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            entry.applyToLinks(linkedEvents);
+            contacts = entry.applyToContacts(contacts, linkedEvents);
+            events = entry.applyToEvents(events, linkedEvents);
+        }
+        // the links of the contacts and events removed are dropped along with them
+        return JsonAddressBookCodec.toAddressBook(contacts, events, linkedEvents, Map.of());
+    }
+
+    static Path journalPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+}
@@ -65,9 +65,17 @@ class JsonAdaptedContact {
     }
 
     /**
-     * Converts a given {@code Contact} into this class for Jackson use.
+     * Converts a given {@code Contact} without links into this class for Jackson use.
      */
     public JsonAdaptedContact(Contact source) {
+        this(source, Set.of());
+    }
+
+    /**
+     * Converts a given {@code Contact}, linked to the events with UUIDs {@code linkedEvents}, into this class for
+     * Jackson use.
+     */
+    public JsonAdaptedContact(Contact source, Set<UUID> linkedEvents) {
         // compulsory fields
         name = source.getName().fullName;
         email = source.getEmail().value;
@@ -80,7 +88,7 @@ class JsonAdaptedContact {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        linkedEvents.addAll(source.getLinkedEvents().stream()
+        this.linkedEvents.addAll(linkedEvents.stream()
             .map(UUID::toString)
             .collect(Collectors.toList()));
         isMarked = source.getIsMarked();
@@ -140,11 +148,16 @@ class JsonAdaptedContact {
         final UUID modelUuid = UUID.fromString(uuid);
 
         final Set<Tag> modelTags = new HashSet<>(contactTags);
-        final Set<UUID> modelLinkedEvents = new HashSet<>(
-                linkedEvents.stream().map(UUID::fromString).collect(Collectors.toList()));
 
         return new Contact(modelName, modelPhone, modelEmail, modelAddress, modelZoomLink,
-                modelTelegramHandle, modelTags, modelUuid, modelLinkedEvents, isMarked);
+                modelTelegramHandle, modelTags, modelUuid, isMarked);
+    }
+
+    /**
+     * Returns the UUIDs of the events linked to this contact.
+     */
+    public Set<UUID> getLinkedEvents() {
+        return linkedEvents.stream().map(UUID::fromString).collect(Collectors.toSet());
     }
 
 }
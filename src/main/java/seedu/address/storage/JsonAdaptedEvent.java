@@ -66,9 +66,17 @@ class JsonAdaptedEvent {
     }
 
     /**
-     * Converts a given {@code Event} into this class for Jackson use.
+     * Converts a given {@code Event} without links into this class for Jackson use.
      */
     public JsonAdaptedEvent(Event source) {
+        this(source, Set.of());
+    }
+
+    /**
+     * Converts a given {@code Event}, linked to the contacts with UUIDs {@code linkedContacts}, into this class for
+     * Jackson use.
+     */
+    public JsonAdaptedEvent(Event source, Set<UUID> linkedContacts) {
         // compulsory fields
         name = source.getName().fullName;
         startDateTime = source.getStartDateAndTime().toString();
@@ -81,7 +89,7 @@ class JsonAdaptedEvent {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        linkedContacts.addAll(source.getLinkedContacts().stream()
+        this.linkedContacts.addAll(linkedContacts.stream()
             .map(UUID::toString)
             .collect(Collectors.toList()));
         isMarked = source.getIsMarked();
@@ -141,11 +149,16 @@ class JsonAdaptedEvent {
         final UUID modelUuid = UUID.fromString(uuid);
 
         final Set<Tag> modelTags = new HashSet<>(eventTags);
-        final Set<UUID> modelLinkedContacts = new HashSet<>(
-            linkedContacts.stream().map(UUID::fromString).collect(Collectors.toList()));
 
         return new Event(modelName, modelStartDateTime, modelEndDateTime, modelDescription, modelAddress, modelZoomLink,
-                modelTags, modelUuid, modelLinkedContacts, isMarked);
+                modelTags, modelUuid, isMarked);
+    }
+
+    /**
+     * Returns the UUIDs of the contacts linked to this event.
+     */
+    public Set<UUID> getLinkedContacts() {
+        return linkedContacts.stream().map(UUID::fromString).collect(Collectors.toSet());
     }
 
 }
@@ -0,0 +1,315 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.common.ListEdit;
+import seedu.address.model.common.ListPermutation;
+import seedu.address.model.common.PersistentVector;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+
+/**
+ * Jackson-friendly version of the changes made to an address book between two saves, which is an entry in the journal
+ * of a {@link JournaledAddressBookStorage}.
+ * <p>
+ * The contacts and events are each changed by a series of edits, each replacing a number of them starting at an index
+ * with the added ones. Only the number of contacts and events removed is kept, as the changes only need to be made
+ * again. The added contacts and events hold the UUIDs of what they are linked to when the changes are saved, and the
+ * links made or removed between the contacts and events already there are kept as link edits. An edit which only
+ * reorders the contacts or events, such as sorting them, keeps the positions they are moved from as its order instead.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_ENTRY_MISMATCH = "Journal entry does not match the address book";
+
+    private final List<JsonAdaptedContactEdit> contactEdits = new ArrayList<>();
+    private final List<JsonAdaptedEventEdit> eventEdits = new ArrayList<>();
+    private final List<JsonAdaptedLinkEdit> linkEdits = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("contactEdits") List<JsonAdaptedContactEdit> contactEdits,
+            @JsonProperty("eventEdits") List<JsonAdaptedEventEdit> eventEdits,
+            @JsonProperty("linkEdits") List<JsonAdaptedLinkEdit> linkEdits) {
+        if (contactEdits != null) {
+            this.contactEdits.addAll(contactEdits);
+        }
+        if (eventEdits != null) {
+            this.eventEdits.addAll(eventEdits);
+        }
+        if (linkEdits != null) {
+            this.linkEdits.addAll(linkEdits);
+        }
+    }
+
+    /**
+     * Converts the changes in {@code delta} into this class for Jackson use. The contacts and events added are saved
+     * with their links in {@code addressBook}, which is the address book after the changes were made.
+     */
+    public JsonAdaptedJournalEntry(AddressBookDelta delta, ReadOnlyAddressBook addressBook) {
+        delta.forEachChange(new AddressBookDelta.ChangeVisitor() {
+            @Override
+            public void visitContactEdit(ListEdit<Contact> contactEdit) {
+                ListEdit<Contact> trimmed = contactEdit.trimmed();
+                if (trimmed.size() > 0) {
+                    contactEdits.add(new JsonAdaptedContactEdit(trimmed, addressBook));
+                }
+            }
+
+            @Override
+            public void visitEventEdit(ListEdit<Event> eventEdit) {
+                ListEdit<Event> trimmed = eventEdit.trimmed();
+                if (trimmed.size() > 0) {
+                    eventEdits.add(new JsonAdaptedEventEdit(trimmed, addressBook));
+                }
+            }
+
+            @Override
+            public void visitContactReorder(ListPermutation contactReorder) {
+                contactEdits.add(new JsonAdaptedContactEdit(contactReorder));
+            }
+
+            @Override
+            public void visitEventReorder(ListPermutation eventReorder) {
+                eventEdits.add(new JsonAdaptedEventEdit(eventReorder));
+            }
+
+            @Override
+            public void visitLinkEdit(UUID contactUuid, UUID eventUuid, boolean isLinked) {
+                linkEdits.add(new JsonAdaptedLinkEdit(contactUuid.toString(), eventUuid.toString(), isLinked));
+            }
+        });
+    }
+
+    /**
+     * Returns true if the entry holds no changes.
+     */
+    public boolean isEmpty() {
+        return contactEdits.isEmpty() && eventEdits.isEmpty() && linkEdits.isEmpty();
+    }
+
+    /**
+     * Returns the number of contacts and events added by the changes, which is a measure of the size of the entry.
+     */
+    public int getAddedSize() {
+        return contactEdits.stream().mapToInt(edit -> edit.added.size()).sum()
+            + eventEdits.stream().mapToInt(edit -> edit.added.size()).sum();
+    }
+
+    /**
+     * Returns {@code contacts} with the changes to the contacts made, and updates {@code linkedEvents}, which maps the
+     * UUID of each contact to the UUIDs of the events linked to it, with the links of the contacts added.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or the contacts to be removed are
+     *     not in {@code contacts}.
+     */
+    public PersistentVector<Contact> applyToContacts(PersistentVector<Contact> contacts,
+            Map<UUID, Set<UUID>> linkedEvents) throws IllegalValueException {
+        for (JsonAdaptedContactEdit edit : contactEdits) {
+            if (edit.order != null) {
+                contacts = toReorder(contacts, edit.index, edit.removed, edit.order).applyTo(contacts);
+                continue;
+            }
+            List<Contact> added = new ArrayList<>();
+            for (JsonAdaptedContact contact : edit.added) {
+                Contact modelContact = contact.toModelType();
+                added.add(modelContact);
+                linkedEvents.put(modelContact.getUuid(), new HashSet<>(contact.getLinkedEvents()));
+            }
+            contacts = toListEdit(contacts, edit.index, edit.removed, added).applyTo(contacts);
+        }
+        return contacts;
+    }
+
+    /**
+     * Returns {@code events} with the changes to the events made, and updates {@code linkedEvents}, which maps the
+     * UUID of each contact to the UUIDs of the events linked to it, with the links of the events added.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or the events to be removed are
+     *     not in {@code events}.
+     */
+    public PersistentVector<Event> applyToEvents(PersistentVector<Event> events, Map<UUID, Set<UUID>> linkedEvents)
+            throws IllegalValueException {
+        for (JsonAdaptedEventEdit edit : eventEdits) {
+            if (edit.order != null) {
+                events = toReorder(events, edit.index, edit.removed, edit.order).applyTo(events);
+                continue;
+            }
+            List<Event> added = new ArrayList<>();
+            for (JsonAdaptedEvent event : edit.added) {
+                Event modelEvent = event.toModelType();
+                added.add(modelEvent);
+                for (UUID contactUuid : event.getLinkedContacts()) {
+                    linkedEvents.computeIfAbsent(contactUuid, uuid -> new HashSet<>()).add(modelEvent.getUuid());
+                }
+            }
+            events = toListEdit(events, edit.index, edit.removed, added).applyTo(events);
+        }
+        return events;
+    }
+
+    /**
+     * Makes the links made or removed by the changes in {@code linkedEvents}, which maps the UUID of each contact to
+     * the UUIDs of the events linked to it. The links are made or removed before the contacts and events are added,
+     * as the contacts and events added hold their links as they are after all the changes.
+     *
+     * @throws IllegalValueException if a link edit does not name both its contact and its event.
+     */
+    public void applyToLinks(Map<UUID, Set<UUID>> linkedEvents) throws IllegalValueException {
+        for (JsonAdaptedLinkEdit edit : linkEdits) {
+            if (edit.contact == null || edit.event == null) {
+                throw new IllegalValueException(MESSAGE_ENTRY_MISMATCH);
+            }
+            UUID contactUuid = UUID.fromString(edit.contact);
+            UUID eventUuid = UUID.fromString(edit.event);
+            if (edit.isLinked) {
+                linkedEvents.computeIfAbsent(contactUuid, uuid -> new HashSet<>()).add(eventUuid);
+            } else if (linkedEvents.containsKey(contactUuid)) {
+                linkedEvents.get(contactUuid).remove(eventUuid);
+            }
+        }
+    }
+
+    private static <E> ListEdit<E> toListEdit(List<E> elements, int index, int removed, List<E> added)
+            throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > elements.size()) {
+            throw new IllegalValueException(MESSAGE_ENTRY_MISMATCH);
+        }
+        return new ListEdit<>(index, elements.subList(index, index + removed), added);
+    }
+
+    /**
+     * Returns the edit which moves the element at position {@code index + order.get(i)} of {@code elements} to
+     * {@code index + i}, for each of the {@code removed} elements starting at {@code index}.
+     */
+    private static <E> ListEdit<E> toReorder(List<E> elements, int index, int removed, List<Integer> order)
+            throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > elements.size() || order.size() != removed) {
+            throw new IllegalValueException(MESSAGE_ENTRY_MISMATCH);
+        }
+        int[] sources = new int[removed];
+        boolean[] isMoved = new boolean[removed];
+        for (int i = 0; i < removed; i++) {
+            Integer source = order.get(i);
+            if (source == null || source < 0 || source >= removed || isMoved[source]) {
+                throw new IllegalValueException(MESSAGE_ENTRY_MISMATCH);
+            }
+            sources[i] = source;
+            isMoved[source] = true;
+        }
+        return new ListPermutation(index, sources).toEdit(elements);
+    }
+
+    /**
+     * Jackson-friendly version of an edit to the contacts.
+     */
+    static class JsonAdaptedContactEdit {
+        private final int index;
+        private final int removed;
+        private final List<JsonAdaptedContact> added = new ArrayList<>();
+        // the positions the contacts are moved from if the edit only reorders them, or null otherwise
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final List<Integer> order;
+
+        @JsonCreator
+        JsonAdaptedContactEdit(@JsonProperty("index") int index, @JsonProperty("removed") int removed,
+                @JsonProperty("added") List<JsonAdaptedContact> added, @JsonProperty("order") List<Integer> order) {
+            this.index = index;
+            this.removed = removed;
+            if (added != null) {
+                this.added.addAll(added);
+            }
+            this.order = order;
+        }
+
+        JsonAdaptedContactEdit(ListPermutation reorder) {
+            index = reorder.getIndex();
+            removed = reorder.size();
+            order = new ArrayList<>(removed);
+            for (int i = 0; i < removed; i++) {
+                order.add(reorder.getSource(i));
+            }
+        }
+
+        JsonAdaptedContactEdit(ListEdit<Contact> edit, ReadOnlyAddressBook addressBook) {
+            index = edit.getIndex();
+            removed = edit.getRemoved().size();
+            order = null;
+            for (Contact contact : edit.getAdded()) {
+                added.add(new JsonAdaptedContact(contact, addressBook.getLinkedEventUuids(contact)));
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly version of an edit to the events.
+     */
+    static class JsonAdaptedEventEdit {
+        private final int index;
+        private final int removed;
+        private final List<JsonAdaptedEvent> added = new ArrayList<>();
+        // the positions the events are moved from if the edit only reorders them, or null otherwise
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final List<Integer> order;
+
+        @JsonCreator
+        JsonAdaptedEventEdit(@JsonProperty("index") int index, @JsonProperty("removed") int removed,
+                @JsonProperty("added") List<JsonAdaptedEvent> added, @JsonProperty("order") List<Integer> order) {
+            this.index = index;
+            this.removed = removed;
+            if (added != null) {
+                this.added.addAll(added);
+            }
+            this.order = order;
+        }
+
+        JsonAdaptedEventEdit(ListPermutation reorder) {
+            index = reorder.getIndex();
+            removed = reorder.size();
+            order = new ArrayList<>(removed);
+            for (int i = 0; i < removed; i++) {
+                order.add(reorder.getSource(i));
+            }
+        }
+
+        JsonAdaptedEventEdit(ListEdit<Event> edit, ReadOnlyAddressBook addressBook) {
+            index = edit.getIndex();
+            removed = edit.getRemoved().size();
+            order = null;
+            for (Event event : edit.getAdded()) {
+                added.add(new JsonAdaptedEvent(event, addressBook.getLinkedContactUuids(event)));
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a link made or removed between a contact and an event.
+     */
+    static class JsonAdaptedLinkEdit {
+        private final String contact;
+        private final String event;
+        private final boolean isLinked;
+
+        @JsonCreator
+        JsonAdaptedLinkEdit(@JsonProperty("contact") String contact, @JsonProperty("event") String event,
+                @JsonProperty("isLinked") boolean isLinked) {
+            this.contact = contact;
+            this.event = event;
+            this.isLinked = isLinked;
+        }
+    }
+}
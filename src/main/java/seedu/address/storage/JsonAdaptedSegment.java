@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of a segment file of a {@link SegmentedAddressBookStorage}, which holds a run of
+ * consecutive contacts or events of the address book.
+ */
+class JsonAdaptedSegment {
+
+    private final String fileName;
+    private final int size;
+    private final long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegment} of the segment file {@code fileName}, which holds {@code size} contacts
+     * or events and has the CRC32 {@code checksum}.
+     */
+    @JsonCreator
+    public JsonAdaptedSegment(@JsonProperty("fileName") String fileName, @JsonProperty("size") int size,
+            @JsonProperty("checksum") long checksum) {
+        this.fileName = fileName;
+        this.size = size;
+        this.checksum = checksum;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+}
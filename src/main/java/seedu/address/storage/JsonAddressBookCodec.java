@@ -0,0 +1,326 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.exceptions.DuplicateContactException;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.DuplicateEventException;
+
+/**
+ * Reads and writes address books in the JSON format of {@link JsonSerializableAddressBook}, one contact or event at
+ * a time. Neither the whole file nor all the Jackson-friendly contacts and events are kept in memory at once, so the
+ * memory needed apart from the address book itself does not grow with the size of the file.
+ */
+class JsonAddressBookCodec {
+
+    static final String CONTACTS_FIELD = "contacts";
+    static final String EVENTS_FIELD = "events";
+
+    private static final String MESSAGE_NOT_ADDRESS_BOOK = "Expected an address book object";
+    private static final String MESSAGE_NOT_ARRAY = "Expected an array";
+
+    // below this many elements, the overhead of converting in parallel outweighs the gain
+    private static final int PARALLEL_THRESHOLD = 256;
+    private static final int BATCH_SIZE = 4096;
+
+    private JsonAddressBookCodec() {} // prevents instantiation
+
+    /**
+     * Reads the address book in {@code filePath}.
+     * Fields other than the contacts and events are ignored, and missing contacts or events are taken to be empty.
+     *
+     * @throws IOException if the file cannot be read or is not in the JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+            }
+            ModelTypeCollector<JsonAdaptedContact, Contact> contacts = ModelTypeCollector.ofContacts();
+            ModelTypeCollector<JsonAdaptedEvent, Event> events = ModelTypeCollector.ofEvents();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_ARRAY && field.equals(CONTACTS_FIELD)) {
+                    readArray(parser, JsonAdaptedContact.class, contacts);
+                } else if (value == JsonToken.START_ARRAY && field.equals(EVENTS_FIELD)) {
+                    readArray(parser, JsonAdaptedEvent.class, events);
+                } else {
+                    parser.skipChildren(); // unknown fields, and null contacts or events
+                }
+            }
+            return toAddressBook(contacts.getModelTypes(), events.getModelTypes(), contacts.getLinks(),
+                    events.getLinks());
+        }
+    }
+
+    /**
+     * Reads the contacts in {@code content}, which holds a JSON array of contacts, into {@code collector}.
+     *
+     * @throws IOException if the content is not a JSON array.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void readContacts(byte[] content, ModelTypeCollector<JsonAdaptedContact, Contact> collector)
+            throws IOException, IllegalValueException {
+        readArray(content, JsonAdaptedContact.class, collector);
+    }
+
+    /**
+     * Reads the events in {@code content}, which holds a JSON array of events, into {@code collector}.
+     *
+     * @throws IOException if the content is not a JSON array.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void readEvents(byte[] content, ModelTypeCollector<JsonAdaptedEvent, Event> collector)
+            throws IOException, IllegalValueException {
+        readArray(content, JsonAdaptedEvent.class, collector);
+    }
+
+    private static <A> void readArray(byte[] content, Class<A> type, ModelTypeCollector<A, ?> collector)
+            throws IOException, IllegalValueException {
+        requireNonNull(content);
+        try (JsonParser parser = JsonUtil.createJsonParser(content)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_NOT_ARRAY);
+            }
+            readArray(parser, type, collector);
+        }
+    }
+
+    /**
+     * Reads the elements of the array {@code parser} is at the start of as {@code type} into {@code collector}.
+     * The elements are converted in batches of {@code BATCH_SIZE}, so that only a batch of the Jackson-friendly
+     * elements is kept in memory at once.
+     */
+    private static <A> void readArray(JsonParser parser, Class<A> type, ModelTypeCollector<A, ?> collector)
+            throws IOException, IllegalValueException {
+        List<A> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(type));
+            if (batch.size() == BATCH_SIZE) {
+                collector.addAll(batch);
+                batch.clear();
+            }
+        }
+        collector.addAll(batch);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing the file if it exists.
+     * The file is replaced only once the whole address book has been written, so a failure part way leaves it as is.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        FileUtil.writeAtomically(filePath, outputStream -> write(addressBook, outputStream));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code outputStream}, which is flushed but not closed.
+     *
+     * @throws IOException if the stream cannot be written to.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream outputStream) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(outputStream);
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(CONTACTS_FIELD);
+            for (Contact contact : addressBook.getContactList()) {
+                generator.writeObject(new JsonAdaptedContact(contact, addressBook.getLinkedEventUuids(contact)));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(EVENTS_FIELD);
+            for (Event event : addressBook.getEventList()) {
+                generator.writeObject(new JsonAdaptedEvent(event, addressBook.getLinkedContactUuids(event)));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code contacts}, linked as they are in {@code addressBook}, to {@code outputStream} as a JSON array.
+     * The stream is flushed but not closed.
+     *
+     * @throws IOException if the stream cannot be written to.
+     */
+    static void writeContacts(List<Contact> contacts, ReadOnlyAddressBook addressBook, OutputStream outputStream)
+            throws IOException {
+        requireNonNull(addressBook);
+        writeArray(contacts, contact -> new JsonAdaptedContact(contact, addressBook.getLinkedEventUuids(contact)),
+                outputStream);
+    }
+
+    /**
+     * Writes {@code events}, linked as they are in {@code addressBook}, to {@code outputStream} as a JSON array.
+     * The stream is flushed but not closed.
+     *
+     * @throws IOException if the stream cannot be written to.
+     */
+    static void writeEvents(List<Event> events, ReadOnlyAddressBook addressBook, OutputStream outputStream)
+            throws IOException {
+        requireNonNull(addressBook);
+        writeArray(events, event -> new JsonAdaptedEvent(event, addressBook.getLinkedContactUuids(event)),
+                outputStream);
+    }
+
+    private static <M> void writeArray(List<M> elements, Function<M, ?> adapter, OutputStream outputStream)
+            throws IOException {
+        requireNonNull(elements);
+        requireNonNull(outputStream);
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(outputStream)) {
+            generator.writeStartArray();
+            for (M element : elements) {
+                generator.writeObject(adapter.apply(element));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Returns an address book of {@code contacts} and {@code events}, which are added to it all at once, and linked
+     * as either side lists: a contact is linked to an event if {@code contactLinks} lists the event under the UUID of
+     * the contact, or {@code eventLinks} lists the contact under the UUID of the event. Links to contacts or events
+     * not in the address book are dropped.
+     *
+     * @throws IllegalValueException if there are duplicate contacts or events.
+     */
+    static AddressBook toAddressBook(List<Contact> contacts, List<Event> events, Map<UUID, Set<UUID>> contactLinks,
+            Map<UUID, Set<UUID>> eventLinks) throws IllegalValueException {
+        Map<UUID, Set<UUID>> linkedEvents = new HashMap<>();
+        contactLinks.forEach((contactUuid, eventUuids) -> linkedEvents.put(contactUuid, new HashSet<>(eventUuids)));
+        eventLinks.forEach((eventUuid, contactUuids) -> contactUuids.forEach(contactUuid ->
+            linkedEvents.computeIfAbsent(contactUuid, unused -> new HashSet<>()).add(eventUuid)));
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setData(contacts, events, linkedEvents);
+        } catch (DuplicateContactException dce) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT);
+        } catch (DuplicateEventException dee) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts a Jackson-friendly element into the model's object.
+     */
+    @FunctionalInterface
+    interface ModelTypeConverter<A, M> {
+        M toModelType(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Converts lists of Jackson-friendly elements into a list of the model's objects, checking that no two of them
+     * have the same identity, and collects the UUIDs each element is linked to by its UUID.
+     * <p>
+     * Longer lists are converted in parallel on the common fork-join pool, and then checked for duplicates in order
+     * with a hash set. The exception thrown is that of the first element that violates the data constraints or
+     * duplicates an earlier one, just as it would be when converting and adding the elements one by one.
+     */
+    static class ModelTypeCollector<A, M> {
+        private final ModelTypeConverter<A, M> converter;
+        private final Function<M, ?> identity;
+        private final Function<M, UUID> uuidOf;
+        private final Function<A, Set<UUID>> linksOf;
+        private final String duplicateMessage;
+        private final List<M> modelTypes = new ArrayList<>();
+        private final Set<Object> identities = new HashSet<>();
+        private final Map<UUID, Set<UUID>> links = new HashMap<>();
+
+        ModelTypeCollector(ModelTypeConverter<A, M> converter, Function<M, ?> identity, Function<M, UUID> uuidOf,
+                Function<A, Set<UUID>> linksOf, String duplicateMessage) {
+            this.converter = converter;
+            this.identity = identity;
+            this.uuidOf = uuidOf;
+            this.linksOf = linksOf;
+            this.duplicateMessage = duplicateMessage;
+        }
+
+        static ModelTypeCollector<JsonAdaptedContact, Contact> ofContacts() {
+            return new ModelTypeCollector<>(JsonAdaptedContact::toModelType, Contact::getName, Contact::getUuid,
+                    JsonAdaptedContact::getLinkedEvents, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT);
+        }
+
+        static ModelTypeCollector<JsonAdaptedEvent, Event> ofEvents() {
+            return new ModelTypeCollector<>(JsonAdaptedEvent::toModelType, Event::getName, Event::getUuid,
+                    JsonAdaptedEvent::getLinkedContacts, JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        }
+
+        /**
+         * Converts the {@code adapted} elements and adds them after the ones already collected.
+         *
+         * @throws IllegalValueException if there were any data constraints violated, or an element has the same
+         *     identity as one collected before it.
+         */
+        @SuppressWarnings("unchecked")
+        void addAll(List<A> adapted) throws IllegalValueException {
+            M[] converted = (M[]) new Object[adapted.size()];
+            IllegalValueException[] failures = new IllegalValueException[adapted.size()];
+            IntStream indices = IntStream.range(0, adapted.size());
+            (adapted.size() < PARALLEL_THRESHOLD ? indices : indices.parallel()).forEach(i -> {
+                try {
+                    converted[i] = converter.toModelType(adapted.get(i));
+                } catch (IllegalValueException ive) {
+                    failures[i] = ive;
+                }
+            });
+
+            for (int i = 0; i < converted.length; i++) {
+                if (failures[i] != null) {
+                    throw failures[i];
+                }
+                if (!identities.add(identity.apply(converted[i]))) {
+                    throw new IllegalValueException(duplicateMessage);
+                }
+                Set<UUID> linked = linksOf.apply(adapted.get(i));
+                if (!linked.isEmpty()) {
+                    links.put(uuidOf.apply(converted[i]), linked);
+                }
+            }
+            modelTypes.addAll(Arrays.asList(converted));
+        }
+
+        List<M> getModelTypes() {
+            return modelTypes;
+        }
+
+        /**
+         * Returns the UUIDs each element collected is linked to, by the UUID of the element.
+         */
+        Map<UUID, Set<UUID>> getLinks() {
+            return links;
+        }
+    }
+}
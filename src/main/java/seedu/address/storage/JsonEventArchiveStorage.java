@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.EventArchive;
+
+/**
+ * A class to access the archived events stored on the hard disk as a json file, with one event on each line, along
+ * with the contacts it was linked to.
+ * <p>
+ * Events archived since the last save are appended to the file, which is forced to the disk, so archiving events
+ * neither reads nor writes the events archived before. Once events have been removed, the file is written afresh
+ * through a temporary file which is renamed over the old file. A partly appended last line, left behind by a crash
+ * during a save, is ignored when the file is read and dropped at the next save.
+ */
+public class JsonEventArchiveStorage implements EventArchiveStorage {
+
+    static final String ARCHIVE_FILE_SUFFIX = ".archive";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonEventArchiveStorage.class);
+
+    private final Path filePath;
+
+    public JsonEventArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the archive file kept next to the address book data at {@code addressBookFilePath}.
+     */
+    public static Path archivePathOf(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + ARCHIVE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getEventArchiveFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized List<ArchivedEvent> readEventArchive() throws DataConversionException {
+        List<ArchivedEvent> events = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            logger.info("Archive file " + filePath + " not found");
+            return events;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(filePath, UTF_8);
+            for (int i = 0; i < lines.size(); i++) {
+                JsonAdaptedEvent event;
+                try {
+                    event = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedEvent.class);
+                } catch (JsonProcessingException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring partly written last line of archive file " + filePath);
+                    break;
+                }
+                events.add(new ArchivedEvent(event.toModelType(), event.getLinkedContacts()));
+            }
+            return events;
+        } catch (IOException e) {
+            logger.warning("Error reading from archive file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public synchronized void saveEventArchive(EventArchive eventArchive) throws IOException {
+        requireNonNull(eventArchive);
+
+        if (eventArchive.isRewriteNeeded()) {
+            List<ArchivedEvent> events;
+            try {
+                events = eventArchive.getArchivedEvents();
+            } catch (DataConversionException e) {
+                // the events removed before the archive was read cannot be dropped from a file which cannot be read
+                throw new IOException("Could not read the archive file " + filePath + " to write it afresh", e);
+            }
+            byte[] content = toLines(events);
+            FileUtil.writeAtomically(filePath, outputStream -> outputStream.write(content));
+        } else if (!eventArchive.getUnsavedEvents().isEmpty()) {
+            append(toLines(eventArchive.getUnsavedEvents()));
+        }
+        eventArchive.markSaved();
+    }
+
+    private void append(byte[] lines) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel archive = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long end = endOfLastLine(archive);
+            archive.truncate(end); // drops a partly appended line left behind by a crash
+            archive.position(end);
+            FileUtil.writeFully(archive, ByteBuffer.wrap(lines));
+            archive.force(false);
+        }
+    }
+
+    /**
+     * Returns the position right after the last line break in {@code file}, or 0 if there is none.
+     */
+    private static long endOfLastLine(FileChannel file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 12);
+        long end = file.size();
+        while (end > 0) {
+            long start = Math.max(0, end - buffer.capacity());
+            buffer.clear().limit((int) (end - start));
+            int read = 0;
+            while (buffer.hasRemaining() && read != -1) {
+                read = file.read(buffer, start + buffer.position());
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
+    private static byte[] toLines(List<ArchivedEvent> events) throws JsonProcessingException {
+        StringBuilder lines = new StringBuilder();
+        for (ArchivedEvent event : events) {
+            JsonAdaptedEvent adapted = new JsonAdaptedEvent(event.getEvent(), event.getLinkedContacts());
+            lines.append(JsonUtil.toJsonLine(adapted)).append('\n');
+        }
+        return lines.toString().getBytes(UTF_8);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SegmentedAddressBookStorage}, which lists its contact and event
+ * segment files in the order of the contacts and events in them.
+ */
+class JsonSegmentManifest {
+
+    private final List<JsonAdaptedSegment> contactSegments = new ArrayList<>();
+    private final List<JsonAdaptedSegment> eventSegments = new ArrayList<>();
+    private final long nextSegmentId;
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given segments, whose later segment files are numbered from
+     * {@code nextSegmentId}.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("contactSegments") List<JsonAdaptedSegment> contactSegments,
+            @JsonProperty("eventSegments") List<JsonAdaptedSegment> eventSegments,
+            @JsonProperty("nextSegmentId") long nextSegmentId) {
+        if (contactSegments != null) {
+            this.contactSegments.addAll(contactSegments);
+        }
+        if (eventSegments != null) {
+            this.eventSegments.addAll(eventSegments);
+        }
+        this.nextSegmentId = nextSegmentId;
+    }
+
+    public List<JsonAdaptedSegment> getContactSegments() {
+        return contactSegments;
+    }
+
+    public List<JsonAdaptedSegment> getEventSegments() {
+        return eventSegments;
+    }
+
+    public long getNextSegmentId() {
+        return nextSegmentId;
+    }
+}
@@ -13,6 +13,7 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.event.Event;
+import seedu.address.storage.JsonAddressBookCodec.ModelTypeCollector;
 
 
 /**
@@ -50,8 +51,12 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        contacts.addAll(source.getContactList().stream().map(JsonAdaptedContact::new).collect(Collectors.toList()));
-        events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        contacts.addAll(source.getContactList().stream()
+                .map(contact -> new JsonAdaptedContact(contact, source.getLinkedEventUuids(contact)))
+                .collect(Collectors.toList()));
+        events.addAll(source.getEventList().stream()
+                .map(event -> new JsonAdaptedEvent(event, source.getLinkedContactUuids(event)))
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -60,23 +65,11 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedContact jsonAdaptedContact : contacts) {
-            Contact contact = jsonAdaptedContact.toModelType();
-            if (addressBook.hasContact(contact)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
-            }
-            addressBook.addContact(contact);
-        }
-
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
-        }
-        return addressBook;
+        ModelTypeCollector<JsonAdaptedContact, Contact> modelContacts = ModelTypeCollector.ofContacts();
+        modelContacts.addAll(contacts);
+        ModelTypeCollector<JsonAdaptedEvent, Event> modelEvents = ModelTypeCollector.ofEvents();
+        modelEvents.addAll(events);
+        return JsonAddressBookCodec.toAddressBook(modelContacts.getModelTypes(), modelEvents.getModelTypes(),
+                modelContacts.getLinks(), modelEvents.getLinks());
     }
 }
-
@@ -0,0 +1,512 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.common.ListEdit;
+import seedu.address.model.common.ListPermutation;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+import seedu.address.storage.JsonAddressBookCodec.ModelTypeCollector;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a directory of segment files, each of which holds a
+ * run of at most {@code MAX_SEGMENT_SIZE} consecutive contacts or events in the json format.
+ * <p>
+ * A manifest in the directory lists the segment files in order, along with the number of contacts or events in each
+ * and its checksum. Saving an address book only writes the segments holding the contacts and events changed since the
+ * last save, as new segment files, and then replaces the manifest. The segment files written are forced to the disk
+ * before the manifest is replaced, and the segment files no longer listed are only deleted after it is replaced, so a
+ * crash leaves either the old or the new address book in place.
+ * <p>
+ * The changes saved are those recorded by the address book as they were made, so a link made or removed only rewrites
+ * the segments holding the contact and the event linked. An address book whose contents were replaced since the last
+ * save, or which was not the one last saved, is written to new segment files in full.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".segments";
+    public static final int MAX_SEGMENT_SIZE = 256;
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+    static final String CONTACT_SEGMENT_PREFIX = "contacts-";
+    static final String EVENT_SEGMENT_PREFIX = "events-";
+    static final String MESSAGE_CHECKSUM_MISMATCH = "Segment file %1$s is corrupted";
+    static final String MESSAGE_SIZE_MISMATCH = "Segment file %1$s does not hold %2$d contacts or events";
+
+    private static final String SEGMENT_FILE_EXTENSION = ".json";
+    private static final Pattern SEGMENT_FILE_NAME_FORMAT = Pattern.compile(
+            "(?:" + CONTACT_SEGMENT_PREFIX + "|" + EVENT_SEGMENT_PREFIX + ")(\\d+)\\" + SEGMENT_FILE_EXTENSION);
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path directoryPath;
+
+    // The address book last read from or saved to directoryPath, or null if the files there are not known to hold it
+    private ReadOnlyAddressBook lastSaved;
+    private List<JsonAdaptedSegment> contactSegments;
+    private List<JsonAdaptedSegment> eventSegments;
+    private long nextSegmentId;
+    // The segment file last written with each contact or event, which may no longer be listed, by their UUIDs
+    private Map<UUID, String> contactSegmentFiles;
+    private Map<UUID, String> eventSegmentFiles;
+
+    public SegmentedAddressBookStorage(Path directoryPath) {
+        requireNonNull(directoryPath);
+        this.directoryPath = directoryPath;
+    }
+
+    /**
+     * Returns true if {@code path} is named as the directory of a segmented address book.
+     */
+    public static boolean isSegmentedDirectory(Path path) {
+        return path.getFileName() != null && path.getFileName().toString().endsWith(DIRECTORY_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or a segment file is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath)
+            throws DataConversionException {
+        requireNonNull(directoryPath);
+
+        Path manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            logger.info("Manifest file " + manifestPath + " not found");
+            return Optional.empty();
+        }
+
+        JsonSegmentManifest manifest = JsonUtil.readJsonFile(manifestPath, JsonSegmentManifest.class).get();
+        try {
+            ModelTypeCollector<JsonAdaptedContact, Contact> contacts = ModelTypeCollector.ofContacts();
+            for (JsonAdaptedSegment segment : manifest.getContactSegments()) {
+                int sizeBefore = contacts.getModelTypes().size();
+                JsonAddressBookCodec.readContacts(readSegment(directoryPath, segment), contacts);
+                checkSize(segment, contacts.getModelTypes().size() - sizeBefore);
+            }
+            ModelTypeCollector<JsonAdaptedEvent, Event> events = ModelTypeCollector.ofEvents();
+            for (JsonAdaptedSegment segment : manifest.getEventSegments()) {
+                int sizeBefore = events.getModelTypes().size();
+                JsonAddressBookCodec.readEvents(readSegment(directoryPath, segment), events);
+                checkSize(segment, events.getModelTypes().size() - sizeBefore);
+            }
+
+            AddressBook addressBook = JsonAddressBookCodec.toAddressBook(contacts.getModelTypes(),
+                    events.getModelTypes(), contacts.getLinks(), events.getLinks());
+            if (directoryPath.equals(this.directoryPath)) {
+                lastSaved = addressBook.snapshot();
+                contactSegments = manifest.getContactSegments();
+                eventSegments = manifest.getEventSegments();
+                nextSegmentId = manifest.getNextSegmentId();
+                contactSegmentFiles = segmentFilesOf(contactSegments, addressBook.getContactList(), Contact::getUuid);
+                eventSegmentFiles = segmentFilesOf(eventSegments, addressBook.getEventList(), Event::getUuid);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from segment files in " + directoryPath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the contents of the file of {@code segment}, after checking them against its checksum.
+     */
+    private static byte[] readSegment(Path directoryPath, JsonAdaptedSegment segment)
+            throws IOException, IllegalValueException {
+        byte[] content = Files.readAllBytes(directoryPath.resolve(segment.getFileName()));
+        CRC32 checksum = new CRC32();
+        checksum.update(content, 0, content.length);
+        if (checksum.getValue() != segment.getChecksum()) {
+            throw new IllegalValueException(String.format(MESSAGE_CHECKSUM_MISMATCH, segment.getFileName()));
+        }
+        return content;
+    }
+
+    private static void checkSize(JsonAdaptedSegment segment, int sizeRead) throws IllegalValueException {
+        if (sizeRead != segment.getSize()) {
+            throw new IllegalValueException(String.format(MESSAGE_SIZE_MISMATCH, segment.getFileName(),
+                    segment.getSize()));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link AddressBookStorage#saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments of the data directory of this storage are kept track of, so the address book is saved to any
+     * other directory in new segment files.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+
+        ReadOnlyAddressBook snapshot = AddressBook.snapshotOf(addressBook);
+        boolean isDataDirectory = directoryPath.equals(this.directoryPath);
+        Optional<AddressBookDelta> delta = isDataDirectory && lastSaved != null
+                ? AddressBook.deltaBetween(lastSaved, snapshot) : Optional.empty();
+        if (isDataDirectory) {
+            lastSaved = null; // unknown until the save succeeds
+        }
+        SegmentContentWriter<Contact> contactWriter = (contacts, outputStream) ->
+            JsonAddressBookCodec.writeContacts(contacts, snapshot, outputStream);
+        SegmentContentWriter<Event> eventWriter = (events, outputStream) ->
+            JsonAddressBookCodec.writeEvents(events, snapshot, outputStream);
+
+        SegmentWriter writer;
+        List<JsonAdaptedSegment> newContactSegments;
+        List<JsonAdaptedSegment> newEventSegments;
+        if (delta.isEmpty()) {
+            writer = new SegmentWriter(directoryPath, firstFreeSegmentId(directoryPath));
+            newContactSegments = writer.write(snapshot.getContactList(), CONTACT_SEGMENT_PREFIX, contactWriter);
+            newEventSegments = writer.write(snapshot.getEventList(), EVENT_SEGMENT_PREFIX, eventWriter);
+        } else {
+            SegmentPlan contactPlan = new SegmentPlan(contactSegments);
+            SegmentPlan eventPlan = new SegmentPlan(eventSegments);
+            delta.get().forEachChange(new AddressBookDelta.ChangeVisitor() {
+                @Override
+                public void visitContactEdit(ListEdit<Contact> contactEdit) {
+                    ListEdit<Contact> trimmed = contactEdit.trimmed();
+                    contactPlan.plan(trimmed.getIndex(), trimmed.getRemoved().size(), trimmed.getAdded().size());
+                }
+
+                @Override
+                public void visitEventEdit(ListEdit<Event> eventEdit) {
+                    ListEdit<Event> trimmed = eventEdit.trimmed();
+                    eventPlan.plan(trimmed.getIndex(), trimmed.getRemoved().size(), trimmed.getAdded().size());
+                }
+
+                @Override
+                public void visitContactReorder(ListPermutation contactReorder) {
+                    contactPlan.plan(contactReorder.getIndex(), contactReorder.size(), contactReorder.size());
+                }
+
+                @Override
+                public void visitEventReorder(ListPermutation eventReorder) {
+                    eventPlan.plan(eventReorder.getIndex(), eventReorder.size(), eventReorder.size());
+                }
+
+                @Override
+                public void visitLinkEdit(UUID contactUuid, UUID eventUuid, boolean isLinked) {
+                    // the contact and the event each hold the link, so the segments holding them are both rewritten
+                    contactPlan.planRewrite(contactSegmentFiles.get(contactUuid));
+                    eventPlan.planRewrite(eventSegmentFiles.get(eventUuid));
+                }
+            });
+            if (!contactPlan.hasChanges() && !eventPlan.hasChanges()) {
+                lastSaved = snapshot;
+                return;
+            }
+            writer = new SegmentWriter(directoryPath, nextSegmentId);
+            newContactSegments = contactPlan.write(writer, snapshot.getContactList(), CONTACT_SEGMENT_PREFIX,
+                    contactWriter, Contact::getUuid, contactSegmentFiles);
+            newEventSegments = eventPlan.write(writer, snapshot.getEventList(), EVENT_SEGMENT_PREFIX, eventWriter,
+                    Event::getUuid, eventSegmentFiles);
+        }
+
+        JsonSegmentManifest manifest = new JsonSegmentManifest(newContactSegments, newEventSegments,
+                writer.nextSegmentId);
+        byte[] manifestContent = JsonUtil.toJsonString(manifest).getBytes(UTF_8);
+        FileUtil.writeAtomically(directoryPath.resolve(MANIFEST_FILE_NAME),
+            outputStream -> outputStream.write(manifestContent));
+        deleteUnlistedSegments(directoryPath, delta.isEmpty() ? null : writer.replacedFileNames, manifest);
+
+        if (isDataDirectory) {
+            lastSaved = snapshot;
+            contactSegments = newContactSegments;
+            eventSegments = newEventSegments;
+            nextSegmentId = writer.nextSegmentId;
+            // the segment files of the contacts and events removed are only forgotten once they pile up
+            boolean isRewritten = delta.isEmpty();
+            if (isRewritten || contactSegmentFiles.size() > 2 * snapshot.getContactList().size() + MAX_SEGMENT_SIZE) {
+                contactSegmentFiles = segmentFilesOf(newContactSegments, snapshot.getContactList(), Contact::getUuid);
+            }
+            if (isRewritten || eventSegmentFiles.size() > 2 * snapshot.getEventList().size() + MAX_SEGMENT_SIZE) {
+                eventSegmentFiles = segmentFilesOf(newEventSegments, snapshot.getEventList(), Event::getUuid);
+            }
+        }
+    }
+
+    /**
+     * Returns the file names of {@code segments}, which hold {@code elements} in order, by the UUIDs of the elements
+     * they hold.
+     */
+    private static <E> Map<UUID, String> segmentFilesOf(List<JsonAdaptedSegment> segments, List<E> elements,
+            Function<E, UUID> uuidOf) {
+        Map<UUID, String> segmentFiles = new HashMap<>();
+        putSegmentFiles(segmentFiles, segments, elements, uuidOf);
+        return segmentFiles;
+    }
+
+    private static <E> void putSegmentFiles(Map<UUID, String> segmentFiles, List<JsonAdaptedSegment> segments,
+            List<E> elements, Function<E, UUID> uuidOf) {
+        int index = 0;
+        for (JsonAdaptedSegment segment : segments) {
+            for (E element : elements.subList(index, index + segment.getSize())) {
+                segmentFiles.put(uuidOf.apply(element), segment.getFileName());
+            }
+            index += segment.getSize();
+        }
+    }
+
+    /**
+     * Deletes the segment files in {@code directoryPath} not listed in {@code manifest}, out of
+     * {@code candidateFileNames}, or out of all the files in the directory if {@code candidateFileNames} is null.
+     */
+    private static void deleteUnlistedSegments(Path directoryPath, List<String> candidateFileNames,
+            JsonSegmentManifest manifest) throws IOException {
+        Set<String> listedFileNames = new HashSet<>();
+        manifest.getContactSegments().forEach(segment -> listedFileNames.add(segment.getFileName()));
+        manifest.getEventSegments().forEach(segment -> listedFileNames.add(segment.getFileName()));
+
+        List<String> fileNames = candidateFileNames != null ? candidateFileNames : listSegmentFileNames(directoryPath);
+        for (String fileName : fileNames) {
+            if (!listedFileNames.contains(fileName)) {
+                Files.deleteIfExists(directoryPath.resolve(fileName));
+            }
+        }
+    }
+
+    /**
+     * Returns a segment file number greater than that of every segment file in {@code directoryPath}, so that new
+     * segment files never replace the files of the address book already there.
+     */
+    private static long firstFreeSegmentId(Path directoryPath) throws IOException {
+        long firstFreeId = 0;
+        for (String fileName : listSegmentFileNames(directoryPath)) {
+            Matcher matcher = SEGMENT_FILE_NAME_FORMAT.matcher(fileName);
+            if (matcher.matches()) {
+                firstFreeId = Math.max(firstFreeId, Long.parseLong(matcher.group(1)) + 1);
+            }
+        }
+        return firstFreeId;
+    }
+
+    private static List<String> listSegmentFileNames(Path directoryPath) throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        if (!Files.isDirectory(directoryPath)) {
+            return fileNames;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (SEGMENT_FILE_NAME_FORMAT.matcher(fileName).matches()) {
+                    fileNames.add(fileName);
+                }
+            }
+        }
+        return fileNames;
+    }
+
+    /**
+     * Writes a run of contacts or events to a segment file.
+     */
+    @FunctionalInterface
+    private interface SegmentContentWriter<E> {
+        void write(List<E> elements, OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * The segments of a list of contacts or events, as they are to be replaced after the edits made to the list since
+     * it was last saved. The edits are planned one after another, and the new segments are only written once all of
+     * them have been planned, from the list as it is after them.
+     */
+    private static class SegmentPlan {
+        private final List<JsonAdaptedSegment> segments;
+        // the segments kept as they are, with null in place of each run of elements to be written to new segments
+        private final List<JsonAdaptedSegment> planned;
+        // the number of elements held by each planned segment
+        private final List<Integer> plannedSizes;
+
+        SegmentPlan(List<JsonAdaptedSegment> segments) {
+            this.segments = segments;
+            planned = new ArrayList<>(segments);
+            plannedSizes = new ArrayList<>();
+            segments.forEach(segment -> plannedSizes.add(segment.getSize()));
+        }
+
+        /**
+         * Plans for the segments holding the elements changed by an edit, which replaces {@code removedSize} elements
+         * starting at {@code index} with {@code addedSize} elements, to be replaced by new segments.
+         */
+        void plan(int index, int removedSize, int addedSize) {
+            if (removedSize == 0 && addedSize == 0) {
+                return;
+            }
+            int editStart = index;
+            int editEnd = editStart + removedSize;
+
+            // the segments from first until last hold the elements from runStart until runEnd before the edit,
+            // which include the edited elements
+            int first = 0;
+            int runStart = 0;
+            while (first < planned.size() - 1 && runStart + plannedSizes.get(first) <= editStart) {
+                runStart += plannedSizes.get(first);
+                first++;
+            }
+            int last = first;
+            int runEnd = runStart;
+            while (last < planned.size() && (last == first || runEnd < editEnd)) {
+                runEnd += plannedSizes.get(last);
+                last++;
+            }
+
+            // small runs take in a neighbouring segment, so that segments do not keep shrinking as elements are removed
+            int sizeChange = addedSize - removedSize;
+            while (runEnd - runStart + sizeChange < MAX_SEGMENT_SIZE / 2 && (last < planned.size() || first > 0)) {
+                if (last < planned.size()) {
+                    runEnd += plannedSizes.get(last);
+                    last++;
+                } else {
+                    first--;
+                    runStart -= plannedSizes.get(first);
+                }
+            }
+
+            planned.subList(first, last).clear();
+            plannedSizes.subList(first, last).clear();
+            if (runEnd - runStart + sizeChange > 0) {
+                planned.add(first, null);
+                plannedSizes.add(first, runEnd - runStart + sizeChange);
+            }
+        }
+
+        /**
+         * Plans for the segment in {@code fileName}, if it is still kept, to be replaced by a new segment holding the
+         * same elements.
+         */
+        void planRewrite(String fileName) {
+            for (int i = 0; fileName != null && i < planned.size(); i++) {
+                if (planned.get(i) != null && planned.get(i).getFileName().equals(fileName)) {
+                    planned.set(i, null);
+                    return;
+                }
+            }
+        }
+
+        boolean hasChanges() {
+            return planned.size() != segments.size() || planned.contains(null);
+        }
+
+        /**
+         * Writes the new segments planned, taking their elements from {@code elements}, which are the elements of the
+         * list after all the edits planned, and returns the segments which then hold the list. The file names of the
+         * segments replaced are kept by {@code writer}, and the file names of the new segments are put in
+         * {@code segmentFiles} by the UUIDs of the elements they hold.
+         */
+        <E> List<JsonAdaptedSegment> write(SegmentWriter writer, List<E> elements, String prefix,
+                SegmentContentWriter<E> contentWriter, Function<E, UUID> uuidOf, Map<UUID, String> segmentFiles)
+                throws IOException {
+            List<JsonAdaptedSegment> updated = new ArrayList<>();
+            int index = 0;
+            int i = 0;
+            while (i < planned.size()) {
+                if (planned.get(i) != null) {
+                    updated.add(planned.get(i));
+                    index += plannedSizes.get(i);
+                    i++;
+                    continue;
+                }
+                // consecutive runs are written together, so that they fill as few segments as they fit in
+                int runStart = index;
+                while (i < planned.size() && planned.get(i) == null) {
+                    index += plannedSizes.get(i);
+                    i++;
+                }
+                List<E> run = elements.subList(runStart, index);
+                List<JsonAdaptedSegment> written = writer.write(run, prefix, contentWriter);
+                putSegmentFiles(segmentFiles, written, run, uuidOf);
+                updated.addAll(written);
+            }
+
+            Set<String> keptFileNames = new HashSet<>();
+            updated.forEach(segment -> keptFileNames.add(segment.getFileName()));
+            segments.stream().map(JsonAdaptedSegment::getFileName).filter(fileName -> !keptFileNames.contains(fileName))
+                .forEach(writer.replacedFileNames::add);
+            return updated;
+        }
+    }
+
+    /**
+     * Writes new segment files to a directory, numbered one after another.
+     */
+    private static class SegmentWriter {
+        private final Path directoryPath;
+        private final List<String> replacedFileNames = new ArrayList<>();
+        private long nextSegmentId;
+    // The segment file last written with each contact or event, which may no longer be listed, by their UUIDs
+    private Map<UUID, String> contactSegmentFiles;
+    private Map<UUID, String> eventSegmentFiles;
+
+        SegmentWriter(Path directoryPath, long nextSegmentId) {
+            this.directoryPath = directoryPath;
+            this.nextSegmentId = nextSegmentId;
+        }
+
+        /**
+         * Writes {@code elements} to as few new segment files as they fit in, of about the same size.
+         */
+        <E> List<JsonAdaptedSegment> write(List<E> elements, String prefix, SegmentContentWriter<E> contentWriter)
+                throws IOException {
+            List<JsonAdaptedSegment> written = new ArrayList<>();
+            int segmentCount = (elements.size() + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE;
+            for (int i = 0; i < segmentCount; i++) {
+                List<E> segmentElements = elements.subList(elements.size() * i / segmentCount,
+                        elements.size() * (i + 1) / segmentCount);
+                String fileName = prefix + nextSegmentId++ + SEGMENT_FILE_EXTENSION;
+                CRC32 checksum = new CRC32();
+                FileUtil.writeAtomically(directoryPath.resolve(fileName), outputStream ->
+                    contentWriter.write(segmentElements, new CheckedOutputStream(outputStream, checksum)));
+                written.add(new JsonAdaptedSegment(fileName, segmentElements.size(), checksum.getValue()));
+            }
+            return written;
+        }
+    }
+}
@@ -2,17 +2,20 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.EventArchive;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, EventArchiveStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -29,4 +32,30 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    Path getEventArchiveFilePath();
+
+    @Override
+    List<ArchivedEvent> readEventArchive() throws DataConversionException, IOException;
+
+    @Override
+    void saveEventArchive(EventArchive eventArchive) throws IOException;
+
+    /**
+     * Saves {@code addressBook} and {@code eventArchive} in the order which never loses an event moved between them.
+     * Events archived since the last save are added to the archive before the address book without them is saved,
+     * while the address book with the events restored since the last save is saved before the archive is written
+     * afresh without them.
+     */
+    default void saveAddressBookAndEventArchive(ReadOnlyAddressBook addressBook, EventArchive eventArchive)
+            throws IOException {
+        if (eventArchive.isRewriteNeeded()) {
+            saveAddressBook(addressBook);
+            saveEventArchive(eventArchive);
+        } else {
+            saveEventArchive(eventArchive);
+            saveAddressBook(addressBook);
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,8 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.EventArchive;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,14 +22,41 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private EventArchiveStorage eventArchiveStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * keeps archived events in a json file next to the address book data.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new JsonEventArchiveStorage(
+                JsonEventArchiveStorage.archivePathOf(addressBookStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage} and
+     * {@code EventArchiveStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          EventArchiveStorage eventArchiveStorage) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.eventArchiveStorage = eventArchiveStorage;
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} for the format the address book at {@code addressBookFilePath} is kept in,
+     * which is told by its file extension.
+     */
+    public static AddressBookStorage addressBookStorageFor(Path addressBookFilePath) {
+        if (BinaryAddressBookStorage.isBinaryFile(addressBookFilePath)) {
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        }
+        if (SegmentedAddressBookStorage.isSegmentedDirectory(addressBookFilePath)) {
+            return new SegmentedAddressBookStorage(addressBookFilePath);
+        }
+        return new JournaledAddressBookStorage(addressBookFilePath);
     }
 
     // ================ UserPrefs methods ==============================
@@ -76,4 +106,23 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    // ================ EventArchive methods ==============================
+
+    @Override
+    public Path getEventArchiveFilePath() {
+        return eventArchiveStorage.getEventArchiveFilePath();
+    }
+
+    @Override
+    public List<ArchivedEvent> readEventArchive() throws DataConversionException, IOException {
+        logger.fine("Attempting to read archived events from file: " + getEventArchiveFilePath());
+        return eventArchiveStorage.readEventArchive();
+    }
+
+    @Override
+    public void saveEventArchive(EventArchive eventArchive) throws IOException {
+        logger.fine("Attempting to write archived events to file: " + getEventArchiveFilePath());
+        eventArchiveStorage.saveEventArchive(eventArchive);
+    }
+
 }
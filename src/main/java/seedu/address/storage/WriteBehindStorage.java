@@ -0,0 +1,256 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.EventArchive;
+
+/**
+ * A {@code Storage} which saves address books in the background, so that saving an address book does not wait for
+ * it to be written to the disk.
+ * <p>
+ * Saving an address book takes a snapshot of it, which is written later by a single background writer. An address
+ * book which has not changed since the one last saved is not written again, which is told in O(1) time as unchanged
+ * address books share their lists. Address books saved while an earlier one is being written are coalesced, so that
+ * only the latest of them is written next.
+ * <p>
+ * A write which fails is passed to the failure handler as soon as it fails, if one is set, and is otherwise reported
+ * by throwing its {@code IOException} from the next call to {@link #saveAddressBook(ReadOnlyAddressBook)}. Either
+ * way, the address book is written again the next time it is saved, and the failure is no longer reported once it has
+ * been written, while {@link #flush()} throws the failure until then.
+ * <p>
+ * All other operations are passed on to the wrapped {@code Storage} as they are.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true); // unwritten address books are flushed when the application stops
+        return thread;
+    });
+
+    // the fields below are guarded by lock
+    private final Object lock = new Object();
+    private ReadOnlyAddressBook latest; // latest address book saved, which is written or to be written
+    private ReadOnlyAddressBook pending; // address book to be written next, or null if there is none
+    private boolean isWriting;
+    private IOException unreportedFailure; // failure of the last write, or null if it did not fail or was reported
+    private Consumer<IOException> failureHandler; // null if failures are reported by the next save
+
+    /**
+     * Creates a {@code WriteBehindStorage} which saves address books in the background with {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Passes each write which fails to {@code failureHandler} on the background writer as soon as it fails, instead of
+     * throwing it from the next save.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        synchronized (lock) {
+            this.failureHandler = failureHandler;
+        }
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} to be written in the background, unless it has not changed since the
+     * address book last saved.
+     *
+     * @throws IOException if an earlier write failed and has not been reported, when there is no failure handler.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = AddressBook.snapshotOf(addressBook);
+        IOException failure = null;
+        synchronized (lock) {
+            if (failureHandler == null) {
+                failure = unreportedFailure;
+                unreportedFailure = null;
+            }
+            if (latest == null || !AddressBook.isSameSnapshot(snapshot, latest)) {
+                latest = snapshot;
+                pending = snapshot;
+                if (!isWriting) {
+                    isWriting = true;
+                    writer.execute(this::writePendingAddressBooks);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} right away, after the address books saved earlier are written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ EventArchive methods ==============================
+
+    @Override
+    public Path getEventArchiveFilePath() {
+        return storage.getEventArchiveFilePath();
+    }
+
+    @Override
+    public List<ArchivedEvent> readEventArchive() throws DataConversionException, IOException {
+        return storage.readEventArchive();
+    }
+
+    /**
+     * Saves {@code eventArchive}. If it is to be written afresh, as events have been restored from it, this first
+     * waits for the address books saved so far to be written, as the restored events may be only in those.
+     *
+     * @throws IOException if the archive cannot be saved, or it is to be written afresh and the last write of the
+     *     address book failed.
+     */
+    @Override
+    public void saveEventArchive(EventArchive eventArchive) throws IOException {
+        if (eventArchive.isRewriteNeeded()) {
+            flush();
+        }
+        storage.saveEventArchive(eventArchive);
+    }
+
+    /**
+     * Waits until every address book saved so far has been written.
+     *
+     * @throws IOException if the last write failed and has not been reported by a save.
+     */
+    public void flush() throws IOException {
+        IOException failure;
+        synchronized (lock) {
+            try {
+                while (isWriting) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the address book to be written", e);
+            }
+            failure = unreportedFailure;
+            unreportedFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Waits until every address book saved so far has been written, then stops the background writer.
+     * No address book can be saved afterwards.
+     *
+     * @throws IOException if the last write failed and has not been reported by a save.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Writes the pending address book until there is none left. Runs on the background writer.
+     */
+    private void writePendingAddressBooks() {
+        ReadOnlyAddressBook toWrite;
+        while ((toWrite = takePending()) != null) {
+            try {
+                storage.saveAddressBook(toWrite);
+                synchronized (lock) {
+                    unreportedFailure = null; // the address book failed to be written before has been written now
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to write address book: " + StringUtil.getDetails(e));
+                IOException failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                Consumer<IOException> handler;
+                synchronized (lock) {
+                    unreportedFailure = failure;
+                    if (pending == null) {
+                        latest = null; // so that the address book is written again the next time it is saved
+                    }
+                    handler = failureHandler;
+                }
+                if (handler != null) {
+                    handler.accept(failure);
+                }
+            }
+        }
+    }
+
+    private ReadOnlyAddressBook takePending() {
+        synchronized (lock) {
+            ReadOnlyAddressBook toWrite = pending;
+            pending = null;
+            if (toWrite == null) {
+                isWriting = false;
+                lock.notifyAll();
+            }
+            return toWrite;
+        }
+    }
+}
@@ -7,7 +7,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Comparator;
-import java.util.UUID;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -154,13 +154,11 @@ public class ContactCard extends UiPart<Region> {
             tags.setManaged(true);
         }
 
-        if (!contact.getLinkedEvents().isEmpty()) {
-            contact.getLinkedEvents().stream()
-                    .sorted(Comparator.comparing(UUID::toString))
-                    .forEach(eventUuid -> {
-                        String eventName = Event.findByUuid(eventUuid).getName().toString();
-                        links.getChildren().add(new Label(eventName));
-                    });
+        List<Event> linkedEvents = mainWindow.getLinksOfContact(contact);
+        if (!linkedEvents.isEmpty()) {
+            linkedEvents.stream()
+                    .sorted(Comparator.comparing(event -> event.getUuid().toString()))
+                    .forEach(event -> links.getChildren().add(new Label(event.getName().toString())));
             linkToEvent.setManaged(true);
             linkToEvent.setVisible(true);
             links.setManaged(true);
@@ -5,7 +5,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Comparator;
-import java.util.UUID;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -149,11 +149,11 @@ public class EventCard extends UiPart<Region> {
             tags.setManaged(true);
         }
 
-        if (!event.getLinkedContacts().isEmpty()) {
-            event.getLinkedContacts().stream()
-                .sorted(Comparator.comparing(UUID::toString))
-                .forEach(contactUuid -> links.getChildren()
-                    .add(new Label(Contact.findByUuid(contactUuid).getName().toString())));
+        List<Contact> linkedContacts = mainWindow.getLinksOfEvent(event);
+        if (!linkedContacts.isEmpty()) {
+            linkedContacts.stream()
+                .sorted(Comparator.comparing(contact -> contact.getUuid().toString()))
+                .forEach(contact -> links.getChildren().add(new Label(contact.getName().toString())));
             linkToContact.setManaged(true);
             linkToContact.setVisible(true);
             links.setManaged(true);
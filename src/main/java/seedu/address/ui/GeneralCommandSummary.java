@@ -8,6 +8,7 @@ import seedu.address.logic.commands.general.CalendarCommand;
 import seedu.address.logic.commands.general.ExitCommand;
 import seedu.address.logic.commands.general.HelpCommand;
 import seedu.address.logic.commands.general.RedoCommand;
+import seedu.address.logic.commands.general.StatsCommand;
 import seedu.address.logic.commands.general.UndoCommand;
 
 
@@ -18,6 +19,7 @@ public class GeneralCommandSummary {
     public static final String HELP = "Help";
     public static final String UNDO = "Undo";
     public static final String REDO = "Redo";
+    public static final String STATS = "Show performance stats";
 
     private StringProperty action;
 
@@ -83,6 +85,7 @@ public class GeneralCommandSummary {
                 new GeneralCommandSummary(EXIT, ExitCommand.SYNTAX),
                 new GeneralCommandSummary(HELP, HelpCommand.SYNTAX),
                 new GeneralCommandSummary(REDO, RedoCommand.SYNTAX),
+                new GeneralCommandSummary(STATS, StatsCommand.SYNTAX),
                 new GeneralCommandSummary(UNDO, UndoCommand.SYNTAX));
     }
 }
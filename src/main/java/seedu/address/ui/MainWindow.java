@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -10,12 +15,13 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import seedu.address.commons.core.CommandStats;
+import seedu.address.commons.core.CommandStats.Phase;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.event.Event;
 
@@ -129,6 +135,10 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        if (logic.isLoading()) {
+            resultDisplay.setFeedbackToUser(Messages.MESSAGE_LOADING);
+            logic.addLoadedListener(this::handleLoaded);
+        }
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -137,6 +147,23 @@ public class MainWindow extends UiPart<Stage> {
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Tells the user that the contacts and events have been loaded, unless the result of a command is shown instead.
+     */
+    private void handleLoaded() {
+        if (resultDisplay.getFeedbackToUser().equals(Messages.MESSAGE_LOADING)) {
+            resultDisplay.setFeedbackToUser(String.format(Messages.MESSAGE_LOADED,
+                logic.getAddressBook().getContactList().size(), logic.getAddressBook().getEventList().size()));
+        }
+    }
+
+    /**
+     * Shows {@code notice} in the result display, in place of the result of the last command.
+     */
+    void showNotice(String notice) {
+        resultDisplay.setFeedbackToUser(notice);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -202,6 +229,16 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay.setFeedbackToUser(message);
     }
 
+    /** Returns the contacts linked to the {@code event}. */
+    public List<Contact> getLinksOfEvent(Event event) {
+        return this.logic.getLinkedContacts(event);
+    }
+
+    /** Returns the events linked to the {@code contact}. */
+    public List<Event> getLinksOfContact(Contact contact) {
+        return this.logic.getLinkedEvents(contact);
+    }
+
     /** Filters the list of contacts to show the linked contacts of the {@code event}. */
     public void showLinksOfEvent(Event event) {
         this.logic.filterContactsWithLinksToEvent(event);
@@ -223,13 +260,25 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, and shows its result once it has been executed.
+     * The returned future is completed on the UI thread after the result is shown.
+     * The time from the command being executed to its result being shown, which includes updating the lists shown
+     * with the changes it made, is recorded as the display phase of the command.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        AtomicLong executedNanos = new AtomicLong();
+        return logic.submit(commandText).whenComplete((commandResult, failure) -> {
+            executedNanos.set(System.nanoTime());
+        }).whenCompleteAsync((commandResult, failure) -> {
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -248,11 +297,8 @@ public class MainWindow extends UiPart<Stage> {
             if (calendarWindow != null) {
                 calendarWindow.updateCalendar(commandResult.getEventChangerList());
             }
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+            CommandStats.of(CommandStats.commandWordOf(commandText))
+                    .recordLatency(Phase.DISPLAY, System.nanoTime() - executedNanos.get());
+        }, Platform::runLater);
     }
 }
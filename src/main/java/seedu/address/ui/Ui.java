@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code notice} to the user in place of the result of a command. Must be called on the UI thread. */
+    void showNotice(String notice);
+
 }
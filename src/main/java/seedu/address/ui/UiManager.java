@@ -51,6 +51,14 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showNotice(String notice) {
+        logger.info("Notice: " + notice);
+        if (mainWindow != null) {
+            mainWindow.showNotice(notice);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -37,6 +37,35 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validGenerate_success() {
+        parametersStub.namedParameters.put("generate", "1000, 100");
+        parametersStub.namedParameters.put("seed", "42");
+        expected.setSampleDataSize(new AppParameters.SampleDataSize(1000, 100));
+        expected.setSampleDataSeed(42);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidGenerate_sampleDataUsed() {
+        parametersStub.namedParameters.put("generate", "1000");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("generate", "1000,-1");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("generate", "many,100");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidSeed_defaultSeedUsed() {
+        parametersStub.namedParameters.put("generate", "1000,100");
+        parametersStub.namedParameters.put("seed", "random");
+        expected.setSampleDataSize(new AppParameters.SampleDataSize(1000, 100));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,108 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.general.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.general.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.general.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.general.CommandTestUtil.NAME_DESC_BOB;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.contact.CAddCommand;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class BatchMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+    private Path configPath;
+    private Path addressBookPath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configPath = temporaryFolder.resolve("config.json");
+        addressBookPath = temporaryFolder.resolve("soconnect.json");
+        Path userPrefsPath = temporaryFolder.resolve("preferences.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsPath);
+        ConfigUtil.saveConfig(config, configPath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookPath);
+        new JsonUserPrefsStorage(userPrefsPath).saveUserPrefs(userPrefs);
+    }
+
+    @Test
+    public void run_validScript_commandsSaved() throws Exception {
+        Path scriptPath = writeScript(CAddCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY,
+                CAddCommand.COMMAND_WORD + NAME_DESC_BOB + EMAIL_DESC_BOB);
+
+        assertEquals(BatchMain.EXIT_SUCCESS, BatchMain.run(new String[] {"--config=" + configPath,
+            scriptPath.toString()}, out));
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(addressBookPath).readAddressBook().get();
+        assertEquals(2, saved.getContactList().size());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Ran 2 commands (0 failed)"));
+    }
+
+    @Test
+    public void run_failingLine_errorReportedAndNothingSaved() throws Exception {
+        Path scriptPath = writeScript(CAddCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY, "cdelete 9");
+
+        assertEquals(BatchMain.EXIT_COMMANDS_FAILED, BatchMain.run(new String[] {"--config=" + configPath,
+            scriptPath.toString()}, out));
+        assertFalse(Files.exists(addressBookPath));
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("Line 2 [cdelete 9]"));
+        assertTrue(printed.contains("Ran 2 commands (1 failed)"));
+        assertTrue(printed.contains(BatchMain.MESSAGE_DISCARDED));
+    }
+
+    @Test
+    public void run_failingLineKeepingGoing_otherLinesSaved() throws Exception {
+        Path scriptPath = writeScript(CAddCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY, "cdelete 9");
+
+        assertEquals(BatchMain.EXIT_COMMANDS_FAILED, BatchMain.run(new String[] {"--config=" + configPath,
+            "--keep-going", scriptPath.toString()}, out));
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(addressBookPath).readAddressBook().get();
+        assertEquals(1, saved.getContactList().size());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Line 2 [cdelete 9]"));
+    }
+
+    @Test
+    public void run_missingScript_notRun() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        assertEquals(BatchMain.EXIT_NOT_RUN, BatchMain.run(new String[] {"--config=" + configPath,
+            scriptPath.toString()}, out));
+    }
+
+    @Test
+    public void run_noScriptGiven_usagePrinted() {
+        assertEquals(BatchMain.EXIT_NOT_RUN, BatchMain.run(new String[] {"--config=" + configPath}, out));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains(BatchMain.MESSAGE_USAGE));
+    }
+
+    private Path writeScript(String... commandLines) throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(commandLines), StandardCharsets.UTF_8);
+        return scriptPath;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.general.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.general.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.commons.core.CommandTrace;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.TraceRecorder;
+import seedu.address.logic.commands.contact.CAddCommand;
+import seedu.address.logic.commands.contact.CListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CommandTraceStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ReplayMainTest {
+
+    private static final long HOUR_NANOS = 3_600_000_000_000L;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+    private Path tracePath;
+
+    @BeforeEach
+    public void setUp() {
+        tracePath = temporaryFolder.resolve("commands.trace");
+    }
+
+    @Test
+    public void run_recordedTrace_noneSlowerOrDiverged() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        LogicManager logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("soconnect.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json"))));
+        TraceRecorder recorder = new TraceRecorder(new CommandTraceStorage(tracePath), "soconnect.json");
+        logic.setTraceRecorder(recorder);
+        logic.execute(CAddCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY);
+        try {
+            logic.execute("cdelete 99");
+        } catch (CommandException e) {
+            // replayed as a failed command
+        }
+        logic.execute(CListCommand.COMMAND_WORD);
+        recorder.close();
+
+        // the threshold is high enough that no command can be slower on a busy machine
+        assertEquals(ReplayMain.EXIT_SUCCESS, ReplayMain.run(new String[] {"--threshold=1000000", "--runs=1",
+            tracePath.toString()}, out));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Replayed 3 commands 1 times: 0 slower by more "
+                + "than 1000000%, 0 diverged"));
+    }
+
+    @Test
+    public void run_differentFingerprint_diverged() throws Exception {
+        writeTrace(new CommandTrace(CListCommand.COMMAND_WORD, 0, Map.of(Phase.EXECUTE, HOUR_NANOS), true, 0));
+
+        assertEquals(ReplayMain.EXIT_REGRESSED, ReplayMain.run(new String[] {"--runs=1", tracePath.toString()}, out));
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains(String.format(ReplayMain.MESSAGE_DIVERGED, 1, CListCommand.COMMAND_WORD)));
+        assertTrue(printed.contains("0 slower"));
+    }
+
+    @Test
+    public void run_missingTrace_notRun() {
+        assertEquals(ReplayMain.EXIT_NOT_RUN, ReplayMain.run(new String[] {tracePath.toString()}, out));
+    }
+
+    @Test
+    public void run_invalidArguments_usagePrinted() {
+        assertEquals(ReplayMain.EXIT_NOT_RUN, ReplayMain.run(new String[] {}, out));
+        assertEquals(ReplayMain.EXIT_NOT_RUN, ReplayMain.run(new String[] {"--runs=0", tracePath.toString()}, out));
+        assertEquals(ReplayMain.EXIT_NOT_RUN, ReplayMain.run(new String[] {"--threshold=x", tracePath.toString()},
+                out));
+        assertEquals(ReplayMain.EXIT_NOT_RUN, ReplayMain.run(new String[] {tracePath.toString(),
+            tracePath.toString()}, out));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains(ReplayMain.MESSAGE_USAGE));
+    }
+
+    private void writeTrace(CommandTrace... commands) throws Exception {
+        try (CommandTraceStorage storage = new CommandTraceStorage(tracePath)) {
+            storage.start(getTypicalAddressBook(), "soconnect.json", 0);
+            for (CommandTrace command : commands) {
+                storage.append(command);
+            }
+        }
+    }
+}
@@ -11,7 +11,8 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Trace file Location : null";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,65 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+        assertEquals(8, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(0));
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinEighthAbove() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1_000_000);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertPercentile(500_000_000, histogram.getPercentile(50));
+        assertPercentile(950_000_000, histogram.getPercentile(95));
+        assertPercentile(990_000_000, histogram.getPercentile(99));
+        assertPercentile(1_000_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void record_extremeValues_recorded() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        Histogram histogram = new Histogram();
+        assertThrows(IllegalArgumentException.class, Histogram.MESSAGE_INVALID_PERCENTILE, () ->
+                histogram.getPercentile(101));
+        assertThrows(IllegalArgumentException.class, Histogram.MESSAGE_INVALID_PERCENTILE, () ->
+                histogram.getPercentile(-1));
+    }
+
+    private static void assertPercentile(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8, "expected about " + expected
+                + " but was " + actual);
+    }
+}
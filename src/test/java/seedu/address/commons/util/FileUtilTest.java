@@ -1,13 +1,20 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +27,17 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void getBytesWritten_filesWritten_bytesCounted() throws Exception {
+        long bytesWritten = FileUtil.getBytesWritten();
+        FileUtil.writeToFile(testFolder.resolve("plain.txt"), "12345");
+        FileUtil.writeAtomically(testFolder.resolve("atomic.txt"), outputStream -> {
+            outputStream.write(new byte[] {1, 2, 3});
+            outputStream.write(4);
+        });
+        // other tests may write files at the same time
+        assertTrue(FileUtil.getBytesWritten() - bytesWritten >= 9);
+        assertEquals("12345", FileUtil.readFromFile(testFolder.resolve("plain.txt")));
+    }
+
 }
@@ -0,0 +1,192 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonEventArchiveStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.ContactBuilder;
+
+public class AddressBookLoaderTest {
+
+    private static final int CONTACT_COUNT = 2 * AddressBookLoader.BATCH_SIZE + 1;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private final ModelManager model = new ModelManager(new AddressBook(), new UserPrefs());
+    private StorageManager storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        addressBook = new AddressBook();
+        for (int i = 0; i < CONTACT_COUNT; i++) {
+            addressBook.addContact(new ContactBuilder().withName("Contact " + i).withRandomUuid()
+                    .build());
+        }
+        for (Event event : getTypicalEvents()) {
+            addressBook.addEvent(event);
+        }
+    }
+
+    @Test
+    public void start_addressBookInStorage_loadedInBatches() throws Exception {
+        storage.saveAddressBook(addressBook);
+        AddressBookLoader loader = new AddressBookLoader(model, storage, uiTasks::add);
+        loader.start();
+
+        runNextUiTask();
+        assertEquals(AddressBookLoader.BATCH_SIZE, model.getAddressBook().getContactList().size());
+        assertFalse(loader.isLoaded());
+
+        while (!loader.isLoaded()) {
+            runNextUiTask();
+        }
+        assertEquals(addressBook, model.getAddressBook());
+        assertTrue(uiTasks.isEmpty());
+        assertFalse(model.isUndoable());
+    }
+
+    @Test
+    public void awaitLoaded_beforeAnyBatch_allLoaded() throws Exception {
+        storage.saveAddressBook(addressBook);
+        AddressBookLoader loader = new AddressBookLoader(model, storage, uiTasks::add);
+        boolean[] isListenerRun = new boolean[1];
+        loader.addLoadedListener(() -> isListenerRun[0] = true);
+        loader.start();
+
+        loader.awaitLoaded();
+        assertTrue(loader.isLoaded());
+        assertTrue(isListenerRun[0]);
+        assertEquals(addressBook, model.getAddressBook());
+
+        // the batch queued by the reader finds nothing left to add
+        runNextUiTask();
+        assertEquals(addressBook, model.getAddressBook());
+        assertTrue(uiTasks.isEmpty());
+    }
+
+    @Test
+    public void start_missingFile_sampleAddressBookLoaded() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader(model, storage, uiTasks::add);
+        loader.start();
+        loader.awaitLoaded();
+        ReadOnlyAddressBook sampleAddressBook = SampleDataUtil.getSampleAddressBook();
+        assertEquals(sampleAddressBook.getContactList().size(), model.getAddressBook().getContactList().size());
+        assertEquals(sampleAddressBook.getEventList().size(), model.getAddressBook().getEventList().size());
+    }
+
+    @Test
+    public void start_missingFileWithGeneratedData_generatedAddressBookLoaded() throws Exception {
+        SampleDataGenerator generator = new SampleDataGenerator(42, CONTACT_COUNT, 10);
+        AddressBookLoader loader = new AddressBookLoader(model, storage, uiTasks::add, generator::generate);
+        loader.start();
+        loader.awaitLoaded();
+        assertEquals(generator.generate(), model.getAddressBook());
+    }
+
+    @Test
+    public void start_invalidFile_fileMovedAsideAndEmptyAddressBookLoaded() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        Path archivePath = JsonEventArchiveStorage.archivePathOf(filePath);
+        storage = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        FileUtil.writeToFile(filePath, "not json");
+        FileUtil.writeToFile(temporaryFolder.resolve("addressBook.json.journal"), "journal");
+        FileUtil.writeToFile(archivePath, "");
+        AddressBookLoader loader = new AddressBookLoader(model, storage, uiTasks::add);
+        loader.start();
+        loader.awaitLoaded();
+
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertFalse(loader.isReadOnly());
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(archivePath));
+        Path backupPath;
+        try (Stream<Path> files = Files.list(temporaryFolder)) {
+            backupPath = files.filter(path -> path.getFileName().toString().contains(AddressBookLoader.BACKUP_INFIX)
+                    && path.getFileName().toString().endsWith(".json")).findAny().get();
+        }
+        assertEquals("not json", FileUtil.readFromFile(backupPath));
+        Path backupJournalPath = backupPath.resolveSibling(backupPath.getFileName() + ".journal");
+        assertEquals("journal", FileUtil.readFromFile(backupJournalPath));
+        assertEquals(Optional.of(String.format(Messages.MESSAGE_DATA_FILE_BACKED_UP, backupPath)),
+                loader.getLoadProblem());
+    }
+
+    @Test
+    public void start_validFile_noLoadProblem() throws Exception {
+        storage.saveAddressBook(addressBook);
+        AddressBookLoader loader = new AddressBookLoader(model, storage, uiTasks::add);
+        loader.start();
+        loader.awaitLoaded();
+        assertEquals(Optional.empty(), loader.getLoadProblem());
+    }
+
+    @Test
+    public void start_journaledFile_changesAfterLoadAppendedToJournal() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        storage = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        storage.saveAddressBook(addressBook);
+        String checkpoint = FileUtil.readFromFile(filePath);
+        AddressBookLoader loader = new AddressBookLoader(model, storage, uiTasks::add);
+        loader.start();
+        loader.awaitLoaded();
+
+        // the changes follow the address book read, so only they are saved
+        model.addContact(new ContactBuilder().withName("Contact added").withRandomUuid().build());
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(checkpoint, FileUtil.readFromFile(filePath));
+        assertEquals(2, Files.readAllLines(temporaryFolder.resolve("addressBook.json.journal")).size());
+    }
+
+    @Test
+    public void addLoadedListener_afterLoaded_runRightAway() throws Exception {
+        storage.saveAddressBook(new AddressBook());
+        AddressBookLoader loader = new AddressBookLoader(model, storage, uiTasks::add);
+        loader.start();
+        loader.awaitLoaded();
+
+        boolean[] isListenerRun = new boolean[1];
+        loader.addLoadedListener(() -> isListenerRun[0] = true);
+        assertTrue(isListenerRun[0]);
+        assertEquals(new ModelManager(new AddressBook(), new UserPrefs()), model);
+    }
+
+    private void runNextUiTask() throws InterruptedException {
+        Runnable task = uiTasks.poll(10, TimeUnit.SECONDS);
+        assertTrue(task != null, "The loader did not pass a task to the UI executor");
+        task.run();
+    }
+}
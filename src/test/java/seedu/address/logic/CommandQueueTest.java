@@ -0,0 +1,168 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.general.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.general.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.general.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.general.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.contact.CAddCommand;
+import seedu.address.logic.commands.contact.CFindCommand;
+import seedu.address.logic.commands.event.ELinkCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandQueueTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<Runnable> uiTasks = new ArrayList<>(); // run by the test, as the UI thread would
+    private CommandQueue commandQueue;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        commandQueue = new CommandQueue(new LogicManager(model, storage), this::addUiTask);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandQueue.shutdown();
+    }
+
+    private void addUiTask(Runnable task) {
+        synchronized (uiTasks) {
+            uiTasks.add(task);
+        }
+    }
+
+    private int runUiTasks() {
+        synchronized (uiTasks) {
+            uiTasks.forEach(Runnable::run);
+            int taskCount = uiTasks.size();
+            uiTasks.clear();
+            return taskCount;
+        }
+    }
+
+    @Test
+    public void submit_validCommand_changesPublishedBeforeResult() throws Exception {
+        int contactCount = model.getFilteredContactList().size();
+        CompletableFuture<CommandResult> result = commandQueue.submit(CAddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + EMAIL_DESC_AMY);
+        result.get();
+
+        // the lists shown are only changed by the tasks passed to the UI executor, all of which have been passed
+        assertEquals(contactCount, commandQueue.getFilteredContactList().size());
+        assertTrue(runUiTasks() > 0);
+        assertEquals(model.getFilteredContactList(), commandQueue.getFilteredContactList());
+        assertEquals(model.getAddressBook().getContactList(), commandQueue.getAddressBook().getContactList());
+        assertEquals(contactCount + 1, commandQueue.getFilteredContactList().size());
+    }
+
+    @Test
+    public void submit_filterCommand_filteredListPublished() throws Exception {
+        commandQueue.submit(CFindCommand.COMMAND_WORD + " Alice").get();
+        runUiTasks();
+        assertEquals(model.getFilteredContactList(), commandQueue.getFilteredContactList());
+
+        commandQueue.resetFilterOfContacts();
+        commandQueue.submit(CFindCommand.COMMAND_WORD + " Benson").get();
+        runUiTasks();
+        assertEquals(model.getFilteredContactList(), commandQueue.getFilteredContactList());
+    }
+
+    @Test
+    public void submit_linkCommand_linksPublishedWithLists() throws Exception {
+        Event event = model.getFilteredEventList().get(0);
+        Contact contact = model.getFilteredContactList().get(1);
+        commandQueue.submit(ELinkCommand.COMMAND_WORD + " 1 " + PREFIX_CONTACT + "2").get();
+
+        // the links shown are those of the lists shown, until the changes are published in a single task
+        assertFalse(commandQueue.getLinkedContacts(event).contains(contact));
+        assertEquals(1, runUiTasks());
+        assertTrue(commandQueue.getLinkedContacts(event).contains(contact));
+        assertEquals(model.getLinkedEvents(contact), commandQueue.getAddressBook().getLinkedEvents(contact));
+        assertEquals(model.getEventDisplaySetting(), commandQueue.getEventDisplaySetting());
+    }
+
+    @Test
+    public void submit_commandsInOrder_executedInOrder() throws Exception {
+        String addBob = CAddCommand.COMMAND_WORD + NAME_DESC_BOB + EMAIL_DESC_BOB;
+        CompletableFuture<CommandResult> firstAdd = commandQueue.submit(addBob);
+        CompletableFuture<CommandResult> secondAdd = commandQueue.submit(addBob);
+
+        firstAdd.get();
+        Throwable failure = secondAdd.handle((commandResult, e) -> e).join();
+        assertTrue(failure instanceof CommandException);
+        assertEquals(CAddCommand.MESSAGE_DUPLICATE_CONTACT, failure.getMessage());
+    }
+
+    @Test
+    public void submit_invalidCommand_failedWithParseException() {
+        CompletableFuture<CommandResult> result = commandQueue.submit("uicfhmowqewca");
+        Throwable failure = result.handle((commandResult, e) -> e).join();
+        assertTrue(failure instanceof ParseException);
+        assertEquals(0, runUiTasks());
+    }
+
+    @Test
+    public void execute_invalidCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> commandQueue.execute("uicfhmowqewca"));
+    }
+
+    @Test
+    public void shutdown_commandsQueued_commandsExecuted() {
+        CompletableFuture<CommandResult> result = commandQueue.submit(CAddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + EMAIL_DESC_AMY);
+        commandQueue.shutdown();
+        assertTrue(result.isDone());
+        assertFalse(result.isCompletedExceptionally());
+    }
+
+    @Test
+    public void submit_afterShutdown_failedWithRejectedExecutionException() {
+        commandQueue.shutdown();
+        CompletableFuture<CommandResult> result = commandQueue.submit(CAddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + EMAIL_DESC_AMY);
+        assertTrue(result.isDone());
+        assertTrue(result.handle((commandResult, e) -> e).join() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void executeScript_afterShutdown_throwsRejectedExecutionException() {
+        commandQueue.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> commandQueue.executeScript(List.of(
+                CAddCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY), false));
+    }
+}
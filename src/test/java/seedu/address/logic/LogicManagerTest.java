@@ -21,12 +21,16 @@ import static seedu.address.testutil.TypicalEvents.TEAM_MEETING;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.CommandStats;
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.commons.core.CommandTrace;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ModelStub;
@@ -34,6 +38,8 @@ import seedu.address.logic.commands.contact.CAddCommand;
 import seedu.address.logic.commands.contact.CListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.general.CalendarCommand;
+import seedu.address.logic.commands.general.HelpCommand;
+import seedu.address.logic.commands.general.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -44,6 +50,7 @@ import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.ContactDisplaySetting;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventDisplaySetting;
+import seedu.address.storage.CommandTraceStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -92,6 +99,83 @@ public class LogicManagerTest {
         assertCommandSuccess(calendarCommand, CalendarCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommands_phasesRecorded() throws Exception {
+        CommandStats listStats = CommandStats.of(CListCommand.COMMAND_WORD);
+        long listCount = listStats.getLatencies(Phase.EXECUTE).getCount();
+        long listCommitCount = listStats.getLatencies(Phase.COMMIT).getCount();
+        CommandStats calendarStats = CommandStats.of(CalendarCommand.COMMAND_WORD);
+        long calendarCount = calendarStats.getLatencies(Phase.SAVE).getCount();
+        long calendarCommitCount = calendarStats.getLatencies(Phase.COMMIT).getCount();
+
+        logic.execute(CListCommand.COMMAND_WORD);
+        logic.execute(" " + CalendarCommand.COMMAND_WORD + " ");
+        assertEquals(listCount + 1, listStats.getLatencies(Phase.EXECUTE).getCount());
+        assertEquals(listCommitCount + 1, listStats.getLatencies(Phase.COMMIT).getCount());
+        assertEquals(calendarCount + 1, calendarStats.getLatencies(Phase.SAVE).getCount());
+        assertEquals(calendarCommitCount, calendarStats.getLatencies(Phase.COMMIT).getCount()); // not undoable
+    }
+
+    @Test
+    public void execute_unknownCommand_notRecorded() {
+        String unknownCommand = "uicfhmowqewca";
+        assertParseException(unknownCommand, MESSAGE_UNKNOWN_COMMAND);
+        assertFalse(CommandStats.getAll().containsKey(unknownCommand));
+    }
+
+    @Test
+    public void execute_withTraceRecorder_parsedCommandsTraced() throws Exception {
+        Path tracePath = temporaryFolder.resolve("commands.trace");
+        TraceRecorder recorder = new TraceRecorder(new CommandTraceStorage(tracePath), "addressBook.json");
+        LogicManager tracedLogic = new LogicManager(model, storage);
+        tracedLogic.setTraceRecorder(recorder);
+        ReadOnlyAddressBook snapshot = new AddressBook(model.getAddressBook());
+
+        tracedLogic.execute(CListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> tracedLogic.execute("cdelete 9"));
+        assertThrows(ParseException.class, () -> tracedLogic.execute("uicfhmowqewca"));
+        String addCommand = CAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        tracedLogic.execute(addCommand);
+        recorder.close();
+
+        CommandTraceStorage.Trace trace = CommandTraceStorage.read(tracePath);
+        assertEquals(snapshot, new AddressBook(trace.getSnapshot()));
+        List<CommandTrace> commands = trace.getCommands();
+        assertEquals(3, commands.size());
+        assertEquals(List.of(CListCommand.COMMAND_WORD, "cdelete 9", addCommand),
+                List.of(commands.get(0).getCommandText(), commands.get(1).getCommandText(),
+                        commands.get(2).getCommandText()));
+        assertTrue(commands.get(0).isSuccessful());
+        assertFalse(commands.get(1).isSuccessful());
+        assertEquals(commands.get(0).getFingerprint(), commands.get(1).getFingerprint());
+        assertEquals(TraceRecorder.fingerprintOf(model), commands.get(2).getFingerprint());
+        assertNotEquals(commands.get(1).getFingerprint(), commands.get(2).getFingerprint());
+        assertTrue(commands.get(2).getNanos(Phase.SAVE) > 0);
+    }
+
+    @Test
+    public void setTraceRecorder_addressBookLoaded_traceStartedBeforeFirstCommand() throws Exception {
+        Path tracePath = temporaryFolder.resolve("commands.trace");
+        new LogicManager(model, storage).setTraceRecorder(
+                new TraceRecorder(new CommandTraceStorage(tracePath), "addressBook.json"));
+
+        CommandTraceStorage.Trace trace = CommandTraceStorage.read(tracePath);
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(trace.getSnapshot()));
+        assertEquals(List.of(), trace.getCommands());
+    }
+
+    @Test
+    public void fingerprintOf_sameChangesWithDifferentUuids_sameFingerprint() {
+        Model first = new ModelManager();
+        Model second = new ModelManager();
+        first.addContact(new ContactBuilder(AMY).withRandomUuid().build());
+        second.addContact(new ContactBuilder(AMY).withRandomUuid().build());
+        assertEquals(TraceRecorder.fingerprintOf(first), TraceRecorder.fingerprintOf(second));
+
+        second.addContact(new ContactBuilder(BOB).build());
+        assertNotEquals(TraceRecorder.fingerprintOf(first), TraceRecorder.fingerprintOf(second));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -112,6 +196,93 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_whileLoading_dataCommandWaitsForLoading() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("loadedAddressBook.json");
+        StorageManager loadedStorage = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadedUserPrefs.json")));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addContact(AMY);
+        loadedStorage.saveAddressBook(addressBook);
+        ModelManager loadingModel = new ModelManager();
+        AddressBookLoader loader = new AddressBookLoader(loadingModel, loadedStorage, task -> {});
+        logic = new LogicManager(loadingModel, loadedStorage, loader);
+        loader.start();
+
+        // help does not use the contacts or events, so it neither waits nor saves the part loaded so far
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertTrue(logic.isLoading());
+
+        logic.execute(CListCommand.COMMAND_WORD);
+        assertFalse(logic.isLoading());
+        assertEquals(addressBook, loadingModel.getAddressBook());
+    }
+
+    @Test
+    public void executeScript_someLinesFail_changesDiscarded() throws Exception {
+        String addCommand = CAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        List<String> script = List.of(addCommand, "cdelete 9");
+        CommandStats addStats = CommandStats.of(CAddCommand.COMMAND_WORD);
+        long addCount = addStats.getLatencies(Phase.EXECUTE).getCount();
+
+        ScriptResult result = logic.executeScript(script, false);
+        assertTrue(result.isDiscarded());
+        assertEquals(List.of(new ScriptResult.LineError(2, "cdelete 9", MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX)),
+                result.getErrors());
+        assertFalse(model.hasContact(AMY));
+        assertFalse(storage.readAddressBook().isPresent());
+        // each line is still timed on its own
+        assertEquals(addCount + 1, addStats.getLatencies(Phase.EXECUTE).getCount());
+    }
+
+    @Test
+    public void executeScript_withTraceRecorder_linesTracedOnlyIfKept() throws Exception {
+        Path tracePath = temporaryFolder.resolve("commands.trace");
+        TraceRecorder recorder = new TraceRecorder(new CommandTraceStorage(tracePath), "addressBook.json");
+        LogicManager tracedLogic = new LogicManager(model, storage);
+        tracedLogic.setTraceRecorder(recorder);
+        String addCommand = CAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+
+        tracedLogic.executeScript(List.of(addCommand, "cdelete 9"), false);
+        tracedLogic.executeScript(List.of(addCommand, CListCommand.COMMAND_WORD), false);
+        recorder.close();
+
+        List<CommandTrace> commands = CommandTraceStorage.read(tracePath).getCommands();
+        assertEquals(List.of(addCommand, CListCommand.COMMAND_WORD),
+                List.of(commands.get(0).getCommandText(), commands.get(1).getCommandText()));
+        assertEquals(TraceRecorder.fingerprintOf(model), commands.get(1).getFingerprint());
+    }
+
+    @Test
+    public void executeScript_someLinesFailKeepingGoing_otherLinesCommittedAndSavedTogether() throws Exception {
+        String addCommand = CAddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + TELEGRAM_DESC_AMY + ZOOM_DESC_AMY;
+        List<String> script = List.of("# add Amy", addCommand, "", UndoCommand.COMMAND_WORD, "uicfhmowqewca",
+                CListCommand.COMMAND_WORD);
+
+        ScriptResult result = logic.executeScript(script, true);
+        assertFalse(result.isDiscarded());
+        assertEquals(2, result.getExecutedCount());
+        assertEquals(List.of(new ScriptResult.LineError(4, UndoCommand.COMMAND_WORD,
+                LogicManager.MESSAGE_HISTORY_IN_SCRIPT), new ScriptResult.LineError(5, "uicfhmowqewca",
+                MESSAGE_UNKNOWN_COMMAND)), result.getErrors());
+        assertTrue(model.hasContact(AMY));
+        assertTrue(storage.readAddressBook().get().getContactList().contains(new ContactBuilder(AMY).withTags()
+                .build()));
+
+        // the whole script is undone at once
+        model.undoHistory();
+        assertFalse(model.hasContact(AMY));
+    }
+
+    @Test
+    public void addLoadedListener_notLoading_runRightAway() {
+        boolean[] isListenerRun = new boolean[1];
+        logic.addLoadedListener(() -> isListenerRun[0] = true);
+        assertTrue(isListenerRun[0]);
+        assertFalse(logic.isLoading());
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
@@ -176,26 +347,20 @@ public class LogicManagerTest {
     public void test_filterContactsWithLinksToEvent() {
         ModelStubWithPredicate newModel = new ModelStubWithPredicate();
         Logic newLogic = new LogicManager(newModel, storage);
-        Event event = INTERVIEW.linkTo(AMY);
-        Contact c = AMY.linkTo(INTERVIEW);
-        Predicate<? super Contact> predicate = contact -> contact.getLinkedEvents().contains(event.getUuid());
-        newLogic.filterContactsWithLinksToEvent(event);
+        newLogic.filterContactsWithLinksToEvent(INTERVIEW);
 
-        assertNotEquals(predicate.test(c), newModel.contactPredicate.test(BOB));
-        assertEquals(predicate.test(c), newModel.contactPredicate.test(c));
+        assertTrue(newModel.contactPredicate.test(AMY));
+        assertFalse(newModel.contactPredicate.test(BOB));
     }
 
     @Test
     public void test_filterEventsWithLinkToContact() {
         ModelStubWithPredicate newModel = new ModelStubWithPredicate();
         Logic newLogic = new LogicManager(newModel, storage);
-        Event e = INTERVIEW.linkTo(AMY);
-        Contact contact = AMY.linkTo(INTERVIEW);
-        Predicate<? super Event> predicate = event -> event.getLinkedContacts().contains(contact.getUuid());
-        newLogic.filterEventsWithLinkToContact(contact);
+        newLogic.filterEventsWithLinkToContact(AMY);
 
-        assertNotEquals(predicate.test(e), newModel.eventPredicate.test(TEAM_MEETING));
-        assertEquals(predicate.test(e), newModel.eventPredicate.test(e));
+        assertTrue(newModel.eventPredicate.test(INTERVIEW));
+        assertFalse(newModel.eventPredicate.test(TEAM_MEETING));
     }
 
     @Test
@@ -334,9 +499,23 @@ public class LogicManagerTest {
      * A Model stub that contains contact and event predicates.
      */
     private class ModelStubWithPredicate extends ModelStub {
+        private final AddressBook addressBook = new AddressBook();
         private Predicate<? super Contact> contactPredicate;
         private Predicate<? super Event> eventPredicate;
 
+        ModelStubWithPredicate() {
+            addressBook.addContact(AMY);
+            addressBook.addContact(BOB);
+            addressBook.addEvent(INTERVIEW);
+            addressBook.addEvent(TEAM_MEETING);
+            addressBook.linkEventAndContact(INTERVIEW, AMY);
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            return addressBook;
+        }
+
         @Override
         public void updateFilteredContactList(Predicate<? super Contact> predicate) {
             contactPredicate = predicate;
@@ -1,7 +1,9 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,9 +12,13 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.common.Name;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactContainsKeywordsPredicate;
 import seedu.address.model.contact.ContactDisplaySetting;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventArchive;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
 import seedu.address.model.event.EventDisplaySetting;
 
 /**
@@ -87,6 +93,11 @@ public class ModelStub implements Model {
         throw new AssertionError(ERROR_MESSAGE);
     }
 
+    @Override
+    public void discardUncommittedChanges() {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
     @Override
     public void undoHistory() {
         throw new AssertionError(ERROR_MESSAGE);
@@ -143,6 +154,11 @@ public class ModelStub implements Model {
         throw new AssertionError(ERROR_MESSAGE);
     }
 
+    @Override
+    public Set<Name> getContactNamesMatching(ContactContainsKeywordsPredicate predicate) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
     @Override
     public void updateContactListByIndex(Index index) {
         throw new AssertionError(ERROR_MESSAGE);
@@ -197,6 +213,16 @@ public class ModelStub implements Model {
         throw new AssertionError(ERROR_MESSAGE);
     }
 
+    @Override
+    public List<Event> getEventsBetween(LocalDateTime from, LocalDateTime to) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
+    @Override
+    public Set<Name> getEventNamesMatching(EventContainsKeywordsPredicate predicate) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
     @Override
     public void updateEventListByIndex(Index index) {
         throw new AssertionError(ERROR_MESSAGE);
@@ -222,6 +248,21 @@ public class ModelStub implements Model {
         throw new AssertionError(ERROR_MESSAGE);
     }
 
+    @Override
+    public boolean isLinked(Event event, Contact contact) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
+    @Override
+    public List<Contact> getLinkedContacts(Event event) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
+    @Override
+    public List<Event> getLinkedEvents(Contact contact) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
     @Override
     public void rerenderContactCards(boolean useBackSamePredicate) {
         throw new AssertionError(ERROR_MESSAGE);
@@ -241,4 +282,29 @@ public class ModelStub implements Model {
     public void removeAllLinks() {
         throw new AssertionError(ERROR_MESSAGE);
     }
+
+    @Override
+    public EventArchive getEventArchive() {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
+    @Override
+    public List<Event> archiveEventsEndedBefore(LocalDateTime time) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
+    @Override
+    public Event restoreArchivedEvent(Event archived) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
+    @Override
+    public List<Event> getFoundArchivedEvents() {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
+
+    @Override
+    public void setFoundArchivedEvents(List<Event> foundArchivedEvents) {
+        throw new AssertionError(ERROR_MESSAGE);
+    }
 }
@@ -48,15 +48,15 @@ public class CDeleteCommandIntegrationTest {
         Event event2ToLink = EXAM;
         model.addEvent(event1ToLink);
         model.addEvent(event2ToLink);
-        // due to contact immutability, have to get new contact from the contact list
-        model.linkEventAndContact(event1ToLink, model.getFilteredContactList().get(0));
-        model.linkEventAndContact(event2ToLink, model.getFilteredContactList().get(0));
         Contact contactToDelete = model.getFilteredContactList().get(0);
-        assertTrue(contactToDelete.hasLinkTo(event1ToLink));
-        assertTrue(contactToDelete.hasLinkTo(event2ToLink));
+        model.linkEventAndContact(event1ToLink, contactToDelete);
+        model.linkEventAndContact(event2ToLink, contactToDelete);
+        assertTrue(model.isLinked(event1ToLink, contactToDelete));
+        assertTrue(model.isLinked(event2ToLink, contactToDelete));
         CDeleteCommand cDeleteCommand = new CDeleteCommand(RANGE_FIRST_TO_FIRST);
         cDeleteCommand.execute(model);
-        assertFalse(event1ToLink.hasLinkTo(contactToDelete));
-        assertFalse(event2ToLink.hasLinkTo(contactToDelete));
+        assertFalse(model.isLinked(event1ToLink, contactToDelete));
+        assertFalse(model.isLinked(event2ToLink, contactToDelete));
+        assertTrue(model.getLinkedContacts(event1ToLink).isEmpty());
     }
 }
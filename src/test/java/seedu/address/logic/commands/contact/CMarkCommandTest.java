@@ -51,6 +51,7 @@ class CMarkCommandTest {
         for (Event event : TypicalEvents.getTypicalEvents()) {
             ab.addEvent(event);
         }
+        ab.linkEventAndContact(TypicalEvents.CS2100_CONSULTATION, ALICE_MARKED);
         return ab;
     }
 
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.general.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventChanger;
+
+public class EArchiveCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_zeroDays_allConcludedEventsArchived() throws Exception {
+        List<Event> concluded = expectedModel.archiveEventsEndedBefore(LocalDateTime.now());
+        expectedModel.rerenderContactCards(true);
+        List<EventChanger> expectedEventChangers = concluded.stream()
+                .map(EventChanger::deleteEventChanger)
+                .collect(Collectors.toList());
+        CommandResult expectedResult = new CommandResult(
+                String.format(EArchiveCommand.MESSAGE_SUCCESS, concluded.size()), expectedEventChangers);
+
+        assertCommandSuccess(new EArchiveCommand(0), model, expectedResult, expectedModel);
+        assertTrue(model.getAddressBook().getEventList().isEmpty());
+        assertEquals(concluded, model.getEventArchive().getEvents());
+
+        model.commitHistory();
+        model.undoHistory();
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        assertEquals(List.of(), model.getEventArchive().getEvents());
+    }
+
+    @Test
+    public void execute_noDaysGiven_userPrefsUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setEventRetentionDays(999_999);
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        expectedModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+        expectedModel.rerenderContactCards(true);
+        CommandResult expectedResult = new CommandResult(String.format(EArchiveCommand.MESSAGE_SUCCESS, 0), List.of());
+
+        assertCommandSuccess(new EArchiveCommand(), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        EArchiveCommand archiveCommand = new EArchiveCommand();
+        EArchiveCommand archiveSevenDaysCommand = new EArchiveCommand(7);
+
+        // same object -> returns true
+        assertTrue(archiveCommand.equals(archiveCommand));
+
+        // same values -> returns true
+        assertTrue(archiveSevenDaysCommand.equals(new EArchiveCommand(7)));
+
+        // different types -> returns false
+        assertFalse(archiveCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(archiveCommand.equals(null));
+
+        // different number of days -> returns false
+        assertFalse(archiveCommand.equals(archiveSevenDaysCommand));
+    }
+}
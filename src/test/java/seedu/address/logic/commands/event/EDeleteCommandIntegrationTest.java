@@ -53,15 +53,15 @@ public class EDeleteCommandIntegrationTest {
         Contact contact2ToLink = BOB;
         model.addContact(contact1ToLink);
         model.addContact(contact2ToLink);
-        // due to event immutability, have to get new event from the event list
-        model.linkEventAndContact(model.getFilteredEventList().get(0), contact1ToLink);
-        model.linkEventAndContact(model.getFilteredEventList().get(0), contact2ToLink);
         Event eventToDelete = model.getFilteredEventList().get(0);
-        assertTrue(eventToDelete.hasLinkTo(contact1ToLink));
-        assertTrue(eventToDelete.hasLinkTo(contact2ToLink));
+        model.linkEventAndContact(eventToDelete, contact1ToLink);
+        model.linkEventAndContact(eventToDelete, contact2ToLink);
+        assertTrue(model.isLinked(eventToDelete, contact1ToLink));
+        assertTrue(model.isLinked(eventToDelete, contact2ToLink));
         EDeleteCommand cDeleteCommand = new EDeleteCommand(RANGE_FIRST_TO_FIRST);
         cDeleteCommand.execute(model);
-        assertFalse(contact1ToLink.hasLinkTo(eventToDelete));
-        assertFalse(contact2ToLink.hasLinkTo(eventToDelete));
+        assertFalse(model.isLinked(eventToDelete, contact1ToLink));
+        assertFalse(model.isLinked(eventToDelete, contact2ToLink));
+        assertTrue(model.getLinkedEvents(contact1ToLink).isEmpty());
     }
 }
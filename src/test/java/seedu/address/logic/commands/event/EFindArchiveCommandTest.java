@@ -0,0 +1,90 @@
+package seedu.address.logic.commands.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.general.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.general.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
+import static seedu.address.testutil.TypicalEvents.TEAM_MEETING;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.EventArchive;
+import seedu.address.model.event.EventContainsKeywordsPredicate;
+
+public class EFindArchiveCommandTest {
+
+    private ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private ModelManager expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.archiveEventsEndedBefore(LocalDateTime.of(2021, 10, 21, 0, 0));
+        expectedModel.archiveEventsEndedBefore(LocalDateTime.of(2021, 10, 21, 0, 0));
+    }
+
+    @Test
+    public void execute_keywords_matchingArchivedEventsFound() {
+        EFindArchiveCommand command = new EFindArchiveCommand(
+                new EventContainsKeywordsPredicate(Collections.singletonList("meeting")));
+        String expectedMessage = String.format(EFindArchiveCommand.MESSAGE_ARCHIVED_EVENTS_LISTED_OVERVIEW, 2)
+                + "\n1. " + CS2101_MEETING.getName() + "; Start: " + CS2101_MEETING.getStartDateAndTime()
+                + "\n2. " + TEAM_MEETING.getName() + "; Start: " + TEAM_MEETING.getStartDateAndTime();
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CS2101_MEETING, TEAM_MEETING), model.getFoundArchivedEvents());
+    }
+
+    @Test
+    public void execute_noKeywords_allArchivedEventsFound() throws Exception {
+        EFindArchiveCommand command = new EFindArchiveCommand(new EventContainsKeywordsPredicate());
+        command.execute(model);
+        assertEquals(model.getEventArchive().getEvents(), model.getFoundArchivedEvents());
+        assertEquals(4, model.getFoundArchivedEvents().size());
+    }
+
+    @Test
+    public void execute_archiveNotRead_throwsCommandException() {
+        model.setEventArchive(new EventArchive(() -> {
+            throw new IOException("Disk error");
+        }));
+        EFindArchiveCommand command = new EFindArchiveCommand(new EventContainsKeywordsPredicate());
+        assertCommandFailure(command, model, String.format(EFindArchiveCommand.MESSAGE_ARCHIVE_NOT_READ, "Disk error"));
+        assertEquals(List.of(), model.getFoundArchivedEvents());
+    }
+
+    @Test
+    public void equals() {
+        EFindArchiveCommand findFirstCommand = new EFindArchiveCommand(
+                new EventContainsKeywordsPredicate(Collections.singletonList("first")));
+        EFindArchiveCommand findSecondCommand = new EFindArchiveCommand(
+                new EventContainsKeywordsPredicate(Collections.singletonList("second")));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new EFindArchiveCommand(
+                new EventContainsKeywordsPredicate(Collections.singletonList("first")))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.general.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.BIRTHDAY_PARTY;
 import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
 import static seedu.address.testutil.TypicalEvents.CS2103_MIDTERM_MARKED;
 import static seedu.address.testutil.TypicalEvents.FOOTBALL_PRACTICE;
@@ -19,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.EndDateTime;
 import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.event.StartDateTime;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code EFindCommand}.
@@ -76,6 +79,26 @@ public class EFindCommandTest {
                 model.getFilteredEventList());
     }
 
+    @Test
+    public void execute_dateRange_eventsWithinDateRangeFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 3);
+        EFindCommand command = new EFindCommand(new EventContainsKeywordsPredicate(),
+                new StartDateTime("20-10-2021 10:00"), new EndDateTime("23-10-2021 20:00"));
+        expectedModel.updateFilteredEventList(event -> Arrays.asList(CS2103_MIDTERM_MARKED, TEAM_MEETING,
+                BIRTHDAY_PARTY).contains(event));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CS2103_MIDTERM_MARKED, TEAM_MEETING, BIRTHDAY_PARTY), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_keywordsAndOpenDateRange_matchingEventsWithinDateRangeFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 1);
+        EFindCommand command = new EFindCommand(preparePredicate("meet"), null, new EndDateTime("19-10-2021 00:00"));
+        expectedModel.updateFilteredEventList(CS2101_MEETING::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CS2101_MEETING), model.getFilteredEventList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code EventContainsKeywordsPredicate}.
      */
@@ -51,6 +51,7 @@ class EMarkCommandTest {
         for (Event event : eventList) {
             ab.addEvent(event);
         }
+        ab.linkEventAndContact(CS2100_CONSULTATION, TypicalContacts.ALICE_MARKED);
         return ab;
     }
 
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.general.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.general.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
+import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventChanger;
+
+public class ERestoreCommandTest {
+
+    private ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private ModelManager expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        for (ModelManager modelManager : List.of(model, expectedModel)) {
+            modelManager.archiveEventsEndedBefore(LocalDateTime.of(2021, 10, 18, 0, 0));
+            modelManager.setFoundArchivedEvents(modelManager.getEventArchive().getEvents());
+        }
+    }
+
+    @Test
+    public void execute_validIndex_eventRestoredWithLinks() throws Exception {
+        Event restored = expectedModel.restoreArchivedEvent(CS2100_CONSULTATION);
+        expectedModel.rerenderContactCards(true);
+        CommandResult expectedResult = new CommandResult(String.format(ERestoreCommand.MESSAGE_SUCCESS, restored),
+                List.of(EventChanger.addEventChanger(restored)));
+
+        assertCommandSuccess(new ERestoreCommand(INDEX_SECOND), model, expectedResult, expectedModel);
+        assertEquals(List.of(ALICE_MARKED), model.getLinkedContacts(restored));
+        assertEquals(List.of(CS2101_MEETING), model.getEventArchive().getEvents());
+        assertEquals(List.of(CS2101_MEETING), model.getFoundArchivedEvents());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFoundArchivedEvents().size() + 1);
+        assertCommandFailure(new ERestoreCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_ARCHIVED_EVENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_eventWithSameName_throwsCommandException() {
+        model.addEvent(CS2101_MEETING);
+        assertCommandFailure(new ERestoreCommand(INDEX_FIRST), model, ERestoreCommand.MESSAGE_DUPLICATE_EVENT);
+    }
+
+    @Test
+    public void equals() {
+        ERestoreCommand restoreFirstCommand = new ERestoreCommand(INDEX_FIRST);
+        ERestoreCommand restoreSecondCommand = new ERestoreCommand(INDEX_SECOND);
+
+        // same object -> returns true
+        assertTrue(restoreFirstCommand.equals(restoreFirstCommand));
+
+        // same values -> returns true
+        assertTrue(restoreFirstCommand.equals(new ERestoreCommand(INDEX_FIRST)));
+
+        // different types -> returns false
+        assertFalse(restoreFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(restoreFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(restoreFirstCommand.equals(restoreSecondCommand));
+    }
+}
@@ -132,9 +132,6 @@ class EUnlinkCommandTest {
         Event eventToUnlink = typicalModel.getFilteredEventList().get(1);
         Contact contactToUnlink = typicalModel.getFilteredContactList().get(1);
         Model newModel = new ModelManager(typicalModel.getAddressBook(), new UserPrefs());
-        setUp(newModel);
-        newModel.unlinkEventAndContact(
-            newModel.getFilteredEventList().get(0), newModel.getFilteredContactList().get(0));
         String commandSuccessMessage = String.format(EUnlinkCommand.MESSAGE_NOT_LINKED,
             eventToUnlink.getName(), contactToUnlink.getName());
         assertCommandSuccess(eUnlinkCommand, typicalModel, commandSuccessMessage, newModel);
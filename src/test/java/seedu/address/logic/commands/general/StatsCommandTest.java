@@ -0,0 +1,25 @@
+package seedu.address.logic.commands.general;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.CommandStats;
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private static final String COMMAND_WORD = "statstest"; // not executed by any other test
+
+    @Test
+    public void execute_commandsRecorded_statsShown() {
+        CommandStats.of(COMMAND_WORD).recordLatency(Phase.PARSE, 2_000_000);
+        CommandStats.of(COMMAND_WORD).recordLatency(Phase.EXECUTE, 5_000_000);
+
+        String feedback = new StatsCommand().execute(new ModelManager()).getFeedbackToUser();
+        assertTrue(feedback.startsWith(StatsCommand.MESSAGE_HEADER));
+        assertTrue(feedback.contains(COMMAND_WORD + " (1): parse 2.10 / 2.10 / 2.10, execute "));
+        assertTrue(feedback.contains("Written to storage since startup: "));
+    }
+}
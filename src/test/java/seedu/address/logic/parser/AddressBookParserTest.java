@@ -24,13 +24,16 @@ import seedu.address.logic.commands.contact.CMarkCommand;
 import seedu.address.logic.commands.contact.CUnmarkCommand;
 import seedu.address.logic.commands.contact.CViewCommand;
 import seedu.address.logic.commands.event.EAddCommand;
+import seedu.address.logic.commands.event.EArchiveCommand;
 import seedu.address.logic.commands.event.EClearCommand;
 import seedu.address.logic.commands.event.EDeleteCommand;
 import seedu.address.logic.commands.event.EEditCommand;
+import seedu.address.logic.commands.event.EFindArchiveCommand;
 import seedu.address.logic.commands.event.EFindCommand;
 import seedu.address.logic.commands.event.ELinkCommand;
 import seedu.address.logic.commands.event.EListCommand;
 import seedu.address.logic.commands.event.EMarkCommand;
+import seedu.address.logic.commands.event.ERestoreCommand;
 import seedu.address.logic.commands.event.ESortCommand;
 import seedu.address.logic.commands.event.EUnlinkCommand;
 import seedu.address.logic.commands.event.EUnmarkCommand;
@@ -39,6 +42,7 @@ import seedu.address.logic.commands.general.CalendarCommand;
 import seedu.address.logic.commands.general.ExitCommand;
 import seedu.address.logic.commands.general.HelpCommand;
 import seedu.address.logic.commands.general.RedoCommand;
+import seedu.address.logic.commands.general.StatsCommand;
 import seedu.address.logic.commands.general.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.contact.Contact;
@@ -58,7 +62,7 @@ public class AddressBookParserTest {
 
     @Test
     public void parseCommand_cadd() throws Exception {
-        Contact contact = new ContactBuilder().withLinkedEvents().withRandomUuid().withMarked(false).build();
+        Contact contact = new ContactBuilder().withRandomUuid().withMarked(false).build();
         CAddCommand command = (CAddCommand) parser.parseCommand(ContactUtil.getCAddCommand(contact));
         assertEquals(new CAddCommand(contact), command);
     }
@@ -174,6 +178,22 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(EUnmarkCommand.COMMAND_WORD + " 1") instanceof EUnmarkCommand);
     }
 
+    @Test
+    public void parseCommand_earchive() throws Exception {
+        assertEquals(new EArchiveCommand(), parser.parseCommand(EArchiveCommand.COMMAND_WORD));
+        assertEquals(new EArchiveCommand(7), parser.parseCommand(EArchiveCommand.COMMAND_WORD + " 7"));
+    }
+
+    @Test
+    public void parseCommand_efindarchive() throws Exception {
+        assertTrue(parser.parseCommand(EFindArchiveCommand.COMMAND_WORD + " meeting") instanceof EFindArchiveCommand);
+    }
+
+    @Test
+    public void parseCommand_erestore() throws Exception {
+        assertTrue(parser.parseCommand(ERestoreCommand.COMMAND_WORD + " 1") instanceof ERestoreCommand);
+    }
+
     @Test
     public void parseCommand_elink() throws Exception {
         assertTrue(parser.parseCommand(ELinkCommand.COMMAND_WORD + " 1 c/3 c/4") instanceof ELinkCommand);
@@ -196,6 +216,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_calendar() throws Exception {
         assertTrue(parser.parseCommand(CalendarCommand.COMMAND_WORD) instanceof CalendarCommand);
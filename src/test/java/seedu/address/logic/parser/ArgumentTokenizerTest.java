@@ -136,6 +136,30 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsWithAnotherPrefix_longestPrefixFound() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "SomePreambleString -tt dashTt-Value -t dashT-Value -ttt";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTt, "dashTt-Value", "t");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+    }
+
+    @Test
+    public void tokenize_manyRepeatedArguments_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder("SomePreambleString");
+        String[] expectedValues = new String[2000];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(i % 2 == 0 ? " p/" : " p/ ").append(expectedValues[i]);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
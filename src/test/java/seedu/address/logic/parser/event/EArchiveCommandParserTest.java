@@ -0,0 +1,39 @@
+package seedu.address.logic.parser.event;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.event.EArchiveCommand;
+
+public class EArchiveCommandParserTest {
+    private EArchiveCommandParser parser = new EArchiveCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsArchiveCommandWithDefaultDays() {
+        assertParseSuccess(parser, "     ", new EArchiveCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsArchiveCommand() {
+        assertParseSuccess(parser, "0", new EArchiveCommand(0));
+        assertParseSuccess(parser, " 30 ", new EArchiveCommand(30));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // negative number of days
+        assertParseFailure(parser, "-1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, EArchiveCommand.MESSAGE_USAGE));
+
+        // too many days
+        assertParseFailure(parser, "1234567890",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, EArchiveCommand.MESSAGE_USAGE));
+
+        // not a number
+        assertParseFailure(parser, "a week",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, EArchiveCommand.MESSAGE_USAGE));
+    }
+}
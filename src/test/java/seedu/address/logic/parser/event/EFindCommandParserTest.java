@@ -10,7 +10,10 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.event.EFindCommand;
+import seedu.address.model.event.DateAndTime;
+import seedu.address.model.event.EndDateTime;
 import seedu.address.model.event.EventContainsKeywordsPredicate;
+import seedu.address.model.event.StartDateTime;
 
 public class EFindCommandParserTest {
 
@@ -42,6 +45,32 @@ public class EFindCommandParserTest {
         assertParseFailure(parser, " t/", String.format(EFindCommandParser.MESSAGE_MISSING_KEYWORD, "t/"));
     }
 
+    @Test
+    public void parse_validDateRange_returnsEFindCommand() {
+        StartDateTime rangeStart = new StartDateTime("20-10-2021 00:00");
+        EndDateTime rangeEnd = new EndDateTime("23-10-2021 23:59");
+
+        // both ends of the date range
+        assertParseSuccess(parser, " from/20-10-2021 00:00 to/23-10-2021 23:59",
+            new EFindCommand(new EventContainsKeywordsPredicate(), rangeStart, rangeEnd));
+
+        // one end of the date range with keywords
+        assertParseSuccess(parser, " Party from/20-10-2021 00:00",
+            new EFindCommand(new EventContainsKeywordsPredicate(List.of("Party")), rangeStart, null));
+        assertParseSuccess(parser, " Party to/23-10-2021 23:59",
+            new EFindCommand(new EventContainsKeywordsPredicate(List.of("Party")), null, rangeEnd));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        // invalid date and time
+        assertParseFailure(parser, " from/20-10-2021", DateAndTime.MESSAGE_CONSTRAINTS);
+
+        // date range ends before it starts
+        assertParseFailure(parser, " from/20-10-2021 00:00 to/19-10-2021 23:59",
+            EFindCommandParser.MESSAGE_INVALID_DATE_RANGE);
+    }
+
     @Test
     public void parse_prefixSyntaxButNotAPrefix_returnsEFindCommand() {
         EFindCommand expectedEFindCommand =
@@ -2,12 +2,16 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
 import static seedu.address.testutil.TypicalEvents.INTERVIEW;
 import static seedu.address.testutil.TypicalEvents.TEAM_MEETING;
 
@@ -16,6 +20,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
@@ -138,6 +145,191 @@ public class AddressBookTest {
         assertEquals(addressBook, copy);
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+        List<Contact> contacts = List.copyOf(typicalAddressBook.getContactList());
+        List<Event> events = List.copyOf(typicalAddressBook.getEventList());
+
+        typicalAddressBook.removeContact(ALICE_MARKED);
+        typicalAddressBook.addEvent(INTERVIEW);
+        assertEquals(contacts, snapshot.getContactList());
+        assertEquals(events, snapshot.getEventList());
+    }
+
+    @Test
+    public void isSameSnapshot() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = AddressBook.snapshotOf(typicalAddressBook);
+
+        // unchanged, or copied -> true
+        assertTrue(AddressBook.isSameSnapshot(snapshot, AddressBook.snapshotOf(typicalAddressBook)));
+        assertTrue(AddressBook.isSameSnapshot(snapshot, AddressBook.snapshotOf(new AddressBook(typicalAddressBook))));
+
+        // not a snapshot -> false
+        assertFalse(AddressBook.isSameSnapshot(snapshot, typicalAddressBook));
+
+        // changed, even back to being equal -> false
+        typicalAddressBook.removeContact(ALICE_MARKED);
+        assertFalse(AddressBook.isSameSnapshot(snapshot, AddressBook.snapshotOf(typicalAddressBook)));
+        typicalAddressBook.resetData(getTypicalAddressBook());
+        assertFalse(AddressBook.isSameSnapshot(snapshot, AddressBook.snapshotOf(typicalAddressBook)));
+    }
+
+    @Test
+    public void resetData_withSnapshot_restoresSnapshot() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+        typicalAddressBook.removeContact(ALICE_MARKED);
+
+        typicalAddressBook.resetData(snapshot);
+        assertEquals(getTypicalAddressBook(), typicalAddressBook);
+        assertEquals(List.of(ALICE_MARKED), typicalAddressBook.getLinkedContacts(CS2100_CONSULTATION));
+    }
+
+    @Test
+    public void takeDelta_noChanges_returnsEmptyDelta() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.takeDelta();
+        assertEquals(AddressBookDelta.EMPTY, typicalAddressBook.takeDelta());
+    }
+
+    @Test
+    public void undoAndRedo_delta_returnsToStatesBeforeAndAfterChanges() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.takeDelta();
+        typicalAddressBook.removeContact(ALICE_MARKED);
+        typicalAddressBook.addEvent(INTERVIEW);
+        typicalAddressBook.linkEventAndContact(INTERVIEW, BENSON);
+        typicalAddressBook.sortEvents();
+        AddressBook changedAddressBook = typicalAddressBook.copy();
+        AddressBookDelta delta = typicalAddressBook.takeDelta();
+
+        typicalAddressBook.undo(delta);
+        assertEquals(getTypicalAddressBook(), typicalAddressBook);
+        assertEquals(List.of(ALICE_MARKED), typicalAddressBook.getLinkedContacts(CS2100_CONSULTATION));
+        assertEquals(Collections.emptyList(), typicalAddressBook.getLinkedEvents(BENSON));
+
+        typicalAddressBook.redo(delta);
+        assertEquals(changedAddressBook, typicalAddressBook);
+        assertEquals(Collections.emptyList(), typicalAddressBook.getLinkedContacts(CS2100_CONSULTATION));
+        assertEquals(1, typicalAddressBook.getLinkedEvents(BENSON).size());
+
+        // reversing and making the changes again are not recorded
+        assertEquals(AddressBookDelta.EMPTY, typicalAddressBook.takeDelta());
+    }
+
+    @Test
+    public void undoAndRedo_linkOnly_onlyLinkEdited() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.takeDelta();
+        typicalAddressBook.unlinkEventAndContact(CS2100_CONSULTATION, ALICE_MARKED);
+        AddressBookDelta delta = typicalAddressBook.takeDelta();
+        assertTrue(delta.hasLinkEdits());
+        assertFalse(delta.hasContactEdits());
+        assertFalse(delta.hasEventEdits());
+
+        typicalAddressBook.undo(delta);
+        assertTrue(typicalAddressBook.isLinked(CS2100_CONSULTATION, ALICE_MARKED));
+        typicalAddressBook.redo(delta);
+        assertFalse(typicalAddressBook.isLinked(CS2100_CONSULTATION, ALICE_MARKED));
+
+        // unlinking what is not linked is not recorded
+        typicalAddressBook.takeDelta();
+        typicalAddressBook.unlinkEventAndContact(CS2100_CONSULTATION, ALICE_MARKED);
+        assertEquals(AddressBookDelta.EMPTY, typicalAddressBook.takeDelta());
+    }
+
+    @Test
+    public void undoAndRedo_eventsSorted_onlyOrderKept() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.takeDelta();
+        List<Event> unsortedEvents = new ArrayList<>(typicalAddressBook.getEventList());
+        typicalAddressBook.sortEvents();
+        List<Event> sortedEvents = new ArrayList<>(typicalAddressBook.getEventList());
+        AddressBookDelta delta = typicalAddressBook.takeDelta();
+        assertNotEquals(unsortedEvents, sortedEvents);
+        assertTrue(delta.hasEventEdits());
+        assertEquals(1, delta.getSize());
+
+        typicalAddressBook.undo(delta);
+        assertEquals(unsortedEvents, typicalAddressBook.getEventList());
+        typicalAddressBook.redo(delta);
+        assertEquals(sortedEvents, typicalAddressBook.getEventList());
+    }
+
+    @Test
+    public void deltaBetween_changesMadeBetweenSnapshots_returnsChanges() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.takeDelta();
+        ReadOnlyAddressBook before = AddressBook.snapshotOf(typicalAddressBook);
+        typicalAddressBook.removeContact(ALICE_MARKED);
+        typicalAddressBook.linkEventAndContact(CS2100_CONSULTATION, BENSON);
+        ReadOnlyAddressBook after = AddressBook.snapshotOf(typicalAddressBook);
+        AddressBookDelta delta = typicalAddressBook.takeDelta();
+
+        assertEquals(Optional.of(delta), AddressBook.deltaBetween(before, after));
+        assertEquals(Optional.of(AddressBookDelta.EMPTY), AddressBook.deltaBetween(after, after));
+
+        // reversing the changes is a change too
+        typicalAddressBook.undo(delta);
+        assertTrue(AddressBook.deltaBetween(after, AddressBook.snapshotOf(typicalAddressBook)).get().hasLinkEdits());
+
+        // not followed by changes to the same address book -> empty
+        assertEquals(Optional.empty(), AddressBook.deltaBetween(after, before));
+        ReadOnlyAddressBook unrelated = AddressBook.snapshotOf(getTypicalAddressBook());
+        assertEquals(Optional.empty(), AddressBook.deltaBetween(unrelated, after));
+        typicalAddressBook.setContacts(List.of(BENSON));
+        assertEquals(Optional.empty(), AddressBook.deltaBetween(after, AddressBook.snapshotOf(typicalAddressBook)));
+    }
+
+    @Test
+    public void getLinkedContactsAndEvents_typicalAddressBook_returnsStoredLinks() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(List.of(ALICE_MARKED), typicalAddressBook.getLinkedContacts(CS2100_CONSULTATION));
+        assertEquals(List.of(CS2100_CONSULTATION), typicalAddressBook.getLinkedEvents(ALICE_MARKED));
+        assertEquals(Collections.emptyList(), typicalAddressBook.getLinkedContacts(TEAM_MEETING));
+    }
+
+    @Test
+    public void linkAndUnlinkEventAndContact_linksUpdated() {
+        addressBook.addContact(BENSON);
+        addressBook.addEvent(TEAM_MEETING);
+
+        addressBook.linkEventAndContact(TEAM_MEETING, BENSON);
+        assertTrue(addressBook.isLinked(TEAM_MEETING, BENSON));
+        assertEquals(List.of(BENSON), addressBook.getLinkedContacts(TEAM_MEETING));
+        assertEquals(List.of(TEAM_MEETING), addressBook.getLinkedEvents(BENSON));
+
+        // the contacts and events linked are the same objects as before
+        assertSame(BENSON, addressBook.getContactList().get(0));
+        assertSame(TEAM_MEETING, addressBook.getEventList().get(0));
+
+        addressBook.unlinkEventAndContact(TEAM_MEETING, BENSON);
+        assertEquals(Collections.emptyList(), addressBook.getLinkedContacts(TEAM_MEETING));
+        assertEquals(Collections.emptyList(), addressBook.getLinkedEvents(BENSON));
+    }
+
+    @Test
+    public void removeContact_linkedContact_unlinkedFromEvents() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.removeContact(ALICE_MARKED);
+
+        assertEquals(Collections.emptyList(), typicalAddressBook.getLinkedContacts(CS2100_CONSULTATION));
+        assertEquals(Collections.emptyList(), typicalAddressBook.getLinkedEvents(ALICE_MARKED));
+        assertTrue(typicalAddressBook.getLinkedContactUuids(CS2100_CONSULTATION).isEmpty());
+    }
+
+    @Test
+    public void removeEvent_linkedEvent_unlinkedFromContacts() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.removeEvent(CS2100_CONSULTATION);
+
+        assertEquals(Collections.emptyList(), typicalAddressBook.getLinkedEvents(ALICE_MARKED));
+        assertTrue(typicalAddressBook.getLinkedEventUuids(ALICE_MARKED).isEmpty());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose contacts list and event list can violate interface constraints.
      */
@@ -159,5 +351,25 @@ public class AddressBookTest {
         public ObservableList<Event> getEventList() {
             return events;
         }
+
+        @Override
+        public Set<UUID> getLinkedContactUuids(Event event) {
+            return Set.of();
+        }
+
+        @Override
+        public Set<UUID> getLinkedEventUuids(Contact contact) {
+            return Set.of();
+        }
+
+        @Override
+        public List<Contact> getLinkedContacts(Event event) {
+            return List.of();
+        }
+
+        @Override
+        public List<Event> getLinkedEvents(Contact contact) {
+            return List.of();
+        }
     }
 }
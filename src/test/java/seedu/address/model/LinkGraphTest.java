@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.TEAM_MEETING;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.common.ListEdit;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.ContactBuilder;
+import seedu.address.testutil.EventBuilder;
+
+public class LinkGraphTest {
+
+    private final LinkGraph linkGraph = LinkGraph.EMPTY.withContact(ALICE_MARKED).withContact(BENSON)
+            .withEvent(CS2100_CONSULTATION).withEvent(TEAM_MEETING);
+
+    @Test
+    public void of_storedLinks_danglingLinksDropped() {
+        LinkGraph graph = LinkGraph.of(List.of(ALICE_MARKED, BENSON), List.of(CS2100_CONSULTATION),
+                Map.of(ALICE_MARKED.getUuid(), Set.of(CS2100_CONSULTATION.getUuid(), TEAM_MEETING.getUuid())));
+        assertEquals(List.of(ALICE_MARKED), graph.getLinkedContacts(CS2100_CONSULTATION));
+        assertEquals(List.of(CS2100_CONSULTATION), graph.getLinkedEvents(ALICE_MARKED));
+        assertEquals(Collections.emptyList(), graph.getLinkedEvents(BENSON));
+    }
+
+    @Test
+    public void getLinked_notInGraph_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), LinkGraph.EMPTY.getLinkedContacts(TEAM_MEETING));
+        assertEquals(Collections.emptyList(), LinkGraph.EMPTY.getLinkedEvents(BENSON));
+        assertFalse(LinkGraph.EMPTY.isLinked(TEAM_MEETING, BENSON));
+    }
+
+    @Test
+    public void withLink_linkAndUnlink_onlyNewVersionChanged() {
+        LinkGraph linked = linkGraph.withLink(BENSON.getUuid(), TEAM_MEETING.getUuid(), true)
+                .withLink(ALICE_MARKED.getUuid(), TEAM_MEETING.getUuid(), true);
+        assertEquals(List.of(BENSON, ALICE_MARKED), linked.getLinkedContacts(TEAM_MEETING));
+        assertEquals(List.of(TEAM_MEETING), linked.getLinkedEvents(BENSON));
+        assertTrue(linked.isLinked(TEAM_MEETING, ALICE_MARKED));
+        assertEquals(Collections.emptyList(), linkGraph.getLinkedContacts(TEAM_MEETING));
+
+        LinkGraph unlinked = linked.withLink(ALICE_MARKED.getUuid(), TEAM_MEETING.getUuid(), false);
+        assertEquals(List.of(BENSON), unlinked.getLinkedContacts(TEAM_MEETING));
+        assertEquals(Collections.emptyList(), unlinked.getLinkedEvents(ALICE_MARKED));
+        assertTrue(linked.isLinked(TEAM_MEETING, ALICE_MARKED));
+
+        // linking what is already linked leaves the graph as it is
+        assertSame(linked, linked.withLink(BENSON.getUuid(), TEAM_MEETING.getUuid(), true));
+    }
+
+    @Test
+    public void withLink_notInGraph_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            LinkGraph.EMPTY.withContact(BENSON).withLink(BENSON.getUuid(), TEAM_MEETING.getUuid(), true));
+    }
+
+    @Test
+    public void withReplaced_linkedEntities_linksFollowReplacement() {
+        LinkGraph linked = linkGraph.withLink(BENSON.getUuid(), TEAM_MEETING.getUuid(), true);
+
+        // the edited contact keeps the uuid, and the edited event is given a new one
+        Contact editedBenson = new ContactBuilder(BENSON).withPhone("91234567").build();
+        Event editedMeeting = new EventBuilder(TEAM_MEETING).withDescription("Moved online").withRandomUuid().build();
+        LinkGraph replaced = linked.withContactReplaced(BENSON, editedBenson)
+                .withEventReplaced(TEAM_MEETING, editedMeeting);
+        assertEquals(List.of(editedBenson), replaced.getLinkedContacts(editedMeeting));
+        assertEquals(List.of(editedMeeting), replaced.getLinkedEvents(editedBenson));
+        assertEquals(Collections.emptyList(), replaced.getLinkedContacts(TEAM_MEETING));
+    }
+
+    @Test
+    public void withContactEdit_removedAndAdded_linksOfRemovedDropped() {
+        LinkGraph linked = linkGraph.withLink(ALICE_MARKED.getUuid(), CS2100_CONSULTATION.getUuid(), true);
+
+        Contact amy = new ContactBuilder().withRandomUuid().build();
+        LinkGraph edited = linked.withContactEdit(new ListEdit<>(0, List.of(ALICE_MARKED, BENSON), List.of(amy)));
+        assertEquals(Collections.emptyList(), edited.getLinkedContacts(CS2100_CONSULTATION));
+        assertEquals(Collections.emptyList(), edited.getLinkedEvents(amy));
+    }
+
+    @Test
+    public void withoutContactAndEvent_linkedEntities_linksRemoved() {
+        LinkGraph linked = linkGraph.withLink(ALICE_MARKED.getUuid(), CS2100_CONSULTATION.getUuid(), true);
+
+        assertEquals(Collections.emptyList(), linked.withoutContact(ALICE_MARKED)
+                .getLinkedContacts(CS2100_CONSULTATION));
+        assertEquals(Collections.emptyList(), linked.withoutEvent(CS2100_CONSULTATION)
+                .getLinkedEvents(ALICE_MARKED));
+    }
+
+    @Test
+    public void hasSameLinksAs() {
+        LinkGraph linked = linkGraph.withLink(ALICE_MARKED.getUuid(), CS2100_CONSULTATION.getUuid(), true);
+        LinkGraph relinked = linked.withLink(ALICE_MARKED.getUuid(), CS2100_CONSULTATION.getUuid(), false)
+                .withLink(ALICE_MARKED.getUuid(), CS2100_CONSULTATION.getUuid(), true);
+
+        assertTrue(linked.hasSameLinksAs(relinked));
+        assertTrue(linkGraph.hasSameLinksAs(LinkGraph.EMPTY));
+        assertFalse(linked.hasSameLinksAs(linkGraph));
+        assertFalse(linkGraph.hasSameLinksAs(linked));
+    }
+}
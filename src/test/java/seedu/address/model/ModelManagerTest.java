@@ -4,25 +4,35 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_HIDE_ALL_EVENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
 import static seedu.address.testutil.TypicalContacts.AMY;
 import static seedu.address.testutil.TypicalContacts.BENSON;
 import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
 import static seedu.address.testutil.TypicalEvents.INTERVIEW;
 import static seedu.address.testutil.TypicalEvents.TUTORIAL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.ContactContainsKeywordsPredicate;
 import seedu.address.model.contact.ContactDisplaySetting;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.EventDisplaySetting;
+import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.history.ModelHistoryException;
 import seedu.address.testutil.AddressBookBuilder;
 
@@ -114,6 +124,21 @@ public class ModelManagerTest {
         assertFalse(modelManager.isUndoable());
     }
 
+    @Test
+    public void undoHistory_userPrefsCountBudget_earliestCommitsForgotten() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxUndoableCommits(1);
+        ModelManager limitedModel = new ModelManager(new AddressBook(), userPrefs);
+        limitedModel.addEvent(INTERVIEW);
+        limitedModel.commitHistory();
+        limitedModel.addEvent(TUTORIAL);
+        limitedModel.commitHistory();
+
+        limitedModel.undoHistory();
+        assertFalse(limitedModel.isUndoable());
+        assertTrue(limitedModel.hasEvent(INTERVIEW));
+    }
+
     @Test
     public void undo_noHistory_failure() {
         modelManager.clearHistory();
@@ -163,6 +188,20 @@ public class ModelManagerTest {
         assertEquals(EventDisplaySetting.DEFAULT_SETTING, modelManager.getEventDisplaySetting());
     }
 
+    @Test
+    public void undoHistory_viewOnlyCommit_onlyDisplaySettingRestored() {
+        modelManager.addEvent(INTERVIEW);
+        modelManager.commitHistory();
+        modelManager.setEventDisplaySetting(new EventDisplaySetting(true));
+        modelManager.updateFilteredEventList(PREDICATE_HIDE_ALL_EVENTS);
+        modelManager.commitHistory();
+
+        modelManager.undoHistory();
+        assertTrue(modelManager.hasEvent(INTERVIEW));
+        assertEquals(EventDisplaySetting.DEFAULT_SETTING, modelManager.getEventDisplaySetting());
+        assertEquals(1, modelManager.getFilteredEventList().size());
+    }
+
     @Test
     public void setAddressBookFilePath_nullPath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setAddressBookFilePath(null));
@@ -217,6 +256,85 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEventList().remove(1));
     }
 
+    @Test
+    public void archiveEventsEndedBefore_linkedEvent_linkKeptUntilRestored() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Event> archived = model.archiveEventsEndedBefore(LocalDateTime.of(2021, 10, 18, 0, 0));
+
+        assertEquals(Arrays.asList(CS2101_MEETING, CS2100_CONSULTATION), archived);
+        assertFalse(model.hasEvent(CS2100_CONSULTATION));
+        assertEquals(archived, model.getEventArchive().getEvents());
+        Contact alice = model.getAddressBook().getContactList().get(0);
+        assertEquals(Set.of(alice.getUuid()), model.getEventArchive().getArchivedEvents().get(1).getLinkedContacts());
+        assertEquals(List.of(), model.getLinkedEvents(alice));
+
+        Event restored = model.restoreArchivedEvent(CS2100_CONSULTATION);
+        assertEquals(CS2100_CONSULTATION, restored);
+        assertEquals(List.of(restored), model.getLinkedEvents(alice));
+        assertEquals(List.of(CS2101_MEETING), model.getEventArchive().getEvents());
+    }
+
+    @Test
+    public void undoHistory_eventsArchived_eventsMovedBackOutOfArchive() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.archiveEventsEndedBefore(LocalDateTime.of(2021, 10, 18, 0, 0));
+        model.commitHistory();
+        model.getEventArchive().markSaved(); // the archived events are in the store, which has not been read
+
+        model.undoHistory();
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        Contact alice = model.getAddressBook().getContactList().get(0);
+        assertEquals(List.of(CS2100_CONSULTATION), model.getLinkedEvents(alice));
+        assertTrue(model.getEventArchive().isRewriteNeeded());
+
+        model.redoHistory();
+        assertFalse(model.hasEvent(CS2100_CONSULTATION));
+        List<ArchivedEvent> expectedArchived = List.of(new ArchivedEvent(CS2101_MEETING, Set.of()),
+                new ArchivedEvent(CS2100_CONSULTATION, Set.of(alice.getUuid())));
+        assertEquals(expectedArchived, model.getEventArchive().getUnsavedEvents());
+    }
+
+    @Test
+    public void undoHistory_eventRestored_eventMovedBackIntoArchive() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.archiveEventsEndedBefore(LocalDateTime.of(2021, 10, 18, 0, 0));
+        model.commitHistory();
+        model.setFoundArchivedEvents(model.getEventArchive().getEvents());
+        model.restoreArchivedEvent(CS2100_CONSULTATION);
+        model.commitHistory();
+
+        model.undoHistory();
+        assertFalse(model.hasEvent(CS2100_CONSULTATION));
+        assertEquals(Arrays.asList(CS2101_MEETING, CS2100_CONSULTATION), model.getEventArchive().getEvents());
+
+        model.redoHistory();
+        assertTrue(model.hasEvent(CS2100_CONSULTATION));
+        assertEquals(List.of(CS2101_MEETING), model.getEventArchive().getEvents());
+        assertEquals(List.of(CS2101_MEETING), model.getFoundArchivedEvents());
+    }
+
+    @Test
+    public void restoreArchivedEvent_linkedContactDeleted_linkDropped() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.archiveEventsEndedBefore(LocalDateTime.of(2021, 10, 18, 0, 0));
+        model.getEventArchive().getEvents();
+        model.deleteContact(model.getAddressBook().getContactList().get(0));
+
+        Event restored = model.restoreArchivedEvent(CS2100_CONSULTATION);
+        assertEquals(List.of(), model.getLinkedContacts(restored));
+    }
+
+    @Test
+    public void restoreArchivedEvent_eventWithSameName_throwsDuplicateEventException() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.archiveEventsEndedBefore(LocalDateTime.of(2021, 10, 18, 0, 0));
+        model.getEventArchive().getEvents();
+        model.addEvent(CS2101_MEETING);
+
+        assertThrows(DuplicateEventException.class, () -> model.restoreArchivedEvent(CS2101_MEETING));
+        assertEquals(Arrays.asList(CS2101_MEETING, CS2100_CONSULTATION), model.getEventArchive().getEvents());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withContact(ALICE_MARKED).withContact(BENSON).build();
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +19,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setHistoryBudgets_invalidBudgets_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxUndoableCommits(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxHistoryElements(-1));
+    }
+
+    @Test
+    public void isAutoArchiveEnabled_default_returnsFalse() {
+        assertFalse(new UserPrefs().isAutoArchiveEnabled());
+    }
+
 }
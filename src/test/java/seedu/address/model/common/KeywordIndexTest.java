@@ -0,0 +1,101 @@
+package seedu.address.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordIndexTest {
+
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name BENSON = new Name("Benson Meier");
+
+    private final KeywordIndex<Field> index = new KeywordIndex<>(Field.class);
+
+    @Test
+    public void getNamesContaining_keywordsContainedInField_returnsMatchingNames() {
+        index.add(ALICE, Field.ADDRESS, "123, Jurong West Ave 6");
+        index.add(BENSON, Field.ADDRESS, "311, Clementi Ave 2");
+
+        // partial word, ignoring case
+        assertEquals(Set.of(ALICE), index.getNamesContaining(Field.ADDRESS, List.of("juRONG")));
+
+        // word shared by both fields
+        assertEquals(Set.of(ALICE, BENSON), index.getNamesContaining(Field.ADDRESS, List.of("ave")));
+
+        // any of the keywords
+        assertEquals(Set.of(ALICE, BENSON), index.getNamesContaining(Field.ADDRESS, Arrays.asList("West", "311")));
+
+        // keyword not contained in any field
+        assertEquals(Collections.emptySet(), index.getNamesContaining(Field.ADDRESS, List.of("Tampines")));
+
+        // keyword contained in another field
+        assertEquals(Collections.emptySet(), index.getNamesContaining(Field.TAG, List.of("Jurong")));
+    }
+
+    @Test
+    public void getNamesContaining_multipleValuesOfField_returnsMatchingNames() {
+        index.add(ALICE, Field.TAG, "friends");
+        index.add(ALICE, Field.TAG, "colleagues");
+        index.add(BENSON, Field.TAG, "friends");
+
+        assertEquals(Set.of(ALICE), index.getNamesContaining(Field.TAG, List.of("colleague")));
+        assertEquals(Set.of(ALICE, BENSON), index.getNamesContaining(Field.TAG, List.of("friend")));
+    }
+
+    @Test
+    public void getNamesContaining_keywordsOfDifferentLengths_returnsMatchingNames() {
+        index.add(ALICE, Field.ADDRESS, "Jurong West");
+        index.add(BENSON, Field.ADDRESS, "Clementi Ave 2");
+
+        // shorter than a trigram
+        assertEquals(Set.of(ALICE, BENSON), index.getNamesContaining(Field.ADDRESS, List.of("e")));
+        assertEquals(Set.of(BENSON), index.getNamesContaining(Field.ADDRESS, List.of("2")));
+
+        // at least a trigram
+        assertEquals(Set.of(BENSON), index.getNamesContaining(Field.ADDRESS, List.of("ave")));
+        assertEquals(Set.of(ALICE), index.getNamesContaining(Field.ADDRESS, List.of("RONG")));
+        assertEquals(Collections.emptySet(), index.getNamesContaining(Field.ADDRESS, List.of("jurongwest")));
+    }
+
+    @Test
+    public void getNamesContaining_nullValue_nothingIndexed() {
+        index.add(ALICE, Field.ADDRESS, null);
+        assertEquals(Collections.emptySet(), index.getNamesContaining(Field.ADDRESS, List.of("a")));
+    }
+
+    @Test
+    public void getNamesContaining_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.getNamesContaining(Field.TAG, List.of(" ")));
+        assertThrows(IllegalArgumentException.class, () -> index.getNamesContaining(Field.TAG, List.of("a b")));
+    }
+
+    @Test
+    public void remove_removedValues_namesNoLongerFound() {
+        index.add(ALICE, Field.ADDRESS, "Jurong West");
+        index.add(ALICE, Field.TAG, "friends");
+        index.add(BENSON, Field.ADDRESS, "Jurong East");
+
+        index.remove(ALICE, Field.ADDRESS, "Jurong West");
+        index.remove(ALICE, Field.TAG, "friends");
+        assertEquals(Set.of(BENSON), index.getNamesContaining(Field.ADDRESS, List.of("Jurong")));
+        assertEquals(Collections.emptySet(), index.getNamesContaining(Field.ADDRESS, List.of("West")));
+        assertEquals(Collections.emptySet(), index.getNamesContaining(Field.TAG, List.of("friends")));
+    }
+
+    @Test
+    public void clear_indexWithValues_nothingFound() {
+        index.add(ALICE, Field.ADDRESS, "Jurong West");
+        index.add(BENSON, Field.TAG, "friends");
+        index.clear();
+        assertEquals(Collections.emptySet(), index.getNamesContaining(Field.ADDRESS, List.of("Jurong")));
+        assertEquals(Collections.emptySet(), index.getNamesContaining(Field.TAG, List.of("friends")));
+    }
+
+    private enum Field { ADDRESS, TAG }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListEditTest {
+
+    private final PersistentVector<String> letters = PersistentVector.of(List.of("a", "b", "c", "d"));
+
+    @Test
+    public void between_changedMiddle_onlyMiddleReplaced() {
+        PersistentVector<String> changed = letters.with(1, "x").minus(2).plus(2, "y").plus(3, "z");
+        ListEdit<String> edit = ListEdit.between(letters, changed);
+        assertEquals(new ListEdit<>(1, List.of("b", "c"), List.of("x", "y", "z")), edit);
+        assertEquals(changed, edit.applyTo(letters));
+    }
+
+    @Test
+    public void between_addedAndRemovedAtEnds_onlyEndsReplaced() {
+        assertEquals(new ListEdit<>(4, List.of(), List.of("e")), ListEdit.between(letters, letters.plus("e")));
+        assertEquals(new ListEdit<>(0, List.of("a"), List.of()), ListEdit.between(letters, letters.minus(0)));
+    }
+
+    @Test
+    public void between_sameList_emptyEdit() {
+        ListEdit<String> edit = ListEdit.between(letters, letters);
+        assertEquals(0, edit.size());
+        assertSame(letters, edit.applyTo(letters));
+    }
+
+    @Test
+    public void between_repeatedElements_editStaysWithinBothLists() {
+        PersistentVector<String> repeated = PersistentVector.of(List.of("a", "a"));
+        PersistentVector<String> shorter = repeated.minus(0);
+        ListEdit<String> edit = ListEdit.between(repeated, shorter);
+        assertEquals(1, edit.size());
+        assertEquals(shorter, edit.applyTo(repeated));
+    }
+
+    @Test
+    public void applyTo_wholeListReplaced_addedVectorShared() {
+        PersistentVector<String> replacement = PersistentVector.of(List.of("x"));
+        assertSame(replacement, new ListEdit<>(0, letters, replacement).applyTo(letters));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ListPermutationTest {
+
+    private final List<String> letters = List.of("a", "b", "c", "d", "e");
+
+    @Test
+    public void of_reorderedElements_onlyMovedRunKept() {
+        List<String> reordered = List.of("a", "d", "b", "c", "e");
+        ListPermutation permutation = ListPermutation.of(new ListEdit<>(0, letters, reordered)).get();
+        assertEquals(new ListPermutation(1, new int[] {2, 0, 1}), permutation);
+        assertEquals(new ListEdit<>(1, List.of("b", "c", "d"), List.of("d", "b", "c")), permutation.toEdit(letters));
+    }
+
+    @Test
+    public void of_elementsReplaced_returnsEmpty() {
+        List<String> replaced = List.of("a", "b", "x", "d", "e");
+        assertEquals(Optional.empty(), ListPermutation.of(new ListEdit<>(0, letters, replaced)));
+        assertEquals(Optional.empty(), ListPermutation.of(new ListEdit<>(1, List.of("b", "c"), List.of("c"))));
+        // an element added twice in place of another
+        assertEquals(Optional.empty(), ListPermutation.of(new ListEdit<>(0, List.of("a", "b"), List.of("a", "a"))));
+    }
+
+    @Test
+    public void inverse_reorderedElements_restoresOrder() {
+        ListPermutation permutation = new ListPermutation(1, new int[] {2, 0, 1});
+        PersistentVector<String> reordered = permutation.toEdit(letters).applyTo(PersistentVector.of(letters));
+        assertEquals(PersistentVector.of(letters), permutation.inverse().toEdit(reordered).applyTo(reordered));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class ObservablePersistentListTest {
+
+    private final ObservablePersistentList<String> list = new ObservablePersistentList<>();
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        list.addAll(List.of("a", "b", "c"));
+        PersistentVector<String> snapshot = list.snapshot();
+
+        list.set(0, "d");
+        list.remove("b");
+        list.add("e");
+        assertEquals(List.of("d", "c", "e"), list);
+        assertEquals(List.of("a", "b", "c"), snapshot);
+    }
+
+    @Test
+    public void setAll_persistentVector_sharedWithoutCopying() {
+        PersistentVector<String> vector = PersistentVector.of(List.of("a", "b"));
+        list.add("c");
+        list.setAll(vector);
+        assertSame(vector, list.snapshot());
+        assertEquals(List.of("a", "b"), list);
+    }
+
+    @Test
+    public void clear_nonEmptyList_emptied() {
+        list.addAll(List.of("a", "b"));
+        list.clear();
+        assertEquals(Collections.emptyList(), list);
+    }
+
+    @Test
+    public void apply_inversesOfRecordedEdits_changesReversed() {
+        list.addAll(List.of("a", "b", "c"));
+        List<ListEdit<String>> edits = new ArrayList<>();
+        list.setEditRecorder(edits::add);
+
+        list.set(1, "d");
+        list.remove("a");
+        list.add(0, "e");
+        list.setAll(List.of("f"));
+        assertEquals(List.of(new ListEdit<>(1, List.of("b"), List.of("d")), new ListEdit<>(0, List.of("a"), List.of()),
+            new ListEdit<>(0, List.of(), List.of("e")), new ListEdit<>(0, List.of("e", "d", "c"), List.of("f"))),
+            edits);
+
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            list.apply(edits.get(i).inverse());
+        }
+        assertEquals(List.of("a", "b", "c"), list);
+        edits.forEach(list::apply);
+        assertEquals(List.of("f"), list);
+        assertEquals(4, edits.size()); // applied edits are not recorded
+    }
+
+    @Test
+    public void changes_listenersNotified() {
+        List<Object> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) changes::add);
+
+        list.add("a");
+        list.set(0, "b");
+        list.setAll(List.of("c", "d"));
+        list.remove(0);
+        list.clear();
+        assertEquals(5, changes.size());
+
+        // nothing to replace
+        list.setAll(Collections.emptyList());
+        assertEquals(5, changes.size());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void empty_noEntries() {
+        PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+        assertTrue(empty.isEmpty());
+        assertNull(empty.get("a"));
+        assertSame(empty, empty.minus("a"));
+    }
+
+    @Test
+    public void plusAndMinus_onlyNewVersionChanged() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", 1);
+        PersistentHashMap<String, Integer> added = map.plus("b", 2).plus("a", 3);
+        assertEquals(2, added.size());
+        assertEquals(3, (int) added.get("a"));
+        assertEquals(2, (int) added.get("b"));
+        assertEquals(1, (int) map.get("a"));
+        assertFalse(map.containsKey("b"));
+
+        PersistentHashMap<String, Integer> removed = added.minus("a");
+        assertEquals(1, removed.size());
+        assertNull(removed.get("a"));
+        assertEquals(3, (int) added.get("a"));
+    }
+
+    @Test
+    public void plus_sameHash_bothKept() {
+        // "Aa" and "BB" have the same hash code
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("Aa", 1)
+                .plus("BB", 2);
+        assertEquals(1, (int) map.get("Aa"));
+        assertEquals(2, (int) map.get("BB"));
+        assertEquals(1, map.minus("BB").size());
+        assertEquals(1, (int) map.minus("BB").get("Aa"));
+    }
+
+    @Test
+    public void randomUpdates_sameAsHashMap() {
+        Random random = new Random(2103);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            // keys above 2^16 share the low bits of their hashes with smaller keys
+            int key = random.nextInt(500) * (random.nextBoolean() ? 1 : 65537);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
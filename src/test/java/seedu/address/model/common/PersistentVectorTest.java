@@ -0,0 +1,95 @@
+package seedu.address.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void empty_noElements() {
+        PersistentVector<String> empty = PersistentVector.empty();
+        assertTrue(empty.isEmpty());
+        assertEquals(Collections.emptyList(), empty);
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+    }
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentVector<Integer> vector = PersistentVector.of(elements);
+        assertEquals(elements, vector);
+        assertEquals(2, vector.indexOf(4));
+        assertEquals(-1, vector.indexOf(7));
+    }
+
+    @Test
+    public void with_validIndex_onlyNewVersionChanged() {
+        PersistentVector<String> vector = PersistentVector.of(List.of("a", "b", "c"));
+        PersistentVector<String> changed = vector.with(1, "d");
+        assertEquals(List.of("a", "d", "c"), changed);
+        assertEquals(List.of("a", "b", "c"), vector);
+    }
+
+    @Test
+    public void plusAndMinus_validIndex_onlyNewVersionChanged() {
+        PersistentVector<String> vector = PersistentVector.of(List.of("a", "c"));
+        PersistentVector<String> added = vector.plus(1, "b").plus("d");
+        assertEquals(List.of("a", "b", "c", "d"), added);
+        assertEquals(List.of("a", "c"), vector);
+
+        PersistentVector<String> removed = added.minus(0).minus(2);
+        assertEquals(List.of("b", "c"), removed);
+        assertEquals(List.of("a", "b", "c", "d"), added);
+    }
+
+    @Test
+    public void updates_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentVector<String> vector = PersistentVector.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.with(1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.plus(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.minus(-1));
+    }
+
+    @Test
+    public void modifyingMethodsOfList_throwsUnsupportedOperationException() {
+        PersistentVector<String> vector = PersistentVector.of(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> vector.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> vector.remove(0));
+    }
+
+    @Test
+    public void randomUpdates_sameAsArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                vector = vector.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                vector = vector.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.minus(index);
+            }
+        }
+        assertEquals(expected, vector);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void getWordsContaining_keywordContainedInWords_returnsWordsContainingKeyword() {
+        index.add("jurong");
+        index.add("rongrong");
+        index.add("clementi");
+
+        // keyword is a whole trigram
+        assertEquals(Set.of("jurong", "rongrong"), getWordsContaining("ron"));
+
+        // every trigram of the keyword is in a word, but not the whole keyword
+        assertEquals(Set.of("rongrong"), getWordsContaining("ngro"));
+        assertEquals(Collections.emptySet(), getWordsContaining("ronron"));
+
+        // keyword is a whole word
+        assertEquals(Set.of("clementi"), getWordsContaining("clementi"));
+
+        // keyword longer than any word
+        assertEquals(Collections.emptySet(), getWordsContaining("clementiave"));
+    }
+
+    @Test
+    public void getWordsContaining_keywordShorterThanTrigram_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.getWordsContaining("ab"));
+    }
+
+    @Test
+    public void remove_removedWord_noLongerFound() {
+        index.add("jurong");
+        index.add("rongrong");
+        index.remove("jurong");
+        assertEquals(Set.of("rongrong"), getWordsContaining("ron"));
+        assertEquals(Collections.emptySet(), getWordsContaining("jur"));
+    }
+
+    @Test
+    public void clear_indexWithWords_nothingFound() {
+        index.add("jurong");
+        index.clear();
+        assertEquals(Collections.emptySet(), getWordsContaining("jurong"));
+    }
+
+    private Set<String> getWordsContaining(String keyword) {
+        List<String> words = index.getWordsContaining(keyword);
+        assertEquals(words.size(), new HashSet<>(words).size()); // every word is found once
+        return new HashSet<>(words);
+    }
+}
@@ -1,6 +1,5 @@
 package seedu.address.model.contact;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -11,10 +10,6 @@ import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TAG_HUS
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
 import static seedu.address.testutil.TypicalContacts.BOB;
-import static seedu.address.testutil.TypicalEvents.BIRTHDAY_PARTY;
-import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
-
-import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
@@ -55,41 +50,11 @@ public class ContactTest {
         assertFalse(BOB.isSameContact(editedBob));
     }
 
-    @Test
-    public void testLinkAndUnlink() {
-        Contact aliceCopy = new ContactBuilder(ALICE_MARKED).build();
-        Contact expectedContact = aliceCopy.linkTo(CS2101_MEETING);
-
-        //link cs2101 meeting to alice
-        assertTrue(expectedContact.hasLinkTo(CS2101_MEETING));
-        assertEquals(expectedContact, ALICE_MARKED.linkTo(CS2101_MEETING));
-        assertFalse(expectedContact.hasLinkTo(BIRTHDAY_PARTY));
-
-        //link birthday party to alice
-        expectedContact = expectedContact.linkTo(BIRTHDAY_PARTY);
-        assertTrue(expectedContact.hasLinkTo(BIRTHDAY_PARTY));
-        assertEquals(expectedContact, ALICE_MARKED.linkTo(BIRTHDAY_PARTY).linkTo(CS2101_MEETING));
-
-        //unlink cs2101 meeting from alice
-        expectedContact = expectedContact.unlink(CS2101_MEETING);
-        assertFalse(expectedContact.hasLinkTo(CS2101_MEETING));
-        assertEquals(expectedContact, ALICE_MARKED.linkTo(BIRTHDAY_PARTY));
-        assertTrue(expectedContact.hasLinkTo(BIRTHDAY_PARTY));
-
-        //clear all links
-        expectedContact = expectedContact.clearAllLinks();
-        assertEquals(expectedContact, ALICE_MARKED);
-
-    }
-
     @Test
     public void constructor_invalidInputs() {
         assertThrows(NullPointerException.class, () -> new ContactBuilder().withUuid(null).build());
         assertThrows(NullPointerException.class, () -> new ContactBuilder().withName(null).build());
         assertThrows(NullPointerException.class, () -> new ContactBuilder().withEmail(null).build());
-        assertThrows(NullPointerException.class, () -> new ContactBuilder().withLinkedEvents((UUID[]) null).build());
-        assertThrows(
-            NullPointerException.class, () -> new ContactBuilder().withLinkedEvents(null, UUID.randomUUID()).build());
         assertThrows(NullPointerException.class, () -> new ContactBuilder().withTags((String[]) null).build());
         assertThrows(NullPointerException.class, () -> new ContactBuilder().withTags(null, "tag").build());
     }
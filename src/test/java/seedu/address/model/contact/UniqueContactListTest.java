@@ -9,13 +9,17 @@ import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TAG_HUS
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
 import static seedu.address.testutil.TypicalContacts.BOB;
+import static seedu.address.testutil.TypicalContacts.getTypicalContacts;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.common.Name;
 import seedu.address.model.contact.exceptions.ContactNotFoundException;
 import seedu.address.model.contact.exceptions.DuplicateContactException;
 import seedu.address.testutil.ContactBuilder;
@@ -112,6 +116,16 @@ public class UniqueContactListTest {
         assertThrows(DuplicateContactException.class, () -> uniqueContactList.setContact(ALICE_MARKED, BOB));
     }
 
+    @Test
+    public void setContact_editedContactHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniqueContactList.add(ALICE_MARKED);
+        uniqueContactList.setContact(ALICE_MARKED, BOB);
+        assertFalse(uniqueContactList.contains(ALICE_MARKED));
+        assertTrue(uniqueContactList.contains(BOB));
+        uniqueContactList.add(ALICE_MARKED);
+        assertTrue(uniqueContactList.contains(ALICE_MARKED));
+    }
+
     @Test
     public void remove_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.remove(null));
@@ -130,6 +144,23 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void remove_contactWithSameIdentityButDifferentFields_throwsContactNotFoundException() {
+        uniqueContactList.add(ALICE_MARKED);
+        Contact editedAlice = new ContactBuilder(ALICE_MARKED).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(ContactNotFoundException.class, () -> uniqueContactList.remove(editedAlice));
+        assertTrue(uniqueContactList.contains(ALICE_MARKED));
+    }
+
+    @Test
+    public void remove_existingContact_identityCanBeAddedAgain() {
+        uniqueContactList.add(ALICE_MARKED);
+        uniqueContactList.remove(ALICE_MARKED);
+        assertFalse(uniqueContactList.contains(ALICE_MARKED));
+        uniqueContactList.add(ALICE_MARKED);
+        assertTrue(uniqueContactList.contains(ALICE_MARKED));
+    }
+
     @Test
     public void setContacts_nullUniqueContactList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.setContacts((UniqueContactList) null));
@@ -166,16 +197,52 @@ public class UniqueContactListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueContactList.asUnmodifiableObservableList().remove(0));
+    public void setContacts_list_replacesIdentitiesOfOwnList() {
+        uniqueContactList.add(ALICE_MARKED);
+        uniqueContactList.setContacts(Collections.singletonList(BOB));
+        assertFalse(uniqueContactList.contains(ALICE_MARKED));
+        assertTrue(uniqueContactList.contains(BOB));
+        assertThrows(DuplicateContactException.class, () -> uniqueContactList.add(BOB));
     }
 
     @Test
-    public void test_updateContactMap() {
+    public void getNamesMatching_typicalContacts_sameContactsAsPredicateTest() {
+        uniqueContactList.setContacts(getTypicalContacts());
+        ContactContainsKeywordsPredicate predicate = new ContactContainsKeywordsPredicate(Arrays.asList("kurz", "EL"));
+        predicate.setPhoneKeywords(Collections.singletonList("9435"));
+        predicate.setAddressKeywords(Collections.singletonList("street"));
+        predicate.setTagKeywords(Collections.singletonList("friend"));
+
+        Set<Name> expectedNames = getTypicalContacts().stream()
+                .filter(predicate)
+                .map(Contact::getName)
+                .collect(Collectors.toSet());
+        assertEquals(expectedNames, uniqueContactList.getNamesMatching(predicate));
+    }
+
+    @Test
+    public void getNamesMatching_afterEditAndRemove_reflectsChanges() {
         uniqueContactList.add(ALICE_MARKED);
-        uniqueContactList.updateContactMap();
-        assertEquals(ALICE_MARKED, Contact.findByUuid(ALICE_MARKED.getUuid()));
+        uniqueContactList.add(BOB);
+        ContactContainsKeywordsPredicate predicate = new ContactContainsKeywordsPredicate();
+        predicate.setAddressKeywords(Collections.singletonList("Jurong"));
+        assertEquals(Set.of(ALICE_MARKED.getName()), uniqueContactList.getNamesMatching(predicate));
+
+        Contact editedAlice = new ContactBuilder(ALICE_MARKED).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueContactList.setContact(ALICE_MARKED, editedAlice);
+        assertEquals(Collections.emptySet(), uniqueContactList.getNamesMatching(predicate));
+
+        predicate.setAddressKeywords(Collections.singletonList("Bobby"));
+        assertEquals(Set.of(editedAlice.getName(), BOB.getName()), uniqueContactList.getNamesMatching(predicate));
+
+        uniqueContactList.remove(BOB);
+        assertEquals(Set.of(editedAlice.getName()), uniqueContactList.getNamesMatching(predicate));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueContactList.asUnmodifiableObservableList().remove(0));
     }
 
     @Test
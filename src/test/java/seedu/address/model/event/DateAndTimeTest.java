@@ -22,6 +22,19 @@ class DateAndTimeTest {
         assertThrows(IllegalArgumentException.class, () -> new DateAndTime(emptyDateTime));
     }
 
+    @Test
+    public void constructor_epochMinuteOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DateAndTime(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new DateAndTime(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void getEpochMinute_roundTrip_equalDateAndTime() {
+        DateAndTime dateAndTime = new DateAndTime("01-12-2012 11:22");
+        assertEquals(dateAndTime, new DateAndTime(dateAndTime.getEpochMinute()));
+        assertEquals(0, new DateAndTime("01-01-1970 00:00").getEpochMinute());
+    }
+
     @Test
     public void containsString() {
         DateAndTime dateAndTime = new DateAndTime("01-12-2012 11:22");
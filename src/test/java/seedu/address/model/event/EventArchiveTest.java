@@ -0,0 +1,111 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
+import static seedu.address.testutil.TypicalEvents.FOOTBALL_PRACTICE;
+import static seedu.address.testutil.TypicalEvents.TEAM_MEETING;
+import static seedu.address.testutil.TypicalEvents.toArchived;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+
+public class EventArchiveTest {
+
+    private int reads;
+
+    private final EventArchive archive = new EventArchive(() -> {
+        reads++;
+        return toArchived(CS2101_MEETING);
+    });
+
+    @Test
+    public void add_beforeRead_storeNotRead() throws Exception {
+        archive.add(toArchived(TEAM_MEETING));
+        assertFalse(archive.isRead());
+        assertEquals(0, reads);
+        assertEquals(toArchived(TEAM_MEETING), archive.getUnsavedEvents());
+
+        assertEquals(List.of(CS2101_MEETING, TEAM_MEETING), archive.getEvents());
+        assertEquals(List.of(CS2101_MEETING, TEAM_MEETING), archive.getEvents());
+        assertTrue(archive.isRead());
+        assertEquals(1, reads);
+    }
+
+    @Test
+    public void add_afterRead_addedToEvents() throws Exception {
+        archive.getEvents();
+        archive.add(toArchived(TEAM_MEETING, FOOTBALL_PRACTICE));
+        assertEquals(List.of(CS2101_MEETING, TEAM_MEETING, FOOTBALL_PRACTICE), archive.getEvents());
+        assertEquals(toArchived(TEAM_MEETING, FOOTBALL_PRACTICE), archive.getUnsavedEvents());
+        assertFalse(archive.isRewriteNeeded());
+
+        archive.markSaved();
+        assertEquals(List.of(), archive.getUnsavedEvents());
+    }
+
+    @Test
+    public void remove_archivedEvent_rewriteNeeded() throws Exception {
+        archive.add(toArchived(TEAM_MEETING));
+        archive.getEvents();
+        archive.remove(new ArchivedEvent(CS2101_MEETING, Set.of()));
+        assertEquals(List.of(TEAM_MEETING), archive.getEvents());
+        assertTrue(archive.isRewriteNeeded());
+        assertEquals(List.of(), archive.getUnsavedEvents());
+
+        // events archived before the next save are saved along with the rest of the archive
+        archive.add(toArchived(FOOTBALL_PRACTICE));
+        assertEquals(List.of(), archive.getUnsavedEvents());
+
+        archive.markSaved();
+        assertFalse(archive.isRewriteNeeded());
+    }
+
+    @Test
+    public void remove_notRead_droppedWhenRead() throws Exception {
+        archive.add(toArchived(TEAM_MEETING));
+        archive.remove(new ArchivedEvent(CS2101_MEETING, Set.of()));
+        assertFalse(archive.isRead());
+        assertTrue(archive.isRewriteNeeded());
+
+        assertEquals(List.of(TEAM_MEETING), archive.getEvents());
+    }
+
+    @Test
+    public void remove_unsavedEventNotRead_noRewriteNeeded() throws Exception {
+        archive.add(toArchived(TEAM_MEETING, FOOTBALL_PRACTICE));
+        archive.remove(new ArchivedEvent(TEAM_MEETING, Set.of()));
+        assertFalse(archive.isRewriteNeeded());
+        assertEquals(toArchived(FOOTBALL_PRACTICE), archive.getUnsavedEvents());
+        assertEquals(0, reads);
+    }
+
+    @Test
+    public void remove_eventNotArchived_throwsEventNotFoundException() throws Exception {
+        archive.getEvents();
+        assertThrows(EventNotFoundException.class, () -> archive.remove(new ArchivedEvent(TEAM_MEETING, Set.of())));
+    }
+
+    @Test
+    public void getEvents_readFails_readAgainNextTime() throws Exception {
+        boolean[] isFailing = {true};
+        EventArchive failingArchive = new EventArchive(() -> {
+            if (isFailing[0]) {
+                throw new DataConversionException(new Exception("corrupted"));
+            }
+            return toArchived(CS2101_MEETING);
+        });
+        assertThrows(DataConversionException.class, failingArchive::getEvents);
+        assertFalse(failingArchive.isRead());
+
+        isFailing[0] = false;
+        assertEquals(List.of(CS2101_MEETING), failingArchive.getEvents());
+    }
+}
@@ -1,6 +1,5 @@
 package seedu.address.model.event;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_ADDRESS_EXAM;
@@ -9,13 +8,9 @@ import static seedu.address.logic.commands.general.CommandTestUtil.VALID_START_D
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TAG_EXAMS;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_ZOOM_EXAM;
 import static seedu.address.testutil.Assert.assertThrows;
-import static seedu.address.testutil.TypicalContacts.AMY;
-import static seedu.address.testutil.TypicalContacts.BOB;
 import static seedu.address.testutil.TypicalEvents.CS2103_MIDTERM_MARKED;
 import static seedu.address.testutil.TypicalEvents.FOOTBALL_PRACTICE;
 
-import java.util.UUID;
-
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.EventBuilder;
@@ -33,9 +28,6 @@ class EventTest {
         assertThrows(NullPointerException.class, () -> new EventBuilder().withName(null).build());
         assertThrows(NullPointerException.class, () -> new EventBuilder().withStartDateAndTime(null).build());
         assertThrows(NullPointerException.class, () -> new EventBuilder().withUuid(null).build());
-        assertThrows(NullPointerException.class, () -> new EventBuilder().withLinkedContacts((UUID[]) null).build());
-        assertThrows(
-            NullPointerException.class, () -> new EventBuilder().withLinkedContacts(null, UUID.randomUUID()).build());
         assertThrows(NullPointerException.class, () -> new EventBuilder().withTags((String[]) null).build());
         assertThrows(NullPointerException.class, () -> new EventBuilder().withTags(null, "tag").build());
     }
@@ -106,30 +98,4 @@ class EventTest {
         editedPractice = new EventBuilder(FOOTBALL_PRACTICE).withTags(VALID_TAG_EXAMS).build();
         assertFalse(FOOTBALL_PRACTICE.equals(editedPractice));
     }
-
-    @Test
-    void testLinkAndUnlink() {
-        Event midtermCopy = new EventBuilder(CS2103_MIDTERM_MARKED).build();
-        Event expectedEvent = midtermCopy.linkTo(AMY);
-
-        //link Amy to CS2103 Midterm
-        assertTrue(expectedEvent.hasLinkTo(AMY));
-        assertEquals(expectedEvent, CS2103_MIDTERM_MARKED.linkTo(AMY));
-        assertFalse(expectedEvent.hasLinkTo(BOB));
-
-        //link Bob to CS2103 Midterm
-        expectedEvent = expectedEvent.linkTo(BOB);
-        assertEquals(expectedEvent, CS2103_MIDTERM_MARKED.linkTo(AMY).linkTo(BOB));
-        assertTrue(expectedEvent.hasLinkTo(BOB));
-
-        //unlink Amy from CS2103 Midterm
-        expectedEvent = expectedEvent.unlink(AMY);
-        assertTrue(expectedEvent.hasLinkTo(BOB));
-        assertEquals(expectedEvent, CS2103_MIDTERM_MARKED.linkTo(BOB));
-        assertFalse(expectedEvent.hasLinkTo(AMY));
-
-        expectedEvent = expectedEvent.clearAllLinks();
-        assertEquals(expectedEvent, CS2103_MIDTERM_MARKED);
-    }
-
 }
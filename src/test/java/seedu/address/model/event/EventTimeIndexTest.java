@@ -0,0 +1,87 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalEvents.BIRTHDAY_PARTY;
+import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
+import static seedu.address.testutil.TypicalEvents.CS2103_MIDTERM_MARKED;
+import static seedu.address.testutil.TypicalEvents.FOOTBALL_PRACTICE;
+import static seedu.address.testutil.TypicalEvents.TEAM_MEETING;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class EventTimeIndexTest {
+
+    private final EventTimeIndex eventTimeIndex = new EventTimeIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalEvents().forEach(eventTimeIndex::add);
+    }
+
+    @Test
+    public void getEventsBetween_periodOverlappingEvents_returnsEventsInOrderOfStart() {
+        // period from the middle of one event to the start of another
+        assertEquals(Arrays.asList(CS2103_MIDTERM_MARKED, TEAM_MEETING, BIRTHDAY_PARTY),
+                eventTimeIndex.getEventsBetween(LocalDateTime.of(2021, 10, 20, 10, 0),
+                        LocalDateTime.of(2021, 10, 23, 20, 0)));
+
+        // period within an event spanning two days
+        assertEquals(Collections.singletonList(BIRTHDAY_PARTY),
+                eventTimeIndex.getEventsBetween(LocalDateTime.of(2021, 10, 24, 0, 0),
+                        LocalDateTime.of(2021, 10, 24, 0, 30)));
+    }
+
+    @Test
+    public void getEventsBetween_periodWithoutEvents_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), eventTimeIndex.getEventsBetween(
+                LocalDateTime.of(2021, 10, 18, 0, 0), LocalDateTime.of(2021, 10, 19, 0, 0)));
+    }
+
+    @Test
+    public void getEventsNotEndedBy_returnsOngoingAndUpcomingEvents() {
+        assertEquals(Arrays.asList(BIRTHDAY_PARTY, FOOTBALL_PRACTICE),
+                eventTimeIndex.getEventsNotEndedBy(LocalDateTime.of(2021, 10, 24, 0, 0)));
+        assertEquals(Arrays.asList(CS2101_MEETING, CS2100_CONSULTATION, CS2103_MIDTERM_MARKED, TEAM_MEETING,
+                BIRTHDAY_PARTY, FOOTBALL_PRACTICE), eventTimeIndex.getEventsNotEndedBy(LocalDateTime.MIN));
+    }
+
+    @Test
+    public void getEventsEndedBefore_returnsConcludedEvents() {
+        assertEquals(Arrays.asList(CS2101_MEETING, CS2100_CONSULTATION, CS2103_MIDTERM_MARKED, TEAM_MEETING),
+                eventTimeIndex.getEventsEndedBefore(LocalDateTime.of(2021, 10, 24, 0, 0)));
+        assertEquals(Collections.emptyList(), eventTimeIndex.getEventsEndedBefore(LocalDateTime.MIN));
+        assertEquals(Arrays.asList(CS2101_MEETING, CS2100_CONSULTATION, CS2103_MIDTERM_MARKED, TEAM_MEETING,
+                BIRTHDAY_PARTY, FOOTBALL_PRACTICE), eventTimeIndex.getEventsEndedBefore(LocalDateTime.MAX));
+    }
+
+    @Test
+    public void getEventsBetween_eventWithoutEndDateTime_treatedAsEndingWhenItStarts() {
+        Event eventWithoutEnd = new EventBuilder().withName("No End").withStartDateAndTime("19-10-2021 12:00")
+                .withEndDateAndTime(null).build();
+        eventTimeIndex.add(eventWithoutEnd);
+        LocalDateTime start = LocalDateTime.of(2021, 10, 19, 12, 0);
+        assertEquals(Collections.singletonList(eventWithoutEnd), eventTimeIndex.getEventsBetween(start, start));
+        assertEquals(Collections.emptyList(),
+                eventTimeIndex.getEventsBetween(start.plusMinutes(1), LocalDateTime.of(2021, 10, 20, 8, 0)));
+    }
+
+    @Test
+    public void remove_events_noLongerFound() {
+        eventTimeIndex.remove(TEAM_MEETING);
+        eventTimeIndex.remove(FOOTBALL_PRACTICE);
+        assertEquals(Arrays.asList(CS2103_MIDTERM_MARKED, BIRTHDAY_PARTY),
+                eventTimeIndex.getEventsBetween(LocalDateTime.of(2021, 10, 20, 10, 0), LocalDateTime.MAX));
+
+        eventTimeIndex.clear();
+        assertEquals(Collections.emptyList(), eventTimeIndex.getEventsNotEndedBy(LocalDateTime.MIN));
+    }
+}
@@ -10,13 +10,18 @@ import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TAG_HUS
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.BIRTHDAY_PARTY;
 import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.FOOTBALL_PRACTICE;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.common.Name;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.event.exceptions.InvalidDateTimeRangeException;
@@ -145,6 +150,43 @@ class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void remove_eventWithSameIdentityButDifferentFields_throwsEventNotFoundException() {
+        uniqueEventList.add(BIRTHDAY_PARTY);
+        Event editedBirthdayParty = new EventBuilder(BIRTHDAY_PARTY).withAddress(VALID_ADDRESS_TUTORIAL).build();
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.remove(editedBirthdayParty));
+        assertTrue(uniqueEventList.contains(BIRTHDAY_PARTY));
+    }
+
+    @Test
+    public void remove_earlierEvent_laterEventsCanStillBeReplacedAndRemoved() {
+        uniqueEventList.add(BIRTHDAY_PARTY);
+        uniqueEventList.add(CS2100_CONSULTATION);
+        uniqueEventList.add(FOOTBALL_PRACTICE);
+        uniqueEventList.remove(BIRTHDAY_PARTY);
+        Event editedConsultation = new EventBuilder(CS2100_CONSULTATION).withAddress(VALID_ADDRESS_TUTORIAL).build();
+        uniqueEventList.setEvent(CS2100_CONSULTATION, editedConsultation);
+        uniqueEventList.remove(FOOTBALL_PRACTICE);
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(editedConsultation);
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+        assertFalse(uniqueEventList.contains(BIRTHDAY_PARTY));
+    }
+
+    @Test
+    public void sortEvents_eventsCanStillBeReplacedAndRemoved() {
+        uniqueEventList.add(FOOTBALL_PRACTICE);
+        uniqueEventList.add(BIRTHDAY_PARTY);
+        uniqueEventList.add(CS2100_CONSULTATION);
+        uniqueEventList.sortEvents();
+        uniqueEventList.setEvent(BIRTHDAY_PARTY, BIRTHDAY_PARTY.markEvent());
+        uniqueEventList.remove(FOOTBALL_PRACTICE);
+        uniqueEventList.remove(CS2100_CONSULTATION);
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(BIRTHDAY_PARTY.markEvent());
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+    }
+
     @Test
     public void setEvents_nullUniqueEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.setEvents((UniqueEventList) null));
@@ -181,16 +223,44 @@ class UniqueEventListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueEventList.asUnmodifiableObservableList().remove(0));
+    public void getNamesMatching_typicalEvents_sameEventsAsPredicateTest() {
+        uniqueEventList.setEvents(getTypicalEvents());
+        EventContainsKeywordsPredicate predicate = new EventContainsKeywordsPredicate(Arrays.asList("cs21", "PRAC"));
+        predicate.setStartDateTimeKeywords(Collections.singletonList("23-10"));
+        predicate.setDescriptionKeywords(Collections.singletonList("op2"));
+        predicate.setTagKeywords(Collections.singletonList("meet"));
+
+        Set<Name> expectedNames = getTypicalEvents().stream()
+                .filter(predicate)
+                .map(Event::getName)
+                .collect(Collectors.toSet());
+        assertEquals(expectedNames, uniqueEventList.getNamesMatching(predicate));
     }
 
     @Test
-    public void test_updateEventMap() {
+    public void getNamesMatching_afterEditAndRemove_reflectsChanges() {
         uniqueEventList.add(BIRTHDAY_PARTY);
-        uniqueEventList.updateEventMap();
-        assertEquals(BIRTHDAY_PARTY, Event.findByUuid(BIRTHDAY_PARTY.getUuid()));
+        uniqueEventList.add(FOOTBALL_PRACTICE);
+        EventContainsKeywordsPredicate predicate = new EventContainsKeywordsPredicate();
+        predicate.setAddressKeywords(Collections.singletonList("Baker"));
+        assertEquals(Set.of(BIRTHDAY_PARTY.getName()), uniqueEventList.getNamesMatching(predicate));
+
+        Event editedParty = new EventBuilder(BIRTHDAY_PARTY).withAddress("USC").build();
+        uniqueEventList.setEvent(BIRTHDAY_PARTY, editedParty);
+        assertEquals(Collections.emptySet(), uniqueEventList.getNamesMatching(predicate));
+
+        predicate.setAddressKeywords(Collections.singletonList("usc"));
+        assertEquals(Set.of(editedParty.getName(), FOOTBALL_PRACTICE.getName()),
+                uniqueEventList.getNamesMatching(predicate));
+
+        uniqueEventList.remove(FOOTBALL_PRACTICE);
+        assertEquals(Set.of(editedParty.getName()), uniqueEventList.getNamesMatching(predicate));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueEventList.asUnmodifiableObservableList().remove(0));
     }
 
     @Test
@@ -8,7 +8,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_HIDE_ALL_EVENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.CARL;
+import static seedu.address.testutil.TypicalContacts.DANIEL;
 import static seedu.address.testutil.TypicalContacts.HOON;
+import static seedu.address.testutil.TypicalContacts.IDA;
 import static seedu.address.testutil.TypicalEvents.TUTORIAL;
 
 import java.util.List;
@@ -16,22 +20,28 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ModelDisplaySetting;
+import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.ContactDisplaySetting;
 import seedu.address.model.event.EventDisplaySetting;
-import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.TypicalAddressBook;
 
 class ModelHistoryTest {
 
+    private static final ModelDisplaySetting HIDE_EVENTS_SETTING =
+        new ModelDisplaySetting(ContactDisplaySetting.DEFAULT_SETTING, new EventDisplaySetting(true),
+            PREDICATE_SHOW_ALL_CONTACTS, PREDICATE_HIDE_ALL_EVENTS);
+
     private final ModelHistory history = new ModelHistory();
+    private final AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
+    private final AddressBookDelta initialDelta = ab.takeDelta();
 
     @Test
     public void clearHistory_nonEmpty_success() {
         ModelHistory anotherHistory = new ModelHistory();
-        AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
-        anotherHistory.commit(ab, new ModelDisplaySetting());
-        anotherHistory.commit(new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting());
+        anotherHistory.commit(initialDelta, new ModelDisplaySetting());
+        anotherHistory.commit(addHoon(), new ModelDisplaySetting());
         anotherHistory.clearHistory();
         assertEquals(anotherHistory.getCurrentSize(), history.getCurrentSize());
         assertEquals(anotherHistory.getMaxSize(), history.getMaxSize());
@@ -49,25 +59,124 @@ class ModelHistoryTest {
     @Test
     public void commit_success() {
         history.clearHistory();
-        AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
-        history.commit(ab, new ModelDisplaySetting());
-        history.commit(new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting());
+        history.commit(initialDelta, new ModelDisplaySetting());
+        AddressBookDelta hoonDelta = addHoon();
+        history.commit(hoonDelta, new ModelDisplaySetting());
         assertEquals(history.getMaxSize(), 2);
         assertEquals(history.getCurrentSize(), 2);
+        // the changes before the first commit can never be undone, so they are not kept
         assertEquals(history.getAllHistory(), List.of(new ModelHistory.HistoryInstance(
-            ab, new ModelDisplaySetting()
+            AddressBookDelta.EMPTY, new ModelDisplaySetting()
         ), new ModelHistory.HistoryInstance(
-            new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting()
+            hoonDelta, new ModelDisplaySetting()
         )));
     }
 
+    @Test
+    public void commitDisplaySetting_success() {
+        history.commit(initialDelta, new ModelDisplaySetting());
+        history.commit(addHoon(), new ModelDisplaySetting());
+        history.commitDisplaySetting(HIDE_EVENTS_SETTING);
+        assertEquals(history.getCurrentSize(), 3);
+        assertTrue(history.getCurrentHistoryInstance().isViewOnly());
+        assertEquals(history.getCurrentHistoryInstance(),
+            new ModelHistory.HistoryInstance(AddressBookDelta.EMPTY, HIDE_EVENTS_SETTING));
+
+        ModelHistory.HistoryInstance undone = history.undo();
+        assertTrue(undone.isViewOnly());
+        assertFalse(history.getCurrentHistoryInstance().isViewOnly());
+    }
+
+    @Test
+    public void commitDisplaySetting_overElementBudget_noCommitsForgotten() {
+        ModelHistory smallHistory = new ModelHistory(ModelHistory.DEFAULT_MAX_UNDOABLE_COMMITS, 1);
+        smallHistory.commit(initialDelta, new ModelDisplaySetting());
+        smallHistory.commit(addHoon(), new ModelDisplaySetting());
+        smallHistory.commitDisplaySetting(HIDE_EVENTS_SETTING);
+        smallHistory.commitDisplaySetting(new ModelDisplaySetting());
+        assertEquals(smallHistory.getCurrentSize(), 4);
+    }
+
+    @Test
+    public void commit_afterUndo_redoableCommitsDiscarded() {
+        history.commit(initialDelta, new ModelDisplaySetting());
+        history.commit(addHoon(), new ModelDisplaySetting());
+        history.undo();
+        AddressBookDelta tutorialDelta = addTutorial();
+        history.commit(tutorialDelta, HIDE_EVENTS_SETTING);
+        assertFalse(history.isRedoable());
+        assertEquals(history.getMaxSize(), 2);
+        assertEquals(history.getCurrentHistoryInstance(),
+            new ModelHistory.HistoryInstance(tutorialDelta, HIDE_EVENTS_SETTING));
+    }
+
+    @Test
+    public void commit_overCountBudget_earliestCommitsForgotten() {
+        ModelHistory smallHistory = new ModelHistory(2, ModelHistory.DEFAULT_MAX_KEPT_ELEMENTS);
+        smallHistory.commit(initialDelta, new ModelDisplaySetting());
+        smallHistory.commit(addHoon(), new ModelDisplaySetting());
+        AddressBookDelta idaDelta = addIda();
+        smallHistory.commit(idaDelta, HIDE_EVENTS_SETTING);
+        AddressBookDelta tutorialDelta = addTutorial();
+        smallHistory.commit(tutorialDelta, new ModelDisplaySetting());
+
+        assertEquals(smallHistory.getMaxSize(), 3);
+        assertEquals(smallHistory.getCurrentSize(), 3);
+        assertEquals(smallHistory.getAllHistory(), List.of(
+            new ModelHistory.HistoryInstance(AddressBookDelta.EMPTY, new ModelDisplaySetting()),
+            new ModelHistory.HistoryInstance(idaDelta, HIDE_EVENTS_SETTING),
+            new ModelHistory.HistoryInstance(tutorialDelta, new ModelDisplaySetting())));
+        smallHistory.undo();
+        smallHistory.undo();
+        assertFalse(smallHistory.isUndoable());
+    }
+
+    @Test
+    public void commit_overElementBudget_earliestCommitsForgotten() {
+        // removing a contact keeps it, while the contacts and events added are held by the address book
+        ModelHistory smallHistory = new ModelHistory(ModelHistory.DEFAULT_MAX_UNDOABLE_COMMITS, 2);
+        smallHistory.commit(initialDelta, new ModelDisplaySetting());
+        smallHistory.commit(addHoon(), new ModelDisplaySetting());
+        smallHistory.commit(addTutorial(), new ModelDisplaySetting());
+        smallHistory.commit(remove(BENSON), new ModelDisplaySetting());
+        smallHistory.commit(remove(CARL), new ModelDisplaySetting());
+        assertEquals(smallHistory.getCurrentSize(), 5);
+
+        smallHistory.commit(remove(DANIEL), new ModelDisplaySetting());
+        assertEquals(smallHistory.getCurrentSize(), 3);
+    }
+
+    @Test
+    public void commit_latestCommitOverElementBudget_latestCommitKept() {
+        ModelHistory smallHistory = new ModelHistory(ModelHistory.DEFAULT_MAX_UNDOABLE_COMMITS, 1);
+        smallHistory.commit(initialDelta, new ModelDisplaySetting());
+        ab.removeContact(BENSON);
+        AddressBookDelta removalDelta = remove(CARL);
+        smallHistory.commit(removalDelta, new ModelDisplaySetting());
+
+        assertEquals(smallHistory.getCurrentSize(), 2);
+        assertEquals(smallHistory.undo(), new ModelHistory.HistoryInstance(removalDelta, new ModelDisplaySetting()));
+    }
+
+    @Test
+    public void commit_eventsSorted_reorderWithinElementBudget() {
+        ModelHistory smallHistory = new ModelHistory(ModelHistory.DEFAULT_MAX_UNDOABLE_COMMITS, 1);
+        smallHistory.commit(initialDelta, new ModelDisplaySetting());
+        ab.sortEvents();
+        smallHistory.commit(ab.takeDelta(), new ModelDisplaySetting());
+        ab.sortEvents();
+        smallHistory.commit(ab.takeDelta(), new ModelDisplaySetting());
+        assertEquals(smallHistory.getCurrentSize(), 3);
+    }
+
     @Test
     public void undo_success() {
-        AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
-        history.commit(ab, new ModelDisplaySetting());
-        history.commit(new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting());
-        assertEquals(history.undo(), new ModelHistory.HistoryInstance(
-            ab, new ModelDisplaySetting()));
+        history.commit(initialDelta, new ModelDisplaySetting());
+        AddressBookDelta hoonDelta = addHoon();
+        history.commit(hoonDelta, HIDE_EVENTS_SETTING);
+        assertEquals(history.undo(), new ModelHistory.HistoryInstance(hoonDelta, HIDE_EVENTS_SETTING));
+        assertEquals(history.getCurrentHistoryInstance(),
+            new ModelHistory.HistoryInstance(AddressBookDelta.EMPTY, new ModelDisplaySetting()));
         assertEquals(history.getCurrentSize(), 1);
         assertEquals(history.getMaxSize(), 2);
     }
@@ -80,38 +189,32 @@ class ModelHistoryTest {
 
     @Test
     public void redo_singleUndo_success() {
-        AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
-        history.commit(ab, new ModelDisplaySetting());
-        history.commit(new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting());
+        history.commit(initialDelta, new ModelDisplaySetting());
+        AddressBookDelta hoonDelta = addHoon();
+        history.commit(hoonDelta, new ModelDisplaySetting());
         history.undo();
-        assertEquals(history.redo(), new ModelHistory.HistoryInstance(
-            new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting()));
+        assertEquals(history.redo(), new ModelHistory.HistoryInstance(hoonDelta, new ModelDisplaySetting()));
         assertEquals(history.getCurrentSize(), 2);
         assertEquals(history.getMaxSize(), 2);
     }
 
     @Test
     public void redo_doubleUndo_success() {
-        AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
-        history.commit(ab, new ModelDisplaySetting());
-        history.commit(new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting());
-        history.commit(
-            new AddressBookBuilder(ab).withContact(HOON).withEvent(TUTORIAL).build(),
-            new ModelDisplaySetting(ContactDisplaySetting.DEFAULT_SETTING, new EventDisplaySetting(true),
-                PREDICATE_SHOW_ALL_CONTACTS, PREDICATE_HIDE_ALL_EVENTS));
+        history.commit(initialDelta, new ModelDisplaySetting());
+        AddressBookDelta hoonDelta = addHoon();
+        history.commit(hoonDelta, new ModelDisplaySetting());
+        history.commit(addTutorial(), HIDE_EVENTS_SETTING);
         history.undo();
         history.undo();
-        assertEquals(history.redo(), new ModelHistory.HistoryInstance(
-            new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting()));
+        assertEquals(history.redo(), new ModelHistory.HistoryInstance(hoonDelta, new ModelDisplaySetting()));
         assertEquals(history.getCurrentSize(), 2);
         assertEquals(history.getMaxSize(), 3);
     }
 
     @Test
     public void redo_noUndo_failure() {
-        AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
-        history.commit(ab, new ModelDisplaySetting());
-        history.commit(new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting());
+        history.commit(initialDelta, new ModelDisplaySetting());
+        history.commit(addHoon(), new ModelDisplaySetting());
         assertThrows(ModelHistoryException.class, () -> history.redo());
         history.clearHistory();
         assertThrows(ModelHistoryException.class, () -> history.redo());
@@ -119,9 +222,8 @@ class ModelHistoryTest {
 
     @Test
     public void isUndoable() {
-        AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
-        history.commit(ab, new ModelDisplaySetting());
-        history.commit(new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting());
+        history.commit(initialDelta, new ModelDisplaySetting());
+        history.commit(addHoon(), new ModelDisplaySetting());
         assertTrue(history.isUndoable());
         history.undo();
         assertFalse(history.isUndoable());
@@ -129,14 +231,33 @@ class ModelHistoryTest {
 
     @Test
     public void isRedoable() {
-        AddressBook ab = TypicalAddressBook.getTypicalAddressBook();
-        history.commit(ab, new ModelDisplaySetting());
-        history.commit(new AddressBookBuilder(ab).withContact(HOON).build(), new ModelDisplaySetting());
+        history.commit(initialDelta, new ModelDisplaySetting());
+        history.commit(addHoon(), new ModelDisplaySetting());
         assertFalse(history.isRedoable());
         history.undo();
         assertTrue(history.isRedoable());
     }
 
+    private AddressBookDelta addHoon() {
+        ab.addContact(HOON);
+        return ab.takeDelta();
+    }
+
+    private AddressBookDelta addIda() {
+        ab.addContact(IDA);
+        return ab.takeDelta();
+    }
+
+    private AddressBookDelta addTutorial() {
+        ab.addEvent(TUTORIAL);
+        return ab.takeDelta();
+    }
+
+    private AddressBookDelta remove(Contact contact) {
+        ab.removeContact(contact);
+        return ab.takeDelta();
+    }
+
     static class HistoryInstanceTest {
         @Test
         public void equal_test() {
@@ -144,12 +265,12 @@ class ModelHistoryTest {
                 new ModelDisplaySetting(ContactDisplaySetting.DEFAULT_SETTING, EventDisplaySetting.DEFAULT_SETTING,
                     PREDICATE_SHOW_ALL_CONTACTS, PREDICATE_SHOW_ALL_EVENTS);
             ModelHistory.HistoryInstance instance = new ModelHistory.HistoryInstance(
-                    TypicalAddressBook.getTypicalAddressBook(),
+                    TypicalAddressBook.getTypicalAddressBook().takeDelta(),
                     displaySetting);
             assertNotEquals(instance, null);
             assertNotEquals(instance, 1);
             assertEquals(instance, instance);
-            assertNotEquals(instance, new ModelHistory.HistoryInstance(new AddressBook(), displaySetting));
+            assertNotEquals(instance, new ModelHistory.HistoryInstance(AddressBookDelta.EMPTY, displaySetting));
         }
     }
 }
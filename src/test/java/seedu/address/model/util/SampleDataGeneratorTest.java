@@ -0,0 +1,160 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class SampleDataGeneratorTest {
+
+    private static final int CONTACT_COUNT = 500;
+    private static final int EVENT_COUNT = 100;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void constructor_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleDataGenerator(0, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SampleDataGenerator(0, 0, -1));
+    }
+
+    @Test
+    public void withSettings_invalidSettings_throwsIllegalArgumentException() {
+        SampleDataGenerator generator = new SampleDataGenerator(0, CONTACT_COUNT, EVENT_COUNT);
+        assertThrows(IllegalArgumentException.class, () -> generator.withTagCount(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.withLinksPerEvent(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withDates(LocalDateTime.now(), 0));
+    }
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        AddressBook first = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).generate();
+        AddressBook second = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).generate();
+
+        assertEquals(first, second);
+        assertEquals(uuidsAndLinksOf(first), uuidsAndLinksOf(second));
+    }
+
+    @Test
+    public void generate_differentSeed_differentAddressBook() {
+        AddressBook first = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).generate();
+        AddressBook second = new SampleDataGenerator(43, CONTACT_COUNT, EVENT_COUNT).generate();
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void generate_differentEventCount_sameContacts() {
+        AddressBook fewEvents = new SampleDataGenerator(42, CONTACT_COUNT, 1).generate();
+        AddressBook manyEvents = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).generate();
+        assertEquals(fewEvents.getContactList(), manyEvents.getContactList()); // links are not compared
+    }
+
+    @Test
+    public void generate_validSettings_countsAndLinksAsSet() {
+        AddressBook addressBook = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).withLinksPerEvent(10)
+                .generate();
+        assertEquals(CONTACT_COUNT, addressBook.getContactList().size());
+        assertEquals(EVENT_COUNT, addressBook.getEventList().size());
+
+        // every link is seen from both the event and the contact
+        Map<UUID, Contact> contacts = new HashMap<>();
+        addressBook.getContactList().forEach(contact -> contacts.put(contact.getUuid(), contact));
+        int linkCount = 0;
+        for (Event event : addressBook.getEventList()) {
+            Set<UUID> linkedContacts = addressBook.getLinkedContactUuids(event);
+            assertTrue(linkedContacts.size() <= 20);
+            for (UUID contactUuid : linkedContacts) {
+                assertTrue(addressBook.getLinkedEventUuids(contacts.get(contactUuid)).contains(event.getUuid()));
+            }
+            linkCount += linkedContacts.size();
+        }
+        int linkCountOfContacts = addressBook.getContactList().stream()
+                .mapToInt(contact -> addressBook.getLinkedEventUuids(contact).size()).sum();
+        assertEquals(linkCount, linkCountOfContacts);
+        assertTrue(linkCount > 5 * EVENT_COUNT && linkCount < 15 * EVENT_COUNT);
+    }
+
+    @Test
+    public void generate_noLinks_noContactsLinked() {
+        AddressBook addressBook = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).withLinksPerEvent(0)
+                .generate();
+        assertTrue(addressBook.getEventList().stream()
+                .allMatch(event -> addressBook.getLinkedContactUuids(event).isEmpty()));
+        assertTrue(addressBook.getContactList().stream()
+                .allMatch(contact -> addressBook.getLinkedEventUuids(contact).isEmpty()));
+    }
+
+    @Test
+    public void generate_moreLinksThanContacts_allContactsLinkedAtMost() {
+        AddressBook addressBook = new SampleDataGenerator(42, 3, EVENT_COUNT).withLinksPerEvent(10).generate();
+        assertTrue(addressBook.getEventList().stream()
+                .allMatch(event -> addressBook.getLinkedContactUuids(event).size() <= 3));
+    }
+
+    @Test
+    public void generate_oneTag_onlyThatTagUsed() {
+        AddressBook addressBook = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).withTagCount(1).generate();
+        Set<Tag> tags = addressBook.getContactList().stream().flatMap(contact -> contact.getTags().stream())
+                .collect(Collectors.toSet());
+        addressBook.getEventList().forEach(event -> tags.addAll(event.getTags()));
+        assertEquals(1, tags.size());
+    }
+
+    @Test
+    public void generate_dates_eventsStartOnThoseDays() {
+        LocalDateTime firstDay = LocalDateTime.of(2022, 3, 1, 12, 0);
+        AddressBook addressBook = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).withDates(firstDay, 7)
+                .generate();
+        for (Event event : addressBook.getEventList()) {
+            LocalDateTime start = event.getStartDateAndTime().getDateTime();
+            assertFalse(start.isBefore(LocalDateTime.of(2022, 3, 1, 0, 0)));
+            assertTrue(start.isBefore(LocalDateTime.of(2022, 3, 8, 0, 0)));
+            assertTrue(start.isBefore(event.getEndDateAndTime().getDateTime()));
+        }
+    }
+
+    @Test
+    public void generate_savedToJson_readBackEqual() throws Exception {
+        AddressBook addressBook = new SampleDataGenerator(42, CONTACT_COUNT, EVENT_COUNT).generate();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(temporaryFolder.resolve("generated.json"));
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals(uuidsAndLinksOf(addressBook), uuidsAndLinksOf(readBack));
+    }
+
+    /**
+     * Returns the UUIDs of the contacts and events of {@code addressBook}, with the UUIDs each of them is linked to.
+     */
+    private static List<Object> uuidsAndLinksOf(ReadOnlyAddressBook addressBook) {
+        List<Object> contacts = addressBook.getContactList().stream()
+                .map(contact -> List.of(contact.getUuid(), addressBook.getLinkedEventUuids(contact)))
+                .collect(Collectors.toList());
+        List<Object> events = addressBook.getEventList().stream()
+                .map(event -> List.of(event.getUuid(), addressBook.getLinkedContactUuids(event)))
+                .collect(Collectors.toList());
+        return List.of(contacts, events);
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.CommandStats.Phase;
+import seedu.address.commons.core.CommandTrace;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+
+public class CommandTraceStorageTest {
+
+    private static final CommandTrace ADD = new CommandTrace("cadd n/Amy e/amy@example.com", 1_000,
+            Map.of(Phase.PARSE, 10L, Phase.EXECUTE, 200L, Phase.COMMIT, 30L, Phase.SAVE, 4L), true, 42);
+    private static final CommandTrace FAILED_DELETE = new CommandTrace("cdelete 99 n/J\u00fcrgen", 5_000,
+            Map.of(Phase.PARSE, 12L, Phase.EXECUTE, 7L), false, 42);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("commands.trace");
+    }
+
+    @Test
+    public void appendAndRead_allInOrder_success() throws Exception {
+        AddressBook snapshot = getTypicalAddressBook();
+        try (CommandTraceStorage storage = new CommandTraceStorage(filePath)) {
+            storage.start(snapshot, "soconnect.json", 1234L);
+            storage.append(ADD);
+            storage.append(FAILED_DELETE);
+        }
+
+        CommandTraceStorage.Trace trace = CommandTraceStorage.read(filePath);
+        assertEquals(snapshot, new AddressBook(trace.getSnapshot()));
+        assertEquals("soconnect.json", trace.getDataFileName());
+        assertEquals(1234L, trace.getStartEpochMilli());
+        assertEquals(List.of(ADD, FAILED_DELETE), trace.getCommands());
+    }
+
+    @Test
+    public void start_existingTrace_replaced() throws Exception {
+        try (CommandTraceStorage storage = new CommandTraceStorage(filePath)) {
+            storage.start(getTypicalAddressBook(), "soconnect.json", 1L);
+            storage.append(ADD);
+        }
+        try (CommandTraceStorage storage = new CommandTraceStorage(filePath)) {
+            storage.start(new AddressBook(), "other.json", 2L);
+        }
+
+        CommandTraceStorage.Trace trace = CommandTraceStorage.read(filePath);
+        assertEquals(new AddressBook(), new AddressBook(trace.getSnapshot()));
+        assertEquals(List.of(), trace.getCommands());
+    }
+
+    @Test
+    public void append_notStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new CommandTraceStorage(filePath).append(ADD));
+    }
+
+    @Test
+    public void read_partlyWrittenLastRecord_lastRecordIgnored() throws Exception {
+        try (CommandTraceStorage storage = new CommandTraceStorage(filePath)) {
+            storage.start(getTypicalAddressBook(), "soconnect.json", 1L);
+            storage.append(ADD);
+            storage.append(FAILED_DELETE);
+        }
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertEquals(List.of(ADD), CommandTraceStorage.read(filePath).getCommands());
+    }
+
+    @Test
+    public void read_notTraceFile_throwsDataConversionException() throws Exception {
+        new BinaryAddressBookStorage(CommandTraceStorage.getSnapshotFilePath(filePath))
+                .saveAddressBook(getTypicalAddressBook());
+        Files.write(filePath, new byte[] {'S', 'O', 'C', 'B', 0, 0, 0, 1});
+
+        assertThrows(DataConversionException.class, () -> CommandTraceStorage.read(filePath));
+    }
+
+    @Test
+    public void read_missingSnapshot_throwsDataConversionException() throws Exception {
+        try (CommandTraceStorage storage = new CommandTraceStorage(filePath)) {
+            storage.start(getTypicalAddressBook(), "soconnect.json", 1L);
+        }
+        Files.delete(CommandTraceStorage.getSnapshotFilePath(filePath));
+
+        assertThrows(DataConversionException.class, () -> CommandTraceStorage.read(filePath));
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
+import static seedu.address.testutil.TypicalContacts.BENSON;
+import static seedu.address.testutil.TypicalContacts.HOON;
+import static seedu.address.testutil.TypicalContacts.IDA;
+import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.TUTORIAL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournaledAddressBookStorage.journalPathOf(filePath);
+    }
+
+    @Test
+    public void constructor_negativeMaxJournalEntries_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledAddressBookStorage(filePath, -1));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterCheckpoint_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String checkpoint = Files.readString(filePath);
+
+        original.addContact(HOON);
+        storage.saveAddressBook(original);
+        original.removeContact(BENSON);
+        original.addEvent(TUTORIAL);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original); // unchanged, so nothing is appended
+
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_linksChanged_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String checkpoint = Files.readString(filePath);
+
+        original.addContact(HOON);
+        original.linkEventAndContact(CS2100_CONSULTATION, HOON);
+        storage.saveAddressBook(original);
+        original.unlinkEventAndContact(CS2100_CONSULTATION, ALICE_MARKED);
+        original.linkEventAndContact(CS2100_CONSULTATION, BENSON);
+        storage.saveAddressBook(original);
+        original.removeContact(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        AddressBook readBack = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(List.of(BENSON), readBack.getLinkedContacts(CS2100_CONSULTATION));
+    }
+
+    @Test
+    public void saveAddressBook_eventsSorted_orderAppendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String checkpoint = Files.readString(filePath);
+
+        original.sortEvents();
+        storage.saveAddressBook(original);
+
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertFalse(Files.readString(journalPath).contains(CS2100_CONSULTATION.getName().toString()));
+        AddressBook readBack = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getEventList(), readBack.getEventList());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_newCheckpointWritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addContact(HOON);
+        storage.saveAddressBook(original);
+        original.addContact(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, JsonAddressBookCodec.read(filePath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_changesAppendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addContact(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfEarlierCheckpoint_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addContact(HOON);
+        storage.saveAddressBook(original);
+        List<String> staleJournal = Files.readAllLines(journalPath);
+
+        // a crash after the next checkpoint is written leaves the earlier journal in place
+        original.addContact(IDA);
+        storage.saveAddressBook(original);
+        Files.write(journalPath, staleJournal);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenLastEntry_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addContact(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addContact(IDA);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(journalPath);
+        String lastEntry = journal.get(journal.size() - 1);
+        journal.set(journal.size() - 1, lastEntry.substring(0, lastEntry.length() / 2));
+        Files.write(journalPath, String.join("\n", journal).getBytes(UTF_8));
+
+        JournaledAddressBookStorage recovered = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(recovered.readAddressBook().get());
+        assertEquals(expected, readBack);
+
+        // a new checkpoint is written rather than appending after the partly written entry
+        readBack.addContact(IDA);
+        recovered.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntry_throwsDataConversionException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addContact(HOON);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(journalPath);
+        Files.write(journalPath, List.of(journal.get(0), "{ not json", journal.get(1)));
+
+        assertThrows(DataConversionException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_entryNotMatchingCheckpoint_throwsDataConversionException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        Files.writeString(journalPath, "{\"contactEdits\":[{\"index\":3,\"removed\":1}]}\n", StandardOpenOption.APPEND);
+
+        assertThrows(DataConversionException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_checkpointWritten() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherPath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.journalPathOf(otherPath)));
+        assertEquals(original, JsonAddressBookCodec.read(otherPath));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath)
+            .saveAddressBook(null));
+    }
+}
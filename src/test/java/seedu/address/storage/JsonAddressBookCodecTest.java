@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.common.Name;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.event.Event;
+import seedu.address.storage.JsonAddressBookCodec.ModelTypeCollector;
+import seedu.address.testutil.ContactBuilder;
+
+public class JsonAddressBookCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths
+        .get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_CONTACTS_FILE = TEST_DATA_FOLDER
+        .resolve("typicalContactsAndEventsAddressBook.json");
+    private static final Path INVALID_CONTACT_FILE = TEST_DATA_FOLDER
+        .resolve("invalidContactAndEventAddressBook.json");
+    private static final Path DUPLICATE_CONTACT_FILE = TEST_DATA_FOLDER
+        .resolve("duplicateContactAddressBook.json");
+    private static final Path DUPLICATE_EVENT_FILE = TEST_DATA_FOLDER
+        .resolve("duplicateEventAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalFile_success() throws Exception {
+        assertEquals(getTypicalAddressBook(), JsonAddressBookCodec.read(TYPICAL_CONTACTS_FILE));
+    }
+
+    @Test
+    public void read_invalidContactFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookCodec.read(INVALID_CONTACT_FILE));
+    }
+
+    @Test
+    public void read_duplicateContacts_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT, () ->
+            JsonAddressBookCodec.read(DUPLICATE_CONTACT_FILE));
+    }
+
+    @Test
+    public void read_duplicateEvents_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT, () ->
+            JsonAddressBookCodec.read(DUPLICATE_EVENT_FILE));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNullLists_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        FileUtil.writeToFile(filePath,
+            "{ \"version\": { \"major\": 1, \"tags\": [ \"a\" ] }, \"contacts\": null, \"events\": [] }");
+        assertEquals(new AddressBook(), JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void read_notAddressBookObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        FileUtil.writeToFile(filePath, "[ { \"contacts\": [] } ]");
+        assertThrows(IOException.class, () -> JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        String json = FileUtil.readFromFile(TYPICAL_CONTACTS_FILE);
+        FileUtil.writeToFile(filePath, json.substring(0, json.length() / 2));
+        assertThrows(IOException.class, () -> JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void write_typicalAddressBook_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("typical.json");
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        JsonAddressBookCodec.write(typicalAddressBook, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalAddressBook)),
+            FileUtil.readFromFile(filePath));
+        assertEquals(typicalAddressBook, JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void write_failsPartWay_fileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("typical.json");
+        JsonAddressBookCodec.write(getTypicalAddressBook(), filePath);
+        String written = FileUtil.readFromFile(filePath);
+        ReadOnlyAddressBook failing = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Contact> getContactList() {
+                return new AddressBook().getContactList();
+            }
+
+            @Override
+            public ObservableList<Event> getEventList() {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public Set<UUID> getLinkedContactUuids(Event event) {
+                return Set.of();
+            }
+
+            @Override
+            public Set<UUID> getLinkedEventUuids(Contact contact) {
+                return Set.of();
+            }
+
+            @Override
+            public List<Contact> getLinkedContacts(Event event) {
+                return List.of();
+            }
+
+            @Override
+            public List<Event> getLinkedEvents(Contact contact) {
+                return List.of();
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> JsonAddressBookCodec.write(failing, filePath));
+        assertEquals(written, FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void read_manyContacts_sameOrder() throws Exception {
+        Path filePath = testFolder.resolve("many.json");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            addressBook.addContact(new ContactBuilder().withName("Contact " + i).withRandomUuid()
+                .build());
+        }
+        JsonAddressBookCodec.write(addressBook, filePath);
+        assertEquals(addressBook, JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void collectorAddAll_invalidContactAfterDuplicate_throwsDuplicateMessage() {
+        List<JsonAdaptedContact> contacts = manyAdaptedContacts();
+        contacts.set(900, contacts.get(100));
+        contacts.set(1500, invalidAdaptedContact());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT, () ->
+            ModelTypeCollector.ofContacts().addAll(contacts));
+    }
+
+    @Test
+    public void collectorAddAll_duplicateAfterInvalidContact_throwsInvalidMessage() {
+        List<JsonAdaptedContact> contacts = manyAdaptedContacts();
+        contacts.set(900, invalidAdaptedContact());
+        contacts.set(1500, contacts.get(100));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+            ModelTypeCollector.ofContacts().addAll(contacts));
+    }
+
+    @Test
+    public void collectorAddAll_duplicateAcrossBatches_throwsDuplicateMessage() throws Exception {
+        ModelTypeCollector<JsonAdaptedContact, Contact> collector = ModelTypeCollector.ofContacts();
+        List<JsonAdaptedContact> contacts = manyAdaptedContacts();
+        collector.addAll(contacts);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONTACT, () ->
+            collector.addAll(List.of(contacts.get(0))));
+    }
+
+    private static List<JsonAdaptedContact> manyAdaptedContacts() {
+        List<JsonAdaptedContact> contacts = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            contacts.add(new JsonAdaptedContact(new ContactBuilder().withName("Contact " + i).build()));
+        }
+        return contacts;
+    }
+
+    private static JsonAdaptedContact invalidAdaptedContact() {
+        return new JsonAdaptedContact("R@chel", null, "rachel@example.com", null, null, null, null,
+            UUID.randomUUID().toString(), null, false);
+    }
+}
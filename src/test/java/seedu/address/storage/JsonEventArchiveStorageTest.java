@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
+import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
+import static seedu.address.testutil.TypicalEvents.TEAM_MEETING;
+import static seedu.address.testutil.TypicalEvents.toArchived;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.EventArchive;
+
+public class JsonEventArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonEventArchiveStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json" + JsonEventArchiveStorage.ARCHIVE_FILE_SUFFIX);
+        storage = new JsonEventArchiveStorage(filePath);
+    }
+
+    @Test
+    public void archivePathOf() {
+        assertEquals(Paths.get("data", "addressbook.json.archive"),
+                JsonEventArchiveStorage.archivePathOf(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readEventArchive_missingFile_emptyResult() throws Exception {
+        assertEquals(List.of(), storage.readEventArchive());
+    }
+
+    @Test
+    public void saveEventArchive_archivedEvents_appendedWithoutReading() throws Exception {
+        EventArchive archive = new EventArchive(() -> {
+            throw new AssertionError("The archive should not be read");
+        });
+        ArchivedEvent meeting = new ArchivedEvent(CS2101_MEETING, Set.of());
+        ArchivedEvent linkedConsultation = new ArchivedEvent(CS2100_CONSULTATION, Set.of(ALICE_MARKED.getUuid()));
+        ArchivedEvent teamMeeting = new ArchivedEvent(TEAM_MEETING, Set.of());
+        archive.add(List.of(meeting, linkedConsultation));
+        storage.saveEventArchive(archive);
+        archive.add(List.of(teamMeeting));
+        storage.saveEventArchive(archive);
+
+        assertEquals(List.of(meeting, linkedConsultation, teamMeeting), storage.readEventArchive());
+        assertEquals(List.of(), archive.getUnsavedEvents());
+    }
+
+    @Test
+    public void saveEventArchive_eventRestored_fileRewritten() throws Exception {
+        EventArchive archive = new EventArchive(storage::readEventArchive);
+        archive.add(toArchived(CS2101_MEETING, CS2100_CONSULTATION, TEAM_MEETING));
+        storage.saveEventArchive(archive);
+
+        assertEquals(List.of(CS2101_MEETING, CS2100_CONSULTATION, TEAM_MEETING), archive.getEvents());
+        archive.remove(new ArchivedEvent(CS2100_CONSULTATION, Set.of()));
+        storage.saveEventArchive(archive);
+        assertEquals(toArchived(CS2101_MEETING, TEAM_MEETING), storage.readEventArchive());
+    }
+
+    @Test
+    public void readEventArchive_partlyWrittenLastLine_lineIgnoredAndDroppedAtNextSave() throws Exception {
+        EventArchive archive = new EventArchive();
+        archive.add(toArchived(CS2101_MEETING));
+        storage.saveEventArchive(archive);
+        Files.write(filePath, "{\"name\" : \"Team".getBytes(UTF_8), StandardOpenOption.APPEND);
+        assertEquals(toArchived(CS2101_MEETING), storage.readEventArchive());
+
+        archive.add(toArchived(TEAM_MEETING));
+        storage.saveEventArchive(archive);
+        assertEquals(toArchived(CS2101_MEETING, TEAM_MEETING), storage.readEventArchive());
+    }
+
+    @Test
+    public void readEventArchive_invalidEvent_throwsDataConversionException() throws Exception {
+        Files.write(filePath, List.of("{\"name\" : \"Team Meeting\"}", "{}"), UTF_8);
+        assertThrows(DataConversionException.class, storage::readEventArchive);
+    }
+
+    @Test
+    public void saveEventArchive_nullArchive_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveEventArchive(null));
+    }
+}
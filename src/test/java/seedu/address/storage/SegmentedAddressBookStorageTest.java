@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
+import static seedu.address.testutil.TypicalEvents.TUTORIAL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.testutil.ContactBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int CONTACT_COUNT = 4 * SegmentedAddressBookStorage.MAX_SEGMENT_SIZE;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directoryPath;
+    private AddressBook largeAddressBook;
+
+    @BeforeEach
+    public void setUp() {
+        directoryPath = testFolder.resolve("addressbook" + SegmentedAddressBookStorage.DIRECTORY_EXTENSION);
+        largeAddressBook = getTypicalAddressBook();
+        for (int i = 0; i < CONTACT_COUNT; i++) {
+            largeAddressBook.addContact(new ContactBuilder().withName("Contact " + i).withRandomUuid()
+                    .build());
+        }
+    }
+
+    @Test
+    public void isSegmentedDirectory() {
+        assertTrue(SegmentedAddressBookStorage.isSegmentedDirectory(Paths.get("data", "addressbook.segments")));
+        assertFalse(SegmentedAddressBookStorage.isSegmentedDirectory(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(directoryPath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directoryPath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addEvent(TUTORIAL);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(directoryPath).readAddressBook().get()));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(Set.of(), segmentFileNames());
+    }
+
+    @Test
+    public void saveAddressBook_oneContactEdited_onlyItsSegmentRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directoryPath);
+        storage.saveAddressBook(largeAddressBook);
+        Set<String> filesBefore = segmentFileNames();
+        assertTrue(filesBefore.size() > CONTACT_COUNT / SegmentedAddressBookStorage.MAX_SEGMENT_SIZE);
+
+        Contact target = largeAddressBook.getContactList().get(CONTACT_COUNT / 2);
+        largeAddressBook.setContact(target, new ContactBuilder(target).withPhone("98765432").build());
+        storage.saveAddressBook(largeAddressBook);
+
+        Set<String> filesAfter = segmentFileNames();
+        Set<String> removed = new HashSet<>(filesBefore);
+        removed.removeAll(filesAfter);
+        Set<String> added = new HashSet<>(filesAfter);
+        added.removeAll(filesBefore);
+        assertEquals(1, removed.size());
+        assertEquals(1, added.size());
+        assertEquals(largeAddressBook,
+                new AddressBook(new SegmentedAddressBookStorage(directoryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_contactLinked_onlyItsSegmentsRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directoryPath);
+        storage.saveAddressBook(largeAddressBook);
+        Set<String> filesBefore = segmentFileNames();
+
+        Contact target = largeAddressBook.getContactList().get(CONTACT_COUNT / 2);
+        largeAddressBook.linkEventAndContact(CS2100_CONSULTATION, target);
+        storage.saveAddressBook(largeAddressBook);
+
+        // the segment holding the contact and the one holding the event are rewritten
+        Set<String> removed = new HashSet<>(filesBefore);
+        removed.removeAll(segmentFileNames());
+        assertEquals(2, removed.size());
+        AddressBook readBack = new AddressBook(new SegmentedAddressBookStorage(directoryPath).readAddressBook().get());
+        assertEquals(largeAddressBook, readBack);
+        assertTrue(readBack.isLinked(CS2100_CONSULTATION, target));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_changesSaved() throws Exception {
+        new SegmentedAddressBookStorage(directoryPath).saveAddressBook(largeAddressBook);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directoryPath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        for (int i = 0; i < SegmentedAddressBookStorage.MAX_SEGMENT_SIZE; i++) {
+            readBack.removeContact(readBack.getContactList().get(i));
+            storage.saveAddressBook(readBack);
+        }
+
+        assertEquals(readBack, new AddressBook(new SegmentedAddressBookStorage(directoryPath).readAddressBook().get()));
+        // the segments the contacts were removed from were merged with their neighbours as they became small
+        int contactSegments = (int) segmentFileNames().stream()
+                .filter(fileName -> fileName.startsWith(SegmentedAddressBookStorage.CONTACT_SEGMENT_PREFIX)).count();
+        int minSegmentSize = SegmentedAddressBookStorage.MAX_SEGMENT_SIZE / 2;
+        assertTrue(contactSegments <= readBack.getContactList().size() / minSegmentSize);
+    }
+
+    @Test
+    public void readAddressBook_corruptedSegment_throwsDataConversionException() throws Exception {
+        new SegmentedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        Path segmentPath = directoryPath.resolve(segmentFileNames().iterator().next());
+        byte[] content = Files.readAllBytes(segmentPath);
+        content[content.length / 2] ^= 1;
+        Files.write(segmentPath, content);
+
+        assertThrows(DataConversionException.class, () ->
+                new SegmentedAddressBookStorage(directoryPath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataConversionException() throws Exception {
+        new SegmentedAddressBookStorage(directoryPath).saveAddressBook(getTypicalAddressBook());
+        Files.delete(directoryPath.resolve(segmentFileNames().iterator().next()));
+
+        assertThrows(DataConversionException.class, () ->
+                new SegmentedAddressBookStorage(directoryPath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherDirectory_allSegmentsWritten() throws Exception {
+        Path otherPath = testFolder.resolve("other" + SegmentedAddressBookStorage.DIRECTORY_EXTENSION);
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directoryPath);
+        storage.saveAddressBook(largeAddressBook, otherPath);
+
+        assertFalse(Files.exists(directoryPath));
+        assertEquals(largeAddressBook, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SegmentedAddressBookStorage(directoryPath)
+                .saveAddressBook(null));
+    }
+
+    private Set<String> segmentFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> !fileName.equals(SegmentedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+}
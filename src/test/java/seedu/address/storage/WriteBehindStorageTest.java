@@ -0,0 +1,229 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalContacts.HOON;
+import static seedu.address.testutil.TypicalContacts.IDA;
+import static seedu.address.testutil.TypicalEvents.CS2101_MEETING;
+import static seedu.address.testutil.TypicalEvents.TEAM_MEETING;
+import static seedu.address.testutil.TypicalEvents.toArchived;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.ArchivedEvent;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventArchive;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonAddressBookWriteCountingStub addressBookStorage;
+    private WriteBehindStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new JsonAddressBookWriteCountingStub(testFolder.resolve("ab"));
+        storage = new WriteBehindStorage(
+            new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        addressBookStorage.gate.countDown();
+        storage.close();
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_flushed_addressBookWritten() throws Exception {
+        addressBookStorage.gate.countDown();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_savedSnapshotWritten() throws Exception {
+        addressBookStorage.gate.countDown();
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+        storage.saveAddressBook(original);
+        original.addContact(HOON);
+        storage.flush();
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savedWhileWriting_latestCoalesced() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBookStorage.writeStarted.await(); // the writer is held back until the gate opens
+        addressBook.addContact(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addContact(IDA);
+        storage.saveAddressBook(addressBook);
+        addressBookStorage.gate.countDown();
+        storage.flush();
+
+        assertEquals(2, addressBookStorage.writeCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_notWrittenAgain() throws Exception {
+        addressBookStorage.gate.countDown();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(new AddressBook(addressBook));
+        storage.flush();
+        assertEquals(1, addressBookStorage.writeCount.get());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionOnce() throws Exception {
+        addressBookStorage.writesToFail = 1;
+        addressBookStorage.gate.countDown();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, JsonAddressBookWriteCountingStub.FAILURE_MESSAGE, () -> storage.flush());
+        storage.flush();
+    }
+
+    @Test
+    public void saveAddressBook_earlierWriteFailed_throwsIoExceptionAndWritesAgain() throws Exception {
+        addressBookStorage.writesToFail = 1;
+        addressBookStorage.gate.countDown();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // saving the unchanged address book does nothing until the failure is reported
+        IOException failure = null;
+        while (failure == null) {
+            try {
+                storage.saveAddressBook(addressBook);
+                Thread.sleep(1);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        assertEquals(JsonAddressBookWriteCountingStub.FAILURE_MESSAGE, failure.getMessage());
+        storage.flush();
+        assertEquals(2, addressBookStorage.writeCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFailedWithFailureHandler_failureHandledAsItHappens() throws Exception {
+        CompletableFuture<IOException> handled = new CompletableFuture<>();
+        storage.setFailureHandler(handled::complete);
+        addressBookStorage.writesToFail = 1;
+        addressBookStorage.gate.countDown();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(JsonAddressBookWriteCountingStub.FAILURE_MESSAGE, handled.get().getMessage());
+        storage.saveAddressBook(addressBook); // the failure is not thrown again, and the address book is written again
+        storage.flush();
+        assertEquals(2, addressBookStorage.writeCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveEventArchive_eventsRestoredAndAddressBookWriteFailed_archiveNotRewritten() throws Exception {
+        storage.saveEventArchive(archiveOf(CS2101_MEETING, TEAM_MEETING));
+        addressBookStorage.writesToFail = 1;
+        addressBookStorage.gate.countDown();
+        EventArchive archive = new EventArchive(storage::readEventArchive);
+        archive.getEvents();
+        archive.remove(new ArchivedEvent(TEAM_MEETING, Set.of()));
+
+        // the address book with the restored event is not written, so the archive must keep it
+        assertThrows(IOException.class, JsonAddressBookWriteCountingStub.FAILURE_MESSAGE, () ->
+            storage.saveAddressBookAndEventArchive(getTypicalAddressBook(), archive));
+        assertEquals(toArchived(CS2101_MEETING, TEAM_MEETING), storage.readEventArchive());
+
+        storage.saveAddressBookAndEventArchive(getTypicalAddressBook(), archive);
+        assertEquals(toArchived(CS2101_MEETING), storage.readEventArchive());
+        assertEquals(2, addressBookStorage.writeCount.get());
+    }
+
+    @Test
+    public void saveAddressBookAndEventArchive_eventsArchived_archiveSavedFirst() throws Exception {
+        EventArchive archive = archiveOf(CS2101_MEETING);
+        storage.saveAddressBookAndEventArchive(getTypicalAddressBook(), archive); // the address book write is held
+        assertEquals(toArchived(CS2101_MEETING), storage.readEventArchive());
+    }
+
+    private static EventArchive archiveOf(Event... events) {
+        EventArchive archive = new EventArchive();
+        archive.add(toArchived(events));
+        return archive;
+    }
+
+    @Test
+    public void saveAddressBookToPath_savedEarlier_writtenInOrder() throws Exception {
+        addressBookStorage.gate.countDown();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path otherPath = testFolder.resolve("other");
+        storage.saveAddressBook(addressBook, otherPath);
+        assertEquals(1, addressBookStorage.writeCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    /**
+     * A stub class which counts the address books written to its file, fails the first {@code writesToFail} of the
+     * writes, and holds back the writes until its gate is opened.
+     */
+    private static class JsonAddressBookWriteCountingStub extends JsonAddressBookStorage {
+        private static final String FAILURE_MESSAGE = "dummy exception";
+
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger writeCount = new AtomicInteger();
+        private volatile int writesToFail;
+
+        private JsonAddressBookWriteCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (!filePath.equals(getAddressBookFilePath())) {
+                super.saveAddressBook(addressBook, filePath);
+                return;
+            }
+            writeStarted.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (writeCount.incrementAndGet() <= writesToFail) {
+                throw new IOException(FAILURE_MESSAGE);
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
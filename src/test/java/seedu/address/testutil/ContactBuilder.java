@@ -1,7 +1,5 @@
 package seedu.address.testutil;
 
-import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION_UUID;
-
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -30,7 +28,6 @@ public class ContactBuilder {
     public static final boolean DEFAULT_IS_MARKED = true;
     public static final String DEFAULT_TAG = "friends";
     public static final UUID DEFAULT_UUID = TypicalContacts.ALICE_UUID;
-    public static final UUID DEFAULT_LINKED_EVENT = CS2100_CONSULTATION_UUID;
 
     private Name name;
     private Phone phone;
@@ -40,7 +37,6 @@ public class ContactBuilder {
     private ZoomLink zoomLink;
     private Set<Tag> tags;
     private UUID uuid;
-    private Set<UUID> linkedEvents;
     private boolean isMarked;
 
     /**
@@ -57,8 +53,6 @@ public class ContactBuilder {
         tags = new HashSet<>();
         tags.add(new Tag(DEFAULT_TAG));
         uuid = DEFAULT_UUID;
-        linkedEvents = new HashSet<>();
-        linkedEvents.add(DEFAULT_LINKED_EVENT);
         isMarked = DEFAULT_IS_MARKED;
     }
 
@@ -74,7 +68,6 @@ public class ContactBuilder {
         zoomLink = contactToCopy.getZoomLink();
         tags = new HashSet<>(contactToCopy.getTags());
         uuid = contactToCopy.getUuid();
-        linkedEvents = new HashSet<>(contactToCopy.getLinkedEvents());
         isMarked = contactToCopy.getIsMarked();
     }
 
@@ -150,14 +143,6 @@ public class ContactBuilder {
         return this;
     }
 
-    /**
-     * Parses the {@code events} into a {@code Set<UUID>} and set it to the {@code Contact} that we are building.
-     */
-    public ContactBuilder withLinkedEvents(UUID ...events) {
-        this.linkedEvents = Set.of(events);
-        return this;
-    }
-
     /**
      * Sets the {@code isMarked} of the {@code Contact} that we are building to {@code isMarked}.
      */
@@ -170,6 +155,6 @@ public class ContactBuilder {
      * Creates an {@code Contact} from this {@code Contactbuilder}.
      */
     public Contact build() {
-        return new Contact(name, phone, email, address, zoomLink, telegramHandle, tags, uuid, linkedEvents, isMarked);
+        return new Contact(name, phone, email, address, zoomLink, telegramHandle, tags, uuid, isMarked);
     }
 }
@@ -41,7 +41,6 @@ public class EventBuilder {
     private ZoomLink zoomLink;
     private Set<Tag> tags;
     private UUID uuid;
-    private Set<UUID> linkedContacts;
     private boolean isMarked;
 
     /**
@@ -57,7 +56,6 @@ public class EventBuilder {
         tags = new HashSet<>();
         tags.add(new Tag(DEFAULT_TAG));
         uuid = DEFAULT_UUID;
-        linkedContacts = new HashSet<>();
         isMarked = DEFAULT_IS_MARKED;
     }
 
@@ -74,7 +72,6 @@ public class EventBuilder {
         tags = new HashSet<>(eventToCopy.getTags());
         isMarked = eventToCopy.getIsMarked();
         uuid = eventToCopy.getUuid();
-        linkedContacts = new HashSet<>(eventToCopy.getLinkedContacts());
     }
 
     /**
@@ -149,14 +146,6 @@ public class EventBuilder {
         return this;
     }
 
-    /**
-     * Parses the {@code contacts} into a {@code Set<UUID>} and set it to the {@code Event} that we are building.
-     */
-    public EventBuilder withLinkedContacts(UUID ...contacts) {
-        this.linkedContacts = Set.of(contacts);
-        return this;
-    }
-
     /**
      * Sets the {@code isMarked} of the {@code Event} that we are building to {@code isMarked}.
      */
@@ -170,7 +159,7 @@ public class EventBuilder {
      */
     public Event build() {
         return new Event(name, startDateAndTime, endDateAndTime, description, address, zoomLink,
-            tags, uuid, linkedContacts, isMarked);
+            tags, uuid, isMarked);
 
     }
 }
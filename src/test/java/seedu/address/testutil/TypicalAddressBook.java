@@ -1,6 +1,8 @@
 package seedu.address.testutil;
 
+import static seedu.address.testutil.TypicalContacts.ALICE_MARKED;
 import static seedu.address.testutil.TypicalContacts.getTypicalContacts;
+import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION;
 import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
 
 import seedu.address.model.AddressBook;
@@ -11,7 +13,8 @@ public class TypicalAddressBook {
     private TypicalAddressBook() {}
 
     /**
-     * Returns an {@code AddressBook} with all the typical events and contacts.
+     * Returns an {@code AddressBook} with all the typical events and contacts, in which {@code ALICE_MARKED} is linked
+     * to {@code CS2100_CONSULTATION}.
      */
     public static AddressBook getTypicalAddressBook() {
         AddressBook ab = new AddressBook();
@@ -21,6 +24,7 @@ public class TypicalAddressBook {
         for (Contact contact : getTypicalContacts()) {
             ab.addContact(contact);
         }
+        ab.linkEventAndContact(CS2100_CONSULTATION, ALICE_MARKED);
         return ab;
     }
 }
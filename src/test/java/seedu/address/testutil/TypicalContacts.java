@@ -14,7 +14,6 @@ import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TELEGRA
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TELEGRAM_BOB;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_ZOOM_AMY;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_ZOOM_BOB;
-import static seedu.address.testutil.TypicalEvents.CS2100_CONSULTATION_UUID;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,62 +32,48 @@ public class TypicalContacts {
     public static final Contact ALICE_MARKED = new ContactBuilder().withName("Alice Pauline")
         .withAddress("123, Jurong West Ave 6, #08-111").withEmail("alice@example.com")
         .withPhone("94351253").withTelegramHandle(null).withZoomLink(null).withUuid(ALICE_UUID)
-        .withLinkedEvents(CS2100_CONSULTATION_UUID).withTags("friends").withMarked(true).build();
+        .withTags("friends").withMarked(true).build();
     public static final Contact BENSON = new ContactBuilder().withName("Benson Meier")
         .withAddress("311, Clementi Ave 2, #02-25").withTelegramHandle("benson67").withZoomLink(null)
         .withEmail("johnd@example.com").withPhone("98765432").withMarked(false).withRandomUuid()
-        .withTags("owesMoney", "friends").withLinkedEvents().build();
+        .withTags("owesMoney", "friends").build();
     public static final Contact CARL = new ContactBuilder().withName("Carl Kurz").withPhone("95352563")
         .withTelegramHandle("carlcarl7").withZoomLink("https://nus-sg.zoom.us/j/7453256545252")
         .withEmail("heinz@example.com").withAddress("wall street").withRandomUuid().withMarked(false)
-        .withLinkedEvents().build();
+        .build();
     public static final Contact DANIEL = new ContactBuilder().withName("Daniel Meier").withPhone("87652533")
         .withTelegramHandle(null).withZoomLink("nus-sg.zoom.us/j/783624625626")
         .withEmail("cornelia@example.com").withAddress("10th street").withTags("friends")
-        .withLinkedEvents().withMarked(false).withRandomUuid().build();
+        .withMarked(false).withRandomUuid().build();
     public static final Contact ELLE = new ContactBuilder().withName("Elle Meyer").withPhone("9482224")
         .withTelegramHandle("ellelele").withZoomLink(null)
         .withEmail("werner@example.com").withAddress(null).withTags()
-        .withLinkedEvents().withMarked(false).withRandomUuid().build();
+        .withMarked(false).withRandomUuid().build();
     public static final Contact FIONA = new ContactBuilder().withName("Fiona Kunz").withPhone("93106433")
         .withTelegramHandle(null).withZoomLink(null)
         .withEmail("lydia@example.com").withAddress("little tokyo").withTags()
-        .withLinkedEvents().withMarked(false).withRandomUuid().build();
+        .withMarked(false).withRandomUuid().build();
     public static final Contact GEORGE = new ContactBuilder().withName("George Best").withPhone(null)
-        .withTelegramHandle(null).withZoomLink(null).withLinkedEvents().withMarked(false).withRandomUuid()
+        .withTelegramHandle(null).withZoomLink(null).withMarked(false).withRandomUuid()
         .withEmail("george@example.com").withAddress(null).withTags().build();
 
     // Manually added
     public static final Contact HOON = new ContactBuilder().withName("Hoon Meier").withPhone("8482424")
-        .withEmail("stefan@example.com").withAddress("little india").withLinkedEvents().withMarked(false)
+        .withEmail("stefan@example.com").withAddress("little india").withMarked(false)
         .withRandomUuid().build();
     public static final Contact IDA = new ContactBuilder().withName("Ida Mueller").withPhone("8482131")
-        .withEmail("hans@example.com").withAddress("chicago ave").withLinkedEvents().withMarked(false).withRandomUuid()
+        .withEmail("hans@example.com").withAddress("chicago ave").withMarked(false).withRandomUuid()
         .build();
 
     // Manually added
     public static final Contact AMY = new ContactBuilder().withName(VALID_NAME_AMY).withPhone(VALID_PHONE_AMY)
         .withEmail(VALID_EMAIL_AMY).withAddress(VALID_ADDRESS_AMY).withTelegramHandle(VALID_TELEGRAM_AMY)
-        .withZoomLink(VALID_ZOOM_AMY).withTags(VALID_TAG_FRIEND).withMarked(false).withRandomUuid().withLinkedEvents()
+        .withZoomLink(VALID_ZOOM_AMY).withTags(VALID_TAG_FRIEND).withMarked(false).withRandomUuid()
         .build();
     public static final Contact BOB = new ContactBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
         .withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB).withZoomLink(VALID_ZOOM_BOB)
         .withTelegramHandle(VALID_TELEGRAM_BOB).withTags(VALID_TAG_HUSBAND, VALID_TAG_FRIEND).withMarked(false)
-        .withRandomUuid().withLinkedEvents().build();
-
-    static {
-        Contact.addToMap(ALICE_MARKED);
-        Contact.addToMap(BENSON);
-        Contact.addToMap(CARL);
-        Contact.addToMap(DANIEL);
-        Contact.addToMap(ELLE);
-        Contact.addToMap(FIONA);
-        Contact.addToMap(GEORGE);
-        Contact.addToMap(HOON);
-        Contact.addToMap(IDA);
-        Contact.addToMap(AMY);
-        Contact.addToMap(BOB);
-    }
+        .withRandomUuid().build();
 
     private TypicalContacts() {
     } // prevents instantiation
@@ -14,13 +14,15 @@ import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TAG_COO
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_TAG_EXAMS;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_ZOOM_EXAM;
 import static seedu.address.logic.commands.general.CommandTestUtil.VALID_ZOOM_TUTORIAL;
-import static seedu.address.testutil.TypicalContacts.ALICE_UUID;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import seedu.address.model.event.ArchivedEvent;
 import seedu.address.model.event.Event;
 
 public class TypicalEvents {
@@ -35,7 +37,7 @@ public class TypicalEvents {
     public static final Event CS2100_CONSULTATION = new EventBuilder().withName("CS2100 Consultation")
         .withAddress("02-11 COM2").withDescription("Topics: Assembly Language")
         .withStartDateAndTime("17-10-2021 15:00").withEndDateAndTime("17-10-2021 16:00").withTags("School")
-        .withUuid(CS2100_CONSULTATION_UUID).withLinkedContacts(ALICE_UUID)
+        .withUuid(CS2100_CONSULTATION_UUID)
         .withMarked(false).build();
 
     public static final Event CS2101_MEETING = new EventBuilder().withName("CS2101 Meeting")
@@ -71,17 +73,6 @@ public class TypicalEvents {
         .withDescription(VALID_DESCRIPTION_EXAM).withAddress(VALID_ADDRESS_EXAM)
         .withZoomLink(VALID_ZOOM_EXAM).withTags(VALID_TAG_EXAMS, VALID_TAG_COOL).build();
 
-    static {
-        Event.addToMap(CS2103_MIDTERM_MARKED);
-        Event.addToMap(CS2100_CONSULTATION);
-        Event.addToMap(CS2101_MEETING);
-        Event.addToMap(FOOTBALL_PRACTICE);
-        Event.addToMap(TEAM_MEETING);
-        Event.addToMap(BIRTHDAY_PARTY);
-        Event.addToMap(TUTORIAL);
-        Event.addToMap(EXAM);
-    }
-
     private TypicalEvents() {
     }
 
@@ -91,4 +82,11 @@ public class TypicalEvents {
                 TEAM_MEETING, BIRTHDAY_PARTY));
     }
 
+    /**
+     * Returns {@code events} as archived events that are not linked to any contacts.
+     */
+    public static List<ArchivedEvent> toArchived(Event... events) {
+        return Arrays.stream(events).map(event -> new ArchivedEvent(event, Set.of())).collect(Collectors.toList());
+    }
+
 }